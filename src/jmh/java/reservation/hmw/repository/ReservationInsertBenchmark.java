@@ -0,0 +1,135 @@
+package reservation.hmw.repository;
+
+import org.h2.tools.Server;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reservation.hmw.model.entity.Partner;
+import reservation.hmw.model.entity.Reservation;
+import reservation.hmw.model.entity.Review;
+import reservation.hmw.model.entity.Store;
+import reservation.hmw.model.entity.Tag;
+import reservation.hmw.model.entity.User;
+import reservation.hmw.model.entity.enums.ReservationStatus;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약을 한 트랜잭션에서 여러 건 저장할 때의 초당 저장 건수를 ID 생성 방식별로 측정합니다.
+ *
+ * identity: 이전 방식(IDENTITY)입니다. INSERT마다 생성된 키를 받아야 하므로 JDBC 배치가 꺼집니다.
+ * pooled: 시퀀스에서 50개씩 ID를 할당받고 hibernate.jdbc.batch_size=50, order_inserts로 묶어 보냅니다.
+ *
+ * DB 왕복 비용이 드러나도록 H2를 TCP 서버로 띄워 로컬 소켓으로 접속합니다.
+ * 실행: gradle jmh -PjmhIncludes=ReservationInsertBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationInsertBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"identity", "pooled"})
+    private String idGeneration;
+
+    private Server server;
+    private SessionFactory sessionFactory;
+    private Long storeId;
+    private Long userId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(Partner.class)
+                .addAnnotatedClass(Store.class)
+                .addAnnotatedClass(Tag.class)
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Review.class)
+                .addAnnotatedClass(Reservation.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:tcp://localhost:" + server.getPort()
+                        + "/mem:" + idGeneration + ";MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create")
+                .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy());
+        if (idGeneration.equals("identity")) {
+            configuration.addResource("identity-orm.xml");
+        } else {
+            configuration.setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(BATCH_SIZE))
+                    .setProperty(AvailableSettings.ORDER_INSERTS, "true");
+        }
+        sessionFactory = configuration.buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> {
+            Store store = Store.builder().storeName("store").location("seoul").build();
+            User user = User.builder().name("user").build();
+            session.persist(store);
+            session.persist(user);
+            storeId = store.getId();
+            userId = user.getId();
+        });
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteReservations() {
+        sessionFactory.inTransaction(session -> session.createMutationQuery("delete from Reservation").executeUpdate());
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        server.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertReservations() {
+        LocalDateTime time = LocalDateTime.of(2030, 1, 1, 12, 0);
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            Store store = session.getReference(Store.class, storeId);
+            User user = session.getReference(User.class, userId);
+            for (int i = 0; i < ROWS; i++) {
+                session.persist(Reservation.builder()
+                        .store(store)
+                        .user(user)
+                        .reservationTime(time.plusMinutes(30L * i))
+                        .reservationStatus(ReservationStatus.PENDING)
+                        .build());
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                    store = session.getReference(Store.class, storeId);
+                    user = session.getReference(User.class, userId);
+                }
+            }
+            session.getTransaction().commit();
+        }
+    }
+
+}
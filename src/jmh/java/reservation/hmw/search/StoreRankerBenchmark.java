@@ -0,0 +1,110 @@
+package reservation.hmw.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * 검색 후보 하나의 종합 점수를 계산하고 상위 k개에 반영하는 비용을 측정합니다.
+ * 평점, 인기도 신호는 실제 신호처럼 정렬된 배열을 이진 탐색하고, 거리 신호는 후보별 거리를 배열에서 읽습니다.
+ *
+ * 실행: gradle jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StoreRankerBenchmark {
+
+    private static final int CANDIDATES = 10_000;
+
+    @Param({"20", "200"})
+    private int limit;
+
+    private long[] ids;
+    private float[] textScores;
+    private StoreRanker textOnly;
+    private StoreRanker blended;
+    private RankingQuery query;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        ids = new long[CANDIDATES];
+        textScores = new float[CANDIDATES];
+        long[] ratedIds = new long[CANDIDATES];
+        double[] ratings = new double[CANDIDATES];
+        double[] distances = new double[CANDIDATES * 2 + 1];
+        for (int i = 0; i < CANDIDATES; i++) {
+            ids[i] = 1 + 2L * i;
+            textScores[i] = random.nextFloat() * 10;
+            ratedIds[i] = ids[i];
+            ratings[i] = random.nextDouble();
+            distances[(int) ids[i]] = random.nextDouble() * 10_000;
+        }
+        long[] popularIds = new long[100];
+        double[] popularity = new double[100];
+        for (int i = 0; i < popularIds.length; i++) {
+            popularIds[i] = ids[i * 97];
+            popularity[i] = 1 - i / 100.0;
+        }
+
+        textOnly = StoreRanker.textOnly();
+        blended = new StoreRanker(1.0, List.of(
+                signal(0.3, sorted(ratedIds, ratings, 0.5)),
+                signal(0.2, sorted(popularIds, popularity, 0)),
+                new DistanceSignal(0.5, 1000)));
+        query = new RankingQuery(37.5, 127.0, 0, id -> distances[(int) id]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CANDIDATES)
+    public long[] textOnly() {
+        return textOnly.top(ids, textScores, CANDIDATES, limit, query);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CANDIDATES)
+    public long[] blended() {
+        return blended.top(ids, textScores, CANDIDATES, limit, query);
+    }
+
+    private static LongToDoubleFunction sorted(long[] keys, double[] values, double missing) {
+        return id -> {
+            int index = Arrays.binarySearch(keys, id);
+            return index < 0 ? missing : values[index];
+        };
+    }
+
+    private static RankingSignal signal(double weight, LongToDoubleFunction scorer) {
+        return new RankingSignal() {
+            @Override
+            public double weight() {
+                return weight;
+            }
+
+            @Override
+            public LongToDoubleFunction prepare(RankingQuery query) {
+                return scorer;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,61 @@
+package reservation.hmw.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * {@link reservation.hmw.repository.StoreRepository}의 매장 조회 캐시를 무효화하는 컴포넌트입니다.
+ *
+ * 매장은 ID별(store)과 이름별(storeByName) 캐시에 보관되며, 크기와 유효 시간은 spring.cache.caffeine.spec으로 제한됩니다.
+ * 캐시에는 엔티티 대신 변경할 수 없는 {@link StoreSnapshot}을 보관하므로, 수정 중인 트랜잭션의 값이 커밋 전에 노출되지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreCache {
+
+    public static final String BY_ID = "store";
+    public static final String BY_NAME = "storeByName";
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 매장의 캐시 항목을 제거하는 메서드입니다.
+     * 트랜잭션 안에서 호출되면 트랜잭션이 끝난 이후(커밋/롤백 모두)에 제거합니다.
+     *
+     * @param storeId 매장 ID
+     * @param storeNames 제거할 매장 이름들 (변경 전/후 이름)
+     */
+    public void evict(Long storeId, String... storeNames) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictNow(storeId, storeNames);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evictNow(storeId, storeNames);
+            }
+        });
+    }
+
+    private void evictNow(Long storeId, String... storeNames) {
+        Cache byId = cacheManager.getCache(BY_ID);
+        if (byId != null && storeId != null) {
+            byId.evict(storeId);
+        }
+
+        Cache byName = cacheManager.getCache(BY_NAME);
+        if (byName != null) {
+            Stream.of(storeNames).filter(Objects::nonNull).distinct().forEach(byName::evict);
+        }
+    }
+
+}
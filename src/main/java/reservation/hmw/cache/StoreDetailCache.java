@@ -0,0 +1,78 @@
+package reservation.hmw.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reservation.hmw.model.entity.dto.StoreDetailDto;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 매장 상세 정보를 매장 ID별로 보관하는 읽기 캐시입니다.
+ *
+ * 캐시에 없으면 한 번만 조회하여 채우며(같은 매장에 대한 동시 조회는 하나의 조회를 기다립니다),
+ * 매장이나 리뷰가 변경되면 커밋 이후에 해당 매장의 항목을 제거합니다.
+ * 다른 인스턴스에서 일어난 변경은 유효 시간이 지나야 반영됩니다.
+ */
+@Component
+public class StoreDetailCache implements MeterBinder {
+
+    private final Cache<Long, StoreDetailDto> cache;
+
+    public StoreDetailCache(@Value("${reservation.store-detail.cache-size:10000}") long cacheSize,
+                            @Value("${reservation.store-detail.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 매장 상세 정보를 반환하는 메서드입니다. 캐시에 없으면 조회 함수로 채웁니다.
+     *
+     * @param storeId 매장 ID
+     * @param loader 캐시에 없을 때 호출되는 조회 함수
+     * @return 매장 상세 정보
+     */
+    public StoreDetailDto get(Long storeId, Function<Long, StoreDetailDto> loader) {
+        return cache.get(storeId, loader);
+    }
+
+    /**
+     * 매장 상세 정보를 캐시에서 제거하는 메서드입니다.
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 제거합니다.
+     *
+     * @param storeId 매장 ID
+     */
+    public void evict(Long storeId) {
+        if (storeId == null) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(storeId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(storeId);
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "storeDetail");
+    }
+
+}
@@ -0,0 +1,13 @@
+package reservation.hmw.cache;
+
+/**
+ * 캐시에 보관되는 매장 정보입니다.
+ *
+ * 여러 스레드가 같은 인스턴스를 공유하므로 엔티티 대신 변경할 수 없는 값만 담으며,
+ * 매장을 수정/삭제할 때는 캐시를 거치지 않고 엔티티를 조회합니다.
+ *
+ * @param partnerId 매장을 등록한 파트너 ID, 없으면 null
+ */
+public record StoreSnapshot(Long id, String storeName, String location, String keyword, String storeDescription,
+                            Integer slotCapacity, Double latitude, Double longitude, Long partnerId) {
+}
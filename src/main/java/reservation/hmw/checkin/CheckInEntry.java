@@ -0,0 +1,28 @@
+package reservation.hmw.checkin;
+
+import reservation.hmw.model.entity.Reservation;
+import reservation.hmw.repository.projection.CheckInView;
+
+import java.time.LocalDateTime;
+
+/**
+ * 방문 확인 인덱스에 보관되는 승인된 예약 한 건입니다.
+ */
+public record CheckInEntry(Long reservationId,
+                           Long storeId,
+                           String phone,
+                           String userName,
+                           String storeName,
+                           LocalDateTime reservationTime) {
+
+    public static CheckInEntry from(CheckInView view) {
+        return new CheckInEntry(view.getId(), view.getStoreId(), view.getPhone(),
+                view.getUserName(), view.getStoreName(), view.getReservationTime());
+    }
+
+    public static CheckInEntry from(Reservation reservation) {
+        return new CheckInEntry(reservation.getId(), reservation.getStore().getId(), reservation.getUser().getPhone(),
+                reservation.getUser().getName(), reservation.getStore().getStoreName(), reservation.getReservationTime());
+    }
+
+}
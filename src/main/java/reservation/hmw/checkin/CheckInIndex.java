@@ -0,0 +1,187 @@
+package reservation.hmw.checkin;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reservation.hmw.model.entity.enums.ReservationStatus;
+import reservation.hmw.repository.ReservationRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 오늘 승인된 예약을 (전화번호, 매장) 기준으로 보관하는 키오스크 방문 확인용 인덱스입니다.
+ *
+ * 매일 아침 한 번의 조회로 미리 적재하고, 예약 승인/거절이 커밋될 때마다 갱신합니다.
+ * 날짜가 바뀐 뒤 첫 조회 시점에 적재되지 않았다면 그 자리에서 다시 적재합니다.
+ * 같은 키의 예약 목록은 복사 후 교체하므로 조회는 잠금 없이 이루어집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CheckInIndex {
+
+    private static final Comparator<CheckInEntry> BY_TIME = Comparator.comparing(CheckInEntry::reservationTime);
+
+    private final ReservationRepository reservationRepository;
+    private final Object reloadLock = new Object();
+    private volatile Day day = new Day(LocalDate.MIN);
+
+    /**
+     * 전화번호와 매장으로 오늘 승인된 예약을 찾는 메서드입니다.
+     *
+     * @param phone 전화번호 (하이픈 등 숫자가 아닌 문자는 무시합니다)
+     * @param storeId 매장 ID
+     * @return 예약 시간 순으로 정렬된 예약 목록
+     */
+    public List<CheckInEntry> find(String phone, Long storeId) {
+        return currentDay().entries.getOrDefault(new Key(normalize(phone), storeId), List.of());
+    }
+
+    /**
+     * 예약을 인덱스에 추가하는 메서드입니다. 오늘 예약이 아니면 무시합니다.
+     */
+    public void add(CheckInEntry entry) {
+        Day current = day;
+        if (!current.date.equals(entry.reservationTime().toLocalDate())) {
+            return;
+        }
+
+        current.add(entry);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 이후에 예약을 인덱스에 추가하는 메서드입니다.
+     */
+    public void addAfterCommit(Collection<CheckInEntry> entries) {
+        afterCommit(() -> entries.forEach(this::add));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 이후에 예약을 인덱스에서 제거하는 메서드입니다.
+     */
+    public void removeAfterCommit(Collection<Long> reservationIds) {
+        afterCommit(() -> reservationIds.forEach(day::remove));
+    }
+
+    /**
+     * 오늘의 승인된 예약을 미리 적재하는 메서드입니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${reservation.check-in.preload-cron:0 0 5 * * *}")
+    public void preload() {
+        synchronized (reloadLock) {
+            reload(LocalDate.now());
+        }
+    }
+
+    private Day currentDay() {
+        LocalDate today = LocalDate.now();
+        Day current = day;
+        if (current.date.equals(today)) {
+            return current;
+        }
+
+        synchronized (reloadLock) {
+            current = day;
+            return current.date.equals(today) ? current : reload(today);
+        }
+    }
+
+    private Day reload(LocalDate date) {
+        Day loaded = new Day(date);
+        reservationRepository.findCheckInViews(date.atStartOfDay(), date.plusDays(1).atStartOfDay(),
+                        ReservationStatus.APPROVED)
+                .forEach(view -> loaded.add(CheckInEntry.from(view)));
+
+        day = loaded;
+        log.info("Loaded {} approved reservations for check-in on {}", loaded.keys.size(), date);
+        return loaded;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    static String normalize(String phone) {
+        if (phone == null) {
+            return "";
+        }
+
+        StringBuilder digits = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+    private record Key(String phone, Long storeId) {
+    }
+
+    private static final class Day {
+
+        private final LocalDate date;
+        private final ConcurrentHashMap<Key, List<CheckInEntry>> entries = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Long, Key> keys = new ConcurrentHashMap<>();
+
+        private Day(LocalDate date) {
+            this.date = date;
+        }
+
+        private void add(CheckInEntry entry) {
+            Key key = new Key(normalize(entry.phone()), entry.storeId());
+            Key previous = keys.put(entry.reservationId(), key);
+            if (previous != null && !previous.equals(key)) {
+                removeFrom(previous, entry.reservationId());
+            }
+
+            entries.compute(key, (k, list) -> {
+                List<CheckInEntry> updated = new ArrayList<>(list == null ? List.of() : list);
+                updated.removeIf(e -> e.reservationId().equals(entry.reservationId()));
+                updated.add(entry);
+                updated.sort(BY_TIME);
+                return List.copyOf(updated);
+            });
+        }
+
+        private void remove(Long reservationId) {
+            Key key = keys.remove(reservationId);
+            if (key != null) {
+                removeFrom(key, reservationId);
+            }
+        }
+
+        private void removeFrom(Key key, Long reservationId) {
+            entries.computeIfPresent(key, (k, list) -> {
+                List<CheckInEntry> updated = list.stream()
+                        .filter(e -> !e.reservationId().equals(reservationId))
+                        .toList();
+                return updated.isEmpty() ? null : updated;
+            });
+        }
+
+    }
+
+}
@@ -0,0 +1,12 @@
+package reservation.hmw.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 캐시 기능 활성화
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
@@ -0,0 +1,23 @@
+package reservation.hmw.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reservation.hmw.idempotency.IdempotencyFilter;
+import reservation.hmw.idempotency.IdempotencyStore;
+
+/**
+ * 예약/리뷰 생성 요청의 Idempotency-Key 처리를 위한 설정입니다.
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyStore idempotencyStore) {
+        FilterRegistrationBean<IdempotencyFilter> registration =
+                new FilterRegistrationBean<>(new IdempotencyFilter(idempotencyStore));
+        registration.addUrlPatterns("/reservation", "/review");
+        return registration;
+    }
+
+}
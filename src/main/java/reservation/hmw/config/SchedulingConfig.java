@@ -0,0 +1,12 @@
+package reservation.hmw.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 기능 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
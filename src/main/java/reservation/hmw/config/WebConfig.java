@@ -16,7 +16,8 @@ public class WebConfig implements WebMvcConfigurer {
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(new PartnerCheckInterceptor())
                 .order(1)
-                .addPathPatterns("/store/register", "/reservation/approve");
+                .addPathPatterns("/store/register", "/reservation/approve", "/reservation/decisions",
+                        "/reservation/no-show/**", "/partner/stores/**");
 
         registry.addInterceptor(new LoginCheckInterceptor())
                 .order(2)
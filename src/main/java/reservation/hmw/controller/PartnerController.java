@@ -1,17 +1,25 @@
 package reservation.hmw.controller;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import reservation.hmw.Validation;
+import reservation.hmw.exception.CustomException;
+import reservation.hmw.exception.ErrorCode;
 import reservation.hmw.model.entity.dto.LoginForm;
 import reservation.hmw.model.entity.dto.RegisterForm;
 import reservation.hmw.model.entity.session.SessionConst;
 import reservation.hmw.service.PartnerService;
+import reservation.hmw.service.ReservationService;
+import reservation.hmw.service.StoreService;
+
+import java.io.IOException;
 
 /**
  * 파트너 회원에 관한 컨트롤러
@@ -22,6 +30,8 @@ import reservation.hmw.service.PartnerService;
 public class PartnerController {
 
     private final PartnerService partnerService;
+    private final StoreService storeService;
+    private final ReservationService reservationService;
 
     /**
      * 파트너 회원가입을 처리하는 메서드입니다.
@@ -77,4 +87,44 @@ public class PartnerController {
         return ResponseEntity.ok(partnerService.logout(request));
     }
 
+    /**
+     * 매장의 예약을 최신 접수순으로 커서 기반 조회하는 메서드입니다.
+     *
+     * @param storeId 매장 ID
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지라면 생략
+     * @param size 페이지 크기 (최대 100)
+     * @param partnerId 세션의 파트너 ID
+     * @return 예약 목록과 다음 커서를 포함하는 응답
+     */
+    @GetMapping("/stores/{storeId}/reservations")
+    public ResponseEntity<?> getStoreReservations(@PathVariable(name = "storeId") Long storeId,
+                                                  @RequestParam(name = "cursor", required = false) String cursor,
+                                                  @RequestParam(name = "size", defaultValue = "15") int size,
+                                                  @SessionAttribute(SessionConst.LOGIN_PARTNER) Long partnerId) {
+        if (partnerId == null) {
+            throw new CustomException(ErrorCode.PARTNER_ACCESS_ONLY);
+        }
+
+        return ResponseEntity.ok(reservationService.getStoreReservations(storeId, partnerId, cursor, size));
+    }
+
+    /**
+     * 매장의 예약 생성/승인/거절/취소 이벤트를 SSE로 구독하는 메서드입니다.
+     *
+     * @param storeId 구독할 매장 ID
+     * @param partnerId 세션의 파트너 ID
+     * @param request 구독 요청
+     * @param response 이벤트가 전송될 응답
+     */
+    @GetMapping(value = "/stores/{storeId}/reservations/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public void streamReservations(@PathVariable(name = "storeId") Long storeId,
+                                   @SessionAttribute(SessionConst.LOGIN_PARTNER) Long partnerId,
+                                   HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (partnerId == null) {
+            throw new CustomException(ErrorCode.PARTNER_ACCESS_ONLY);
+        }
+
+        storeService.subscribeReservations(storeId, partnerId, request, response);
+    }
+
 }
@@ -6,8 +6,14 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import reservation.hmw.Validation;
+import reservation.hmw.exception.CustomException;
+import reservation.hmw.exception.ErrorCode;
+import reservation.hmw.intake.ReservationIntake;
 import reservation.hmw.model.entity.dto.ConfirmReservationDto;
+import reservation.hmw.model.entity.dto.RecurringReservationDto;
+import reservation.hmw.model.entity.dto.ReservationDecisionDto;
 import reservation.hmw.model.entity.dto.ReservationDto;
+import reservation.hmw.model.entity.session.SessionConst;
 import reservation.hmw.service.ReservationService;
 
 
@@ -20,24 +26,112 @@ import reservation.hmw.service.ReservationService;
 public class ReservationController {
 
     private final ReservationService reservationService;
-
+    private final ReservationIntake reservationIntake;
 
     /**
+     * 예약을 생성하는 메서드입니다.
+     * 접수 파이프라인이 활성화된 경우 요청을 대기열에 넣고, 배치가 커밋된 뒤 비동기로 응답합니다.
+     *
      * @param dtoRequest 예약 생성 요청 정보를 포함하는 DTO
      * @param bindingResult 유효성 검사 결과
-     * @return 예약 생성 결과를 포함하는 응답
+     * @return 예약 생성 결과를 포함하는 응답 또는 그 응답을 완료할 CompletableFuture
      */
     @PostMapping()
-    public ResponseEntity<?> createReservation(@Valid @RequestBody ReservationDto.Request dtoRequest,
-                                               BindingResult bindingResult) {
+    public Object createReservation(@Valid @RequestBody ReservationDto.Request dtoRequest,
+                                    BindingResult bindingResult) {
         if (bindingResult.hasErrors()) {
             return Validation.getErrorResponse(bindingResult);
         }
 
+        if (reservationIntake.isEnabled()) {
+            return reservationIntake.submit(dtoRequest).thenApply(ResponseEntity::ok);
+        }
+
         ReservationDto.Response reservation = reservationService.createReservation(dtoRequest);
         return ResponseEntity.ok(reservation);
     }
 
+    /**
+     * 매주 같은 요일, 같은 시간의 반복 예약을 생성하는 메서드입니다.
+     * 예약 가능한 시간만 생성되며, 마감된 시간은 응답에 함께 반환됩니다.
+     *
+     * @param dtoRequest 첫 예약 시간, 반복 횟수와 간격을 포함하는 DTO
+     * @param bindingResult 유효성 검사 결과
+     * @return 생성된 예약과 마감된 시간을 포함하는 응답
+     */
+    @PostMapping("recurring")
+    public ResponseEntity<?> createRecurringReservation(@Valid @RequestBody RecurringReservationDto.Request dtoRequest,
+                                                       BindingResult bindingResult) {
+        if (bindingResult.hasErrors()) {
+            return Validation.getErrorResponse(bindingResult);
+        }
+
+        return ResponseEntity.ok(reservationService.createRecurringReservation(dtoRequest));
+    }
+
+    /**
+     * 임시 예약을 생성하는 메서드입니다.
+     *
+     * @param dtoRequest 예약 생성 요청 정보를 포함하는 DTO
+     * @param bindingResult 유효성 검사 결과
+     * @return 임시 예약 ID와 만료 시간을 포함하는 응답
+     */
+    @PostMapping("hold")
+    public ResponseEntity<?> createHold(@Valid @RequestBody ReservationDto.Request dtoRequest,
+                                        BindingResult bindingResult) {
+        if (bindingResult.hasErrors()) {
+            return Validation.getErrorResponse(bindingResult);
+        }
+
+        return ResponseEntity.ok(reservationService.createHold(dtoRequest));
+    }
+
+    /**
+     * 임시 예약을 승인 대기 예약으로 확정하는 메서드입니다.
+     *
+     * @param reservationId 임시 예약 ID
+     * @return 확정된 예약 정보를 포함하는 응답
+     */
+    @PutMapping("/hold/{reservationId}")
+    public ResponseEntity<?> convertHold(@PathVariable(name = "reservationId") Long reservationId) {
+        return ResponseEntity.ok(reservationService.convertHold(reservationId));
+    }
+
+    /**
+     * 대기 예약을 등록하는 메서드입니다. 자리가 있으면 바로 예약됩니다.
+     *
+     * @param dtoRequest 예약 생성 요청 정보를 포함하는 DTO
+     * @param bindingResult 유효성 검사 결과
+     * @return 예약 상태와 앞선 대기 인원을 포함하는 응답
+     */
+    @PostMapping("waitlist")
+    public ResponseEntity<?> joinWaitlist(@Valid @RequestBody ReservationDto.Request dtoRequest,
+                                          BindingResult bindingResult) {
+        if (bindingResult.hasErrors()) {
+            return Validation.getErrorResponse(bindingResult);
+        }
+
+        return ResponseEntity.ok(reservationService.joinWaitlist(dtoRequest));
+    }
+
+    /**
+     * 사용자가 자신의 예약을 취소하는 메서드입니다.
+     *
+     * @param reservationId 취소할 예약 ID
+     * @param userId 세션의 사용자 ID
+     * @return 취소 결과
+     */
+    @PutMapping("/cancel/{reservationId}")
+    public ResponseEntity<?> cancelReservation(@PathVariable(name = "reservationId") Long reservationId,
+                                               @SessionAttribute(SessionConst.LOGIN_USER) Long userId) {
+        if (userId == null) {
+            throw new CustomException(ErrorCode.NOT_LOGGED_IN);
+        }
+
+        reservationService.cancelReservation(reservationId, userId);
+        return ResponseEntity.ok("CANCELLED");
+    }
+
     @PostMapping("confirm")
     public ResponseEntity<?> confirmReservation(@Valid @RequestBody ConfirmReservationDto.Request confirmForm,
                                               BindingResult bindingResult) {
@@ -54,10 +148,51 @@ public class ReservationController {
         return ResponseEntity.ok("APPROVED");
     }
 
+    /**
+     * 파트너가 여러 예약을 한 번에 승인/거절하는 메서드입니다.
+     *
+     * @param decisionRequest 예약 ID와 목표 상태 목록
+     * @param bindingResult 유효성 검사 결과
+     * @param partnerId 세션의 파트너 ID
+     * @return 예약별 처리 결과를 포함하는 응답
+     */
+    @PutMapping("decisions")
+    public ResponseEntity<?> decideReservations(@Valid @RequestBody ReservationDecisionDto.Request decisionRequest,
+                                                BindingResult bindingResult,
+                                                @SessionAttribute(SessionConst.LOGIN_PARTNER) Long partnerId) {
+        if (bindingResult.hasErrors()) {
+            return Validation.getErrorResponse(bindingResult);
+        }
+
+        if (partnerId == null) {
+            throw new CustomException(ErrorCode.PARTNER_ACCESS_ONLY);
+        }
+
+        return ResponseEntity.ok(reservationService.decideReservations(decisionRequest.getDecisions(), partnerId));
+    }
+
     @PutMapping("/reject/{reservationId}")
     public ResponseEntity<?> rejectReservation(@PathVariable(name = "reservationId") Long reservationId) {
         reservationService.rejectReservation(reservationId);
         return ResponseEntity.ok("REJECTED");
     }
 
+    /**
+     * 파트너가 예약 시간이 지난 승인 예약을 노쇼로 처리하는 메서드입니다.
+     *
+     * @param reservationId 노쇼로 처리할 예약 ID
+     * @param partnerId 세션의 파트너 ID
+     * @return 처리 결과
+     */
+    @PutMapping("/no-show/{reservationId}")
+    public ResponseEntity<?> markNoShow(@PathVariable(name = "reservationId") Long reservationId,
+                                        @SessionAttribute(SessionConst.LOGIN_PARTNER) Long partnerId) {
+        if (partnerId == null) {
+            throw new CustomException(ErrorCode.PARTNER_ACCESS_ONLY);
+        }
+
+        reservationService.markNoShow(reservationId, partnerId);
+        return ResponseEntity.ok("NO_SHOW");
+    }
+
 }
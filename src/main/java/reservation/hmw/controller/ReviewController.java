@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.*;
 import reservation.hmw.Validation;
 import reservation.hmw.exception.CustomException;
 import reservation.hmw.exception.ErrorCode;
+import reservation.hmw.model.entity.dto.CursorSliceDto;
 import reservation.hmw.model.entity.dto.ReviewForm;
 import reservation.hmw.model.entity.session.SessionConst;
 import reservation.hmw.service.ReviewService;
@@ -51,6 +52,38 @@ public class ReviewController {
         return ResponseEntity.ok(reviews);
     }
 
+    /**
+     * 매장의 리뷰를 최신순으로 커서 기반 조회하는 메서드입니다.
+     *
+     * @param storeId 매장 ID
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지라면 생략
+     * @param size 페이지 크기 (최대 100)
+     * @return 리뷰 목록과 다음 커서를 포함하는 응답
+     */
+    @GetMapping("store/{storeId}")
+    public ResponseEntity<?> getStoreReviews(@PathVariable(name = "storeId") Long storeId,
+                                             @RequestParam(name = "cursor", required = false) String cursor,
+                                             @RequestParam(name = "size", defaultValue = "15") int size) {
+        CursorSliceDto<ReviewForm.Response> reviews = reviewService.getStoreReviews(storeId, cursor, size);
+        return ResponseEntity.ok(reviews);
+    }
+
+    /**
+     * 사용자가 작성한 리뷰를 최신순으로 커서 기반 조회하는 메서드입니다.
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지라면 생략
+     * @param size 페이지 크기 (최대 100)
+     * @return 리뷰 목록과 다음 커서를 포함하는 응답
+     */
+    @GetMapping("user/{userId}")
+    public ResponseEntity<?> getUserReviews(@PathVariable(name = "userId") Long userId,
+                                            @RequestParam(name = "cursor", required = false) String cursor,
+                                            @RequestParam(name = "size", defaultValue = "15") int size) {
+        CursorSliceDto<ReviewForm.Response> reviews = reviewService.getUserReviews(userId, cursor, size);
+        return ResponseEntity.ok(reviews);
+    }
+
     @PutMapping("{reviewId}")
     public ResponseEntity<?> updateReview(@Valid @RequestBody ReviewForm.Request formRequest,
                                           BindingResult bindingResult,
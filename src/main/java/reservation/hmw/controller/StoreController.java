@@ -3,6 +3,7 @@ package reservation.hmw.controller;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
@@ -14,6 +15,9 @@ import reservation.hmw.model.entity.dto.StoreRegisterForm;
 import reservation.hmw.model.entity.session.SessionConst;
 import reservation.hmw.service.StoreService;
 
+import java.time.LocalDate;
+import java.util.List;
+
 /**
  * 매장 관련 요청을 처리하는 컨트롤러입니다.
  */
@@ -77,26 +81,86 @@ public class StoreController {
     }
 
     /**
-     * 매장을 이름이나 키워드로 검색하는 메서드입니다.
+     * 매장을 이름, 키워드, 태그 또는 매장 설명으로 검색하는 메서드입니다.
      *
      * @param storeName 검색할 매장 이름입니다.
-     * @param keyword 검색할 키워드입니다.
+     * @param keyword 검색할 키워드입니다. 공백으로 구분된 검색어는 모두 일치해야 하며 접두사로도 일치합니다.
+     * @param q 매장 설명 검색어입니다. 주어지면 매장 설명을 전문 검색하며, 키워드나 태그가 함께 주어지면 그 조건과도 일치해야 합니다.
+     * @param tags 쉼표로 구분된 태그 목록입니다. 매장은 모든 태그를 가지고 있어야 합니다.
+     * @param lat 키워드 검색의 기준 위도입니다. 경도와 함께 주어지면 가까운 매장이 앞에 옵니다.
+     * @param lon 키워드 검색의 기준 경도입니다.
+     * @param page 키워드 검색 결과의 페이지 번호입니다. (0부터 시작)
+     * @param size 키워드 검색 결과의 페이지 크기입니다.
      * @return 검색된 매장 정보를 포함하고 HTTP 200 OK 응답 또는 잘못된 요청에 대한 에러 응답을 반환합니다.
      */
     @GetMapping("search")
     public ResponseEntity<?> searchStoreByKeyword(@RequestParam(name = "storeName", required = false) String storeName,
-                                                  @RequestParam(name = "keyword", required = false) String keyword) {
+                                                  @RequestParam(name = "keyword", required = false) String keyword,
+                                                  @RequestParam(name = "q", required = false) String q,
+                                                  @RequestParam(name = "tags", required = false) List<String> tags,
+                                                  @RequestParam(name = "lat", required = false) Double lat,
+                                                  @RequestParam(name = "lon", required = false) Double lon,
+                                                  @RequestParam(name = "page", defaultValue = "0") int page,
+                                                  @RequestParam(name = "size", defaultValue = "15") int size) {
 
         if (storeName != null && !storeName.isEmpty()) {
             return ResponseEntity.ok(storeService.searchStoreByName(storeName));
+        } else if (q != null && !q.isBlank()) {
+            return ResponseEntity.ok(storeService.searchStoreByDescription(q, keyword, tags == null ? List.of() : tags, page, size));
+        } else if (tags != null && !tags.isEmpty()) {
+            return ResponseEntity.ok(storeService.searchStoreByTags(tags, keyword, page, size));
         } else if (keyword != null && !keyword.isEmpty()) {
-            return ResponseEntity.ok(storeService.searchStoreByKeyword(keyword));
+            return ResponseEntity.ok(storeService.searchStoreByKeyword(keyword, lat, lon, page, size));
         } else {
             return ResponseEntity.badRequest().body(ErrorCode.MISSING_STORENAME_OR_KEYWORD);
         }
 
     }
 
+    /**
+     * 최근 예약과 리뷰가 많은 인기 매장을 조회하는 메서드입니다.
+     *
+     * @param size 최대 매장 수입니다. (기본 10)
+     * @return 인기 매장 목록을 포함한 HTTP 200 OK 응답을 반환합니다.
+     */
+    @GetMapping("trending")
+    public ResponseEntity<?> trending(@RequestParam(name = "size", defaultValue = "10") int size) {
+        return ResponseEntity.ok(storeService.trending(size));
+    }
+
+    /**
+     * 입력 중인 접두사로 매장 이름과 키워드 자동완성 후보를 조회하는 메서드입니다.
+     *
+     * @param prefix 입력 중인 접두사입니다.
+     * @param size 최대 후보 수입니다. (최대 20)
+     * @return 자동완성 후보 목록을 포함한 HTTP 200 OK 응답을 반환합니다.
+     */
+    @GetMapping("suggest")
+    public ResponseEntity<?> suggest(@RequestParam(name = "prefix", defaultValue = "") String prefix,
+                                     @RequestParam(name = "size", defaultValue = "10") int size) {
+        return ResponseEntity.ok(storeService.suggest(prefix, size));
+    }
+
+    /**
+     * 기준 좌표에서 가까운 매장을 거리순으로 검색하는 메서드입니다.
+     *
+     * @param lat 기준 위도입니다.
+     * @param lon 기준 경도입니다.
+     * @param radius 검색 반경입니다. (미터, 최대 50000)
+     * @param keyword 함께 적용할 검색어입니다.
+     * @param size 최대 매장 수입니다.
+     * @return 거리순으로 정렬된 매장 정보를 포함한 HTTP 200 OK 응답을 반환합니다.
+     * @throws CustomException 좌표나 반경이 올바르지 않은 경우 예외를 발생시킵니다.
+     */
+    @GetMapping("nearby")
+    public ResponseEntity<?> searchNearby(@RequestParam(name = "lat") double lat,
+                                          @RequestParam(name = "lon") double lon,
+                                          @RequestParam(name = "radius", defaultValue = "3000") double radius,
+                                          @RequestParam(name = "keyword", required = false) String keyword,
+                                          @RequestParam(name = "size", defaultValue = "15") int size) {
+        return ResponseEntity.ok(storeService.searchNearby(lat, lon, radius, keyword, size));
+    }
+
     /**
      * 주어진 매장 ID에 대한 상세 정보를 조회하는 메서드입니다.
      *
@@ -110,6 +174,22 @@ public class StoreController {
         return ResponseEntity.ok(detailDto);
     }
 
+    /**
+     * 기간 내 매장의 예약 가능한 시간대를 조회하는 메서드입니다.
+     *
+     * @param storeId 조회할 매장 ID입니다.
+     * @param from 조회 시작 날짜입니다. (yyyy-MM-dd)
+     * @param to 조회 종료 날짜입니다. (yyyy-MM-dd, 포함)
+     * @return 잔여 수용 인원이 있는 시간대 목록을 포함한 HTTP 200 OK 응답을 반환합니다.
+     * @throws CustomException 매장을 찾을 수 없거나 조회 기간이 올바르지 않은 경우 예외를 발생시킵니다.
+     */
+    @GetMapping("{storeId}/availability")
+    public ResponseEntity<?> getAvailability(@PathVariable(name = "storeId") Long storeId,
+                                             @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                             @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(storeService.getAvailability(storeId, from, to));
+    }
+
     /**
      * 테스트 용도로 사용되는 메서드입니다.
      *
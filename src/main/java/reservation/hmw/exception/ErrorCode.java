@@ -11,10 +11,25 @@ public enum ErrorCode {
     NOT_EXISTS_EMAIL(HttpStatus.BAD_REQUEST, "해당 이메일은 존재하지 않습니다."),
     RESERVATION_NOT_APPROVED(HttpStatus.BAD_REQUEST, "예약이 승인되어있지 않습니다."),
     RESERVATION_CONFIRMATION_TOO_EARLY(HttpStatus.BAD_REQUEST, "예약 10분 전부터 확인이 가능합니다."),
+    RESERVATION_CONFIRMATION_EXPIRED(HttpStatus.BAD_REQUEST, "예약 시간이 지나 방문 확인을 할 수 없습니다."),
+    NO_SHOW_TOO_EARLY(HttpStatus.BAD_REQUEST, "예약 시간이 지난 뒤에 노쇼로 처리할 수 있습니다."),
     NOT_FOUND_USER(HttpStatus.BAD_REQUEST, "해당 유저는 존재하지 않습니다."),
     NOT_FOUND_REVIEW(HttpStatus.BAD_REQUEST, "해당 리뷰는 존재하지 않습니다."),
     UNAUTHORIZED_ACTION(HttpStatus.BAD_REQUEST, "접근 권한이 없습니다."),
     RESERVATION_NOT_FOUND(HttpStatus.BAD_REQUEST, "예약을 찾을 수 없습니다."),
+    RESERVATION_SLOT_FULL(HttpStatus.BAD_REQUEST, "해당 시간대의 예약이 마감되었습니다."),
+    RESERVATION_NOT_ON_HOLD(HttpStatus.BAD_REQUEST, "임시 예약 상태가 아닙니다."),
+    RESERVATION_HOLD_EXPIRED(HttpStatus.BAD_REQUEST, "임시 예약 시간이 만료되었습니다."),
+    RESERVATION_NOT_CANCELLABLE(HttpStatus.BAD_REQUEST, "취소할 수 없는 예약입니다."),
+    INVALID_STATUS_TRANSITION(HttpStatus.BAD_REQUEST, "현재 예약 상태에서는 변경할 수 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다."),
+    RESERVATION_TRANSITION_CONFLICT(HttpStatus.BAD_REQUEST, "다른 요청과 충돌하여 예약 상태를 변경하지 못했습니다. 다시 시도해주세요."),
+    RESERVATION_INTAKE_FULL(HttpStatus.BAD_REQUEST, "예약 요청이 많아 잠시 후 다시 시도해주세요."),
+    IDEMPOTENCY_KEY_TOO_LONG(HttpStatus.BAD_REQUEST, "Idempotency-Key는 100자 이하여야 합니다."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.BAD_REQUEST, "같은 Idempotency-Key의 요청이 처리 중입니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key가 다른 요청 본문으로 사용되었습니다."),
+    INVALID_AVAILABILITY_RANGE(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다."),
+    INVALID_LOCATION_QUERY(HttpStatus.BAD_REQUEST, "위치 검색 조건이 올바르지 않습니다."),
     MISSING_STORENAME_OR_KEYWORD(HttpStatus.BAD_REQUEST, "매장명 또는 키워드 중 하나를 입력해야 합니다."),
     NOT_FOUND_STORE(HttpStatus.BAD_REQUEST, "해당 매장은 조회되지 않습니다."),
     INVALID_PASSWORD(HttpStatus.BAD_REQUEST, "비밀번호가 일치하지 않습니다."),
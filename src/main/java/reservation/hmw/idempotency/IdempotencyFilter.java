@@ -0,0 +1,253 @@
+package reservation.hmw.idempotency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+import reservation.hmw.exception.ErrorCode;
+import reservation.hmw.model.entity.session.SessionConst;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 헤더가 있는 POST 요청을 한 번만 처리하는 필터입니다.
+ *
+ * 처음 들어온 키는 선점한 뒤 요청을 처리하고, 성공(2xx) 응답을 {@link IdempotencyStore}에 기록합니다.
+ * 같은 키로 다시 들어온 요청은 컨트롤러를 거치지 않고 기록된 응답을 그대로 돌려줍니다.
+ * 실패 응답은 기록하지 않으므로 같은 키로 다시 시도할 수 있습니다.
+ *
+ * 키는 세션의 회원 또는 파트너 ID별로 구분되므로 다른 사용자가 같은 키를 보내도 서로의 응답을 받지 않습니다.
+ * 선점할 때 요청 본문의 SHA-256 값을 함께 기록하고, 같은 키로 다른 본문이 들어오면 422로 거절합니다.
+ */
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final String KEY_ATTRIBUTE = IdempotencyFilter.class.getName() + ".KEY";
+    private static final String HASH_ATTRIBUTE = IdempotencyFilter.class.getName() + ".HASH";
+
+    private final IdempotencyStore store;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod());
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = (String) request.getAttribute(KEY_ATTRIBUTE);
+
+        if (!isAsyncDispatch(request)) {
+            String header = request.getHeader(HEADER);
+            if (!StringUtils.hasText(header)) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            if (header.length() > MAX_KEY_LENGTH) {
+                writeError(response, ErrorCode.IDEMPOTENCY_KEY_TOO_LONG);
+                return;
+            }
+
+            CachedBodyRequest cached = new CachedBodyRequest(request);
+            String requestHash = hash(cached.body);
+            key = scope(request) + ":" + request.getRequestURI() + ":" + header;
+            if (replay(key, requestHash, response) || !claimOrReplay(key, requestHash, response)) {
+                return;
+            }
+            request.setAttribute(KEY_ATTRIBUTE, key);
+            request.setAttribute(HASH_ATTRIBUTE, requestHash);
+            request = cached;
+        }
+
+        if (key == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+        if (wrapper == null) {
+            wrapper = new ContentCachingResponseWrapper(response);
+        }
+
+        boolean handled = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+            handled = true;
+        } finally {
+            if (!handled) {
+                store.release(key);
+            } else if (!isAsyncStarted(request)) {
+                record(key, (String) request.getAttribute(HASH_ATTRIBUTE), wrapper);
+                wrapper.copyBodyToResponse();
+            }
+        }
+    }
+
+    private boolean claimOrReplay(String key, String requestHash, HttpServletResponse response) throws IOException {
+        if (store.claim(key, requestHash)) {
+            return true;
+        }
+
+        if (!replay(key, requestHash, response)) {
+            writeError(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+        return false;
+    }
+
+    private boolean replay(String key, String requestHash, HttpServletResponse response) throws IOException {
+        Optional<IdempotentResponse> found = store.find(key);
+        if (found.isEmpty()) {
+            return false;
+        }
+
+        IdempotentResponse stored = found.get();
+        if (!stored.matches(requestHash)) {
+            writeError(response, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            return true;
+        }
+        if (!stored.completed()) {
+            writeError(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            return true;
+        }
+
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.body() != null) {
+            response.setContentLength(stored.body().length);
+            response.getOutputStream().write(stored.body());
+        }
+        return true;
+    }
+
+    private void record(String key, String requestHash, ContentCachingResponseWrapper wrapper) {
+        if (HttpStatus.valueOf(wrapper.getStatus()).is2xxSuccessful()) {
+            store.complete(key, IdempotentResponse.of(wrapper.getStatus(), wrapper.getContentType(),
+                    wrapper.getContentAsByteArray(), requestHash));
+        } else {
+            store.release(key);
+        }
+    }
+
+    private String scope(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        Object userId = session == null ? null : session.getAttribute(SessionConst.LOGIN_USER);
+        if (userId != null) {
+            return "user:" + userId;
+        }
+
+        Object partnerId = session == null ? null : session.getAttribute(SessionConst.LOGIN_PARTNER);
+        return partnerId != null ? "partner:" + partnerId : "anonymous";
+    }
+
+    private String hash(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setContentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8).toString());
+        response.getWriter().write(errorCode.getDescription());
+    }
+
+    /**
+     * 본문의 해시를 구하기 위해 미리 읽은 요청 본문을 컨트롤러에 다시 제공하는 요청 래퍼입니다.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = StreamUtils.copyToByteArray(request.getInputStream());
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+
+    }
+
+}
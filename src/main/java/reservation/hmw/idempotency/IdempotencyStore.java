@@ -0,0 +1,134 @@
+package reservation.hmw.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reservation.hmw.model.entity.IdempotencyRecord;
+import reservation.hmw.repository.IdempotencyRecordRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key별 처리 결과를 보관하는 저장소입니다.
+ *
+ * 완료된 응답은 크기와 유효 시간이 제한된 로컬 캐시에 먼저 보관하고, 다른 노드에서 들어온 재시도도
+ * 중복 처리되지 않도록 DB 테이블에도 기록합니다. 처리 시작 시 DB에 키를 먼저 INSERT하여
+ * 같은 키의 동시 요청 중 하나만 실제로 처리되도록 합니다.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private final IdempotencyRecordRepository repository;
+    private final Duration ttl;
+    private final Duration claimTimeout;
+    private final Cache<String, IdempotentResponse> cache;
+
+    public IdempotencyStore(IdempotencyRecordRepository repository,
+                            @Value("${reservation.idempotency.ttl-hours:24}") long ttlHours,
+                            @Value("${reservation.idempotency.claim-timeout-seconds:60}") long claimTimeoutSeconds,
+                            @Value("${reservation.idempotency.cache-size:10000}") long cacheSize) {
+        this.repository = repository;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.claimTimeout = Duration.ofSeconds(claimTimeoutSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 키에 대해 저장된 처리 상태를 조회하는 메서드입니다.
+     * 유효 시간이 지난 응답이나 오래된 선점 기록은 삭제하고 없는 것으로 취급합니다.
+     *
+     * @param key 요청 키
+     * @return 저장된 응답 또는 처리 중 상태, 처음 보는 키이면 빈 값
+     */
+    public Optional<IdempotentResponse> find(String key) {
+        IdempotentResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<IdempotencyRecord> found = repository.findById(key);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+
+        IdempotencyRecord record = found.get();
+        LocalDateTime now = LocalDateTime.now();
+        if (isStale(record, now)) {
+            repository.deleteStale(key, now.minus(ttl), now.minus(claimTimeout));
+            return Optional.empty();
+        }
+
+        if (!record.isCompleted()) {
+            return Optional.of(IdempotentResponse.inProgress(record.getRequestHash()));
+        }
+
+        IdempotentResponse response = IdempotentResponse.of(record.getStatusCode(), record.getContentType(), record.getBody(),
+                record.getRequestHash());
+        cache.put(key, response);
+        return Optional.of(response);
+    }
+
+    /**
+     * 키를 선점하는 메서드입니다.
+     *
+     * @param key 요청 키
+     * @param requestHash 요청 본문의 SHA-256 값, 같은 키의 재시도가 같은 요청인지 확인하는 데 사용합니다.
+     * @return 다른 요청이 이미 선점했으면 false
+     */
+    public boolean claim(String key, String requestHash) {
+        try {
+            repository.saveAndFlush(IdempotencyRecord.builder()
+                    .requestKey(key)
+                    .requestHash(requestHash)
+                    .completed(false)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 처리된 응답을 기록하는 메서드입니다.
+     */
+    public void complete(String key, IdempotentResponse response) {
+        repository.complete(key, response.status(), response.contentType(), response.body());
+        cache.put(key, response);
+    }
+
+    /**
+     * 응답을 기록하지 않고 선점을 해제하는 메서드입니다. 같은 키로 다시 요청할 수 있게 됩니다.
+     */
+    public void release(String key) {
+        repository.deleteClaim(key);
+    }
+
+    /**
+     * 유효 시간이 지난 기록을 주기적으로 삭제하는 메서드입니다.
+     */
+    @Scheduled(fixedDelayString = "${reservation.idempotency.purge-ms:600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = repository.deleteExpired(now.minus(ttl), now.minus(claimTimeout));
+        if (deleted > 0) {
+            log.debug("Purged {} idempotency records", deleted);
+        }
+    }
+
+    private boolean isStale(IdempotencyRecord record, LocalDateTime now) {
+        Duration limit = record.isCompleted() ? ttl : claimTimeout;
+        return record.getCreatedAt().isBefore(now.minus(limit));
+    }
+
+}
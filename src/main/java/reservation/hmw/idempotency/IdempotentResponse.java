@@ -0,0 +1,32 @@
+package reservation.hmw.idempotency;
+
+/**
+ * Idempotency-Key로 저장된 요청의 처리 상태와 응답입니다.
+ *
+ * @param completed   응답이 기록되었는지 여부 (false이면 다른 요청이 처리 중)
+ * @param status      HTTP 상태 코드
+ * @param contentType 응답 Content-Type
+ * @param body        응답 본문
+ * @param requestHash 처음 요청 본문의 SHA-256 값, 기록되지 않았으면 null
+ */
+public record IdempotentResponse(boolean completed, int status, String contentType, byte[] body, String requestHash) {
+
+    public static IdempotentResponse inProgress(String requestHash) {
+        return new IdempotentResponse(false, 0, null, null, requestHash);
+    }
+
+    public static IdempotentResponse of(int status, String contentType, byte[] body, String requestHash) {
+        return new IdempotentResponse(true, status, contentType, body, requestHash);
+    }
+
+    /**
+     * 같은 키로 들어온 요청의 본문이 처음 요청과 같은지 확인하는 메서드입니다.
+     *
+     * @param requestHash 요청 본문의 SHA-256 값
+     * @return 본문이 같거나 처음 요청의 값이 기록되지 않았으면 true
+     */
+    public boolean matches(String requestHash) {
+        return this.requestHash == null || this.requestHash.equals(requestHash);
+    }
+
+}
@@ -0,0 +1,125 @@
+package reservation.hmw.intake;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 여러 생산자와 하나의 소비자를 위한 잠금 없는 고정 크기 링 버퍼입니다.
+ *
+ * 각 칸은 시퀀스 번호를 가지고 있어 생산자는 꼬리 위치를 CAS로 선점한 뒤 값을 기록하고,
+ * 소비자는 시퀀스가 기록 완료를 가리키는 칸만 읽습니다. 버퍼가 가득 차면 대기하지 않고 즉시 실패합니다.
+ *
+ * @param <E> 저장할 원소 타입
+ */
+public class MpscRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * @param requestedCapacity 최소 용량 (2의 거듭제곱으로 올림됩니다)
+     */
+    public MpscRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + requestedCapacity);
+        }
+
+        int size = 1;
+        while (size < requestedCapacity) {
+            size <<= 1;
+        }
+
+        this.capacity = size;
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 원소를 추가하는 메서드입니다. 여러 스레드에서 동시에 호출할 수 있습니다.
+     *
+     * @param element 추가할 원소
+     * @return 버퍼가 가득 차 추가하지 못한 경우 false
+     */
+    public boolean offer(E element) {
+        Objects.requireNonNull(element);
+
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+
+            if (diff < 0) {
+                return false;
+            }
+
+            if (diff == 0 && tail.compareAndSet(position, position + 1)) {
+                elements.lazySet(index, element);
+                sequences.set(index, position + 1);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 가장 오래된 원소를 꺼내는 메서드입니다. 소비자 스레드 하나에서만 호출해야 합니다.
+     *
+     * @return 꺼낸 원소, 비어 있으면 null
+     */
+    public E poll() {
+        long position = head;
+        int index = (int) (position & mask);
+
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+
+        E element = elements.get(index);
+        elements.lazySet(index, null);
+        sequences.set(index, position + capacity);
+        head = position + 1;
+        return element;
+    }
+
+    /**
+     * 최대 limit개의 원소를 꺼내 sink에 담는 메서드입니다. 소비자 스레드 하나에서만 호출해야 합니다.
+     *
+     * @return 꺼낸 원소 수
+     */
+    public int drainTo(Collection<? super E> sink, int limit) {
+        int drained = 0;
+        E element;
+        while (drained < limit && (element = poll()) != null) {
+            sink.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * 현재 담긴 원소 수의 근사값을 반환하는 메서드입니다.
+     */
+    public int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+}
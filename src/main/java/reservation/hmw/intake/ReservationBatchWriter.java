@@ -0,0 +1,126 @@
+package reservation.hmw.intake;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import reservation.hmw.exception.CustomException;
+import reservation.hmw.exception.ErrorCode;
+import reservation.hmw.inventory.SlotInventory;
+import reservation.hmw.model.entity.Reservation;
+import reservation.hmw.model.entity.Store;
+import reservation.hmw.model.entity.User;
+import reservation.hmw.model.entity.dto.ReservationDto;
+import reservation.hmw.model.entity.enums.ReservationEventType;
+import reservation.hmw.model.entity.enums.ReservationStatus;
+import reservation.hmw.repository.ReservationRepository;
+import reservation.hmw.repository.StoreRepository;
+import reservation.hmw.repository.UserRepository;
+import reservation.hmw.stream.ReservationEvent;
+import reservation.hmw.stream.ReservationEventHub;
+import reservation.hmw.trending.TrendingStores;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 모아진 예약 요청을 하나의 트랜잭션으로 저장하는 컴포넌트입니다.
+ *
+ * 매장과 사용자는 배치 전체에 대해 한 번씩만 조회하며, 개별 요청의 실패(매장/사용자 없음, 시간대 마감)는
+ * 해당 요청의 결과로만 반환되어 같은 배치의 다른 요청에 영향을 주지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationBatchWriter {
+
+    private final ReservationRepository reservationRepository;
+    private final StoreRepository storeRepository;
+    private final UserRepository userRepository;
+    private final SlotInventory slotInventory;
+    private final ReservationEventHub eventHub;
+    private final TrendingStores trendingStores;
+
+    /**
+     * 예약 요청 목록을 한 번에 저장하는 메서드입니다.
+     *
+     * @param requests 예약 생성 요청 목록
+     * @return 요청 순서와 같은 순서의 처리 결과 목록
+     */
+    @Transactional
+    public List<Outcome> write(List<ReservationDto.Request> requests) {
+        Set<Long> storeIds = requests.stream()
+                .map(ReservationDto.Request::getStoreId)
+                .collect(Collectors.toSet());
+        Set<Long> userIds = requests.stream()
+                .map(ReservationDto.Request::getUserId)
+                .collect(Collectors.toSet());
+
+        Map<Long, Store> stores = storeRepository.findAllById(storeIds).stream()
+                .collect(Collectors.toMap(Store::getId, Function.identity()));
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<Outcome> outcomes = new ArrayList<>(requests.size());
+        List<Reservation> reservations = new ArrayList<>(requests.size());
+
+        for (ReservationDto.Request request : requests) {
+            Store store = stores.get(request.getStoreId());
+            if (store == null) {
+                outcomes.add(Outcome.failed(ErrorCode.NOT_FOUND_STORE));
+                continue;
+            }
+
+            User user = users.get(request.getUserId());
+            if (user == null) {
+                outcomes.add(Outcome.failed(ErrorCode.NOT_FOUND_USER));
+                continue;
+            }
+
+            if (!slotInventory.tryAcquire(store.getId(), request.getReservationTime(), () -> store)) {
+                outcomes.add(Outcome.failed(ErrorCode.RESERVATION_SLOT_FULL));
+                continue;
+            }
+            slotInventory.releaseOnRollback(store.getId(), request.getReservationTime());
+
+            reservations.add(Reservation.builder()
+                    .store(store)
+                    .user(user)
+                    .reservationTime(request.getReservationTime())
+                    .reservationStatus(ReservationStatus.PENDING)
+                    .build());
+
+            outcomes.add(Outcome.succeeded(ReservationDto.Response.builder()
+                    .storeName(store.getStoreName())
+                    .userName(user.getName())
+                    .location(store.getLocation())
+                    .reservationTime(request.getReservationTime())
+                    .build()));
+        }
+
+        reservationRepository.saveAll(reservations);
+        eventHub.publishAfterCommit(reservations.stream()
+                .map(reservation -> ReservationEvent.of(ReservationEventType.CREATED, reservation))
+                .toList());
+        reservations.forEach(reservation -> trendingStores.recordReservation(reservation.getStore().getId()));
+        return outcomes;
+    }
+
+    /**
+     * 배치 안의 요청 하나에 대한 처리 결과입니다.
+     */
+    public record Outcome(ReservationDto.Response response, CustomException error) {
+
+        static Outcome succeeded(ReservationDto.Response response) {
+            return new Outcome(response, null);
+        }
+
+        static Outcome failed(ErrorCode errorCode) {
+            return new Outcome(null, new CustomException(errorCode));
+        }
+
+    }
+
+}
@@ -0,0 +1,219 @@
+package reservation.hmw.intake;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reservation.hmw.exception.CustomException;
+import reservation.hmw.exception.ErrorCode;
+import reservation.hmw.model.entity.dto.ReservationDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 예약 생성 요청을 모아 한 번에 저장하는 접수 파이프라인입니다.
+ *
+ * 요청은 고정 크기의 {@link MpscRingBuffer}에 쌓이고, 전용 쓰기 스레드가 batch-size개가 모이거나
+ * 첫 요청 이후 linger-ms가 지나면 {@link ReservationBatchWriter}로 하나의 트랜잭션에 묶어 저장합니다.
+ * 호출자는 커밋 이후 완료되는 {@link CompletableFuture}로 결과를 받습니다.
+ * reservation.intake.enabled가 false이면 쓰기 스레드를 시작하지 않으며 기존 동기 방식이 사용됩니다.
+ */
+@Slf4j
+@Component
+public class ReservationIntake implements SmartLifecycle, MeterBinder {
+
+    private final ReservationBatchWriter batchWriter;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final MpscRingBuffer<Submission> buffer;
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile Thread writer;
+    private volatile boolean running;
+    private volatile DistributionSummary batchSizes;
+    private volatile Timer flushTimer;
+
+    public ReservationIntake(ReservationBatchWriter batchWriter,
+                             @Value("${reservation.intake.enabled:false}") boolean enabled,
+                             @Value("${reservation.intake.batch-size:64}") int batchSize,
+                             @Value("${reservation.intake.linger-ms:5}") long lingerMs,
+                             @Value("${reservation.intake.queue-depth:4096}") int queueDepth) {
+        this.batchWriter = batchWriter;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        this.buffer = new MpscRingBuffer<>(queueDepth);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 예약 생성 요청을 접수하는 메서드입니다.
+     *
+     * @param request 예약 생성 요청 정보를 포함하는 DTO
+     * @return 요청이 저장되어 커밋되면 완료되는 결과
+     * @throws CustomException 접수 대기열이 가득 찼거나 파이프라인이 동작 중이 아닌 경우 예외를 발생시킵니다.
+     */
+    public CompletableFuture<ReservationDto.Response> submit(ReservationDto.Request request) {
+        Submission submission = new Submission(request, new CompletableFuture<>());
+
+        if (!running || !buffer.offer(submission)) {
+            rejected.increment();
+            throw new CustomException(ErrorCode.RESERVATION_INTAKE_FULL);
+        }
+
+        if (buffer.size() >= batchSize) {
+            LockSupport.unpark(writer);
+        }
+
+        return submission.future();
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+
+        running = true;
+        writer = new Thread(this::drainLoop, "reservation-intake-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("reservation.intake.queue.size", buffer, MpscRingBuffer::size)
+                .description("Reservation requests waiting for the intake writer")
+                .register(registry);
+        Gauge.builder("reservation.intake.queue.depth", buffer, MpscRingBuffer::capacity)
+                .description("Capacity of the reservation intake queue")
+                .register(registry);
+        Gauge.builder("reservation.intake.batch.limit", () -> batchSize)
+                .description("Maximum number of reservations written per transaction")
+                .register(registry);
+        TimeGauge.builder("reservation.intake.linger", () -> lingerNanos, TimeUnit.NANOSECONDS)
+                .description("Maximum time a batch waits to fill up")
+                .register(registry);
+        FunctionCounter.builder("reservation.intake.rejected", rejected, LongAdder::sum)
+                .description("Reservation requests rejected because the intake queue was full")
+                .register(registry);
+
+        batchSizes = DistributionSummary.builder("reservation.intake.batch")
+                .description("Number of reservations written per transaction")
+                .register(registry);
+        flushTimer = Timer.builder("reservation.intake.flush")
+                .description("Time taken to write one batch of reservations")
+                .register(registry);
+    }
+
+    private void drainLoop() {
+        List<Submission> batch = new ArrayList<>(batchSize);
+        long deadline = 0;
+
+        while (running || !batch.isEmpty() || !buffer.isEmpty()) {
+            buffer.drainTo(batch, batchSize - batch.size());
+
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(this, lingerNanos);
+                continue;
+            }
+
+            long now = System.nanoTime();
+            if (deadline == 0) {
+                deadline = now + lingerNanos;
+            }
+
+            if (running && batch.size() < batchSize && deadline - now > 0) {
+                LockSupport.parkNanos(this, deadline - now);
+                continue;
+            }
+
+            flush(batch);
+            batch.clear();
+            deadline = 0;
+        }
+    }
+
+    private void flush(List<Submission> batch) {
+        long started = System.nanoTime();
+
+        try {
+            complete(batch, batchWriter.write(batch.stream().map(Submission::request).toList()));
+        } catch (RuntimeException e) {
+            log.warn("Reservation intake batch of {} failed, retrying one by one", batch.size(), e);
+            for (Submission submission : batch) {
+                writeAlone(submission);
+            }
+        } catch (Throwable t) {
+            batch.forEach(submission -> submission.future().completeExceptionally(t));
+        }
+
+        DistributionSummary summary = batchSizes;
+        Timer timer = flushTimer;
+        if (summary != null && timer != null) {
+            summary.record(batch.size());
+            timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void writeAlone(Submission submission) {
+        try {
+            complete(List.of(submission), batchWriter.write(List.of(submission.request())));
+        } catch (RuntimeException e) {
+            submission.future().completeExceptionally(e);
+        }
+    }
+
+    private void complete(List<Submission> batch, List<ReservationBatchWriter.Outcome> outcomes) {
+        for (int i = 0; i < batch.size(); i++) {
+            ReservationBatchWriter.Outcome outcome = outcomes.get(i);
+            CompletableFuture<ReservationDto.Response> future = batch.get(i).future();
+
+            if (outcome.error() != null) {
+                future.completeExceptionally(outcome.error());
+            } else {
+                future.complete(outcome.response());
+            }
+        }
+    }
+
+    private record Submission(ReservationDto.Request request, CompletableFuture<ReservationDto.Response> future) {
+    }
+
+}
@@ -0,0 +1,179 @@
+package reservation.hmw.inventory;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reservation.hmw.model.entity.Reservation;
+import reservation.hmw.model.entity.ReservationTransition;
+import reservation.hmw.model.entity.enums.ReservationStatus;
+import reservation.hmw.repository.ReservationRepository;
+import reservation.hmw.repository.ReservationTransitionRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 임시 예약(HOLD)의 만료를 관리하는 컴포넌트입니다.
+ *
+ * 임시 예약은 생성 시 {@link TimingWheel}에 등록되며, 정해진 시간 안에 확정되지 않으면
+ * 주기적인 틱에서 만료되어 EXPIRED 상태로 일괄 변경되고, 거절/취소와 같은 경로({@link WaitlistPromoter})로
+ * 점유했던 자리를 첫 번째 대기자에게 넘기거나 수용 인원을 반환합니다.
+ * 만료와 확정이 동시에 일어나더라도 타이밍 휠 핸들의 취소/만료 중 하나만 성공합니다.
+ */
+@Slf4j
+@Component
+public class ReservationHoldManager {
+
+    private final ReservationRepository reservationRepository;
+    private final WaitlistPromoter waitlistPromoter;
+    private final ReservationTransitionRepository transitionRepository;
+    private final TransactionOperations transactionOperations;
+    private final Duration ttl;
+    private final int batchSize;
+    private final TimingWheel<Hold> wheel;
+    private final ConcurrentHashMap<Long, TimingWheel.Timeout<Hold>> holds = new ConcurrentHashMap<>();
+
+    public ReservationHoldManager(ReservationRepository reservationRepository,
+                                  WaitlistPromoter waitlistPromoter,
+                                  ReservationTransitionRepository transitionRepository,
+                                  TransactionOperations transactionOperations,
+                                  @Value("${reservation.hold.ttl-seconds:300}") long ttlSeconds,
+                                  @Value("${reservation.hold.tick-ms:1000}") long tickMs,
+                                  @Value("${reservation.hold.wheel-size:64}") int wheelSize,
+                                  @Value("${reservation.hold.batch-size:500}") int batchSize) {
+        this.reservationRepository = reservationRepository;
+        this.waitlistPromoter = waitlistPromoter;
+        this.transitionRepository = transitionRepository;
+        this.transactionOperations = transactionOperations;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.batchSize = batchSize;
+        this.wheel = new TimingWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * 지금 생성되는 임시 예약의 만료 시간을 반환하는 메서드입니다.
+     */
+    public LocalDateTime nextExpiration() {
+        return LocalDateTime.now().plus(ttl);
+    }
+
+    /**
+     * 임시 예약의 만료를 등록하는 메서드입니다.
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 등록됩니다.
+     *
+     * @param reservation 저장된 임시 예약
+     */
+    public void schedule(Reservation reservation) {
+        Hold hold = new Hold(reservation.getId(), reservation.getStore().getId(),
+                reservation.getReservationTime(), reservation.getExpiresAt());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            register(hold);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                register(hold);
+            }
+        });
+    }
+
+    /**
+     * 임시 예약을 만료 대상에서 제외하는 메서드입니다. 확정 처리 전에 호출합니다.
+     * 현재 트랜잭션이 롤백되면 다시 만료 대상으로 등록됩니다.
+     *
+     * @param reservationId 예약 ID
+     * @return 아직 만료되지 않은 임시 예약이면 true
+     */
+    public boolean claim(Long reservationId) {
+        TimingWheel.Timeout<Hold> timeout = holds.remove(reservationId);
+        if (timeout == null || !timeout.cancel()) {
+            return false;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        register(timeout.getValue());
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    /**
+     * 만료 시간이 지난 임시 예약을 일괄로 EXPIRED 처리하는 메서드입니다.
+     * 상태 변경과 변경 이력, 대기자 승격은 배치마다 하나의 트랜잭션으로 기록되며 수용 인원은 커밋된 이후에 반환됩니다.
+     */
+    @Scheduled(fixedDelayString = "${reservation.hold.tick-ms:1000}")
+    public void expireHolds() {
+        List<Hold> expired = wheel.advance(System.currentTimeMillis());
+
+        for (int from = 0; from < expired.size(); from += batchSize) {
+            List<Hold> batch = expired.subList(from, Math.min(from + batchSize, expired.size()));
+            List<Long> ids = new ArrayList<>(batch.size());
+            batch.forEach(hold -> ids.add(hold.reservationId()));
+
+            try {
+                transactionOperations.executeWithoutResult(status -> {
+                    reservationRepository.updateStatus(ids, ReservationStatus.HOLD, ReservationStatus.EXPIRED);
+                    transitionRepository.saveAll(batch.stream()
+                            .map(hold -> ReservationTransition.of(hold.reservationId(), hold.storeId(),
+                                    ReservationStatus.HOLD, ReservationStatus.EXPIRED))
+                            .toList());
+                    batch.forEach(hold -> waitlistPromoter.releaseOrPromote(hold.storeId(), hold.reservationTime()));
+                });
+            } catch (RuntimeException e) {
+                log.warn("임시 예약 만료 처리에 실패하여 다시 등록합니다. size={}", batch.size(), e);
+                batch.forEach(this::register);
+                continue;
+            }
+
+            batch.forEach(hold -> holds.remove(hold.reservationId()));
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 DB에 남아 있는 임시 예약을 다시 등록하는 메서드입니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreHolds() {
+        reservationRepository.findAllByReservationStatus(ReservationStatus.HOLD)
+                .forEach(reservation -> register(new Hold(reservation.getId(), reservation.getStore().getId(),
+                        reservation.getReservationTime(), reservation.getExpiresAt())));
+    }
+
+    /**
+     * 만료 대기 중인 임시 예약의 수를 반환하는 메서드입니다.
+     */
+    public int pendingHolds() {
+        return wheel.size();
+    }
+
+    private void register(Hold hold) {
+        long expirationMs = hold.expiresAt() == null
+                ? System.currentTimeMillis()
+                : hold.expiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        holds.put(hold.reservationId(), wheel.schedule(hold, expirationMs));
+    }
+
+    private record Hold(Long reservationId, Long storeId, LocalDateTime reservationTime, LocalDateTime expiresAt) {
+    }
+
+}
@@ -0,0 +1,384 @@
+package reservation.hmw.inventory;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reservation.hmw.model.entity.Store;
+import reservation.hmw.model.entity.enums.ReservationStatus;
+import reservation.hmw.repository.ReservationRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 매장의 시간대(슬롯)별 잔여 수용 인원을 메모리에서 관리하는 컴포넌트입니다.
+ *
+ * 매장-날짜 단위로 슬롯별 점유 수를 {@link AtomicIntegerArray}에 보관하며,
+ * 처음 조회되는 매장-날짜는 Reservation 테이블에서 한 번만 적재하며, 여러 날짜를 조회할 때는 한 번의 쿼리로 함께 적재합니다.
+ * 적재가 끝난 이후의 점유/반환은 CAS 연산만으로 처리되므로 마감된 슬롯에 대한 요청은 DB 조회 없이 거절됩니다.
+ * 적재 구간만 매장-날짜 키로 분산된 락(lock striping)을 사용하여 서로 다른 매장의 요청이 하나의 락에 직렬화되지 않습니다.
+ *
+ * 점유 수는 이 인스턴스의 메모리에만 존재하므로 단일 애플리케이션 인스턴스 기준으로 정확합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlotInventory {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final ReservationRepository reservationRepository;
+    private final SlotPolicy slotPolicy;
+
+    private final ConcurrentHashMap<Long, StoreLedger> ledgers = new ConcurrentHashMap<>();
+    private final ReentrantLock[] loadLocks = createLocks();
+
+    /**
+     * 예약 시간이 속한 슬롯의 수용 인원을 하나 점유하는 메서드입니다.
+     *
+     * @param storeId 매장 ID
+     * @param time 예약 시간
+     * @param storeLoader 매장 정보가 아직 적재되지 않은 경우에만 호출되는 매장 조회 함수
+     * @return 점유에 성공하면 true, 슬롯이 마감된 경우 false
+     */
+    public boolean tryAcquire(Long storeId, LocalDateTime time, Supplier<Store> storeLoader) {
+        StoreLedger ledger = ledgerOf(storeId, storeLoader);
+        return acquire(ledger, dayOf(storeId, ledger, time.toLocalDate()), time);
+    }
+
+    /**
+     * 여러 예약 시간의 슬롯을 한 번에 점유하는 메서드입니다.
+     * 적재되지 않은 날짜들은 한 번의 조회로 함께 적재하므로 예약 시간 수와 관계없이 DB 조회는 최대 한 번이며,
+     * 마감된 시간대가 있어도 나머지 시간대는 점유합니다.
+     *
+     * @param storeId 매장 ID
+     * @param times 예약 시간 목록
+     * @param storeLoader 매장 정보가 아직 적재되지 않은 경우에만 호출되는 매장 조회 함수
+     * @return 예약 시간 순서와 같은 순서의 점유 성공 여부
+     */
+    public boolean[] tryAcquireAll(Long storeId, List<LocalDateTime> times, Supplier<Store> storeLoader) {
+        StoreLedger ledger = ledgerOf(storeId, storeLoader);
+        loadDays(storeId, ledger, times.stream().map(LocalDateTime::toLocalDate).toList());
+
+        boolean[] acquired = new boolean[times.size()];
+        for (int i = 0; i < acquired.length; i++) {
+            LocalDateTime time = times.get(i);
+            acquired[i] = acquire(ledger, dayOf(storeId, ledger, time.toLocalDate()), time);
+        }
+        return acquired;
+    }
+
+    /**
+     * 기간 내 날짜별로 슬롯의 잔여 수용 인원을 반환하는 메서드입니다.
+     * 적재되지 않은 날짜들은 한 번의 조회로 함께 적재하며, 이미 적재된 날짜는 DB를 조회하지 않습니다.
+     *
+     * @param storeId 매장 ID
+     * @param from 시작 날짜 (포함)
+     * @param to 종료 날짜 (포함)
+     * @param storeLoader 매장 정보가 아직 적재되지 않은 경우에만 호출되는 매장 조회 함수
+     * @return 날짜 순으로 정렬된 날짜별 슬롯 잔여 수용 인원
+     */
+    public Map<LocalDate, int[]> remaining(Long storeId, LocalDate from, LocalDate to, Supplier<Store> storeLoader) {
+        StoreLedger ledger = ledgerOf(storeId, storeLoader);
+        loadMissingDays(storeId, ledger, from, to);
+
+        int capacity = ledger.capacity;
+        Map<LocalDate, int[]> remaining = new LinkedHashMap<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            AtomicIntegerArray used = dayOf(storeId, ledger, day);
+            int[] free = new int[used.length()];
+            for (int slot = 0; slot < free.length; slot++) {
+                free[slot] = Math.max(0, capacity - used.get(slot));
+            }
+            remaining.put(day, free);
+        }
+        return remaining;
+    }
+
+    /**
+     * 점유했던 수용 인원을 반환하는 메서드입니다.
+     * 해당 매장-날짜가 적재되어 있지 않으면 다음 적재 시 DB 기준으로 다시 계산되므로 아무것도 하지 않습니다.
+     *
+     * @param storeId 매장 ID
+     * @param time 예약 시간
+     */
+    public void release(Long storeId, LocalDateTime time) {
+        StoreLedger ledger = ledgers.get(storeId);
+        if (ledger == null) {
+            return;
+        }
+
+        AtomicIntegerArray used = ledger.days.get(time.toLocalDate());
+        if (used == null) {
+            return;
+        }
+
+        int slot = slotPolicy.slotIndex(time);
+        for (;;) {
+            int current = used.get(slot);
+            if (current <= 0 || used.compareAndSet(slot, current, current - 1)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 롤백되면 점유했던 수용 인원을 반환하도록 등록하는 메서드입니다.
+     *
+     * @param storeId 매장 ID
+     * @param time 예약 시간
+     */
+    public void releaseOnRollback(Long storeId, LocalDateTime time) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    release(storeId, time);
+                }
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 이후에 수용 인원을 반환하는 메서드입니다.
+     * 트랜잭션 밖에서 호출되면 즉시 반환합니다.
+     *
+     * @param storeId 매장 ID
+     * @param time 예약 시간
+     */
+    public void releaseAfterCommit(Long storeId, LocalDateTime time) {
+        runAfterCommit(() -> release(storeId, time));
+    }
+
+    /**
+     * 매장의 슬롯당 수용 인원이 변경되었을 때 호출하는 메서드입니다.
+     *
+     * @param storeId 매장 ID
+     * @param storeCapacity 매장에 설정된 수용 인원 (null 가능)
+     */
+    public void updateCapacity(Long storeId, Integer storeCapacity) {
+        StoreLedger ledger = ledgers.get(storeId);
+        if (ledger != null) {
+            ledger.capacity = slotPolicy.capacityOf(storeCapacity);
+        }
+    }
+
+    /**
+     * 매장의 모든 슬롯 정보를 메모리에서 제거하는 메서드입니다.
+     *
+     * @param storeId 매장 ID
+     */
+    public void evictStore(Long storeId) {
+        ledgers.remove(storeId);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 이후에 매장의 수용 인원 변경을 반영하는 메서드입니다.
+     * 롤백되면 기존 수용 인원이 유지되며, 트랜잭션 밖에서 호출되면 즉시 반영합니다.
+     *
+     * @param storeId 매장 ID
+     * @param storeCapacity 매장에 설정된 수용 인원 (null 가능)
+     */
+    public void updateCapacityAfterCommit(Long storeId, Integer storeCapacity) {
+        runAfterCommit(() -> updateCapacity(storeId, storeCapacity));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 이후에 매장의 슬롯 정보를 제거하는 메서드입니다.
+     * 트랜잭션 밖에서 호출되면 즉시 제거합니다.
+     *
+     * @param storeId 매장 ID
+     */
+    public void evictStoreAfterCommit(Long storeId) {
+        runAfterCommit(() -> evictStore(storeId));
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 지난 날짜의 슬롯 정보를 매일 정리하는 메서드입니다.
+     */
+    @Scheduled(cron = "${reservation.slot.evict-cron:0 10 0 * * *}")
+    public void evictPastDays() {
+        LocalDate today = LocalDate.now();
+        ledgers.values().forEach(ledger -> ledger.days.keySet().removeIf(day -> day.isBefore(today)));
+    }
+
+    private boolean acquire(StoreLedger ledger, AtomicIntegerArray used, LocalDateTime time) {
+        int slot = slotPolicy.slotIndex(time);
+        for (;;) {
+            int current = used.get(slot);
+            if (current >= ledger.capacity) {
+                return false;
+            }
+            if (used.compareAndSet(slot, current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private StoreLedger ledgerOf(Long storeId, Supplier<Store> storeLoader) {
+        StoreLedger ledger = ledgers.get(storeId);
+        if (ledger != null) {
+            return ledger;
+        }
+
+        ReentrantLock lock = lockFor(Objects.hashCode(storeId));
+        lock.lock();
+        try {
+            ledger = ledgers.get(storeId);
+            if (ledger == null) {
+                ledger = new StoreLedger(slotPolicy.capacityOf(storeLoader.get().getSlotCapacity()));
+                ledgers.put(storeId, ledger);
+            }
+            return ledger;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private AtomicIntegerArray dayOf(Long storeId, StoreLedger ledger, LocalDate day) {
+        AtomicIntegerArray used = ledger.days.get(day);
+        if (used != null) {
+            return used;
+        }
+
+        ReentrantLock lock = lockFor(31 * Objects.hashCode(storeId) + day.hashCode());
+        lock.lock();
+        try {
+            used = ledger.days.get(day);
+            if (used == null) {
+                used = countDays(storeId, day, day).get(day);
+                AtomicIntegerArray loaded = ledger.days.putIfAbsent(day, used);
+                used = loaded != null ? loaded : used;
+            }
+            return used;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 기간 내에서 아직 적재되지 않은 날짜들을 한 번의 조회로 적재합니다.
+     * 다른 스레드가 먼저 적재한 날짜는 그대로 두어, 한 날짜에는 항상 하나의 배열만 사용되도록 합니다.
+     */
+    private void loadMissingDays(Long storeId, StoreLedger ledger, LocalDate from, LocalDate to) {
+        LocalDate first = null;
+        LocalDate last = null;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            if (!ledger.days.containsKey(day)) {
+                first = first == null ? day : first;
+                last = day;
+            }
+        }
+
+        if (first == null) {
+            return;
+        }
+
+        countDays(storeId, first, last).forEach(ledger.days::putIfAbsent);
+    }
+
+    /**
+     * 흩어진 날짜들 중 아직 적재되지 않은 날짜만 한 번의 조회로 적재합니다. (예: 매주 같은 요일)
+     */
+    private void loadDays(Long storeId, StoreLedger ledger, Collection<LocalDate> days) {
+        SortedSet<LocalDate> missing = new TreeSet<>();
+        for (LocalDate day : days) {
+            if (!ledger.days.containsKey(day)) {
+                missing.add(day);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        countDays(storeId, missing).forEach(ledger.days::putIfAbsent);
+    }
+
+    private Map<LocalDate, AtomicIntegerArray> countDays(Long storeId, LocalDate first, LocalDate last) {
+        SortedSet<LocalDate> days = new TreeSet<>();
+        for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+            days.add(day);
+        }
+        return countDays(storeId, days);
+    }
+
+    /**
+     * 날짜별 슬롯 점유 수를 계산합니다. 첫 날짜부터 마지막 날짜까지 한 번 조회하고, 주어진 날짜의 예약만 셉니다.
+     */
+    private Map<LocalDate, AtomicIntegerArray> countDays(Long storeId, SortedSet<LocalDate> days) {
+        Map<LocalDate, AtomicIntegerArray> counts = new HashMap<>();
+        for (LocalDate day : days) {
+            counts.put(day, new AtomicIntegerArray(slotPolicy.slotsPerDay()));
+        }
+
+        List<LocalDateTime> times = reservationRepository.findReservationTimes(storeId,
+                days.first().atStartOfDay(), days.last().plusDays(1).atStartOfDay(), ReservationStatus.occupyingStatuses());
+
+        for (LocalDateTime time : times) {
+            AtomicIntegerArray used = counts.get(time.toLocalDate());
+            if (used != null) {
+                used.incrementAndGet(slotPolicy.slotIndex(time));
+            }
+        }
+        return counts;
+    }
+
+    private ReentrantLock lockFor(int hash) {
+        int spread = hash ^ (hash >>> 16);
+        return loadLocks[spread & (LOCK_STRIPES - 1)];
+    }
+
+    private static ReentrantLock[] createLocks() {
+        ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    /**
+     * 매장 하나의 수용 인원과 날짜별 슬롯 점유 수입니다.
+     */
+    private static final class StoreLedger {
+
+        private volatile int capacity;
+        private final ConcurrentHashMap<LocalDate, AtomicIntegerArray> days = new ConcurrentHashMap<>();
+
+        private StoreLedger(int capacity) {
+            this.capacity = capacity;
+        }
+    }
+
+}
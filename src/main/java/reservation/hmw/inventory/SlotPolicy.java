@@ -0,0 +1,73 @@
+package reservation.hmw.inventory;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 시간대(슬롯)의 단위와 매장별 기본 수용 인원을 정의하는 정책입니다.
+ * 하루는 {@code slotMinutes} 단위의 슬롯으로 나뉘며, 예약 시간은 자신이 속한 슬롯으로 내림 처리됩니다.
+ */
+@Getter
+@Component
+public class SlotPolicy {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final int slotMinutes;
+    private final int defaultCapacity;
+
+    public SlotPolicy(@Value("${reservation.slot.minutes:30}") int slotMinutes,
+                      @Value("${reservation.slot.default-capacity:10}") int defaultCapacity) {
+        if (slotMinutes <= 0 || MINUTES_PER_DAY % slotMinutes != 0) {
+            throw new IllegalArgumentException("reservation.slot.minutes 는 1440의 약수여야 합니다: " + slotMinutes);
+        }
+        if (defaultCapacity <= 0) {
+            throw new IllegalArgumentException("reservation.slot.default-capacity 는 양수여야 합니다: " + defaultCapacity);
+        }
+        this.slotMinutes = slotMinutes;
+        this.defaultCapacity = defaultCapacity;
+    }
+
+    /**
+     * 하루에 포함된 슬롯의 개수를 반환하는 메서드입니다.
+     */
+    public int slotsPerDay() {
+        return MINUTES_PER_DAY / slotMinutes;
+    }
+
+    /**
+     * 예약 시간이 속한 슬롯의 하루 내 인덱스를 반환하는 메서드입니다.
+     *
+     * @param time 예약 시간
+     * @return 0부터 시작하는 슬롯 인덱스
+     */
+    public int slotIndex(LocalDateTime time) {
+        return (time.getHour() * 60 + time.getMinute()) / slotMinutes;
+    }
+
+    /**
+     * 슬롯 인덱스에 해당하는 슬롯의 시작 시간을 반환하는 메서드입니다.
+     *
+     * @param day 날짜
+     * @param slotIndex 슬롯 인덱스
+     * @return 슬롯 시작 시간
+     */
+    public LocalDateTime slotStart(LocalDate day, int slotIndex) {
+        return day.atStartOfDay().plusMinutes((long) slotIndex * slotMinutes);
+    }
+
+    /**
+     * 매장에 설정된 슬롯당 수용 인원을 반환하며, 설정되지 않은 경우 기본값을 사용합니다.
+     *
+     * @param storeCapacity 매장에 설정된 수용 인원 (null 가능)
+     * @return 슬롯당 수용 인원
+     */
+    public int capacityOf(Integer storeCapacity) {
+        return (storeCapacity == null || storeCapacity <= 0) ? defaultCapacity : storeCapacity;
+    }
+
+}
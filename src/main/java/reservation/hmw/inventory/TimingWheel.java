@@ -0,0 +1,224 @@
+package reservation.hmw.inventory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 계층형 타이밍 휠(hierarchical timing wheel) 스케줄러입니다.
+ *
+ * 가장 아래 휠은 {@code tickMs} 간격의 버킷 {@code wheelSize}개로 구성되며,
+ * 범위를 벗어나는 만료 시간은 한 칸이 아래 휠 전체 범위인 상위 휠에 보관됩니다.
+ * 등록과 취소는 O(1)이며, 시간이 진행되면 상위 휠의 버킷이 아래 휠로 내려오면서 만료된 항목이 반환됩니다.
+ *
+ * 등록/취소는 여러 스레드에서 동시에 호출할 수 있고, {@link #advance(long)}는 하나의 스레드에서 주기적으로 호출하는 것을 전제로 합니다.
+ *
+ * @param <T> 만료 시 반환할 값의 타입
+ */
+public class TimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final Level root;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Queue<Timeout<T>> overdue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    public TimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("tickMs 는 양수, wheelSize 는 2 이상이어야 합니다.");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.root = new Level(tickMs, startMs);
+    }
+
+    /**
+     * 만료 시간에 반환될 값을 등록하는 메서드입니다.
+     * 이미 지난 만료 시간은 다음 {@link #advance(long)} 호출에서 바로 반환됩니다.
+     *
+     * @param value 만료 시 반환할 값
+     * @param expirationMs 만료 시간 (epoch millis)
+     * @return 취소에 사용할 수 있는 핸들
+     */
+    public Timeout<T> schedule(T value, long expirationMs) {
+        Timeout<T> timeout = new Timeout<>(value, expirationMs, this);
+
+        lock.readLock().lock();
+        try {
+            size.incrementAndGet();
+            if (!root.add(timeout)) {
+                overdue.add(timeout);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return timeout;
+    }
+
+    /**
+     * 휠의 시간을 진행시키고 그 사이에 만료된 값들을 반환하는 메서드입니다.
+     *
+     * @param nowMs 현재 시간 (epoch millis)
+     * @return 만료된 값 목록 (취소된 항목은 제외)
+     */
+    public List<T> advance(long nowMs) {
+        List<T> expired = new ArrayList<>();
+
+        lock.writeLock().lock();
+        try {
+            Timeout<T> timeout;
+            while ((timeout = overdue.poll()) != null) {
+                expire(timeout, expired);
+            }
+
+            while (root.currentTime + tickMs <= nowMs) {
+                root.advanceTo(root.currentTime + tickMs, expired);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return expired;
+    }
+
+    /**
+     * 아직 만료되거나 취소되지 않은 항목의 수를 반환하는 메서드입니다.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    private void reinsert(Timeout<T> timeout, List<T> expired) {
+        if (timeout.isCancelled()) {
+            return;
+        }
+        if (!root.add(timeout)) {
+            expire(timeout, expired);
+        }
+    }
+
+    private void expire(Timeout<T> timeout, List<T> expired) {
+        if (timeout.state.compareAndSet(Timeout.PENDING, Timeout.EXPIRED)) {
+            size.decrementAndGet();
+            expired.add(timeout.value);
+        }
+    }
+
+    /**
+     * 휠 한 단계입니다. 한 칸의 크기는 {@code tick}, 전체 범위는 {@code tick * wheelSize}입니다.
+     */
+    private final class Level {
+
+        private final long tick;
+        private final long interval;
+        private final Queue<Timeout<T>>[] buckets;
+        private long currentTime;
+        private volatile Level overflow;
+
+        @SuppressWarnings("unchecked")
+        private Level(long tick, long startMs) {
+            this.tick = tick;
+            this.interval = tick * wheelSize;
+            this.buckets = new Queue[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new ConcurrentLinkedQueue<>();
+            }
+            this.currentTime = startMs - (startMs % tick);
+        }
+
+        private boolean add(Timeout<T> timeout) {
+            long expiration = timeout.expirationMs;
+            if (expiration < currentTime + tick) {
+                return false;
+            }
+            if (expiration < currentTime + interval) {
+                buckets[(int) ((expiration / tick) % wheelSize)].add(timeout);
+                return true;
+            }
+            return overflow().add(timeout);
+        }
+
+        private void advanceTo(long time, List<T> expired) {
+            currentTime = time;
+
+            Level next = overflow;
+            if (next != null && time % next.tick == 0) {
+                next.advanceTo(time, expired);
+            }
+
+            Queue<Timeout<T>> bucket = buckets[(int) ((time / tick) % wheelSize)];
+            Timeout<T> timeout;
+            while ((timeout = bucket.poll()) != null) {
+                reinsert(timeout, expired);
+            }
+        }
+
+        private Level overflow() {
+            Level next = overflow;
+            if (next == null) {
+                synchronized (this) {
+                    next = overflow;
+                    if (next == null) {
+                        next = new Level(interval, currentTime);
+                        overflow = next;
+                    }
+                }
+            }
+            return next;
+        }
+    }
+
+    /**
+     * 등록된 항목의 핸들입니다.
+     *
+     * @param <T> 만료 시 반환할 값의 타입
+     */
+    public static final class Timeout<T> {
+
+        private static final int PENDING = 0;
+        private static final int EXPIRED = 1;
+        private static final int CANCELLED = 2;
+
+        private final T value;
+        private final long expirationMs;
+        private final TimingWheel<T> wheel;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        private Timeout(T value, long expirationMs, TimingWheel<T> wheel) {
+            this.value = value;
+            this.expirationMs = expirationMs;
+            this.wheel = wheel;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public long getExpirationMs() {
+            return expirationMs;
+        }
+
+        /**
+         * 항목을 취소하는 메서드입니다.
+         * 만료 처리와 동시에 호출되더라도 둘 중 하나만 성공합니다.
+         *
+         * @return 아직 만료되지 않은 항목을 취소했으면 true
+         */
+        public boolean cancel() {
+            if (state.compareAndSet(PENDING, CANCELLED)) {
+                wheel.size.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+package reservation.hmw.inventory;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reservation.hmw.model.entity.ReservationTransition;
+import reservation.hmw.model.entity.Store;
+import reservation.hmw.model.entity.enums.ReservationEventType;
+import reservation.hmw.model.entity.enums.ReservationStatus;
+import reservation.hmw.repository.ReservationRepository;
+import reservation.hmw.repository.ReservationTransitionRepository;
+import reservation.hmw.stream.ReservationEvent;
+import reservation.hmw.stream.ReservationEventHub;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 슬롯에 자리가 나면 대기 예약을 승격하는 컴포넌트입니다.
+ *
+ * 예약 거절/취소와 임시 예약 만료는 모두 {@link #releaseOrPromote(Long, LocalDateTime)}로 자리를 내놓으므로,
+ * 대기자가 있으면 수용 인원을 반환하지 않고 첫 번째 대기자에게 바로 넘깁니다.
+ * 대기열 등록이 커밋되기 전에 자리가 반환될 수도 있으므로, 등록 직후에도 남은 자리가 있는지 다시 확인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitlistPromoter {
+
+    private final WaitlistRegistry waitlistRegistry;
+    private final SlotInventory slotInventory;
+    private final ReservationRepository reservationRepository;
+    private final ReservationTransitionRepository transitionRepository;
+    private final ReservationEventHub eventHub;
+    private final TransactionOperations transactionOperations;
+
+    /**
+     * 예약이 차지하던 자리를 같은 시간대의 첫 번째 대기 예약에게 넘기고, 대기자가 없으면 커밋 후 수용 인원을 반환하는 메서드입니다.
+     * 대기열에서 꺼낸 예약이 이미 취소된 경우 조건부 UPDATE가 실패하므로 다음 대기자로 넘어갑니다.
+     * 같은 슬롯이라도 대기 예약의 시간은 자리가 난 예약과 다를 수 있으므로, 승격 이벤트에는 승격된 예약의 시간을 다시 읽어 담습니다.
+     *
+     * @param storeId 매장 ID
+     * @param reservationTime 자리가 난 예약 시간
+     */
+    public void releaseOrPromote(Long storeId, LocalDateTime reservationTime) {
+        Optional<Long> next;
+        while ((next = waitlistRegistry.poll(storeId, reservationTime)).isPresent()) {
+            if (reservationRepository.updateStatus(List.of(next.get()),
+                    ReservationStatus.WAITLISTED, ReservationStatus.PENDING) == 1) {
+                transitionRepository.save(ReservationTransition.of(next.get(), storeId,
+                        ReservationStatus.WAITLISTED, ReservationStatus.PENDING));
+                LocalDateTime promotedTime = reservationRepository.findReservationTimeById(next.get())
+                        .orElse(reservationTime);
+                eventHub.publishAfterCommit(List.of(
+                        ReservationEvent.of(ReservationEventType.CREATED, next.get(), storeId, promotedTime)));
+                return;
+            }
+        }
+
+        slotInventory.releaseAfterCommit(storeId, reservationTime);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 이후, 대기자가 남아 있는 동안 슬롯의 빈 자리를 차례로 대기자에게 넘기는 메서드입니다.
+     * 대기열에 등록한 직후 호출하여, 마감을 확인한 뒤 등록이 커밋되기 전에 반환된 자리를 놓치지 않게 합니다.
+     * 트랜잭션 밖에서 호출되면 바로 확인합니다.
+     *
+     * @param storeId 매장 ID
+     * @param reservationTime 예약 시간
+     * @param storeLoader 슬롯 정보가 없을 때 매장 수용 인원을 읽어올 함수
+     */
+    public void promoteAfterCommit(Long storeId, LocalDateTime reservationTime, Supplier<Store> storeLoader) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            promoteWhileAvailable(storeId, reservationTime, storeLoader);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                promoteWhileAvailable(storeId, reservationTime, storeLoader);
+            }
+        });
+    }
+
+    private void promoteWhileAvailable(Long storeId, LocalDateTime reservationTime, Supplier<Store> storeLoader) {
+        try {
+            while (waitlistRegistry.size(storeId, reservationTime) > 0
+                    && slotInventory.tryAcquire(storeId, reservationTime, storeLoader)) {
+                transactionOperations.executeWithoutResult(status -> {
+                    slotInventory.releaseOnRollback(storeId, reservationTime);
+                    releaseOrPromote(storeId, reservationTime);
+                });
+            }
+        } catch (RuntimeException e) {
+            log.warn("대기 예약 승격에 실패했습니다. storeId={}, reservationTime={}", storeId, reservationTime, e);
+        }
+    }
+
+}
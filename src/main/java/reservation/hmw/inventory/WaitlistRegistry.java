@@ -0,0 +1,148 @@
+package reservation.hmw.inventory;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reservation.hmw.model.entity.Reservation;
+import reservation.hmw.model.entity.enums.ReservationStatus;
+import reservation.hmw.repository.ReservationRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * 매장 시간대(슬롯)별 대기 예약의 FIFO 대기열입니다.
+ *
+ * 대기 예약은 WAITLISTED 상태의 Reservation으로 저장되며, 이 컴포넌트는 슬롯별로 그 ID만 순서대로 보관합니다.
+ * 예약이 거절/취소되어 자리가 나면 대기열 맨 앞의 ID를 꺼내므로 테이블을 스캔하지 않고 O(1)로 다음 대기자를 찾습니다.
+ * 대기 예약이 취소되면 대기 인원이 정확하도록 커밋 후 대기열에서 제거하며, 이 제거는 해당 슬롯의 대기열 길이에 비례(O(n))합니다.
+ * 제거가 반영되기 전에 꺼내진 ID처럼 더 이상 대기 상태가 아닌 ID는 꺼내는 쪽에서 조건부 UPDATE 결과로 걸러집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitlistRegistry {
+
+    private final ReservationRepository reservationRepository;
+    private final SlotPolicy slotPolicy;
+
+    private final ConcurrentHashMap<SlotKey, Deque<Long>> queues = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 트랜잭션이 커밋된 이후에 대기 예약을 대기열 맨 뒤에 추가하는 메서드입니다.
+     *
+     * @param storeId 매장 ID
+     * @param time 예약 시간
+     * @param reservationId 대기 예약 ID
+     */
+    public void enqueueAfterCommit(Long storeId, LocalDateTime time, Long reservationId) {
+        afterCommit(() -> queueOf(storeId, time).offerLast(reservationId));
+    }
+
+    /**
+     * 대기열 맨 앞의 예약 ID를 꺼내는 메서드입니다.
+     * 현재 트랜잭션이 롤백되면 꺼냈던 ID를 다시 맨 앞에 돌려놓습니다.
+     *
+     * @param storeId 매장 ID
+     * @param time 예약 시간
+     * @return 다음 대기 예약 ID, 대기자가 없으면 빈 값
+     */
+    public Optional<Long> poll(Long storeId, LocalDateTime time) {
+        Deque<Long> queue = queues.get(keyOf(storeId, time));
+        Long reservationId = queue == null ? null : queue.pollFirst();
+        if (reservationId == null) {
+            return Optional.empty();
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        queue.offerFirst(reservationId);
+                    }
+                }
+            });
+        }
+        return Optional.of(reservationId);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 이후에 대기열에서 예약을 제거하는 메서드입니다.
+     * 대기열을 앞에서부터 찾으므로 슬롯의 대기 인원에 비례하는 시간이 걸립니다.
+     */
+    public void removeAfterCommit(Long storeId, LocalDateTime time, Long reservationId) {
+        afterCommit(() -> {
+            Deque<Long> queue = queues.get(keyOf(storeId, time));
+            if (queue != null) {
+                queue.remove(reservationId);
+            }
+        });
+    }
+
+    /**
+     * 슬롯의 대기 인원을 반환하는 메서드입니다.
+     */
+    public int size(Long storeId, LocalDateTime time) {
+        Deque<Long> queue = queues.get(keyOf(storeId, time));
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * 애플리케이션 시작 시 앞으로의 대기 예약을 생성 순서대로 대기열에 적재하는 메서드입니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        int restored = 0;
+        for (Reservation reservation : reservationRepository.findAllByReservationStatusAndReservationTimeGreaterThanEqualOrderByIdAsc(
+                ReservationStatus.WAITLISTED, LocalDate.now().atStartOfDay())) {
+            queueOf(reservation.getStore().getId(), reservation.getReservationTime()).offerLast(reservation.getId());
+            restored++;
+        }
+        log.info("Restored {} waitlisted reservations", restored);
+    }
+
+    /**
+     * 지난 날짜의 대기열을 매일 정리하는 메서드입니다.
+     */
+    @Scheduled(cron = "${reservation.slot.evict-cron:0 10 0 * * *}")
+    public void evictPastSlots() {
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        queues.keySet().removeIf(key -> key.slotStart().isBefore(today));
+    }
+
+    private Deque<Long> queueOf(Long storeId, LocalDateTime time) {
+        return queues.computeIfAbsent(keyOf(storeId, time), key -> new ConcurrentLinkedDeque<>());
+    }
+
+    private SlotKey keyOf(Long storeId, LocalDateTime time) {
+        return new SlotKey(storeId, slotPolicy.slotStart(time.toLocalDate(), slotPolicy.slotIndex(time)));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record SlotKey(Long storeId, LocalDateTime slotStart) {
+    }
+
+}
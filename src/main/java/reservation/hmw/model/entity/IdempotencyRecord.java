@@ -0,0 +1,57 @@
+package reservation.hmw.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key로 처리된 요청의 응답을 저장하는 엔티티입니다.
+ * 응답이 기록되기 전까지는 처리 중인 요청의 선점 표시로 사용됩니다.
+ */
+@Getter
+@Builder
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(indexes = @Index(name = "idx_idempotency_created_at", columnList = "created_at"))
+public class IdempotencyRecord implements Persistable<String> {
+
+    @Id
+    @Column(length = 200)
+    private String requestKey;
+
+    @Column(length = 64)
+    private String requestHash;
+
+    private boolean completed;
+
+    private Integer statusCode;
+
+    private String contentType;
+
+    @Lob
+    @Column(columnDefinition = "LONGBLOB")
+    private byte[] body;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Override
+    public String getId() {
+        return requestKey;
+    }
+
+    /**
+     * 항상 INSERT로 저장되도록 하여, 같은 키로 동시에 선점하면 기본 키 충돌로 실패하게 합니다.
+     */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+}
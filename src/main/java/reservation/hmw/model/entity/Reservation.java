@@ -5,22 +5,37 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import reservation.hmw.exception.CustomException;
+import reservation.hmw.exception.ErrorCode;
 import reservation.hmw.model.entity.enums.ReservationStatus;
 
 import java.time.LocalDateTime;
 
 @Getter
 @Setter
+@NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(indexes = {
+        @Index(name = "idx_reservation_store_time", columnList = "store_id, reservation_time"),
+        @Index(name = "idx_reservation_store_created", columnList = "store_id, created_at, id")
+})
 public class Reservation {
 
+    /**
+     * ID는 시퀀스에서 50개씩 미리 할당받으므로(pooled) 저장할 때마다 INSERT를 바로 실행하지 않아도 되며,
+     * 여러 건을 저장하면 JDBC 배치로 함께 전송됩니다. 시퀀스가 없는 MySQL에서는 reservation_seq 테이블로 대신합니다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq")
+    @SequenceGenerator(name = "reservation_seq", sequenceName = "reservation_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -36,9 +51,37 @@ public class Reservation {
     @Enumerated(value = EnumType.STRING)
     private ReservationStatus reservationStatus;
 
+    /**
+     * 임시 예약(HOLD)이 자동으로 만료되는 시간입니다.
+     */
+    private LocalDateTime expiresAt;
+
+    /**
+     * 상태 변경 충돌을 감지하기 위한 낙관적 락 버전입니다.
+     */
+    @Version
+    private Long version;
+
     @CreatedDate
     private LocalDateTime createdAt;
     @LastModifiedDate
     private LocalDateTime  modifiedAt;
 
+    /**
+     * 예약 상태를 변경하는 메서드입니다.
+     *
+     * @param next 변경할 상태
+     * @return 변경 전 상태
+     * @throws CustomException 현재 상태에서 변경할 수 없는 상태인 경우 예외를 발생시킵니다.
+     */
+    public ReservationStatus transitionTo(ReservationStatus next) {
+        ReservationStatus previous = reservationStatus;
+        if (previous == null || !previous.canTransitionTo(next)) {
+            throw new CustomException(ErrorCode.INVALID_STATUS_TRANSITION);
+        }
+
+        reservationStatus = next;
+        return previous;
+    }
+
 }
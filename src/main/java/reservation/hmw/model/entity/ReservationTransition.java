@@ -0,0 +1,61 @@
+package reservation.hmw.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import reservation.hmw.model.entity.enums.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 상태 변경 이력을 기록하는 엔티티입니다.
+ * 이력은 추가만 가능하며 저장된 이후에는 수정되지 않습니다.
+ */
+@Getter
+@Builder
+@Entity
+@Immutable
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_transition_reservation", columnList = "reservation_id"),
+        @Index(name = "idx_transition_store_changed_at", columnList = "store_id, changed_at")
+})
+public class ReservationTransition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "reservation_id", nullable = false, updatable = false)
+    private Long reservationId;
+
+    @Column(name = "store_id", updatable = false)
+    private Long storeId;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(updatable = false)
+    private ReservationStatus fromStatus;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private ReservationStatus toStatus;
+
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+
+    public static ReservationTransition of(Long reservationId, Long storeId,
+                                           ReservationStatus fromStatus, ReservationStatus toStatus) {
+        return ReservationTransition.builder()
+                .reservationId(reservationId)
+                .storeId(storeId)
+                .fromStatus(fromStatus)
+                .toStatus(toStatus)
+                .changedAt(LocalDateTime.now())
+                .build();
+    }
+
+}
@@ -4,10 +4,13 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Getter
 @Setter
@@ -15,10 +18,12 @@ import java.util.List;
 @NoArgsConstructor
 @Builder
 @Entity
+@EntityListeners(AuditingEntityListener.class)
 public class Store {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "store_seq")
+    @SequenceGenerator(name = "store_seq", sequenceName = "store_seq", allocationSize = 50)
     private Long id;
 
     private String storeName;
@@ -26,10 +31,31 @@ public class Store {
     private String keyword;
     private String storeDescription;
 
+    /**
+     * 시간대(슬롯)당 받을 수 있는 예약 수입니다. 비어 있으면 기본값을 사용합니다.
+     */
+    private Integer slotCapacity;
+
+    /**
+     * 매장 좌표입니다. 비어 있으면 위치 기반 검색에서 제외됩니다.
+     */
+    private Double latitude;
+    private Double longitude;
+
     @ManyToOne
     @JoinColumn(name = "partner_id")
     private Partner partner;
 
+    /**
+     * 매장 태그입니다. 태그 조건 검색은 DB 조인 대신 메모리의 태그 색인에서 처리합니다.
+     */
+    @Builder.Default
+    @ManyToMany
+    @JoinTable(name = "store_tag",
+            joinColumns = @JoinColumn(name = "store_id"),
+            inverseJoinColumns = @JoinColumn(name = "tag_id"))
+    private Set<Tag> tags = new LinkedHashSet<>();
+
     @OneToMany(mappedBy = "store", cascade = CascadeType.ALL)
     private List<Reservation> reservationList;
 
@@ -0,0 +1,50 @@
+package reservation.hmw.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매장별 평점 집계를 저장하는 엔티티입니다.
+ * 리뷰 작성/수정/삭제 시 변경분만 누적되므로 평균 평점을 계산할 때 리뷰 테이블을 읽지 않습니다.
+ */
+@Getter
+@Builder
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "store_rating_summary")
+public class StoreRatingSummary {
+
+    @Id
+    @Column(name = "store_id")
+    private Long storeId;
+
+    private long ratingCount;
+    private long ratingSum;
+
+    @Column(name = "rating_1")
+    private long rating1;
+    @Column(name = "rating_2")
+    private long rating2;
+    @Column(name = "rating_3")
+    private long rating3;
+    @Column(name = "rating_4")
+    private long rating4;
+    @Column(name = "rating_5")
+    private long rating5;
+
+    private LocalDateTime modifiedAt;
+
+    /**
+     * 1점부터 5점까지의 평점별 리뷰 수를 반환하는 메서드입니다.
+     */
+    public long[] histogram() {
+        return new long[]{rating1, rating2, rating3, rating4, rating5};
+    }
+
+}
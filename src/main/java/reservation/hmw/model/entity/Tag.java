@@ -0,0 +1,28 @@
+package reservation.hmw.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매장에 붙는 태그 엔티티입니다. (예: "한식", "심야영업", "주차")
+ * 태그 이름은 정규화(소문자, 앞뒤 공백 제거)된 값으로 저장되며 중복될 수 없습니다.
+ */
+@Getter
+@Builder
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tag", uniqueConstraints = @UniqueConstraint(name = "uk_tag_name", columnNames = "name"))
+public class Tag {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 30)
+    private String name;
+
+}
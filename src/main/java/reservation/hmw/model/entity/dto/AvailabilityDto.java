@@ -0,0 +1,36 @@
+package reservation.hmw.model.entity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class AvailabilityDto {
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
+
+        private Long storeId;
+        private int slotMinutes;
+        private List<Slot> slots;
+
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Slot {
+
+        private LocalDateTime startTime;
+        private int remaining;
+
+    }
+
+}
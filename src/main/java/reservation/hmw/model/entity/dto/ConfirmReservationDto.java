@@ -1,6 +1,7 @@
 package reservation.hmw.model.entity.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,6 +20,9 @@ public class ConfirmReservationDto {
         @NotBlank
         private String phone;
 
+        @NotNull
+        private Long storeId;
+
     }
 
     @Builder
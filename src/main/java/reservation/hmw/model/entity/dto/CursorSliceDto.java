@@ -0,0 +1,48 @@
+package reservation.hmw.model.entity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import reservation.hmw.pagination.Cursor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지네이션 결과입니다. 전체 개수는 세지 않으며 다음 페이지가 있는지와 다음 커서만 반환합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorSliceDto<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    /**
+     * 페이지 크기보다 하나 더 조회한 행 목록으로 결과를 만드는 메서드입니다.
+     *
+     * @param rows 최대 size + 1개의 조회 결과
+     * @param size 페이지 크기
+     * @param cursorOf 행의 커서를 구하는 함수
+     * @param mapper 행을 응답으로 변환하는 함수
+     * @return 페이지 결과
+     */
+    public static <E, T> CursorSliceDto<T> of(List<E> rows, int size,
+                                              Function<E, Cursor> cursorOf, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorSliceDto.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null)
+                .build();
+    }
+
+}
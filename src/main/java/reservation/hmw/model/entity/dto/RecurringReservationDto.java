@@ -0,0 +1,84 @@
+package reservation.hmw.model.entity.dto;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class RecurringReservationDto {
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+
+        @NotNull
+        private Long storeId;
+
+        @NotNull
+        private Long userId;
+
+        /**
+         * 첫 번째 예약 시간입니다. 이후 예약은 같은 요일, 같은 시간으로 반복됩니다.
+         */
+        @NotNull
+        @Future(message = "예약 시간은 현재 시간보다 미래여야 합니다.")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        private LocalDateTime firstReservationTime;
+
+        /**
+         * 반복 횟수입니다. (첫 번째 예약 포함)
+         */
+        @NotNull
+        @Min(1)
+        @Max(52)
+        private Integer count;
+
+        /**
+         * 반복 간격(주)입니다. 비어 있으면 매주 반복합니다.
+         */
+        @Min(1)
+        @Max(4)
+        private Integer intervalWeeks;
+
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Response {
+
+        private String storeName;
+        private String location;
+        private String userName;
+        private List<Occurrence> reserved;
+
+        /**
+         * 시간대가 마감되어 예약하지 못한 시간 목록입니다.
+         */
+        private List<LocalDateTime> conflicts;
+
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Occurrence {
+
+        private Long reservationId;
+        private LocalDateTime reservationTime;
+
+    }
+
+}
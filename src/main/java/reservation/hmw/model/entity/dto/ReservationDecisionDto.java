@@ -0,0 +1,56 @@
+package reservation.hmw.model.entity.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import reservation.hmw.model.entity.enums.ReservationDecisionResult;
+import reservation.hmw.model.entity.enums.ReservationStatus;
+
+import java.util.List;
+
+public class ReservationDecisionDto {
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+
+        @Valid
+        @NotEmpty
+        @Size(max = 500)
+        private List<Decision> decisions;
+
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Decision {
+
+        @NotNull
+        private Long reservationId;
+
+        @NotNull
+        private ReservationStatus status;
+
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
+
+        private Long reservationId;
+        private ReservationDecisionResult result;
+
+    }
+
+}
@@ -0,0 +1,26 @@
+package reservation.hmw.model.entity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+public class ReservationHoldDto {
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Response {
+
+        private Long reservationId;
+        private String storeName;
+        private String userName;
+        private LocalDateTime reservationTime;
+        private LocalDateTime expiresAt;
+
+    }
+
+}
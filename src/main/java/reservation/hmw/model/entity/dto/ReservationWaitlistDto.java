@@ -0,0 +1,27 @@
+package reservation.hmw.model.entity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import reservation.hmw.model.entity.enums.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+public class ReservationWaitlistDto {
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
+
+        private Long reservationId;
+        private String storeName;
+        private LocalDateTime reservationTime;
+        private ReservationStatus reservationStatus;
+        private int waitingCount;
+
+    }
+
+}
@@ -5,6 +5,9 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
 import reservation.hmw.model.entity.Review;
+import reservation.hmw.repository.projection.ReviewView;
+
+import java.time.LocalDateTime;
 
 public class ReviewForm {
 
@@ -33,19 +36,47 @@ public class ReviewForm {
     @Builder
     public static class Response {
 
+        private Long reviewId;
         private String userName;
         private String storeName;
         private Integer rating;
         private String content;
+        private LocalDateTime createdAt;
 
         public static ReviewForm.Response fromEntity(Review review) {
 
             return ReviewForm.Response.builder()
+                    .reviewId(review.getId())
+                    .createdAt(review.getCreatedAt())
                     .storeName(review.getStore().getStoreName())
                     .rating(review.getRating())
                     .content(review.getContent())
                     .userName(review.getUser().getName())
                     .build();
         }
+
+        public static ReviewForm.Response of(Review review, String storeName, String userName) {
+
+            return ReviewForm.Response.builder()
+                    .reviewId(review.getId())
+                    .createdAt(review.getCreatedAt())
+                    .storeName(storeName)
+                    .rating(review.getRating())
+                    .content(review.getContent())
+                    .userName(userName)
+                    .build();
+        }
+
+        public static ReviewForm.Response fromView(ReviewView view) {
+
+            return ReviewForm.Response.builder()
+                    .reviewId(view.getId())
+                    .createdAt(view.getCreatedAt())
+                    .storeName(view.getStoreName())
+                    .rating(view.getRating())
+                    .content(view.getContent())
+                    .userName(view.getUserName())
+                    .build();
+        }
     }
 }
@@ -2,17 +2,28 @@ package reservation.hmw.model.entity.dto;
 
 
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
-import reservation.hmw.model.entity.Reservation;
-import reservation.hmw.model.entity.Review;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
+/**
+ * 매장 상세 정보입니다. 리뷰는 최신순으로 일부만 포함하며, 전체 리뷰는 커서 기반 리뷰 목록 API로 조회합니다.
+ */
 @Getter
+@Builder
+@NoArgsConstructor
 @AllArgsConstructor
 public class StoreDetailDto {
 
+    private Long storeId;
+    private String storeName;
+    private String location;
     private String storeDescription;
-    private List<Review> reviewList;
+    private Double averageRating;
+    private long ratingCount;
+    private long[] ratingHistogram;
+    private List<ReviewForm.Response> recentReviews;
 
 }
@@ -3,22 +3,66 @@ package reservation.hmw.model.entity.dto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
-import reservation.hmw.model.entity.Store;
+import reservation.hmw.cache.StoreSnapshot;
+import reservation.hmw.rating.RatingSummary;
+import reservation.hmw.search.NearbyStore;
+import reservation.hmw.search.StoreDocument;
+
+import java.util.List;
 
 @Getter
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class StoreInfoDto {
 
+    private Long storeId;
     private String storeName;
     private String location;
     private String keyword;
+    private List<String> tags;
+    private Double averageRating;
+    private long ratingCount;
+    private long[] ratingHistogram;
+    private Double latitude;
+    private Double longitude;
+    private Double distanceMeters;
+
+    public static StoreInfoDto fromSnapshot(StoreSnapshot store, RatingSummary rating) {
+        RatingSummary summary = rating == null ? RatingSummary.EMPTY : rating;
+
+        return StoreInfoDto.builder()
+                .storeId(store.id())
+                .storeName(store.storeName())
+                .location(store.location())
+                .keyword(store.keyword())
+                .latitude(store.latitude())
+                .longitude(store.longitude())
+                .averageRating(summary.average())
+                .ratingCount(summary.count())
+                .ratingHistogram(summary.histogram())
+                .build();
+    }
+
+    public static StoreInfoDto fromDocument(StoreDocument document, RatingSummary rating) {
+        RatingSummary summary = rating == null ? RatingSummary.EMPTY : rating;
 
-    public static StoreInfoDto fromEntity(Store store) {
         return StoreInfoDto.builder()
-                .storeName(store.getStoreName())
-                .location(store.getLocation())
-                .keyword(store.getKeyword())
+                .storeId(document.id())
+                .storeName(document.storeName())
+                .location(document.location())
+                .keyword(document.keyword())
+                .tags(document.tags())
+                .latitude(document.latitude())
+                .longitude(document.longitude())
+                .averageRating(summary.average())
+                .ratingCount(summary.count())
+                .ratingHistogram(summary.histogram())
+                .build();
+    }
+
+    public static StoreInfoDto fromNearby(NearbyStore nearby, RatingSummary rating) {
+        return fromDocument(nearby.document(), rating).toBuilder()
+                .distanceMeters((double) Math.round(nearby.distanceMeters()))
                 .build();
     }
 
@@ -1,9 +1,15 @@
 package reservation.hmw.model.entity.dto;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.*;
 import reservation.hmw.model.entity.Store;
 
+import java.util.List;
+
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
@@ -23,4 +29,18 @@ public class StoreRegisterForm {
     @NotBlank
     private String keyword;
 
+    @Min(value = 1)
+    private Integer slotCapacity;
+
+    @DecimalMin(value = "-90")
+    @DecimalMax(value = "90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180")
+    @DecimalMax(value = "180")
+    private Double longitude;
+
+    @Size(max = 10)
+    private List<@NotBlank @Size(max = 30) String> tags;
+
 }
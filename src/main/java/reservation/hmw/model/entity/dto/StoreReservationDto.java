@@ -0,0 +1,40 @@
+package reservation.hmw.model.entity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import reservation.hmw.model.entity.enums.ReservationStatus;
+import reservation.hmw.repository.projection.StoreReservationView;
+
+import java.time.LocalDateTime;
+
+public class StoreReservationDto {
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
+
+        private Long reservationId;
+        private String userName;
+        private String phone;
+        private LocalDateTime reservationTime;
+        private ReservationStatus reservationStatus;
+        private LocalDateTime createdAt;
+
+        public static StoreReservationDto.Response fromView(StoreReservationView view) {
+            return StoreReservationDto.Response.builder()
+                    .reservationId(view.getId())
+                    .userName(view.getUserName())
+                    .phone(view.getPhone())
+                    .reservationTime(view.getReservationTime())
+                    .reservationStatus(view.getReservationStatus())
+                    .createdAt(view.getCreatedAt())
+                    .build();
+        }
+
+    }
+
+}
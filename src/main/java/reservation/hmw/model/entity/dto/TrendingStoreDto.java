@@ -0,0 +1,38 @@
+package reservation.hmw.model.entity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import reservation.hmw.search.StoreDocument;
+import reservation.hmw.trending.TrendingStore;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingStoreDto {
+
+    private int rank;
+    private Long storeId;
+    private String storeName;
+    private String location;
+    private String keyword;
+    private List<String> tags;
+    private double score;
+
+    public static TrendingStoreDto of(int rank, TrendingStore trending, StoreDocument document) {
+        return TrendingStoreDto.builder()
+                .rank(rank)
+                .storeId(document.id())
+                .storeName(document.storeName())
+                .location(document.location())
+                .keyword(document.keyword())
+                .tags(document.tags())
+                .score(Math.round(trending.score() * 100) / 100.0)
+                .build();
+    }
+
+}
@@ -0,0 +1,8 @@
+package reservation.hmw.model.entity.enums;
+
+/**
+ * 예약 일괄 승인/거절 요청의 예약별 처리 결과입니다.
+ */
+public enum ReservationDecisionResult {
+    APPROVED, REJECTED, NOT_FOUND, UNAUTHORIZED, INVALID_STATUS, NOT_PENDING, DUPLICATED, CONFLICT
+}
@@ -0,0 +1,8 @@
+package reservation.hmw.model.entity.enums;
+
+/**
+ * 파트너 대시보드로 전달되는 예약 이벤트의 종류입니다.
+ */
+public enum ReservationEventType {
+    CREATED, APPROVED, REJECTED, CANCELLED
+}
@@ -1,5 +1,50 @@
 package reservation.hmw.model.entity.enums;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Getter
+@RequiredArgsConstructor
 public enum ReservationStatus {
-    APPROVED, REJECT, PENDING
+    APPROVED(true), REJECT(false), PENDING(true), HOLD(true), EXPIRED(false), WAITLISTED(false), CANCELLED(false),
+    NO_SHOW(true), CHECKED_IN(true);
+
+    /**
+     * 해당 상태의 예약이 매장의 시간대 수용 인원을 차지하는지 여부입니다.
+     * 방문 확인(CHECKED_IN)과 노쇼(NO_SHOW)는 승인된 예약이 시간대에 도달한 결과이므로 자리를 반환하지 않습니다.
+     */
+    private final boolean occupying;
+
+    private static final List<ReservationStatus> OCCUPYING_STATUSES = Arrays.stream(values())
+            .filter(ReservationStatus::isOccupying)
+            .toList();
+
+    /**
+     * 상태별로 변경 가능한 다음 상태입니다. 여기에 없는 상태는 더 이상 변경할 수 없는 최종 상태입니다.
+     */
+    private static final Map<ReservationStatus, Set<ReservationStatus>> TRANSITIONS = Map.of(
+            HOLD, EnumSet.of(PENDING, EXPIRED, CANCELLED),
+            WAITLISTED, EnumSet.of(PENDING, CANCELLED),
+            PENDING, EnumSet.of(APPROVED, REJECT, CANCELLED),
+            APPROVED, EnumSet.of(REJECT, CANCELLED, NO_SHOW, CHECKED_IN));
+
+    public static List<ReservationStatus> occupyingStatuses() {
+        return OCCUPYING_STATUSES;
+    }
+
+    /**
+     * 현재 상태에서 주어진 상태로 변경할 수 있는지 확인하는 메서드입니다.
+     *
+     * @param next 변경하려는 상태
+     * @return 변경 가능하면 true
+     */
+    public boolean canTransitionTo(ReservationStatus next) {
+        return TRANSITIONS.getOrDefault(this, Set.of()).contains(next);
+    }
 }
@@ -0,0 +1,58 @@
+package reservation.hmw.pagination;
+
+import reservation.hmw.exception.CustomException;
+import reservation.hmw.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션의 위치를 나타내는 커서입니다.
+ * (createdAt, id) 내림차순 정렬에서 마지막으로 반환된 행을 가리키며, 클라이언트에는 불투명한 문자열로 전달됩니다.
+ */
+public record Cursor(LocalDateTime createdAt, Long id) {
+
+    public static final int DEFAULT_SIZE = 15;
+    public static final int MAX_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 커서를 클라이언트에 전달할 문자열로 변환하는 메서드입니다.
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열을 해석하는 메서드입니다.
+     *
+     * @param value 커서 문자열, 첫 페이지라면 null 또는 빈 문자열
+     * @return 해석된 커서, 첫 페이지라면 null
+     * @throws CustomException 커서 형식이 올바르지 않은 경우 예외를 발생시킵니다.
+     */
+    public static Cursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 요청한 페이지 크기를 허용 범위(1 ~ 100)로 맞추는 메서드입니다.
+     */
+    public static int pageSize(int requested) {
+        return Math.max(1, Math.min(requested, MAX_SIZE));
+    }
+
+}
@@ -0,0 +1,94 @@
+package reservation.hmw.rating;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reservation.hmw.model.entity.StoreRatingSummary;
+import reservation.hmw.repository.StoreRatingSummaryRepository;
+import reservation.hmw.search.RankingQuery;
+import reservation.hmw.search.RankingSignal;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * 평균 평점이 높은 매장일수록 높은 점수를 주는 순위 신호입니다.
+ *
+ * 평점이 적은 매장이 한두 개의 만점 리뷰로 앞서지 않도록 평점 3점짜리 리뷰 5개를 미리 더한 평균(베이지안 평균)을 씁니다.
+ * 매장별 평균은 store_rating_summary 테이블에서 주기적으로 읽어 매장 ID로 정렬된 기본형 배열에 보관하므로,
+ * 검색 중에는 DB를 조회하지 않고 이진 탐색으로 찾습니다. 최근 리뷰는 다음 갱신 때 반영됩니다.
+ */
+@Slf4j
+@Component
+public class RatingSignal implements RankingSignal {
+
+    static final double PRIOR_MEAN = 3.0;
+    static final double PRIOR_COUNT = 5;
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final StoreRatingSummaryRepository summaryRepository;
+    private final double weight;
+    private volatile Snapshot snapshot = new Snapshot(new long[0], new float[0]);
+
+    public RatingSignal(StoreRatingSummaryRepository summaryRepository,
+                        @Value("${reservation.ranking.rating-weight:0.3}") double weight) {
+        this.summaryRepository = summaryRepository;
+        this.weight = weight;
+    }
+
+    @Override
+    public double weight() {
+        return weight;
+    }
+
+    @Override
+    public LongToDoubleFunction prepare(RankingQuery query) {
+        Snapshot current = snapshot;
+        double prior = normalize(PRIOR_MEAN);
+        return id -> {
+            int index = Arrays.binarySearch(current.storeIds, id);
+            return index < 0 ? prior : current.scores[index];
+        };
+    }
+
+    /**
+     * 매장별 평균 평점을 다시 읽는 메서드입니다.
+     */
+    @Scheduled(fixedDelayString = "${reservation.ranking.rating-refresh-ms:60000}")
+    public void refresh() {
+        long[] storeIds = new long[LOAD_BATCH_SIZE];
+        float[] scores = new float[LOAD_BATCH_SIZE];
+        int size = 0;
+        long afterId = 0;
+
+        List<StoreRatingSummary> batch;
+        do {
+            batch = summaryRepository.findByStoreIdGreaterThanOrderByStoreId(afterId, PageRequest.ofSize(LOAD_BATCH_SIZE));
+            for (StoreRatingSummary summary : batch) {
+                if (size == storeIds.length) {
+                    storeIds = Arrays.copyOf(storeIds, size * 2);
+                    scores = Arrays.copyOf(scores, size * 2);
+                }
+                storeIds[size] = summary.getStoreId();
+                scores[size++] = (float) normalize((summary.getRatingSum() + PRIOR_MEAN * PRIOR_COUNT)
+                        / (summary.getRatingCount() + PRIOR_COUNT));
+                afterId = summary.getStoreId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        snapshot = new Snapshot(Arrays.copyOf(storeIds, size), Arrays.copyOf(scores, size));
+        log.debug("순위용 평점을 갱신했습니다. stores={}", size);
+    }
+
+    private static double normalize(double mean) {
+        return Math.min(1, Math.max(0, (mean - 1) / (StoreRatingAggregator.MAX_RATING - 1)));
+    }
+
+    private record Snapshot(long[] storeIds, float[] scores) {
+    }
+
+}
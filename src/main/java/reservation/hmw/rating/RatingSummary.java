@@ -0,0 +1,36 @@
+package reservation.hmw.rating;
+
+import java.util.Arrays;
+
+/**
+ * 매장의 평점 개수, 합계, 1~5점 분포를 담는 값입니다.
+ *
+ * @param count 평점 개수
+ * @param sum 평점 합계
+ * @param histogram 1점부터 5점까지의 평점별 개수
+ */
+public record RatingSummary(long count, long sum, long[] histogram) {
+
+    public static final RatingSummary EMPTY = new RatingSummary(0, 0, new long[StoreRatingAggregator.MAX_RATING]);
+
+    /**
+     * 소수점 둘째 자리까지 반올림한 평균 평점을 반환하는 메서드입니다.
+     *
+     * @return 평균 평점, 평점이 없으면 null
+     */
+    public Double average() {
+        if (count <= 0) {
+            return null;
+        }
+        return Math.round(sum * 100.0 / count) / 100.0;
+    }
+
+    RatingSummary plus(long[] delta) {
+        long[] merged = Arrays.copyOf(histogram, histogram.length);
+        for (int i = 0; i < merged.length; i++) {
+            merged[i] += delta[StoreRatingAggregator.HISTOGRAM + i];
+        }
+        return new RatingSummary(count + delta[StoreRatingAggregator.COUNT], sum + delta[StoreRatingAggregator.SUM], merged);
+    }
+
+}
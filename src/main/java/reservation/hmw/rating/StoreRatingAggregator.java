@@ -0,0 +1,242 @@
+package reservation.hmw.rating;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reservation.hmw.model.entity.StoreRatingSummary;
+import reservation.hmw.repository.StoreRatingSummaryRepository;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 매장별 평점 집계(개수, 합계, 1~5점 분포)를 증분으로 유지하는 컴포넌트입니다.
+ *
+ * 리뷰가 작성/수정/삭제되면 커밋 이후에 변경분만 매장 ID로 분산된 스트라이프의 메모리 카운터에 누적하고,
+ * 주기적으로(그리고 종료 시) 누적된 변경분을 store_rating_summary 테이블에 더합니다.
+ * 조회 시에는 저장된 집계에 아직 반영되지 않은 변경분을 더해 반환하므로 리뷰 테이블을 읽지 않습니다.
+ *
+ * 변경분은 이 인스턴스의 메모리에 머무르다 반영되므로, 반영 전에 프로세스가 비정상 종료되면 그 사이의 변경분은 유실됩니다.
+ */
+@Slf4j
+@Component
+public class StoreRatingAggregator {
+
+    static final int MAX_RATING = 5;
+    static final int COUNT = 0;
+    static final int SUM = 1;
+    static final int HISTOGRAM = 2;
+
+    private static final int STRIPES = 64;
+
+    private final StoreRatingSummaryRepository summaryRepository;
+    private final TransactionOperations transactionOperations;
+    private final Stripe[] stripes = createStripes();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public StoreRatingAggregator(StoreRatingSummaryRepository summaryRepository,
+                                 TransactionOperations transactionOperations) {
+        this.summaryRepository = summaryRepository;
+        this.transactionOperations = transactionOperations;
+    }
+
+    /**
+     * 리뷰 평점 변경분을 기록하는 메서드입니다.
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 기록되며, 롤백되면 기록되지 않습니다.
+     *
+     * @param storeId 매장 ID
+     * @param previousRating 변경 전 평점, 새로 작성된 리뷰라면 null
+     * @param rating 변경 후 평점, 삭제된 리뷰라면 null
+     */
+    public void record(Long storeId, Integer previousRating, Integer rating) {
+        if (storeId == null || Objects.equals(previousRating, rating)) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(storeId, previousRating, rating);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(storeId, previousRating, rating);
+            }
+        });
+    }
+
+    /**
+     * 매장들의 현재 평점 집계를 반환하는 메서드입니다.
+     * 저장된 집계를 한 번에 조회하고 아직 반영되지 않은 변경분을 더합니다.
+     *
+     * @param storeIds 매장 ID 목록
+     * @return 매장 ID별 평점 집계, 평점이 없는 매장은 포함되지 않습니다.
+     */
+    public Map<Long, RatingSummary> summaries(Collection<Long> storeIds) {
+        Map<Long, RatingSummary> summaries = new HashMap<>();
+        List<Long> ids = storeIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            return summaries;
+        }
+
+        for (StoreRatingSummary summary : summaryRepository.findAllById(ids)) {
+            summaries.put(summary.getStoreId(),
+                    new RatingSummary(summary.getRatingCount(), summary.getRatingSum(), summary.histogram()));
+        }
+
+        for (Long storeId : ids) {
+            long[] pending = pendingOf(storeId);
+            if (pending != null) {
+                summaries.put(storeId, summaries.getOrDefault(storeId, RatingSummary.EMPTY).plus(pending));
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * 누적된 변경분을 store_rating_summary 테이블에 반영하는 메서드입니다.
+     * 반영에 실패한 변경분은 다음 반영 때 다시 시도됩니다.
+     */
+    @Scheduled(fixedDelayString = "${reservation.rating.flush-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, long[]> drained = drain();
+            if (drained.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionOperations.executeWithoutResult(status -> drained.forEach(this::write));
+            } catch (RuntimeException e) {
+                log.warn("평점 집계 반영에 실패하여 다음 주기에 다시 시도합니다. stores={}", drained.size(), e);
+                drained.forEach(this::merge);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남아 있는 변경분을 반영하는 메서드입니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void apply(Long storeId, Integer previousRating, Integer rating) {
+        long[] delta = new long[HISTOGRAM + MAX_RATING];
+        if (previousRating != null) {
+            delta[COUNT]--;
+            delta[SUM] -= previousRating;
+            delta[HISTOGRAM + bucketOf(previousRating)]--;
+        }
+        if (rating != null) {
+            delta[COUNT]++;
+            delta[SUM] += rating;
+            delta[HISTOGRAM + bucketOf(rating)]++;
+        }
+        merge(storeId, delta);
+    }
+
+    private void merge(Long storeId, long[] delta) {
+        Stripe stripe = stripeOf(storeId);
+        stripe.lock.lock();
+        try {
+            long[] pending = stripe.deltas.computeIfAbsent(storeId, id -> new long[HISTOGRAM + MAX_RATING]);
+            for (int i = 0; i < pending.length; i++) {
+                pending[i] += delta[i];
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private long[] pendingOf(Long storeId) {
+        Stripe stripe = stripeOf(storeId);
+        stripe.lock.lock();
+        try {
+            long[] pending = stripe.deltas.get(storeId);
+            return pending == null ? null : pending.clone();
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private Map<Long, long[]> drain() {
+        Map<Long, long[]> drained = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                if (!stripe.deltas.isEmpty()) {
+                    drained.putAll(stripe.deltas);
+                    stripe.deltas = new HashMap<>();
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return drained;
+    }
+
+    private void write(Long storeId, long[] delta) {
+        if (Arrays.stream(delta).allMatch(value -> value == 0)) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = summaryRepository.addDelta(storeId, delta[COUNT], delta[SUM],
+                delta[HISTOGRAM], delta[HISTOGRAM + 1], delta[HISTOGRAM + 2], delta[HISTOGRAM + 3], delta[HISTOGRAM + 4],
+                now);
+
+        if (updated == 0) {
+            summaryRepository.save(StoreRatingSummary.builder()
+                    .storeId(storeId)
+                    .ratingCount(delta[COUNT])
+                    .ratingSum(delta[SUM])
+                    .rating1(delta[HISTOGRAM])
+                    .rating2(delta[HISTOGRAM + 1])
+                    .rating3(delta[HISTOGRAM + 2])
+                    .rating4(delta[HISTOGRAM + 3])
+                    .rating5(delta[HISTOGRAM + 4])
+                    .modifiedAt(now)
+                    .build());
+        }
+    }
+
+    private int bucketOf(int rating) {
+        return Math.min(MAX_RATING, Math.max(1, rating)) - 1;
+    }
+
+    private Stripe stripeOf(Long storeId) {
+        return stripes[Math.floorMod(storeId.hashCode(), STRIPES)];
+    }
+
+    private static Stripe[] createStripes() {
+        Stripe[] stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        return stripes;
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private Map<Long, long[]> deltas = new HashMap<>();
+
+    }
+
+}
@@ -0,0 +1,45 @@
+package reservation.hmw.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import reservation.hmw.model.entity.IdempotencyRecord;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    @Transactional
+    @Modifying
+    @Query("update IdempotencyRecord r set r.completed = true, r.statusCode = :statusCode, " +
+            "r.contentType = :contentType, r.body = :body where r.requestKey = :requestKey")
+    int complete(@Param("requestKey") String requestKey,
+                 @Param("statusCode") Integer statusCode,
+                 @Param("contentType") String contentType,
+                 @Param("body") byte[] body);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.requestKey = :requestKey and r.completed = false")
+    int deleteClaim(@Param("requestKey") String requestKey);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.requestKey = :requestKey and (r.createdAt < :completedBefore " +
+            "or (r.completed = false and r.createdAt < :claimedBefore))")
+    int deleteStale(@Param("requestKey") String requestKey,
+                    @Param("completedBefore") LocalDateTime completedBefore,
+                    @Param("claimedBefore") LocalDateTime claimedBefore);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.createdAt < :completedBefore " +
+            "or (r.completed = false and r.createdAt < :claimedBefore)")
+    int deleteExpired(@Param("completedBefore") LocalDateTime completedBefore,
+                      @Param("claimedBefore") LocalDateTime claimedBefore);
+
+}
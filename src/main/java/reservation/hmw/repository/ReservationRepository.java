@@ -1,14 +1,95 @@
 package reservation.hmw.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import reservation.hmw.model.entity.Reservation;
+import reservation.hmw.model.entity.enums.ReservationStatus;
+import reservation.hmw.repository.projection.CheckInView;
+import reservation.hmw.repository.projection.ReservationDecisionView;
+import reservation.hmw.repository.projection.StoreReservationView;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
 
-    Optional<Reservation> findByUserId(Long userId);
+    List<Reservation> findByUserId(Long userId);
+
+    List<Reservation> findAllByUserIdAndStoreIdAndReservationTimeBetween(Long userId,
+                                                                        Long storeId,
+                                                                        LocalDateTime from,
+                                                                        LocalDateTime to);
+
+    @Query("select r.reservationTime from Reservation r " +
+            "where r.store.id = :storeId " +
+            "and r.reservationTime >= :from and r.reservationTime < :to " +
+            "and r.reservationStatus in :statuses")
+    List<LocalDateTime> findReservationTimes(@Param("storeId") Long storeId,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to,
+                                             @Param("statuses") Collection<ReservationStatus> statuses);
+
+    @Query("select r.reservationTime from Reservation r where r.id = :id")
+    Optional<LocalDateTime> findReservationTimeById(@Param("id") Long id);
+
+    List<Reservation> findAllByReservationStatus(ReservationStatus reservationStatus);
+
+    List<Reservation> findAllByReservationStatusAndReservationTimeGreaterThanEqualOrderByIdAsc(ReservationStatus reservationStatus,
+                                                                                               LocalDateTime from);
+
+    @Query("select r.id as id, s.id as storeId, s.partner.id as partnerId, " +
+            "r.reservationStatus as reservationStatus, r.reservationTime as reservationTime " +
+            "from Reservation r join r.store s where r.id in :ids")
+    List<ReservationDecisionView> findDecisionViews(@Param("ids") Collection<Long> ids);
+
+    @Query("select r.id as id, s.id as storeId, s.storeName as storeName, u.name as userName, " +
+            "u.phone as phone, r.reservationTime as reservationTime " +
+            "from Reservation r join r.store s join r.user u " +
+            "where r.reservationTime >= :from and r.reservationTime < :to " +
+            "and r.reservationStatus = :status")
+    List<CheckInView> findCheckInViews(@Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to,
+                                       @Param("status") ReservationStatus status);
+
+    @Query("select r.id as id, s.id as storeId, s.storeName as storeName, u.name as userName, " +
+            "u.phone as phone, r.reservationTime as reservationTime " +
+            "from Reservation r join r.store s join r.user u " +
+            "where r.id in :ids and r.reservationStatus = :status")
+    List<CheckInView> findCheckInViewsByIds(@Param("ids") Collection<Long> ids,
+                                            @Param("status") ReservationStatus status);
+
+    @Query("select r.id as id, u.name as userName, u.phone as phone, r.reservationTime as reservationTime, " +
+            "r.reservationStatus as reservationStatus, r.createdAt as createdAt " +
+            "from Reservation r join r.user u " +
+            "where r.store.id = :storeId " +
+            "order by r.createdAt desc, r.id desc")
+    List<StoreReservationView> findStoreReservations(@Param("storeId") Long storeId, Pageable limit);
+
+    @Query("select r.id as id, u.name as userName, u.phone as phone, r.reservationTime as reservationTime, " +
+            "r.reservationStatus as reservationStatus, r.createdAt as createdAt " +
+            "from Reservation r join r.user u " +
+            "where r.store.id = :storeId " +
+            "and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id)) " +
+            "order by r.createdAt desc, r.id desc")
+    List<StoreReservationView> findStoreReservationsBefore(@Param("storeId") Long storeId,
+                                                           @Param("createdAt") LocalDateTime createdAt,
+                                                           @Param("id") Long id,
+                                                           Pageable limit);
+
+    @Transactional
+    @Modifying
+    @Query("update Reservation r set r.reservationStatus = :to, r.version = r.version + 1 " +
+            "where r.id in :ids and r.reservationStatus = :from")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("from") ReservationStatus from,
+                     @Param("to") ReservationStatus to);
 
 }
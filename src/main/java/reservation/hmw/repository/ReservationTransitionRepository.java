@@ -0,0 +1,12 @@
+package reservation.hmw.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import reservation.hmw.model.entity.ReservationTransition;
+
+import java.util.List;
+
+@Repository
+public interface ReservationTransitionRepository extends JpaRepository<ReservationTransition, Long> {
+    List<ReservationTransition> findAllByReservationIdOrderByIdAsc(Long reservationId);
+}
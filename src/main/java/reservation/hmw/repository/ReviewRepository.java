@@ -3,11 +3,66 @@ package reservation.hmw.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import reservation.hmw.model.entity.Review;
+import reservation.hmw.repository.projection.ReviewView;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
-    Page<Review> findByStoreId(Long storeId, Pageable pageable);
+
+    @Query("select r.id as id, u.name as userName, s.storeName as storeName, r.rating as rating, " +
+            "r.content as content, r.createdAt as createdAt " +
+            "from Review r join r.user u join r.store s " +
+            "where r.id = :reviewId")
+    Optional<ReviewView> findViewById(@Param("reviewId") Long reviewId);
+
+    @Query(value = "select r.id as id, u.name as userName, s.storeName as storeName, r.rating as rating, " +
+            "r.content as content, r.createdAt as createdAt " +
+            "from Review r join r.user u join r.store s " +
+            "where s.id = :storeId",
+            countQuery = "select count(r) from Review r where r.store.id = :storeId")
+    Page<ReviewView> findViewsByStoreId(@Param("storeId") Long storeId, Pageable pageable);
+
+    @Query("select r.id as id, u.name as userName, s.storeName as storeName, r.rating as rating, " +
+            "r.content as content, r.createdAt as createdAt " +
+            "from Review r join r.user u join r.store s " +
+            "where s.id = :storeId " +
+            "order by r.createdAt desc, r.id desc")
+    List<ReviewView> findStoreReviews(@Param("storeId") Long storeId, Pageable limit);
+
+    @Query("select r.id as id, u.name as userName, s.storeName as storeName, r.rating as rating, " +
+            "r.content as content, r.createdAt as createdAt " +
+            "from Review r join r.user u join r.store s " +
+            "where s.id = :storeId " +
+            "and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id)) " +
+            "order by r.createdAt desc, r.id desc")
+    List<ReviewView> findStoreReviewsBefore(@Param("storeId") Long storeId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Pageable limit);
+
+    @Query("select r.id as id, u.name as userName, s.storeName as storeName, r.rating as rating, " +
+            "r.content as content, r.createdAt as createdAt " +
+            "from Review r join r.user u join r.store s " +
+            "where u.id = :userId " +
+            "order by r.createdAt desc, r.id desc")
+    List<ReviewView> findUserReviews(@Param("userId") Long userId, Pageable limit);
+
+    @Query("select r.id as id, u.name as userName, s.storeName as storeName, r.rating as rating, " +
+            "r.content as content, r.createdAt as createdAt " +
+            "from Review r join r.user u join r.store s " +
+            "where u.id = :userId " +
+            "and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id)) " +
+            "order by r.createdAt desc, r.id desc")
+    List<ReviewView> findUserReviewsBefore(@Param("userId") Long userId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable limit);
 
 }
@@ -0,0 +1,34 @@
+package reservation.hmw.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reservation.hmw.model.entity.StoreRatingSummary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StoreRatingSummaryRepository extends JpaRepository<StoreRatingSummary, Long> {
+
+    @Modifying
+    @Query("update StoreRatingSummary s set s.ratingCount = s.ratingCount + :count, s.ratingSum = s.ratingSum + :sum, " +
+            "s.rating1 = s.rating1 + :rating1, s.rating2 = s.rating2 + :rating2, s.rating3 = s.rating3 + :rating3, " +
+            "s.rating4 = s.rating4 + :rating4, s.rating5 = s.rating5 + :rating5, s.modifiedAt = :modifiedAt " +
+            "where s.storeId = :storeId")
+    int addDelta(@Param("storeId") Long storeId,
+                 @Param("count") long count,
+                 @Param("sum") long sum,
+                 @Param("rating1") long rating1,
+                 @Param("rating2") long rating2,
+                 @Param("rating3") long rating3,
+                 @Param("rating4") long rating4,
+                 @Param("rating5") long rating5,
+                 @Param("modifiedAt") LocalDateTime modifiedAt);
+
+    List<StoreRatingSummary> findByStoreIdGreaterThanOrderByStoreId(Long storeId, Pageable pageable);
+
+}
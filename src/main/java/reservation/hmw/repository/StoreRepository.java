@@ -1,17 +1,50 @@
 package reservation.hmw.repository;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import reservation.hmw.cache.StoreCache;
+import reservation.hmw.cache.StoreSnapshot;
 import reservation.hmw.model.entity.Store;
+import reservation.hmw.repository.projection.StoreNameView;
+import reservation.hmw.repository.projection.StoreTagView;
+import reservation.hmw.search.StoreDocument;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface StoreRepository extends JpaRepository<Store, Long> {
 
-
-    Optional<List<Store>> findAllByKeyword(String keyword);
-
-
-    Optional<Store> findByStoreName(String storeName);
+    /**
+     * 매장 정보를 ID로 조회하는 메서드입니다. 조회 결과는 {@link StoreCache}가 관리하는 캐시에 보관됩니다.
+     */
+    @Cacheable(cacheNames = StoreCache.BY_ID, key = "#p0", sync = true)
+    @Query("select new reservation.hmw.cache.StoreSnapshot(s.id, s.storeName, s.location, s.keyword, s.storeDescription, " +
+            "s.slotCapacity, s.latitude, s.longitude, p.id) from Store s left join s.partner p where s.id = :id")
+    Optional<StoreSnapshot> findSnapshotById(@Param("id") Long id);
+
+    @Query("select new reservation.hmw.search.StoreDocument(s.id, s.storeName, s.location, s.keyword, s.storeDescription, s.latitude, s.longitude) " +
+            "from Store s where s.id > :afterId order by s.id")
+    List<StoreDocument> findDocumentsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 매장의 이름과 위치만 조회하는 메서드입니다. 매장이 존재하는지 확인하는 용도로도 사용합니다.
+     */
+    @Query("select s.storeName as storeName, s.location as location from Store s where s.id = :id")
+    Optional<StoreNameView> findNameById(@Param("id") Long id);
+
+    @Query("select s.id as storeId, t.name as tagName from Store s join s.tags t where s.id in :storeIds")
+    List<StoreTagView> findTagsByStoreIdIn(@Param("storeIds") Collection<Long> storeIds);
+
+    /**
+     * 매장 정보를 이름으로 조회하는 메서드입니다. 조회 결과는 {@link StoreCache}가 관리하는 캐시에 보관됩니다.
+     */
+    @Cacheable(cacheNames = StoreCache.BY_NAME, key = "#p0", sync = true)
+    @Query("select new reservation.hmw.cache.StoreSnapshot(s.id, s.storeName, s.location, s.keyword, s.storeDescription, " +
+            "s.slotCapacity, s.latitude, s.longitude, p.id) from Store s left join s.partner p where s.storeName = :storeName")
+    Optional<StoreSnapshot> findSnapshotByStoreName(@Param("storeName") String storeName);
 
 }
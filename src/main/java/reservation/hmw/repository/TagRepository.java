@@ -0,0 +1,13 @@
+package reservation.hmw.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import reservation.hmw.model.entity.Tag;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    List<Tag> findAllByNameIn(Collection<String> names);
+
+}
@@ -1,6 +1,8 @@
 package reservation.hmw.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import reservation.hmw.model.entity.User;
 
@@ -13,4 +15,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     Optional<User> findByPhone(String phone);
+
+    /**
+     * 사용자 이름만 조회하는 메서드입니다. 사용자가 존재하는지 확인하는 용도로도 사용합니다.
+     */
+    @Query("select u.name from User u where u.id = :id")
+    Optional<String> findNameById(@Param("id") Long id);
 }
@@ -0,0 +1,22 @@
+package reservation.hmw.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 키오스크 방문 확인 인덱스를 만들기 위한 예약 정보입니다.
+ */
+public interface CheckInView {
+
+    Long getId();
+
+    Long getStoreId();
+
+    String getStoreName();
+
+    String getUserName();
+
+    String getPhone();
+
+    LocalDateTime getReservationTime();
+
+}
@@ -0,0 +1,22 @@
+package reservation.hmw.repository.projection;
+
+import reservation.hmw.model.entity.enums.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 승인/거절 일괄 처리에 필요한 최소한의 예약 정보입니다.
+ */
+public interface ReservationDecisionView {
+
+    Long getId();
+
+    Long getStoreId();
+
+    Long getPartnerId();
+
+    ReservationStatus getReservationStatus();
+
+    LocalDateTime getReservationTime();
+
+}
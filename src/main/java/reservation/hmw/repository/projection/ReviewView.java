@@ -0,0 +1,22 @@
+package reservation.hmw.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 조회 응답을 위한 리뷰 정보입니다. 작성자와 매장 이름을 한 번의 조인 쿼리로 함께 읽습니다.
+ */
+public interface ReviewView {
+
+    Long getId();
+
+    String getUserName();
+
+    String getStoreName();
+
+    Integer getRating();
+
+    String getContent();
+
+    LocalDateTime getCreatedAt();
+
+}
@@ -0,0 +1,12 @@
+package reservation.hmw.repository.projection;
+
+/**
+ * 예약/리뷰 생성 응답에 필요한 매장 이름과 위치입니다.
+ */
+public interface StoreNameView {
+
+    String getStoreName();
+
+    String getLocation();
+
+}
@@ -0,0 +1,24 @@
+package reservation.hmw.repository.projection;
+
+import reservation.hmw.model.entity.enums.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 파트너의 매장 예약 목록을 위한 예약 정보입니다.
+ */
+public interface StoreReservationView {
+
+    Long getId();
+
+    String getUserName();
+
+    String getPhone();
+
+    LocalDateTime getReservationTime();
+
+    ReservationStatus getReservationStatus();
+
+    LocalDateTime getCreatedAt();
+
+}
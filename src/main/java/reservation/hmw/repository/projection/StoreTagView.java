@@ -0,0 +1,12 @@
+package reservation.hmw.repository.projection;
+
+/**
+ * 태그 색인을 만들기 위한 매장 ID와 태그 이름 쌍입니다.
+ */
+public interface StoreTagView {
+
+    Long getStoreId();
+
+    String getTagName();
+
+}
@@ -0,0 +1,231 @@
+package reservation.hmw.search;
+
+import java.util.Arrays;
+
+/**
+ * 전문 검색용 포스팅 리스트입니다. 매장 ID 오름차순으로 (이전 ID와의 차이, 등장 횟수) 쌍을
+ * 가변 길이 정수(varint)로 이어 붙여 보관하므로, ID가 촘촘할수록 항목당 2~3바이트로 줄어듭니다.
+ *
+ * 변경 시 새 인스턴스를 만들어 읽는 쪽은 잠금 없이 항상 일관된 목록을 봅니다.
+ */
+final class CompressedPostings {
+
+    static final CompressedPostings EMPTY = new CompressedPostings(new byte[0], 0);
+
+    private final byte[] data;
+    private final int size;
+
+    private CompressedPostings(byte[] data, int size) {
+        this.data = data;
+        this.size = size;
+    }
+
+    /**
+     * 목록에 포함된 매장 수(문서 빈도)를 반환하는 메서드입니다.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * 압축된 목록이 차지하는 바이트 수를 반환하는 메서드입니다.
+     */
+    int bytes() {
+        return data.length;
+    }
+
+    /**
+     * 매장 ID 순으로 모든 항목을 방문하는 메서드입니다.
+     */
+    void forEach(Visitor visitor) {
+        int position = 0;
+        long id = 0;
+        while (position < data.length) {
+            long gap = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                gap |= (long) (b & 0x7f) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            int frequency = 0;
+            shift = 0;
+            do {
+                b = data[position++];
+                frequency |= (b & 0x7f) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            id += gap;
+            visitor.visit(id, frequency);
+        }
+    }
+
+    /**
+     * 매장을 추가하거나 등장 횟수를 바꾼 목록을 반환하는 메서드입니다.
+     */
+    CompressedPostings with(long id, int frequency) {
+        return rewrite(id, frequency);
+    }
+
+    /**
+     * 매장을 제외한 목록을 반환하는 메서드입니다.
+     */
+    CompressedPostings without(long id) {
+        return rewrite(id, 0);
+    }
+
+    /**
+     * 다른 목록의 매장을 한 번에 합친 목록을 반환하는 메서드입니다.
+     * 두 목록에 같은 매장이 있으면 다른 목록의 등장 횟수를 사용하며, 두 목록을 한 번씩만 읽어 다시 압축합니다.
+     */
+    CompressedPostings union(CompressedPostings other) {
+        if (other.size == 0) {
+            return this;
+        }
+        if (size == 0) {
+            return other;
+        }
+
+        Builder builder = new Builder(size + other.size);
+        forEach(builder::add);
+        other.forEach(builder::add);
+        return builder.build();
+    }
+
+    private CompressedPostings rewrite(long target, int frequency) {
+        Writer writer = new Writer(data.length + 12);
+        boolean[] placed = {false};
+        forEach((id, current) -> {
+            if (!placed[0] && target <= id) {
+                placed[0] = true;
+                if (frequency > 0) {
+                    writer.write(target, frequency);
+                }
+                if (target == id) {
+                    return;
+                }
+            }
+            writer.write(id, current);
+        });
+        if (!placed[0] && frequency > 0) {
+            writer.write(target, frequency);
+        }
+        return writer.count == 0 ? EMPTY : new CompressedPostings(writer.toByteArray(), writer.count);
+    }
+
+    /**
+     * 여러 매장을 모아 목록을 한 번에 압축하는 빌더입니다. 색인을 처음 만들 때처럼 많은 매장을 추가하는 경우
+     * {@link #with(long, int)}를 반복하면 매번 목록 전체를 다시 압축하므로 이 빌더를 사용합니다.
+     */
+    static final class Builder {
+
+        private long[] ids;
+        private int[] frequencies;
+        private int size;
+        private boolean sorted = true;
+
+        Builder() {
+            this(4);
+        }
+
+        private Builder(int capacity) {
+            this.ids = new long[Math.max(capacity, 1)];
+            this.frequencies = new int[ids.length];
+        }
+
+        /**
+         * 매장을 추가하는 메서드입니다. 같은 매장을 다시 추가하면 나중에 추가한 등장 횟수를 사용합니다.
+         */
+        Builder add(long id, int frequency) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            if (size > 0 && id <= ids[size - 1]) {
+                sorted = false;
+            }
+            ids[size] = id;
+            frequencies[size++] = frequency;
+            return this;
+        }
+
+        /**
+         * 추가된 (매장 ID, 등장 횟수) 쌍을 ID 순으로 정렬한 뒤 한 번에 압축하는 메서드입니다.
+         * 등장 횟수가 0인 항목은 제외합니다.
+         */
+        CompressedPostings build() {
+            Writer writer = new Writer(size * 3);
+            if (sorted) {
+                for (int i = 0; i < size; i++) {
+                    writeIfPresent(writer, i);
+                }
+            } else {
+                Integer[] order = new Integer[size];
+                for (int i = 0; i < size; i++) {
+                    order[i] = i;
+                }
+                Arrays.sort(order, (x, y) -> ids[x] != ids[y] ? Long.compare(ids[x], ids[y]) : Integer.compare(x, y));
+                for (int i = 0; i < size; i++) {
+                    // 같은 매장이 여러 번 추가되었으면 마지막 항목만 기록합니다.
+                    if (i + 1 == size || ids[order[i + 1]] != ids[order[i]]) {
+                        writeIfPresent(writer, order[i]);
+                    }
+                }
+            }
+            return writer.count == 0 ? EMPTY : new CompressedPostings(writer.toByteArray(), writer.count);
+        }
+
+        private void writeIfPresent(Writer writer, int index) {
+            if (frequencies[index] > 0) {
+                writer.write(ids[index], frequencies[index]);
+            }
+        }
+
+    }
+
+    @FunctionalInterface
+    interface Visitor {
+
+        void visit(long id, int frequency);
+
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer;
+        private int length;
+        private int count;
+        private long previousId;
+
+        private Writer(int capacity) {
+            this.buffer = new byte[capacity];
+        }
+
+        private void write(long id, int frequency) {
+            writeVarLong(id - previousId);
+            writeVarLong(frequency);
+            previousId = id;
+            count++;
+        }
+
+        private void writeVarLong(long value) {
+            if (length + 10 > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + 10));
+            }
+            while ((value & ~0x7fL) != 0) {
+                buffer[length++] = (byte) ((value & 0x7f) | 0x80);
+                value >>>= 7;
+            }
+            buffer[length++] = (byte) value;
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, length);
+        }
+
+    }
+
+}
@@ -0,0 +1,144 @@
+package reservation.hmw.search;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장 설명의 글자 n-gram을 색인하여 BM25로 점수를 매기는 전문 검색 색인입니다.
+ *
+ * n-gram별 포스팅은 {@link CompressedPostings}로 압축해 보관하고, 매장별 문서 길이(n-gram 수)와 전체 길이 합을
+ * 함께 유지하므로 매장 하나를 추가/제거할 때 그 매장의 n-gram만 갱신합니다.
+ * 쓰기는 호출하는 쪽에서 직렬화해야 하며 읽기는 잠금 없이 수행됩니다.
+ */
+final class DescriptionIndex {
+
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+
+    private final ConcurrentHashMap<String, CompressedPostings> postings = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Integer> lengths = new ConcurrentHashMap<>();
+    private volatile long totalLength;
+
+    /**
+     * 매장 설명을 색인하는 메서드입니다. 설명이 비어 있으면 색인하지 않습니다.
+     */
+    void index(long id, String description) {
+        Map<String, Integer> frequencies = SearchTokenizer.ngrams(description);
+        if (frequencies.isEmpty()) {
+            return;
+        }
+
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            int frequency = entry.getValue();
+            postings.merge(entry.getKey(), CompressedPostings.EMPTY.with(id, frequency),
+                    (current, ignored) -> current.with(id, frequency));
+            length += frequency;
+        }
+        lengths.put(id, length);
+        totalLength += length;
+    }
+
+    /**
+     * 여러 매장 설명을 한 번에 색인하는 메서드입니다. n-gram별로 (매장 ID, 등장 횟수) 쌍을 모은 뒤
+     * 포스팅을 한 번씩만 압축하므로, 매장마다 목록 전체를 다시 압축하지 않습니다.
+     * 이미 색인된 매장은 호출하는 쪽에서 먼저 {@link #remove(long, String)}로 제거해야 합니다.
+     *
+     * @param descriptions 매장 ID별 매장 설명
+     */
+    void indexAll(Map<Long, String> descriptions) {
+        Map<String, CompressedPostings.Builder> added = new HashMap<>();
+        long addedLength = 0;
+        for (Map.Entry<Long, String> document : descriptions.entrySet()) {
+            Map<String, Integer> frequencies = SearchTokenizer.ngrams(document.getValue());
+            if (frequencies.isEmpty()) {
+                continue;
+            }
+
+            long id = document.getKey();
+            int length = 0;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                added.computeIfAbsent(entry.getKey(), key -> new CompressedPostings.Builder()).add(id, entry.getValue());
+                length += entry.getValue();
+            }
+            lengths.put(id, length);
+            addedLength += length;
+        }
+
+        added.forEach((term, builder) -> postings.merge(term, builder.build(), CompressedPostings::union));
+        totalLength += addedLength;
+    }
+
+    /**
+     * 색인했던 매장 설명을 제거하는 메서드입니다.
+     *
+     * @param id 매장 ID
+     * @param description 색인할 때 사용한 매장 설명
+     */
+    void remove(long id, String description) {
+        Integer length = lengths.remove(id);
+        if (length == null) {
+            return;
+        }
+
+        totalLength -= length;
+        for (String term : SearchTokenizer.ngrams(description).keySet()) {
+            postings.computeIfPresent(term, (key, current) -> {
+                CompressedPostings next = current.without(id);
+                return next.size() == 0 ? null : next;
+            });
+        }
+    }
+
+    /**
+     * 검색어의 n-gram과 일치하는 매장의 BM25 점수를 계산하는 메서드입니다.
+     * 검색어의 n-gram 중 하나라도 포함한 매장이 대상이며, 많이 일치하고 드문 n-gram일수록 점수가 높습니다.
+     *
+     * @param query 검색어
+     * @return 매장 ID별 점수
+     */
+    Map<Long, Float> scores(String query) {
+        Map<Long, Float> scores = new HashMap<>();
+        int documents = lengths.size();
+        if (documents == 0) {
+            return scores;
+        }
+
+        double averageLength = Math.max(1.0, (double) totalLength / documents);
+        for (Map.Entry<String, Integer> entry : SearchTokenizer.ngrams(query).entrySet()) {
+            CompressedPostings termPostings = postings.get(entry.getKey());
+            if (termPostings == null) {
+                continue;
+            }
+
+            int queryFrequency = entry.getValue();
+            double idf = Math.log(1 + (documents - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+            termPostings.forEach((id, frequency) -> {
+                Integer length = lengths.get(id);
+                if (length == null) {
+                    return;
+                }
+                double norm = frequency + K1 * (1 - B + B * length / averageLength);
+                scores.merge(id, (float) (queryFrequency * idf * frequency * (K1 + 1) / norm), Float::sum);
+            });
+        }
+        return scores;
+    }
+
+    int terms() {
+        return postings.size();
+    }
+
+    /**
+     * 압축된 포스팅이 차지하는 바이트 수의 합을 반환하는 메서드입니다.
+     */
+    long postingBytes() {
+        long bytes = 0;
+        for (CompressedPostings value : postings.values()) {
+            bytes += value.bytes();
+        }
+        return bytes;
+    }
+
+}
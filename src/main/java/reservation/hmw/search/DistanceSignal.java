@@ -0,0 +1,42 @@
+package reservation.hmw.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * 기준 좌표에 가까운 매장일수록 높은 점수를 주는 순위 신호입니다.
+ * 기준 좌표가 있는 검색에만 적용되며, 기준 거리만큼 떨어진 매장은 0.5점을 받습니다.
+ */
+@Component
+public class DistanceSignal implements RankingSignal {
+
+    private final double weight;
+    private final double scaleMeters;
+
+    public DistanceSignal(@Value("${reservation.ranking.distance-weight:0.5}") double weight,
+                          @Value("${reservation.ranking.distance-scale-meters:1000}") double scaleMeters) {
+        this.weight = weight;
+        this.scaleMeters = scaleMeters;
+    }
+
+    @Override
+    public double weight() {
+        return weight;
+    }
+
+    @Override
+    public LongToDoubleFunction prepare(RankingQuery query) {
+        if (!query.hasLocation()) {
+            return null;
+        }
+
+        LongToDoubleFunction distance = query.distanceMeters();
+        return id -> {
+            double meters = distance.applyAsDouble(id);
+            return Double.isNaN(meters) ? 0 : 1 / (1 + meters / scaleMeters);
+        };
+    }
+
+}
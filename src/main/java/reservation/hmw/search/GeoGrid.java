@@ -0,0 +1,193 @@
+package reservation.hmw.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongPredicate;
+
+/**
+ * 매장 좌표를 위도/경도 격자 셀로 나누어 보관하는 공간 색인입니다.
+ *
+ * 가까운 매장은 중심 셀에서 바깥쪽 고리(ring) 순서로 셀을 방문하며 크기 k의 힙에 거리순으로 모으고,
+ * 다음 고리의 최소 거리가 힙의 가장 먼 매장보다 멀어지면 탐색을 멈추므로 반경 안의 셀만 확인합니다.
+ * 날짜 변경선과 극지방 부근의 셀은 이어 붙이지 않습니다.
+ */
+final class GeoGrid {
+
+    static final double EARTH_RADIUS_METERS = 6_371_000;
+    private static final double METERS_PER_DEGREE = 111_320;
+    private static final Comparator<Hit> BY_DISTANCE = Comparator.comparingDouble(Hit::distanceMeters).thenComparingLong(Hit::id);
+
+    private final double cellDegrees;
+    private final ConcurrentHashMap<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, double[]> positions = new ConcurrentHashMap<>();
+
+    GeoGrid(double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+    }
+
+    /**
+     * 매장 좌표를 등록하는 메서드입니다. 좌표가 없으면 색인에서 제외합니다.
+     */
+    void put(long id, Double latitude, Double longitude) {
+        remove(id);
+        if (latitude == null || longitude == null) {
+            return;
+        }
+
+        positions.put(id, new double[]{latitude, longitude});
+        cells.computeIfAbsent(cellKey(cellOf(latitude), cellOf(longitude)), key -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+
+    void remove(long id) {
+        double[] position = positions.remove(id);
+        if (position == null) {
+            return;
+        }
+
+        cells.computeIfPresent(cellKey(cellOf(position[0]), cellOf(position[1])), (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    /**
+     * 매장과 기준 좌표 사이의 거리를 반환하는 메서드입니다.
+     *
+     * @return 미터 단위 거리, 좌표가 없는 매장이면 null
+     */
+    Double distance(long id, double latitude, double longitude) {
+        double[] position = positions.get(id);
+        return position == null ? null : distance(latitude, longitude, position[0], position[1]);
+    }
+
+    /**
+     * 반경 안에서 조건을 만족하는 가장 가까운 매장을 거리순으로 반환하는 메서드입니다.
+     *
+     * @param latitude 기준 위도
+     * @param longitude 기준 경도
+     * @param radiusMeters 검색 반경 (미터)
+     * @param limit 최대 매장 수
+     * @param filter 후보 매장 ID 조건
+     * @return 거리순으로 정렬된 매장 목록
+     */
+    List<Hit> nearest(double latitude, double longitude, double radiusMeters, int limit, LongPredicate filter) {
+        double latCellMeters = cellDegrees * METERS_PER_DEGREE;
+        double lonCellMeters = latCellMeters * Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+        int latRings = (int) Math.ceil(radiusMeters / latCellMeters);
+        int lonRings = (int) Math.ceil(radiusMeters / lonCellMeters);
+        int centerLat = cellOf(latitude);
+        int centerLon = cellOf(longitude);
+        double ringMeters = Math.min(latCellMeters, lonCellMeters);
+
+        PriorityQueue<Hit> heap = new PriorityQueue<>(limit + 1, BY_DISTANCE.reversed());
+        Scan scan = new Scan(latitude, longitude, radiusMeters, limit, filter, heap);
+
+        for (int ring = 0; ring <= Math.max(latRings, lonRings); ring++) {
+            if (heap.size() == limit && (ring - 1) * ringMeters > heap.peek().distanceMeters()) {
+                break;
+            }
+
+            for (int dLat = -ring; dLat <= ring; dLat++) {
+                if (Math.abs(dLat) > latRings) {
+                    continue;
+                }
+                boolean edge = Math.abs(dLat) == ring;
+                for (int dLon = -ring; dLon <= ring; dLon += edge ? 1 : Math.max(1, 2 * ring)) {
+                    if (Math.abs(dLon) <= lonRings) {
+                        scan.visit(cells.get(cellKey(centerLat + dLat, centerLon + dLon)));
+                    }
+                }
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(heap);
+        hits.sort(BY_DISTANCE);
+        return hits;
+    }
+
+    /**
+     * 매장과 기준 좌표 사이의 거리를 박싱 없이 반환하는 메서드입니다.
+     *
+     * @return 미터 단위 거리, 좌표가 없는 매장이면 NaN
+     */
+    double distanceOrNaN(long id, double latitude, double longitude) {
+        double[] position = positions.get(id);
+        return position == null ? Double.NaN : distance(latitude, longitude, position[0], position[1]);
+    }
+
+    int size() {
+        return positions.size();
+    }
+
+    static double distance(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private int cellOf(double degrees) {
+        return (int) Math.floor(degrees / cellDegrees);
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+
+    record Hit(long id, double distanceMeters) {
+    }
+
+    private final class Scan {
+
+        private final double latitude;
+        private final double longitude;
+        private final double radiusMeters;
+        private final int limit;
+        private final LongPredicate filter;
+        private final PriorityQueue<Hit> heap;
+
+        private Scan(double latitude, double longitude, double radiusMeters, int limit,
+                     LongPredicate filter, PriorityQueue<Hit> heap) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.radiusMeters = radiusMeters;
+            this.limit = limit;
+            this.filter = filter;
+            this.heap = heap;
+        }
+
+        private void visit(Set<Long> ids) {
+            if (ids == null) {
+                return;
+            }
+
+            for (Long id : ids) {
+                if (!filter.test(id)) {
+                    continue;
+                }
+
+                double[] position = positions.get(id);
+                if (position == null) {
+                    continue;
+                }
+
+                double distance = distance(latitude, longitude, position[0], position[1]);
+                if (distance > radiusMeters) {
+                    continue;
+                }
+
+                heap.offer(new Hit(id, distance));
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+        }
+
+    }
+
+}
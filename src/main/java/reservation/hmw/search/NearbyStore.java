@@ -0,0 +1,10 @@
+package reservation.hmw.search;
+
+/**
+ * 위치 검색 결과입니다.
+ *
+ * @param document 매장 정보
+ * @param distanceMeters 기준 좌표와의 거리 (미터)
+ */
+public record NearbyStore(StoreDocument document, double distanceMeters) {
+}
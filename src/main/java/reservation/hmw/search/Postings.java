@@ -0,0 +1,172 @@
+package reservation.hmw.search;
+
+import java.util.Arrays;
+
+/**
+ * 하나의 토큰이 등장하는 매장 ID 목록(포스팅 리스트)입니다.
+ *
+ * 매장 ID 오름차순으로 정렬된 배열과 매장별 가중치 배열로 구성되며, 변경 시 새 인스턴스를 만들어
+ * 읽는 쪽은 잠금 없이 항상 일관된 목록을 봅니다.
+ */
+final class Postings {
+
+    static final Postings EMPTY = new Postings(new long[0], new float[0]);
+
+    private final long[] ids;
+    private final float[] weights;
+
+    private Postings(long[] ids, float[] weights) {
+        this.ids = ids;
+        this.weights = weights;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    long id(int index) {
+        return ids[index];
+    }
+
+    float weight(int index) {
+        return weights[index];
+    }
+
+    /**
+     * 매장을 추가하거나 가중치를 바꾼 목록을 반환하는 메서드입니다.
+     */
+    Postings with(long id, float weight) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index >= 0) {
+            float[] nextWeights = weights.clone();
+            nextWeights[index] = weight;
+            return new Postings(ids, nextWeights);
+        }
+
+        int insertAt = -index - 1;
+        long[] nextIds = new long[ids.length + 1];
+        float[] nextWeights = new float[weights.length + 1];
+        System.arraycopy(ids, 0, nextIds, 0, insertAt);
+        System.arraycopy(weights, 0, nextWeights, 0, insertAt);
+        nextIds[insertAt] = id;
+        nextWeights[insertAt] = weight;
+        System.arraycopy(ids, insertAt, nextIds, insertAt + 1, ids.length - insertAt);
+        System.arraycopy(weights, insertAt, nextWeights, insertAt + 1, weights.length - insertAt);
+        return new Postings(nextIds, nextWeights);
+    }
+
+    /**
+     * 다른 목록의 매장을 한 번에 합친 목록을 반환하는 메서드입니다.
+     * 두 목록에 같은 매장이 있으면 다른 목록의 가중치를 사용하며, 두 목록을 한 번씩만 복사합니다.
+     */
+    Postings union(Postings other) {
+        if (other.size() == 0) {
+            return this;
+        }
+        if (ids.length == 0) {
+            return other;
+        }
+
+        long[] nextIds = new long[ids.length + other.ids.length];
+        float[] nextWeights = new float[nextIds.length];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < ids.length || j < other.ids.length) {
+            if (j == other.ids.length || (i < ids.length && ids[i] < other.ids[j])) {
+                nextIds[count] = ids[i];
+                nextWeights[count++] = weights[i++];
+            } else {
+                if (i < ids.length && ids[i] == other.ids[j]) {
+                    i++;
+                }
+                nextIds[count] = other.ids[j];
+                nextWeights[count++] = other.weights[j++];
+            }
+        }
+        return count == nextIds.length
+                ? new Postings(nextIds, nextWeights)
+                : new Postings(Arrays.copyOf(nextIds, count), Arrays.copyOf(nextWeights, count));
+    }
+
+    /**
+     * 매장을 제외한 목록을 반환하는 메서드입니다.
+     */
+    Postings without(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return this;
+        }
+        if (ids.length == 1) {
+            return EMPTY;
+        }
+
+        long[] nextIds = new long[ids.length - 1];
+        float[] nextWeights = new float[weights.length - 1];
+        System.arraycopy(ids, 0, nextIds, 0, index);
+        System.arraycopy(weights, 0, nextWeights, 0, index);
+        System.arraycopy(ids, index + 1, nextIds, index, ids.length - index - 1);
+        System.arraycopy(weights, index + 1, nextWeights, index, weights.length - index - 1);
+        return new Postings(nextIds, nextWeights);
+    }
+
+    /**
+     * 여러 매장을 모아 목록을 한 번에 만드는 빌더입니다. 색인을 처음 만들 때처럼 많은 매장을 추가하는 경우
+     * {@link #with(long, float)}를 반복하면 매번 배열 전체를 복사하므로 이 빌더를 사용합니다.
+     */
+    static final class Builder {
+
+        private long[] ids = new long[4];
+        private float[] weights = new float[4];
+        private int size;
+        private boolean sorted = true;
+
+        /**
+         * 매장을 추가하는 메서드입니다. 같은 매장을 다시 추가하면 나중에 추가한 가중치를 사용합니다.
+         */
+        Builder add(long id, float weight) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            if (size > 0 && id <= ids[size - 1]) {
+                sorted = false;
+            }
+            ids[size] = id;
+            weights[size++] = weight;
+            return this;
+        }
+
+        /**
+         * 추가된 매장을 ID 순으로 정렬하여 목록을 만드는 메서드입니다.
+         */
+        Postings build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            if (sorted) {
+                return new Postings(Arrays.copyOf(ids, size), Arrays.copyOf(weights, size));
+            }
+
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> ids[a] != ids[b] ? Long.compare(ids[a], ids[b]) : Integer.compare(a, b));
+
+            long[] sortedIds = new long[size];
+            float[] sortedWeights = new float[size];
+            int count = 0;
+            for (int index : order) {
+                if (count > 0 && sortedIds[count - 1] == ids[index]) {
+                    count--;
+                }
+                sortedIds[count] = ids[index];
+                sortedWeights[count++] = weights[index];
+            }
+            return new Postings(Arrays.copyOf(sortedIds, count), Arrays.copyOf(sortedWeights, count));
+        }
+
+    }
+
+}
@@ -0,0 +1,19 @@
+package reservation.hmw.search;
+
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * 순위 신호가 참고하는 검색 조건입니다.
+ *
+ * @param latitude 기준 위도, 없으면 거리를 반영하지 않습니다.
+ * @param longitude 기준 경도, 없으면 거리를 반영하지 않습니다.
+ * @param nowMillis 검색 시각
+ * @param distanceMeters 매장 ID별 기준 좌표까지의 거리 (미터), 좌표가 없는 매장은 NaN
+ */
+public record RankingQuery(Double latitude, Double longitude, long nowMillis, LongToDoubleFunction distanceMeters) {
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+
+}
@@ -0,0 +1,26 @@
+package reservation.hmw.search;
+
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * 검색 후보의 순위를 정할 때 텍스트 관련도와 함께 반영되는 신호입니다. (예: 평점, 거리, 인기도)
+ *
+ * 빈으로 등록된 신호는 {@link StoreRanker}가 모두 사용하며, 새 신호를 추가할 때 검색 색인은 바꾸지 않아도 됩니다.
+ */
+public interface RankingSignal {
+
+    /**
+     * 최종 점수에 반영되는 가중치를 반환하는 메서드입니다. 0이면 신호를 사용하지 않습니다.
+     */
+    double weight();
+
+    /**
+     * 검색 한 번에 사용할 점수 함수를 준비하는 메서드입니다.
+     * 반환된 함수는 후보마다 호출되므로 객체를 만들지 않아야 하며, 0~1 사이의 값을 반환해야 합니다.
+     *
+     * @param query 검색 조건
+     * @return 매장 ID별 점수 함수, 이 검색에 적용할 수 없으면 null
+     */
+    LongToDoubleFunction prepare(RankingQuery query);
+
+}
@@ -0,0 +1,92 @@
+package reservation.hmw.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 검색어와 매장 필드를 색인 토큰으로 나누는 유틸리티입니다.
+ * 유니코드 정규화(NFKC)와 소문자 변환 후 문자/숫자가 아닌 문자를 기준으로 나눕니다.
+ */
+public final class SearchTokenizer {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * 문자열을 정규화하는 메서드입니다.
+     *
+     * @param text 원본 문자열
+     * @return 정규화된 문자열, null이면 빈 문자열
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).trim();
+    }
+
+    /**
+     * 문자열을 중복 없는 토큰 목록으로 나누는 메서드입니다.
+     *
+     * @param text 원본 문자열
+     * @return 등장 순서대로 정렬된 토큰 목록
+     */
+    public static List<String> tokens(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : SEPARATOR.split(normalized)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    /**
+     * 문자열을 글자 단위 2-gram, 3-gram으로 나누는 메서드입니다.
+     * 형태소 분석 없이도 조사나 어미가 붙은 한국어 단어(예: "파스타가")에서 어간("파스타")을 찾을 수 있도록,
+     * 단어마다 연속된 2글자와 3글자를 모두 토큰으로 만듭니다. 2글자 이하의 단어는 단어 전체를 토큰으로 씁니다.
+     *
+     * @param text 원본 문자열
+     * @return 토큰별 등장 횟수, 등장 순서대로 정렬됩니다.
+     */
+    public static Map<String, Integer> ngrams(String text) {
+        String normalized = normalize(text);
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        if (normalized.isEmpty()) {
+            return frequencies;
+        }
+
+        for (String word : SEPARATOR.split(normalized)) {
+            int[] codePoints = word.codePoints().toArray();
+            if (codePoints.length == 0) {
+                continue;
+            }
+            if (codePoints.length <= 2) {
+                frequencies.merge(word, 1, Integer::sum);
+                continue;
+            }
+            for (int i = 0; i + 2 <= codePoints.length; i++) {
+                frequencies.merge(new String(codePoints, i, 2), 1, Integer::sum);
+                if (i + 3 <= codePoints.length) {
+                    frequencies.merge(new String(codePoints, i, 3), 1, Integer::sum);
+                }
+            }
+        }
+        return frequencies;
+    }
+
+}
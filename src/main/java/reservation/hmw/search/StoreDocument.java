@@ -0,0 +1,45 @@
+package reservation.hmw.search;
+
+import reservation.hmw.model.entity.Store;
+import reservation.hmw.model.entity.Tag;
+
+import java.util.List;
+
+/**
+ * 검색 색인에 보관되는 매장 정보입니다. 검색 결과는 DB 조회 없이 이 값으로 만들어집니다.
+ *
+ * @param id 매장 ID
+ * @param storeName 매장 이름
+ * @param location 매장 위치
+ * @param keyword 매장 키워드
+ * @param description 매장 설명, 전문 검색에 사용됩니다.
+ * @param latitude 매장 위도, 없으면 위치 검색에서 제외됩니다.
+ * @param longitude 매장 경도, 없으면 위치 검색에서 제외됩니다.
+ * @param tags 매장 태그 이름 목록
+ */
+public record StoreDocument(Long id, String storeName, String location, String keyword, String description,
+                            Double latitude, Double longitude, List<String> tags) {
+
+    public StoreDocument {
+        tags = tags == null ? List.of() : List.copyOf(tags);
+    }
+
+    /**
+     * 태그 없이 매장 정보를 만드는 생성자입니다. 태그는 {@link #withTags(List)}로 따로 채웁니다.
+     */
+    public StoreDocument(Long id, String storeName, String location, String keyword, String description,
+                         Double latitude, Double longitude) {
+        this(id, storeName, location, keyword, description, latitude, longitude, List.of());
+    }
+
+    public static StoreDocument from(Store store) {
+        return new StoreDocument(store.getId(), store.getStoreName(), store.getLocation(), store.getKeyword(),
+                store.getStoreDescription(), store.getLatitude(), store.getLongitude(),
+                store.getTags().stream().map(Tag::getName).toList());
+    }
+
+    public StoreDocument withTags(List<String> tags) {
+        return new StoreDocument(id, storeName, location, keyword, description, latitude, longitude, tags);
+    }
+
+}
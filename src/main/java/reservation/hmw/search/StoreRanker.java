@@ -0,0 +1,168 @@
+package reservation.hmw.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * 검색 후보에 텍스트 관련도와 순위 신호({@link RankingSignal})를 가중 합산한 점수를 매겨 상위 k개를 고르는 컴포넌트입니다.
+ *
+ * 텍스트 점수는 후보 중 최고 점수로 나누어 0~1로 맞추고, 각 신호의 점수(0~1)에 가중치를 곱해 더합니다.
+ * 후보 전체를 정렬하지 않고 크기 k의 최소 힙으로 상위 k개만 유지하며, 힙은 기본형 배열이므로
+ * 후보마다 객체를 만들지 않습니다. 점수가 같으면 매장 ID가 작은 순서입니다.
+ */
+@Component
+public class StoreRanker {
+
+    private final double textWeight;
+    private final List<RankingSignal> signals;
+
+    public StoreRanker(@Value("${reservation.ranking.text-weight:1.0}") double textWeight,
+                       List<RankingSignal> signals) {
+        this.textWeight = textWeight;
+        this.signals = List.copyOf(signals);
+    }
+
+    /**
+     * 텍스트 관련도만으로 순위를 정하는 인스턴스를 만드는 메서드입니다.
+     */
+    public static StoreRanker textOnly() {
+        return new StoreRanker(1.0, List.of());
+    }
+
+    /**
+     * 점수가 높은 후보를 순서대로 고르는 메서드입니다.
+     *
+     * @param ids 후보 매장 ID
+     * @param textScores 후보별 텍스트 점수
+     * @param count 후보 수
+     * @param limit 고를 최대 후보 수
+     * @param query 검색 조건
+     * @return 점수 순으로 정렬된 매장 ID
+     */
+    public long[] top(long[] ids, float[] textScores, int count, int limit, RankingQuery query) {
+        int k = Math.min(limit, count);
+        if (k <= 0) {
+            return new long[0];
+        }
+
+        float maxText = 0;
+        for (int i = 0; i < count; i++) {
+            maxText = Math.max(maxText, textScores[i]);
+        }
+        double textFactor = maxText > 0 ? textWeight / maxText : 0;
+
+        List<LongToDoubleFunction> scorers = new ArrayList<>(signals.size());
+        List<Double> weights = new ArrayList<>(signals.size());
+        for (RankingSignal signal : signals) {
+            LongToDoubleFunction scorer = signal.weight() == 0 ? null : signal.prepare(query);
+            if (scorer != null) {
+                scorers.add(scorer);
+                weights.add(signal.weight());
+            }
+        }
+        LongToDoubleFunction[] scorerArray = scorers.toArray(LongToDoubleFunction[]::new);
+        double[] weightArray = weights.stream().mapToDouble(Double::doubleValue).toArray();
+
+        TopK heap = new TopK(k);
+        for (int i = 0; i < count; i++) {
+            long id = ids[i];
+            double score = textScores[i] * textFactor;
+            for (int s = 0; s < scorerArray.length; s++) {
+                score += weightArray[s] * scorerArray[s].applyAsDouble(id);
+            }
+            heap.offer(id, score);
+        }
+        return heap.drainDescending();
+    }
+
+    /**
+     * 크기가 고정된 최소 힙입니다. 루트가 현재 상위 k개 중 가장 낮은 점수입니다.
+     */
+    private static final class TopK {
+
+        private final long[] ids;
+        private final double[] scores;
+        private int size;
+
+        private TopK(int capacity) {
+            this.ids = new long[capacity];
+            this.scores = new double[capacity];
+        }
+
+        private void offer(long id, double score) {
+            if (size < ids.length) {
+                ids[size] = id;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (lower(ids[0], scores[0], id, score)) {
+                ids[0] = id;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        private long[] drainDescending() {
+            long[] result = new long[size];
+            for (int i = size - 1; i >= 0; i--) {
+                result[i] = ids[0];
+                size--;
+                ids[0] = ids[size];
+                scores[0] = scores[size];
+                siftDown(0);
+            }
+            return result;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!lower(ids[index], scores[index], ids[parent], scores[parent])) {
+                    return;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int left = 2 * index + 1;
+                if (left >= size) {
+                    return;
+                }
+                int smallest = left;
+                int right = left + 1;
+                if (right < size && lower(ids[right], scores[right], ids[left], scores[left])) {
+                    smallest = right;
+                }
+                if (!lower(ids[smallest], scores[smallest], ids[index], scores[index])) {
+                    return;
+                }
+                swap(index, smallest);
+                index = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long id = ids[a];
+            ids[a] = ids[b];
+            ids[b] = id;
+            double score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+
+        /**
+         * 순위가 더 낮은지 비교하는 메서드입니다. 점수가 같으면 매장 ID가 큰 쪽이 낮습니다.
+         */
+        private static boolean lower(long id, double score, long otherId, double otherScore) {
+            return score < otherScore || (score == otherScore && id > otherId);
+        }
+
+    }
+
+}
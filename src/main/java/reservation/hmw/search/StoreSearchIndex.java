@@ -0,0 +1,532 @@
+package reservation.hmw.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reservation.hmw.repository.StoreRepository;
+import reservation.hmw.repository.projection.StoreTagView;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 매장 이름, 키워드, 위치의 토큰으로 매장을 찾는 메모리 역색인입니다.
+ *
+ * 토큰별로 매장 ID가 정렬된 포스팅 리스트를 정렬된 사전({@link ConcurrentSkipListMap})에 보관하므로
+ * 완전 일치와 접두사 일치를 모두 사전 탐색으로 처리합니다. 여러 검색어는 AND 조건이며 결과가 가장 적은
+ * 검색어부터 교집합을 구합니다. 매장 이름에 일치하는 경우가 키워드, 위치보다 높은 점수를 받습니다.
+ * 후보의 최종 순위는 {@link StoreRanker}가 텍스트 점수와 순위 신호(평점, 인기도, 거리)를 합산해 정합니다.
+ *
+ * 좌표가 있는 매장은 격자 공간 색인({@link GeoGrid})에도 등록되어 위치 검색과 키워드 조건을 함께 처리합니다.
+ * 매장 태그는 태그별 압축 비트맵({@link TagIndex})으로 보관되어 여러 태그 조건을 비트맵 교집합으로 처리합니다.
+ * 매장 설명은 글자 n-gram 전문 검색 색인({@link DescriptionIndex})에 등록되어 BM25 점수로 검색됩니다.
+ * 매장 이름과 키워드는 자동완성용 압축 트라이({@link SuggestTrie})에도 등록되며, 같은 후보를 쓰는 매장이 많을수록 먼저 제안됩니다.
+ *
+ * 색인은 애플리케이션 시작 시 DB에서 만들고, 이후에는 매장 등록/수정/삭제가 커밋된 뒤에 갱신됩니다.
+ * 쓰기는 하나의 락으로 직렬화되고 읽기는 잠금 없이 수행됩니다.
+ */
+@Slf4j
+@Component
+public class StoreSearchIndex implements MeterBinder {
+
+    static final float NAME_WEIGHT = 3f;
+    static final float KEYWORD_WEIGHT = 2f;
+    static final float LOCATION_WEIGHT = 1f;
+    static final float PREFIX_FACTOR = 0.5f;
+
+    private static final int MAX_PREFIX_EXPANSIONS = 512;
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final double GEO_CELL_DEGREES = 0.01;
+    private static final int DIRECT_GEO_SCAN_LIMIT = 256;
+    private static final int MAX_SUGGEST_SUFFIXES = 4;
+    private static final char SUGGEST_SEPARATOR = '\u0000';
+
+    private final StoreRepository storeRepository;
+    private final StoreRanker ranker;
+    private final ConcurrentSkipListMap<String, Postings> terms = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Long, StoreDocument> documents = new ConcurrentHashMap<>();
+    private final GeoGrid geoGrid = new GeoGrid(GEO_CELL_DEGREES);
+    private final SuggestTrie suggestTrie = new SuggestTrie();
+    private final DescriptionIndex descriptionIndex = new DescriptionIndex();
+    private final TagIndex tagIndex = new TagIndex();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public StoreSearchIndex(StoreRepository storeRepository) {
+        this(storeRepository, StoreRanker.textOnly());
+    }
+
+    @Autowired
+    public StoreSearchIndex(StoreRepository storeRepository, StoreRanker ranker) {
+        this.storeRepository = storeRepository;
+        this.ranker = ranker;
+    }
+
+    /**
+     * 애플리케이션 시작 시 DB의 매장으로 색인을 만드는 메서드입니다.
+     * 매장 ID 순으로 나누어 읽은 뒤 한 번에 색인하므로 토큰별 포스팅 리스트를 한 번씩만 만들며,
+     * 그 사이 갱신된 매장은 덮어쓰지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long afterId = 0;
+        List<StoreDocument> loaded = new ArrayList<>();
+        List<StoreDocument> batch;
+        do {
+            batch = storeRepository.findDocumentsAfter(afterId, PageRequest.ofSize(LOAD_BATCH_SIZE));
+            Map<Long, List<String>> tags = tagsOf(batch);
+            batch.forEach(document -> loaded.add(document.withTags(tags.getOrDefault(document.id(), List.of()))));
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).id();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        indexAll(loaded.stream().filter(document -> !documents.containsKey(document.id())).toList());
+        log.info("매장 검색 색인을 만들었습니다. stores={}, terms={}", loaded.size(), terms.size());
+    }
+
+    /**
+     * 매장을 색인하는 메서드입니다. 이미 색인된 매장이면 이전 내용을 대체합니다.
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 색인합니다.
+     *
+     * @param document 색인할 매장 정보
+     */
+    public void indexAfterCommit(StoreDocument document) {
+        afterCommit(() -> index(document));
+    }
+
+    /**
+     * 매장을 색인에서 제거하는 메서드입니다.
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 제거합니다.
+     *
+     * @param storeId 매장 ID
+     */
+    public void removeAfterCommit(Long storeId) {
+        afterCommit(() -> remove(storeId));
+    }
+
+    /**
+     * 검색어의 모든 토큰과 일치하는 매장을 점수 순으로 조회하는 메서드입니다.
+     * 각 토큰은 완전 일치 또는 접두사 일치로 비교하며, 점수가 같으면 매장 ID 순으로 정렬합니다.
+     *
+     * @param query 검색어
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return 해당 페이지의 매장 목록
+     */
+    public List<StoreDocument> search(String query, int page, int size) {
+        return search(query, List.of(), page, size);
+    }
+
+    /**
+     * 검색어와 태그 조건을 모두 만족하는 매장을 조회하는 메서드입니다.
+     * 태그 조건은 태그별 비트맵의 교집합으로 구하며, 검색어가 없으면 태그 조건만으로 등록 순서대로 조회합니다.
+     *
+     * @param query 검색어, 없으면 태그 조건만 적용합니다.
+     * @param tags 매장이 모두 가지고 있어야 하는 태그 목록
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return 해당 페이지의 매장 목록
+     */
+    public List<StoreDocument> search(String query, Collection<String> tags, int page, int size) {
+        return search(query, tags, null, null, page, size);
+    }
+
+    /**
+     * 검색어와 태그 조건을 모두 만족하는 매장을 종합 점수 순으로 조회하는 메서드입니다.
+     * 종합 점수는 텍스트 관련도에 평점, 인기도 등의 순위 신호를 더한 값이며, 기준 좌표가 있으면 거리도 반영합니다.
+     *
+     * @param query 검색어, 없으면 태그 조건만 적용합니다.
+     * @param tags 매장이 모두 가지고 있어야 하는 태그 목록
+     * @param latitude 기준 위도, 없으면 null
+     * @param longitude 기준 경도, 없으면 null
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return 해당 페이지의 매장 목록
+     */
+    public List<StoreDocument> search(String query, Collection<String> tags, Double latitude, Double longitude,
+                                      int page, int size) {
+        List<String> tokens = SearchTokenizer.tokens(query);
+        if ((tokens.isEmpty() && tags.isEmpty()) || size <= 0 || page < 0) {
+            return List.of();
+        }
+
+        if (tokens.isEmpty()) {
+            return tagIndex.ids(tagIndex.matchAll(tags), (long) page * size, size).stream()
+                    .map(documents::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+        return rank(retainTagged(score(tokens), tags), rankingQuery(latitude, longitude), page, size);
+    }
+
+    /**
+     * 매장 설명의 전문 검색 결과를 BM25 점수 순으로 조회하는 메서드입니다.
+     * 검색어는 글자 2-gram, 3-gram으로 나누어 비교하므로 띄어쓰기나 조사가 달라도 일치하며,
+     * 키워드나 태그가 함께 주어지면 키워드 검색과 태그 조건에 모두 일치하는 매장만 대상으로 합니다.
+     *
+     * @param query 매장 설명 검색어
+     * @param keyword 함께 적용할 키워드, 없으면 null
+     * @param tags 매장이 모두 가지고 있어야 하는 태그 목록
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return 해당 페이지의 매장 목록
+     */
+    public List<StoreDocument> searchDescription(String query, String keyword, Collection<String> tags, int page, int size) {
+        if (size <= 0 || page < 0) {
+            return List.of();
+        }
+
+        Map<Long, Float> scores = descriptionIndex.scores(query);
+        List<String> tokens = SearchTokenizer.tokens(keyword);
+        if (!scores.isEmpty() && !tokens.isEmpty()) {
+            scores.keySet().retainAll(score(tokens).keySet());
+        }
+        return rank(retainTagged(scores, tags), rankingQuery(null, null), page, size);
+    }
+
+    /**
+     * 기준 좌표에서 반경 안에 있는 가장 가까운 매장을 거리순으로 조회하는 메서드입니다.
+     * 검색어가 있으면 모든 검색어와 일치하는 매장만 대상으로 하며, 일치하는 매장이 적으면 격자 대신 후보만 거리 계산합니다.
+     *
+     * @param latitude 기준 위도
+     * @param longitude 기준 경도
+     * @param radiusMeters 검색 반경 (미터)
+     * @param query 검색어, 없으면 모든 매장이 대상입니다.
+     * @param limit 최대 매장 수
+     * @return 거리순으로 정렬된 매장 목록
+     */
+    public List<NearbyStore> nearby(double latitude, double longitude, double radiusMeters, String query, int limit) {
+        List<String> tokens = SearchTokenizer.tokens(query);
+        List<GeoGrid.Hit> hits;
+
+        if (tokens.isEmpty()) {
+            hits = geoGrid.nearest(latitude, longitude, radiusMeters, limit, id -> true);
+        } else {
+            Map<Long, Float> scores = score(tokens);
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+            hits = scores.size() <= DIRECT_GEO_SCAN_LIMIT
+                    ? nearestOf(scores.keySet(), latitude, longitude, radiusMeters, limit)
+                    : geoGrid.nearest(latitude, longitude, radiusMeters, limit, scores::containsKey);
+        }
+
+        List<NearbyStore> nearby = new ArrayList<>(hits.size());
+        for (GeoGrid.Hit hit : hits) {
+            StoreDocument document = documents.get(hit.id());
+            if (document != null) {
+                nearby.add(new NearbyStore(document, hit.distanceMeters()));
+            }
+        }
+        return nearby;
+    }
+
+    /**
+     * 접두사로 시작하는 매장 이름과 키워드를 많이 쓰이는 순으로 조회하는 메서드입니다.
+     * 매장 이름은 단어 중간부터 입력해도(예: "강남 치킨"의 "치킨") 제안됩니다.
+     *
+     * @param prefix 입력 중인 접두사
+     * @param limit 최대 후보 수
+     * @return 자동완성 후보 목록
+     */
+    public List<String> suggest(String prefix, int limit) {
+        String key = String.join(" ", SearchTokenizer.tokens(prefix));
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        return suggestTrie.suggest(key, limit);
+    }
+
+    /**
+     * 색인된 매장 정보를 반환하는 메서드입니다.
+     *
+     * @param storeId 매장 ID
+     * @return 매장 정보, 색인되지 않은 매장이면 null
+     */
+    public StoreDocument document(Long storeId) {
+        return documents.get(storeId);
+    }
+
+    /**
+     * 색인된 매장 수를 반환하는 메서드입니다.
+     */
+    public int size() {
+        return documents.size();
+    }
+
+    void index(StoreDocument document) {
+        writeLock.lock();
+        try {
+            StoreDocument previous = documents.put(document.id(), document);
+            if (previous != null) {
+                removeTerms(previous);
+            }
+            weightsOf(document).forEach((term, weight) ->
+                    terms.merge(term, Postings.EMPTY.with(document.id(), weight),
+                            (current, ignored) -> current.with(document.id(), weight)));
+            indexFields(document);
+            descriptionIndex.index(document.id(), document.description());
+            tagIndex.add(Map.of(document.id(), document.tags()));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 여러 매장을 한 번에 색인하는 메서드입니다. 토큰과 설명 n-gram별로 추가되는 매장을 모아 포스팅 리스트를
+     * 한 번씩만 다시 만들므로, 매장마다 배열을 복사하거나 압축된 목록을 다시 쓰지 않습니다.
+     */
+    void indexAll(List<StoreDocument> batch) {
+        Map<Long, StoreDocument> latest = new LinkedHashMap<>();
+        batch.forEach(document -> latest.put(document.id(), document));
+
+        writeLock.lock();
+        try {
+            Map<Long, List<String>> tags = new HashMap<>();
+            Map<Long, String> descriptions = new HashMap<>();
+            Map<String, Postings.Builder> added = new HashMap<>();
+            for (StoreDocument document : latest.values()) {
+                StoreDocument previous = documents.put(document.id(), document);
+                if (previous != null) {
+                    removeTerms(previous);
+                }
+                weightsOf(document).forEach((term, weight) ->
+                        added.computeIfAbsent(term, key -> new Postings.Builder()).add(document.id(), weight));
+                indexFields(document);
+                descriptions.put(document.id(), document.description());
+                tags.put(document.id(), document.tags());
+            }
+            added.forEach((term, builder) -> terms.merge(term, builder.build(), Postings::union));
+            descriptionIndex.indexAll(descriptions);
+            tagIndex.add(tags);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    void remove(Long storeId) {
+        writeLock.lock();
+        try {
+            StoreDocument previous = documents.remove(storeId);
+            if (previous != null) {
+                removeTerms(previous);
+            }
+            geoGrid.remove(storeId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private List<StoreDocument> rank(Map<Long, Float> scores, RankingQuery query, int page, int size) {
+        long offset = (long) page * size;
+        if (offset >= scores.size()) {
+            return List.of();
+        }
+
+        long[] ids = new long[scores.size()];
+        float[] textScores = new float[scores.size()];
+        int count = 0;
+        for (Map.Entry<Long, Float> entry : scores.entrySet()) {
+            ids[count] = entry.getKey();
+            textScores[count++] = entry.getValue();
+        }
+
+        long[] ranked = ranker.top(ids, textScores, count, (int) Math.min(offset + size, count), query);
+        List<StoreDocument> result = new ArrayList<>(size);
+        for (int i = (int) offset; i < ranked.length; i++) {
+            StoreDocument document = documents.get(ranked[i]);
+            if (document != null) {
+                result.add(document);
+            }
+        }
+        return result;
+    }
+
+    private RankingQuery rankingQuery(Double latitude, Double longitude) {
+        return new RankingQuery(latitude, longitude, System.currentTimeMillis(), latitude == null || longitude == null
+                ? id -> Double.NaN
+                : id -> geoGrid.distanceOrNaN(id, latitude, longitude));
+    }
+
+    private Map<Long, Float> retainTagged(Map<Long, Float> scores, Collection<String> tags) {
+        if (scores.isEmpty() || tags.isEmpty()) {
+            return scores;
+        }
+
+        RoaringBitmap tagged = tagIndex.matchAll(tags);
+        Map<Long, Float> retained = new HashMap<>();
+        scores.forEach((id, score) -> {
+            if (tagIndex.contains(tagged, id)) {
+                retained.put(id, score);
+            }
+        });
+        return retained;
+    }
+
+    private Map<Long, List<String>> tagsOf(List<StoreDocument> batch) {
+        Map<Long, List<String>> tags = new HashMap<>();
+        if (batch.isEmpty()) {
+            return tags;
+        }
+
+        for (StoreTagView view : storeRepository.findTagsByStoreIdIn(batch.stream().map(StoreDocument::id).toList())) {
+            tags.computeIfAbsent(view.getStoreId(), id -> new ArrayList<>()).add(view.getTagName());
+        }
+        return tags;
+    }
+
+    private Map<Long, Float> score(List<String> tokens) {
+        List<Map<Long, Float>> matches = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            Map<Long, Float> match = matchesOf(token);
+            if (match.isEmpty()) {
+                return Map.of();
+            }
+            matches.add(match);
+        }
+        matches.sort(Comparator.comparingInt(Map::size));
+
+        Map<Long, Float> scores = new HashMap<>(matches.get(0));
+        for (Map<Long, Float> match : matches.subList(1, matches.size())) {
+            scores.keySet().retainAll(match.keySet());
+            scores.replaceAll((id, score) -> score + match.get(id));
+            if (scores.isEmpty()) {
+                return Map.of();
+            }
+        }
+        return scores;
+    }
+
+    private List<GeoGrid.Hit> nearestOf(Collection<Long> ids, double latitude, double longitude,
+                                        double radiusMeters, int limit) {
+        List<GeoGrid.Hit> hits = new ArrayList<>();
+        for (Long id : ids) {
+            Double distance = geoGrid.distance(id, latitude, longitude);
+            if (distance != null && distance <= radiusMeters) {
+                hits.add(new GeoGrid.Hit(id, distance));
+            }
+        }
+        hits.sort(Comparator.comparingDouble(GeoGrid.Hit::distanceMeters).thenComparingLong(GeoGrid.Hit::id));
+        return hits.size() > limit ? hits.subList(0, limit) : hits;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("store.search.documents", documents, Map::size)
+                .description("Stores held in the in-memory search index")
+                .register(registry);
+        Gauge.builder("store.search.suggest.bytes", suggestTrie, SuggestTrie::estimatedBytes)
+                .description("Estimated heap footprint of the store name autocomplete trie")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("store.search.suggest.entries", suggestTrie, SuggestTrie::size)
+                .description("Autocomplete entries in the store name trie")
+                .register(registry);
+        Gauge.builder("store.search.tags", tagIndex, TagIndex::tags)
+                .description("Distinct tags in the store tag bitmap index")
+                .register(registry);
+        Gauge.builder("store.search.tags.bytes", tagIndex, TagIndex::bytes)
+                .description("Serialized size of the store tag bitmaps")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("store.search.fulltext.terms", descriptionIndex, DescriptionIndex::terms)
+                .description("Distinct n-grams in the store description full-text index")
+                .register(registry);
+        Gauge.builder("store.search.fulltext.posting.bytes", descriptionIndex, DescriptionIndex::postingBytes)
+                .description("Compressed posting size of the store description full-text index")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private void updateSuggestions(StoreDocument document, long delta) {
+        List<String> nameTokens = SearchTokenizer.tokens(document.storeName());
+        for (int i = 0; i < Math.min(nameTokens.size(), MAX_SUGGEST_SUFFIXES); i++) {
+            addSuggestion(String.join(" ", nameTokens.subList(i, nameTokens.size())), document.storeName(), delta);
+        }
+        addSuggestion(String.join(" ", SearchTokenizer.tokens(document.keyword())), document.keyword(), delta);
+    }
+
+    private void addSuggestion(String key, String text, long delta) {
+        if (key.isEmpty()) {
+            return;
+        }
+        // 같은 키라도 보여줄 문자열이 다르면(매장 이름과 키워드 등) 별도의 후보로 집계합니다.
+        suggestTrie.add(key + SUGGEST_SEPARATOR + SearchTokenizer.normalize(text), text.trim(), delta);
+    }
+
+    private void indexFields(StoreDocument document) {
+        geoGrid.put(document.id(), document.latitude(), document.longitude());
+        updateSuggestions(document, 1);
+    }
+
+    private void removeTerms(StoreDocument document) {
+        updateSuggestions(document, -1);
+        descriptionIndex.remove(document.id(), document.description());
+        tagIndex.remove(document.id(), document.tags());
+        for (String term : weightsOf(document).keySet()) {
+            terms.computeIfPresent(term, (key, postings) -> {
+                Postings next = postings.without(document.id());
+                return next.size() == 0 ? null : next;
+            });
+        }
+    }
+
+    private Map<Long, Float> matchesOf(String token) {
+        Map<Long, Float> match = new HashMap<>();
+        int expansions = 0;
+        for (Map.Entry<String, Postings> entry : terms.subMap(token, true, token + Character.MAX_VALUE, true).entrySet()) {
+            boolean exact = entry.getKey().equals(token);
+            if (!exact && ++expansions > MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+
+            float factor = exact ? 1f : PREFIX_FACTOR;
+            Postings postings = entry.getValue();
+            for (int i = 0; i < postings.size(); i++) {
+                match.merge(postings.id(i), postings.weight(i) * factor, Math::max);
+            }
+        }
+        return match;
+    }
+
+    private Map<String, Float> weightsOf(StoreDocument document) {
+        Map<String, Float> weights = new HashMap<>();
+        SearchTokenizer.tokens(document.storeName()).forEach(token -> weights.merge(token, NAME_WEIGHT, Float::sum));
+        SearchTokenizer.tokens(document.keyword()).forEach(token -> weights.merge(token, KEYWORD_WEIGHT, Float::sum));
+        SearchTokenizer.tokens(document.location()).forEach(token -> weights.merge(token, LOCATION_WEIGHT, Float::sum));
+        return weights;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+}
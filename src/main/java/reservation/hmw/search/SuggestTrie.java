@@ -0,0 +1,268 @@
+package reservation.hmw.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 자동완성 후보를 보관하는 압축 트라이(radix tree)입니다.
+ *
+ * 자식이 하나뿐인 경로는 하나의 간선 문자열로 합쳐 노드 수를 줄이고, 노드마다 하위 트리의 최대 가중치를 기록하여
+ * 접두사 아래에서 가중치가 높은 후보부터 꺼냅니다(best-first). 변경 시에는 바뀐 경로의 노드만 새로 만들고
+ * 루트를 교체하므로 읽는 쪽은 잠금 없이 항상 완성된 트리를 봅니다. 쓰기는 호출하는 쪽에서 직렬화해야 합니다.
+ */
+final class SuggestTrie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private volatile Node root = new Node("", NO_CHILDREN, null, 0);
+    private int size;
+
+    /**
+     * 후보의 가중치를 더하는 메서드입니다. 가중치가 0 이하가 되면 후보를 제거합니다.
+     *
+     * @param key 정규화된 후보 키
+     * @param text 사용자에게 보여줄 후보 문자열
+     * @param delta 더할 가중치
+     */
+    void add(String key, String text, long delta) {
+        if (key.isEmpty() || delta == 0) {
+            return;
+        }
+        root = update(root, key, text, delta, true);
+    }
+
+    /**
+     * 접두사로 시작하는 후보를 가중치가 높은 순으로 반환하는 메서드입니다.
+     *
+     * @param prefix 정규화된 접두사
+     * @param limit 최대 후보 수
+     * @return 중복 없는 후보 문자열 목록
+     */
+    List<String> suggest(String prefix, int limit) {
+        Node node = root;
+        String rest = prefix;
+        while (!rest.isEmpty()) {
+            Node child = node.child(rest.charAt(0));
+            if (child == null) {
+                return List.of();
+            }
+
+            int common = commonPrefix(child.label, rest);
+            if (common == rest.length()) {
+                node = child;
+                break;
+            }
+            if (common < child.label.length()) {
+                return List.of();
+            }
+            node = child;
+            rest = rest.substring(common);
+        }
+
+        Set<String> suggestions = new LinkedHashSet<>();
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(Candidate.ORDER);
+        queue.offer(new Candidate(node, null, node.maxWeight));
+        while (!queue.isEmpty() && suggestions.size() < limit) {
+            Candidate candidate = queue.poll();
+            if (candidate.text != null) {
+                suggestions.add(candidate.text);
+                continue;
+            }
+
+            Node current = candidate.node;
+            if (current.text != null) {
+                queue.offer(new Candidate(null, current.text, current.weight));
+            }
+            for (Node child : current.children) {
+                queue.offer(new Candidate(child, null, child.maxWeight));
+            }
+        }
+        return new ArrayList<>(suggestions);
+    }
+
+    /**
+     * 보관 중인 후보 수를 반환하는 메서드입니다.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * 트리가 차지하는 메모리를 대략적으로 계산하는 메서드입니다.
+     * 64비트 JVM의 압축 참조를 기준으로 노드, 간선 문자열, 자식 배열의 크기를 더합니다.
+     *
+     * @return 바이트 단위 추정치
+     */
+    long estimatedBytes() {
+        long bytes = 0;
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            bytes += 32 + stringBytes(node.label) + 16 + 4L * node.children.length;
+            if (node.text != null) {
+                bytes += stringBytes(node.text);
+            }
+            for (Node child : node.children) {
+                stack.push(child);
+            }
+        }
+        return bytes;
+    }
+
+    private Node update(Node node, String rest, String text, long delta, boolean isRoot) {
+        if (rest.isEmpty()) {
+            long weight = node.weight + delta;
+            if (node.text == null && delta > 0) {
+                size++;
+            } else if (node.text != null && weight <= 0) {
+                size--;
+            }
+            Node updated = weight > 0
+                    ? new Node(node.label, node.children, delta > 0 ? text : node.text, weight)
+                    : new Node(node.label, node.children, null, 0);
+            return compact(updated, isRoot);
+        }
+
+        int index = node.childIndex(rest.charAt(0));
+        if (index < 0) {
+            if (delta < 0) {
+                return node;
+            }
+            size++;
+            return node.withChild(-index - 1, new Node(rest, NO_CHILDREN, text, delta), true);
+        }
+
+        Node child = node.children[index];
+        int common = commonPrefix(child.label, rest);
+        if (common == child.label.length()) {
+            Node updated = update(child, rest.substring(common), text, delta, false);
+            return compact(updated == null ? node.withoutChild(index) : node.withChild(index, updated, false), isRoot);
+        }
+
+        if (delta < 0) {
+            return node;
+        }
+
+        Node tail = new Node(child.label.substring(common), child.children, child.text, child.weight);
+        Node split;
+        if (common == rest.length()) {
+            size++;
+            split = new Node(child.label.substring(0, common), new Node[]{tail}, text, delta);
+        } else {
+            size++;
+            Node leaf = new Node(rest.substring(common), NO_CHILDREN, text, delta);
+            Node[] children = tail.label.charAt(0) < leaf.label.charAt(0) ? new Node[]{tail, leaf} : new Node[]{leaf, tail};
+            split = new Node(child.label.substring(0, common), children, null, 0);
+        }
+        return node.withChild(index, split, false);
+    }
+
+    private Node compact(Node node, boolean isRoot) {
+        if (isRoot || node.text != null) {
+            return node;
+        }
+        if (node.children.length == 0) {
+            return null;
+        }
+        if (node.children.length == 1) {
+            Node child = node.children[0];
+            return new Node(node.label + child.label, child.children, child.text, child.weight);
+        }
+        return node;
+    }
+
+    private static int commonPrefix(String a, String b) {
+        int max = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < max && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static long stringBytes(String value) {
+        return 24 + 16 + value.length() * 2L;
+    }
+
+    private static final class Node {
+
+        private final String label;
+        private final Node[] children;
+        private final String text;
+        private final long weight;
+        private final long maxWeight;
+
+        private Node(String label, Node[] children, String text, long weight) {
+            this.label = label;
+            this.children = children;
+            this.text = text;
+            this.weight = weight;
+
+            long max = text == null ? 0 : weight;
+            for (Node child : children) {
+                max = Math.max(max, child.maxWeight);
+            }
+            this.maxWeight = max;
+        }
+
+        private Node child(char first) {
+            int index = childIndex(first);
+            return index < 0 ? null : children[index];
+        }
+
+        private int childIndex(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char c = children[mid].label.charAt(0);
+                if (c < first) {
+                    low = mid + 1;
+                } else if (c > first) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private Node withChild(int index, Node child, boolean insert) {
+            Node[] next;
+            if (insert) {
+                next = new Node[children.length + 1];
+                System.arraycopy(children, 0, next, 0, index);
+                System.arraycopy(children, index, next, index + 1, children.length - index);
+            } else {
+                next = Arrays.copyOf(children, children.length);
+            }
+            next[index] = child;
+            return new Node(label, next, text, weight);
+        }
+
+        private Node withoutChild(int index) {
+            Node[] next = new Node[children.length - 1];
+            System.arraycopy(children, 0, next, 0, index);
+            System.arraycopy(children, index + 1, next, index, children.length - index - 1);
+            return new Node(label, next.length == 0 ? NO_CHILDREN : next, text, weight);
+        }
+
+    }
+
+    private record Candidate(Node node, String text, long weight) {
+
+        private static final Comparator<Candidate> ORDER = Comparator.comparingLong(Candidate::weight).reversed()
+                .thenComparing(candidate -> candidate.text == null ? 0 : 1, Comparator.reverseOrder())
+                .thenComparing(candidate -> candidate.text == null ? "" : candidate.text);
+
+    }
+
+}
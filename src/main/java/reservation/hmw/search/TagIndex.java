@@ -0,0 +1,171 @@
+package reservation.hmw.search;
+
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태그별로 매장 집합을 압축 비트맵({@link RoaringBitmap})으로 보관하는 색인입니다.
+ *
+ * 매장 ID에 0부터 연속된 순번(ordinal)을 붙여 비트 위치로 쓰므로, 여러 태그 조건은 비트맵의 AND 연산으로 처리되고
+ * 10만 개 매장의 태그도 태그당 수 KB 안에 보관됩니다. 순번은 재사용하지 않습니다.
+ *
+ * 비트맵은 변경 시 복사본을 만들어 교체하므로 읽는 쪽은 잠금 없이 항상 완성된 비트맵을 봅니다.
+ * 쓰기는 호출하는 쪽에서 직렬화해야 합니다.
+ */
+final class TagIndex {
+
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    private final ConcurrentHashMap<String, RoaringBitmap> bitmaps = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Integer> ordinals = new ConcurrentHashMap<>();
+    private volatile long[] ids = new long[1024];
+    private int nextOrdinal;
+
+    /**
+     * 매장들에 태그를 등록하는 메서드입니다.
+     * 태그마다 비트맵을 한 번만 복사하므로 시작 시 색인을 만들 때처럼 많은 매장을 한꺼번에 등록할 때 사용합니다.
+     *
+     * @param tagsByStore 매장 ID별 태그 목록
+     */
+    void add(Map<Long, ? extends Collection<String>> tagsByStore) {
+        Map<String, List<Integer>> ordinalsByTag = new HashMap<>();
+        tagsByStore.forEach((id, tags) -> {
+            if (tags.isEmpty()) {
+                return;
+            }
+            int ordinal = ordinalFor(id);
+            for (String tag : tags) {
+                ordinalsByTag.computeIfAbsent(SearchTokenizer.normalize(tag), key -> new ArrayList<>()).add(ordinal);
+            }
+        });
+
+        ordinalsByTag.forEach((tag, added) -> bitmaps.compute(tag, (key, current) -> {
+            RoaringBitmap next = current == null ? new RoaringBitmap() : current.clone();
+            added.forEach(next::add);
+            next.runOptimize();
+            return next;
+        }));
+    }
+
+    /**
+     * 매장에서 태그를 제거하는 메서드입니다.
+     */
+    void remove(long id, Collection<String> tags) {
+        Integer ordinal = ordinals.get(id);
+        if (ordinal == null) {
+            return;
+        }
+
+        for (String tag : tags) {
+            bitmaps.computeIfPresent(SearchTokenizer.normalize(tag), (key, current) -> {
+                RoaringBitmap next = current.clone();
+                next.remove(ordinal);
+                return next.isEmpty() ? null : next;
+            });
+        }
+    }
+
+    /**
+     * 모든 태그를 가진 매장의 순번 비트맵을 반환하는 메서드입니다.
+     * 매장 수가 적은 태그부터 교집합을 구하며, 결과가 비면 즉시 멈춥니다.
+     *
+     * @param tags 태그 이름 목록
+     * @return 순번 비트맵, 태그가 없으면 빈 비트맵
+     */
+    RoaringBitmap matchAll(Collection<String> tags) {
+        List<RoaringBitmap> matches = new ArrayList<>(tags.size());
+        for (String tag : tags) {
+            RoaringBitmap bitmap = bitmaps.get(SearchTokenizer.normalize(tag));
+            if (bitmap == null) {
+                return EMPTY;
+            }
+            matches.add(bitmap);
+        }
+        if (matches.isEmpty()) {
+            return EMPTY;
+        }
+
+        matches.sort(Comparator.comparingLong(RoaringBitmap::getLongCardinality));
+        RoaringBitmap result = matches.get(0).clone();
+        for (RoaringBitmap bitmap : matches.subList(1, matches.size())) {
+            result.and(bitmap);
+            if (result.isEmpty()) {
+                return EMPTY;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 매장이 비트맵에 포함되는지 확인하는 메서드입니다.
+     */
+    boolean contains(RoaringBitmap bitmap, long id) {
+        Integer ordinal = ordinals.get(id);
+        return ordinal != null && bitmap.contains(ordinal);
+    }
+
+    /**
+     * 비트맵에 포함된 매장 ID를 순번 순서로 반환하는 메서드입니다.
+     *
+     * @param bitmap 순번 비트맵
+     * @param offset 건너뛸 매장 수
+     * @param limit 최대 매장 수
+     * @return 매장 ID 목록
+     */
+    List<Long> ids(RoaringBitmap bitmap, long offset, int limit) {
+        long[] snapshot = ids;
+        List<Long> result = new ArrayList<>(Math.min(limit, bitmap.getCardinality()));
+        IntIterator iterator = bitmap.getIntIterator();
+        long skipped = 0;
+        while (iterator.hasNext() && result.size() < limit) {
+            int ordinal = iterator.next();
+            if (skipped++ < offset) {
+                continue;
+            }
+            result.add(snapshot[ordinal]);
+        }
+        return result;
+    }
+
+    int tags() {
+        return bitmaps.size();
+    }
+
+    /**
+     * 태그 비트맵이 차지하는 바이트 수의 합을 반환하는 메서드입니다.
+     */
+    long bytes() {
+        long bytes = 0;
+        for (RoaringBitmap bitmap : bitmaps.values()) {
+            bytes += bitmap.getLongSizeInBytes();
+        }
+        return bytes;
+    }
+
+    private int ordinalFor(long id) {
+        Integer ordinal = ordinals.get(id);
+        if (ordinal != null) {
+            return ordinal;
+        }
+
+        int assigned = nextOrdinal++;
+        long[] current = ids;
+        if (assigned >= current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        current[assigned] = id;
+        ids = current;
+        ordinals.put(id, assigned);
+        return assigned;
+    }
+
+}
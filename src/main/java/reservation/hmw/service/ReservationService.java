@@ -1,21 +1,67 @@
 package reservation.hmw.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import reservation.hmw.cache.StoreSnapshot;
+import reservation.hmw.checkin.CheckInEntry;
+import reservation.hmw.checkin.CheckInIndex;
 import reservation.hmw.exception.CustomException;
 import reservation.hmw.exception.ErrorCode;
+import reservation.hmw.inventory.ReservationHoldManager;
+import reservation.hmw.inventory.SlotInventory;
+import reservation.hmw.inventory.WaitlistPromoter;
+import reservation.hmw.inventory.WaitlistRegistry;
+import reservation.hmw.model.entity.Partner;
 import reservation.hmw.model.entity.Reservation;
+import reservation.hmw.model.entity.ReservationTransition;
 import reservation.hmw.model.entity.Store;
 import reservation.hmw.model.entity.User;
 import reservation.hmw.model.entity.dto.ConfirmReservationDto;
+import reservation.hmw.model.entity.dto.CursorSliceDto;
+import reservation.hmw.model.entity.dto.RecurringReservationDto;
+import reservation.hmw.model.entity.dto.ReservationDecisionDto;
+import reservation.hmw.model.entity.dto.ReservationHoldDto;
 import reservation.hmw.model.entity.dto.ReservationDto;
+import reservation.hmw.model.entity.dto.ReservationWaitlistDto;
+import reservation.hmw.model.entity.dto.StoreReservationDto;
+import reservation.hmw.model.entity.enums.ReservationDecisionResult;
+import reservation.hmw.model.entity.enums.ReservationEventType;
 import reservation.hmw.model.entity.enums.ReservationStatus;
+import reservation.hmw.pagination.Cursor;
 import reservation.hmw.repository.ReservationRepository;
+import reservation.hmw.repository.ReservationTransitionRepository;
 import reservation.hmw.repository.StoreRepository;
 import reservation.hmw.repository.UserRepository;
+import reservation.hmw.repository.projection.ReservationDecisionView;
+import reservation.hmw.repository.projection.StoreNameView;
+import reservation.hmw.repository.projection.StoreReservationView;
+import reservation.hmw.stream.ReservationEvent;
+import reservation.hmw.stream.ReservationEventHub;
+import reservation.hmw.trending.TrendingStores;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 예약 서비스 클래스입니다.
@@ -25,78 +71,603 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class ReservationService {
 
+    private static final Duration CHECK_IN_WINDOW = Duration.ofMinutes(10);
+    private static final int MAX_TRANSITION_ATTEMPTS = 3;
+
     private final ReservationRepository reservationRepository;
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
+    private final SlotInventory slotInventory;
+    private final ReservationHoldManager holdManager;
+    private final CheckInIndex checkInIndex;
+    private final WaitlistRegistry waitlistRegistry;
+    private final WaitlistPromoter waitlistPromoter;
+    private final ReservationTransitionRepository transitionRepository;
+    private final ReservationTransitionMetrics transitionMetrics;
+    private final TransactionOperations transactionOperations;
+    private final ReservationEventHub eventHub;
+    private final TrendingStores trendingStores;
 
     /**
      * 예약을 생성하는 메서드입니다.
      *
      * @param dtoRequest 예약 생성 요청 정보를 포함하는 DTO
      * @return 예약 생성 결과를 포함하는 응답 DTO
-     * @throws CustomException 매장이나 사용자를 찾을 수 없는 경우 예외를 발생시킵니다.
+     * @throws CustomException 매장이나 사용자를 찾을 수 없거나 해당 시간대가 마감된 경우 예외를 발생시킵니다.
      */
     @Transactional
     public ReservationDto.Response createReservation(ReservationDto.Request dtoRequest) {
-        Store findStore = storeRepository.findById(dtoRequest.getStoreId())
+        SavedReservation saved = reserveSlot(dtoRequest, ReservationStatus.PENDING, null);
+        Reservation reservation = saved.reservation();
+        eventHub.publishAfterCommit(List.of(ReservationEvent.of(ReservationEventType.CREATED, reservation)));
+        trendingStores.recordReservation(dtoRequest.getStoreId());
+
+        return ReservationDto.Response.builder()
+                .storeName(saved.store().getStoreName())
+                .userName(saved.userName())
+                .location(saved.store().getLocation())
+                .reservationTime(reservation.getReservationTime())
+                .build();
+    }
+
+    /**
+     * 같은 요일, 같은 시간의 반복 예약을 한 번에 생성하는 메서드입니다.
+     * 모든 예약 시간의 슬롯을 한 번에 확인하고 예약 가능한 시간만 한 번의 배치로 저장하므로,
+     * 반복 횟수와 관계없이 조회 수가 일정합니다. 마감된 시간은 응답의 conflicts로 알려 줍니다.
+     *
+     * @param dtoRequest 반복 예약 요청 정보를 포함하는 DTO
+     * @return 생성된 예약과 마감되어 제외된 시간을 포함하는 응답 DTO
+     * @throws CustomException 매장이나 사용자를 찾을 수 없거나 모든 시간대가 마감된 경우 예외를 발생시킵니다.
+     */
+    @Transactional
+    public RecurringReservationDto.Response createRecurringReservation(RecurringReservationDto.Request dtoRequest) {
+        Long storeId = dtoRequest.getStoreId();
+        Long userId = dtoRequest.getUserId();
+
+        StoreNameView store = storeRepository.findNameById(storeId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_STORE));
 
-        User findUser = userRepository.findById(dtoRequest.getUserId())
+        String userName = userRepository.findNameById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
 
-        Reservation reservation = reservationRepository.save(Reservation.builder()
-                .store(findStore)
-                .user(findUser)
-                .reservationTime(dtoRequest.getReservationTime())
-                .reservationStatus(ReservationStatus.PENDING)
-                .build());
+        List<LocalDateTime> times = occurrences(dtoRequest);
+        boolean[] acquired = slotInventory.tryAcquireAll(storeId, times, () -> findStoreById(storeId));
 
-        findStore.getReservationList().add(reservation);
+        Store storeReference = storeRepository.getReferenceById(storeId);
+        User userReference = userRepository.getReferenceById(userId);
+        List<Reservation> reservations = new ArrayList<>(times.size());
+        List<LocalDateTime> conflicts = new ArrayList<>();
+        for (int i = 0; i < times.size(); i++) {
+            LocalDateTime time = times.get(i);
+            if (!acquired[i]) {
+                conflicts.add(time);
+                continue;
+            }
 
-        return ReservationDto.Response.builder()
-                .storeName(findStore.getStoreName())
-                .userName(findUser.getName())
-                .location(findStore.getLocation())
+            slotInventory.releaseOnRollback(storeId, time);
+            reservations.add(Reservation.builder()
+                    .store(storeReference)
+                    .user(userReference)
+                    .reservationTime(time)
+                    .reservationStatus(ReservationStatus.PENDING)
+                    .build());
+        }
+
+        if (reservations.isEmpty()) {
+            throw new CustomException(ErrorCode.RESERVATION_SLOT_FULL);
+        }
+
+        List<Reservation> saved = reservationRepository.saveAll(reservations);
+        eventHub.publishAfterCommit(saved.stream()
+                .map(reservation -> ReservationEvent.of(ReservationEventType.CREATED, reservation))
+                .toList());
+        trendingStores.recordReservation(storeId);
+
+        return RecurringReservationDto.Response.builder()
+                .storeName(store.getStoreName())
+                .location(store.getLocation())
+                .userName(userName)
+                .reserved(saved.stream()
+                        .map(reservation -> RecurringReservationDto.Occurrence.builder()
+                                .reservationId(reservation.getId())
+                                .reservationTime(reservation.getReservationTime())
+                                .build())
+                        .toList())
+                .conflicts(conflicts)
+                .build();
+    }
+
+    /**
+     * 임시 예약(HOLD)을 생성하는 메서드입니다.
+     * 임시 예약은 시간대의 수용 인원을 점유하며, 정해진 시간 안에 확정되지 않으면 자동으로 만료됩니다.
+     *
+     * @param dtoRequest 예약 생성 요청 정보를 포함하는 DTO
+     * @return 임시 예약 ID와 만료 시간을 포함하는 응답 DTO
+     * @throws CustomException 매장이나 사용자를 찾을 수 없거나 해당 시간대가 마감된 경우 예외를 발생시킵니다.
+     */
+    @Transactional
+    public ReservationHoldDto.Response createHold(ReservationDto.Request dtoRequest) {
+        SavedReservation saved = reserveSlot(dtoRequest, ReservationStatus.HOLD, holdManager.nextExpiration());
+        Reservation reservation = saved.reservation();
+        holdManager.schedule(reservation);
+
+        return ReservationHoldDto.Response.builder()
+                .reservationId(reservation.getId())
+                .storeName(saved.store().getStoreName())
+                .userName(saved.userName())
                 .reservationTime(reservation.getReservationTime())
+                .expiresAt(reservation.getExpiresAt())
                 .build();
     }
 
-    public ConfirmReservationDto.Response confirmReservation(ConfirmReservationDto.Request confirmForm) {
-        User findUser = userRepository.findByPhone(confirmForm.getPhone())
-                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
+    /**
+     * 임시 예약을 승인 대기(PENDING) 예약으로 확정하는 메서드입니다.
+     *
+     * @param reservationId 임시 예약 ID
+     * @return 확정된 예약 정보를 포함하는 응답 DTO
+     * @throws CustomException 예약이 없거나, 임시 예약이 아니거나, 이미 만료된 경우 예외를 발생시킵니다.
+     */
+    public ReservationDto.Response convertHold(Long reservationId) {
+        Reservation findReservation = transition(reservationId, ReservationStatus.PENDING, reservation -> {
+            if (reservation.getReservationStatus() != ReservationStatus.HOLD) {
+                throw new CustomException(ErrorCode.RESERVATION_NOT_ON_HOLD);
+            }
+            if (!holdManager.claim(reservationId)) {
+                throw new CustomException(ErrorCode.RESERVATION_HOLD_EXPIRED);
+            }
+        }, (reservation, previousStatus) -> {
+            eventHub.publishAfterCommit(List.of(ReservationEvent.of(ReservationEventType.CREATED, reservation)));
+            trendingStores.recordReservation(reservation.getStore().getId());
+        });
 
-        Reservation findReservation = reservationRepository.findByUserId(findUser.getId())
-                .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_NOT_FOUND));
+        return ReservationDto.Response.builder()
+                .storeName(findReservation.getStore().getStoreName())
+                .userName(findReservation.getUser().getName())
+                .location(findReservation.getStore().getLocation())
+                .reservationTime(findReservation.getReservationTime())
+                .build();
+    }
 
-        if (findReservation.getReservationStatus() != ReservationStatus.APPROVED) {
-            throw new CustomException(ErrorCode.RESERVATION_NOT_APPROVED);
+    /**
+     * 키오스크에서 방문 확인을 하는 메서드입니다.
+     * 오늘 승인된 예약은 방문 확인 인덱스에서 바로 찾고, 인덱스에 없는 경우에만 DB를 조회합니다.
+     * 방문 확인은 예약 시간 10분 전부터 예약 시간까지만 가능하며, 확인된 예약은 CHECKED_IN 상태로 변경됩니다.
+     *
+     * @param confirmForm 전화번호와 매장 ID를 포함하는 DTO
+     * @return 방문 확인된 예약 정보를 포함하는 응답 DTO
+     * @throws CustomException 사용자나 예약이 없거나, 승인되지 않았거나, 확인 가능 시간이 아닌 경우 예외를 발생시킵니다.
+     */
+    public ConfirmReservationDto.Response confirmReservation(ConfirmReservationDto.Request confirmForm) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<CheckInEntry> entries = checkInIndex.find(confirmForm.getPhone(), confirmForm.getStoreId());
+        if (entries.isEmpty()) {
+            entries = loadCheckInEntries(confirmForm, now.toLocalDate());
         }
 
-        Store findStore = findReservation.getStore();
+        CheckInEntry entry = selectCheckInEntry(entries, now);
+        transition(entry.reservationId(), ReservationStatus.CHECKED_IN, reservation -> {
+            if (reservation.getReservationStatus() != ReservationStatus.APPROVED) {
+                throw new CustomException(ErrorCode.RESERVATION_NOT_APPROVED);
+            }
+        }, (reservation, previousStatus) -> checkInIndex.removeAfterCommit(List.of(reservation.getId())));
 
         return ConfirmReservationDto.Response.builder()
-                .userName(findUser.getName())
-                .storeName(findStore.getStoreName())
-                .reservationTime(findReservation.getReservationTime())
+                .userName(entry.userName())
+                .storeName(entry.storeName())
+                .reservationTime(entry.reservationTime())
                 .build();
     }
 
-    @Transactional
     public void approveReservation(Long reservationId) {
-        Reservation findReservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_NOT_FOUND));
+        transition(reservationId, ReservationStatus.APPROVED, (reservation, previousStatus) -> {
+            checkInIndex.addAfterCommit(List.of(CheckInEntry.from(reservation)));
+            eventHub.publishAfterCommit(List.of(ReservationEvent.of(ReservationEventType.APPROVED, reservation)));
+        });
+    }
 
-        findReservation.setReservationStatus(ReservationStatus.APPROVED);
-        reservationRepository.save(findReservation);
+    public void rejectReservation(Long reservationId) {
+        transition(reservationId, ReservationStatus.REJECT, (reservation, previousStatus) -> {
+            if (previousStatus.isOccupying()) {
+                waitlistPromoter.releaseOrPromote(reservation.getStore().getId(), reservation.getReservationTime());
+            }
+            checkInIndex.removeAfterCommit(List.of(reservationId));
+            eventHub.publishAfterCommit(List.of(ReservationEvent.of(ReservationEventType.REJECTED, reservation)));
+        });
     }
 
+    /**
+     * 파트너가 승인된 예약을 노쇼로 처리하는 메서드입니다.
+     * 예약 시간이 지난 뒤에만 처리할 수 있으며, 노쇼 예약은 이미 지나간 시간대의 자리를 그대로 차지합니다.
+     *
+     * @param reservationId 노쇼로 처리할 예약 ID
+     * @param partnerId 요청한 파트너 ID
+     * @throws CustomException 예약이 없거나, 파트너의 매장 예약이 아니거나, 승인되지 않았거나, 예약 시간 전인 경우 예외를 발생시킵니다.
+     */
+    public void markNoShow(Long reservationId, Long partnerId) {
+        LocalDateTime now = LocalDateTime.now();
+
+        transition(reservationId, ReservationStatus.NO_SHOW, reservation -> {
+            Partner partner = reservation.getStore().getPartner();
+            if (partner == null || !Objects.equals(partner.getId(), partnerId)) {
+                throw new CustomException(ErrorCode.UNAUTHORIZED_ACTION);
+            }
+            if (reservation.getReservationStatus() != ReservationStatus.APPROVED) {
+                throw new CustomException(ErrorCode.RESERVATION_NOT_APPROVED);
+            }
+            if (!now.isAfter(reservation.getReservationTime())) {
+                throw new CustomException(ErrorCode.NO_SHOW_TOO_EARLY);
+            }
+        }, (reservation, previousStatus) -> checkInIndex.removeAfterCommit(List.of(reservationId)));
+    }
+
+    /**
+     * 대기 예약을 등록하는 메서드입니다.
+     * 해당 시간대에 자리가 있으면 대기 없이 바로 예약(PENDING)되고, 마감된 경우 슬롯의 대기열 맨 뒤에 등록됩니다.
+     * 마감을 확인한 뒤 등록이 커밋되기 전에 자리가 반환될 수 있으므로, 커밋 후 남은 자리가 있으면 대기자를 승격합니다.
+     *
+     * @param dtoRequest 예약 생성 요청 정보를 포함하는 DTO
+     * @return 예약 ID, 상태 및 앞선 대기 인원을 포함하는 응답 DTO
+     * @throws CustomException 매장이나 사용자를 찾을 수 없는 경우 예외를 발생시킵니다.
+     */
     @Transactional
-    public void rejectReservation(Long reservationId) {
-        Reservation findReservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_NOT_FOUND));
+    public ReservationWaitlistDto.Response joinWaitlist(ReservationDto.Request dtoRequest) {
+        Long storeId = dtoRequest.getStoreId();
+        LocalDateTime reservationTime = dtoRequest.getReservationTime();
+
+        SavedReservation saved;
+        int waitingCount = 0;
+        if (slotInventory.tryAcquire(storeId, reservationTime, () -> findStoreById(storeId))) {
+            slotInventory.releaseOnRollback(storeId, reservationTime);
+            saved = saveReservation(dtoRequest, ReservationStatus.PENDING, null);
+            eventHub.publishAfterCommit(List.of(ReservationEvent.of(ReservationEventType.CREATED, saved.reservation())));
+        } else {
+            saved = saveReservation(dtoRequest, ReservationStatus.WAITLISTED, null);
+            waitingCount = waitlistRegistry.size(storeId, reservationTime);
+            waitlistRegistry.enqueueAfterCommit(storeId, reservationTime, saved.reservation().getId());
+            waitlistPromoter.promoteAfterCommit(storeId, reservationTime, () -> findStoreById(storeId));
+        }
+
+        Reservation reservation = saved.reservation();
+        return ReservationWaitlistDto.Response.builder()
+                .reservationId(reservation.getId())
+                .storeName(saved.store().getStoreName())
+                .reservationTime(reservation.getReservationTime())
+                .reservationStatus(reservation.getReservationStatus())
+                .waitingCount(waitingCount)
+                .build();
+    }
+
+    /**
+     * 사용자가 자신의 예약을 취소하는 메서드입니다.
+     * 자리를 차지하던 예약이 취소되면 같은 시간대의 첫 번째 대기 예약이 같은 트랜잭션에서 승격됩니다.
+     *
+     * @param reservationId 취소할 예약 ID
+     * @param userId 요청한 사용자 ID
+     * @throws CustomException 예약이 없거나, 본인의 예약이 아니거나, 취소할 수 없는 상태인 경우 예외를 발생시킵니다.
+     */
+    public void cancelReservation(Long reservationId, Long userId) {
+        transition(reservationId, ReservationStatus.CANCELLED, reservation -> {
+            if (!Objects.equals(reservation.getUser().getId(), userId)) {
+                throw new CustomException(ErrorCode.UNAUTHORIZED_ACTION);
+            }
+
+            ReservationStatus status = reservation.getReservationStatus();
+            if (status == null || !status.canTransitionTo(ReservationStatus.CANCELLED)) {
+                throw new CustomException(ErrorCode.RESERVATION_NOT_CANCELLABLE);
+            }
+            if (status == ReservationStatus.HOLD && !holdManager.claim(reservationId)) {
+                throw new CustomException(ErrorCode.RESERVATION_HOLD_EXPIRED);
+            }
+        }, (reservation, previousStatus) -> {
+            Long storeId = reservation.getStore().getId();
+            LocalDateTime reservationTime = reservation.getReservationTime();
+
+            if (previousStatus == ReservationStatus.WAITLISTED) {
+                waitlistRegistry.removeAfterCommit(storeId, reservationTime, reservationId);
+                return;
+            }
+
+            waitlistPromoter.releaseOrPromote(storeId, reservationTime);
+            checkInIndex.removeAfterCommit(List.of(reservationId));
+            if (previousStatus != ReservationStatus.HOLD) {
+                eventHub.publishAfterCommit(List.of(ReservationEvent.of(ReservationEventType.CANCELLED, reservation)));
+            }
+        });
+    }
+
+    /**
+     * 파트너가 여러 예약을 한 번에 승인/거절하는 메서드입니다.
+     * 소유권과 현재 상태는 한 번의 조회로 확인하며, 변경은 목표 상태별로 한 번의 UPDATE로 적용합니다.
+     *
+     * @param decisions 예약 ID와 목표 상태(APPROVED 또는 REJECT) 목록
+     * @param partnerId 요청한 파트너 ID
+     * @return 요청 순서대로 정렬된 예약별 처리 결과
+     */
+    @Transactional
+    public List<ReservationDecisionDto.Response> decideReservations(List<ReservationDecisionDto.Decision> decisions,
+                                                                   Long partnerId) {
+        Set<Long> ids = decisions.stream()
+                .map(ReservationDecisionDto.Decision::getReservationId)
+                .collect(Collectors.toSet());
+
+        Map<Long, ReservationDecisionView> views = reservationRepository.findDecisionViews(ids).stream()
+                .collect(Collectors.toMap(ReservationDecisionView::getId, Function.identity()));
+
+        Map<Long, ReservationDecisionResult> results = new LinkedHashMap<>();
+        Map<ReservationStatus, List<Long>> targets = new EnumMap<>(ReservationStatus.class);
+
+        for (ReservationDecisionDto.Decision decision : decisions) {
+            Long reservationId = decision.getReservationId();
+            if (results.containsKey(reservationId)) {
+                continue;
+            }
+
+            ReservationDecisionView view = views.get(reservationId);
+            ReservationDecisionResult result = checkDecision(view, decision.getStatus(), partnerId);
+            results.put(reservationId, result);
+
+            if (result == null) {
+                targets.computeIfAbsent(decision.getStatus(), status -> new ArrayList<>()).add(reservationId);
+            }
+        }
+
+        targets.forEach((status, targetIds) -> applyDecisions(status, targetIds, views, results));
+
+        Set<Long> answered = new HashSet<>();
+        return decisions.stream()
+                .map(ReservationDecisionDto.Decision::getReservationId)
+                .map(reservationId -> ReservationDecisionDto.Response.builder()
+                        .reservationId(reservationId)
+                        .result(answered.add(reservationId)
+                                ? results.get(reservationId)
+                                : ReservationDecisionResult.DUPLICATED)
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 파트너가 자신의 매장 예약을 최신 접수순으로 커서 기반 조회하는 메서드입니다.
+     *
+     * @param storeId 매장 ID
+     * @param partnerId 요청한 파트너 ID
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지라면 null
+     * @param size 페이지 크기
+     * @return 예약 목록과 다음 커서
+     * @throws CustomException 매장이 없거나, 파트너의 매장이 아니거나, 커서 형식이 올바르지 않은 경우 예외를 발생시킵니다.
+     */
+    public CursorSliceDto<StoreReservationDto.Response> getStoreReservations(Long storeId, Long partnerId,
+                                                                            String cursor, int size) {
+        StoreSnapshot findStore = storeRepository.findSnapshotById(storeId)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_STORE));
+        if (!Objects.equals(findStore.partnerId(), partnerId)) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED_ACTION);
+        }
+
+        Cursor after = Cursor.decode(cursor);
+        int pageSize = Cursor.pageSize(size);
+        Pageable limit = PageRequest.ofSize(pageSize + 1);
+
+        List<StoreReservationView> views = after == null
+                ? reservationRepository.findStoreReservations(storeId, limit)
+                : reservationRepository.findStoreReservationsBefore(storeId, after.createdAt(), after.id(), limit);
+
+        return CursorSliceDto.of(views, pageSize,
+                view -> new Cursor(view.getCreatedAt(), view.getId()), StoreReservationDto.Response::fromView);
+    }
+
+    private ReservationDecisionResult checkDecision(ReservationDecisionView view, ReservationStatus target, Long partnerId) {
+        if (view == null) {
+            return ReservationDecisionResult.NOT_FOUND;
+        }
+        if (!Objects.equals(view.getPartnerId(), partnerId)) {
+            return ReservationDecisionResult.UNAUTHORIZED;
+        }
+        if (target != ReservationStatus.APPROVED && target != ReservationStatus.REJECT) {
+            return ReservationDecisionResult.INVALID_STATUS;
+        }
+        if (view.getReservationStatus() != ReservationStatus.PENDING) {
+            return ReservationDecisionResult.NOT_PENDING;
+        }
+        return null;
+    }
+
+    private void applyDecisions(ReservationStatus status, List<Long> targetIds,
+                                Map<Long, ReservationDecisionView> views,
+                                Map<Long, ReservationDecisionResult> results) {
+        int updated = reservationRepository.updateStatus(targetIds, ReservationStatus.PENDING, status);
+
+        Set<Long> applied = new HashSet<>(targetIds);
+        if (updated < targetIds.size()) {
+            reservationRepository.findDecisionViews(targetIds).stream()
+                    .filter(view -> view.getReservationStatus() != status)
+                    .forEach(view -> applied.remove(view.getId()));
+        }
+
+        ReservationDecisionResult success = status == ReservationStatus.APPROVED
+                ? ReservationDecisionResult.APPROVED
+                : ReservationDecisionResult.REJECTED;
+
+        LocalDate today = LocalDate.now();
+        List<Long> todayIds = new ArrayList<>();
+        List<ReservationTransition> transitions = new ArrayList<>(applied.size());
+        List<ReservationEvent> events = new ArrayList<>(applied.size());
+        ReservationEventType eventType = status == ReservationStatus.APPROVED
+                ? ReservationEventType.APPROVED
+                : ReservationEventType.REJECTED;
+
+        for (Long reservationId : targetIds) {
+            if (!applied.contains(reservationId)) {
+                results.put(reservationId, ReservationDecisionResult.CONFLICT);
+                continue;
+            }
+
+            results.put(reservationId, success);
+            ReservationDecisionView view = views.get(reservationId);
+            transitions.add(ReservationTransition.of(reservationId, view.getStoreId(), ReservationStatus.PENDING, status));
+            events.add(ReservationEvent.of(eventType, reservationId, view.getStoreId(), view.getReservationTime()));
+            if (view.getReservationTime().toLocalDate().equals(today)) {
+                todayIds.add(reservationId);
+            }
+            if (status == ReservationStatus.REJECT) {
+                waitlistPromoter.releaseOrPromote(view.getStoreId(), view.getReservationTime());
+            }
+        }
+
+        transitionRepository.saveAll(transitions);
+        eventHub.publishAfterCommit(events);
+
+        if (todayIds.isEmpty()) {
+            return;
+        }
+
+        if (status == ReservationStatus.APPROVED) {
+            checkInIndex.addAfterCommit(reservationRepository.findCheckInViewsByIds(todayIds, ReservationStatus.APPROVED)
+                    .stream()
+                    .map(CheckInEntry::from)
+                    .toList());
+        } else {
+            checkInIndex.removeAfterCommit(todayIds);
+        }
+    }
+
+    /**
+     * 예약 상태를 하나의 트랜잭션에서 변경하고 변경 이력을 기록하는 메서드입니다.
+     * 다른 요청이 같은 예약을 먼저 변경하여 낙관적 락 충돌이 발생하면 최신 상태를 다시 읽어 재시도합니다.
+     * 재시도 시점에 더 이상 허용되지 않는 변경이라면 검증이나 상태 전이 단계에서 예외로 거절됩니다.
+     *
+     * @param reservationId 예약 ID
+     * @param target 변경할 상태
+     * @param guard 상태 변경 전에 실행할 검증
+     * @param afterTransition 상태 변경 후 같은 트랜잭션에서 실행할 후속 처리 (예약, 변경 전 상태)
+     * @return 상태가 변경된 예약
+     * @throws CustomException 예약이 없거나, 변경할 수 없는 상태이거나, 재시도 후에도 충돌한 경우 예외를 발생시킵니다.
+     */
+    private Reservation transition(Long reservationId, ReservationStatus target,
+                                   BiConsumer<Reservation, ReservationStatus> afterTransition) {
+        return transition(reservationId, target, reservation -> { }, afterTransition);
+    }
+
+    private Reservation transition(Long reservationId, ReservationStatus target,
+                                   Consumer<Reservation> guard,
+                                   BiConsumer<Reservation, ReservationStatus> afterTransition) {
+        AtomicReference<Long> storeId = new AtomicReference<>();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionOperations.execute(status -> {
+                    Reservation findReservation = reservationRepository.findById(reservationId)
+                            .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_NOT_FOUND));
+                    storeId.set(findReservation.getStore().getId());
+
+                    guard.accept(findReservation);
+                    ReservationStatus previousStatus = findReservation.transitionTo(target);
+                    reservationRepository.saveAndFlush(findReservation);
+                    transitionRepository.save(
+                            ReservationTransition.of(reservationId, storeId.get(), previousStatus, target));
+
+                    afterTransition.accept(findReservation, previousStatus);
+                    return findReservation;
+                });
+            } catch (OptimisticLockingFailureException e) {
+                transitionMetrics.conflict(storeId.get());
+                if (attempt >= MAX_TRANSITION_ATTEMPTS) {
+                    transitionMetrics.exhausted(storeId.get());
+                    throw new CustomException(ErrorCode.RESERVATION_TRANSITION_CONFLICT);
+                }
+                transitionMetrics.retry(storeId.get());
+            }
+        }
+    }
+
+    private List<CheckInEntry> loadCheckInEntries(ConfirmReservationDto.Request confirmForm, LocalDate date) {
+        User findUser = userRepository.findByPhone(confirmForm.getPhone())
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
+
+        List<Reservation> reservations = reservationRepository.findAllByUserIdAndStoreIdAndReservationTimeBetween(
+                findUser.getId(), confirmForm.getStoreId(), date.atStartOfDay(), date.atTime(LocalTime.MAX));
+        if (reservations.isEmpty()) {
+            throw new CustomException(ErrorCode.RESERVATION_NOT_FOUND);
+        }
+
+        List<CheckInEntry> approved = reservations.stream()
+                .filter(reservation -> reservation.getReservationStatus() == ReservationStatus.APPROVED)
+                .map(CheckInEntry::from)
+                .sorted(Comparator.comparing(CheckInEntry::reservationTime))
+                .toList();
+        if (approved.isEmpty()) {
+            throw new CustomException(ErrorCode.RESERVATION_NOT_APPROVED);
+        }
+
+        approved.forEach(checkInIndex::add);
+        return approved;
+    }
+
+    private CheckInEntry selectCheckInEntry(List<CheckInEntry> entries, LocalDateTime now) {
+        CheckInEntry next = entries.stream()
+                .filter(entry -> !now.isAfter(entry.reservationTime()))
+                .findFirst()
+                .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_CONFIRMATION_EXPIRED));
+
+        if (now.isBefore(next.reservationTime().minus(CHECK_IN_WINDOW))) {
+            throw new CustomException(ErrorCode.RESERVATION_CONFIRMATION_TOO_EARLY);
+        }
+
+        return next;
+    }
+
+    private SavedReservation reserveSlot(ReservationDto.Request dtoRequest, ReservationStatus status, LocalDateTime expiresAt) {
+        Long storeId = dtoRequest.getStoreId();
+        LocalDateTime reservationTime = dtoRequest.getReservationTime();
+
+        if (!slotInventory.tryAcquire(storeId, reservationTime, () -> findStoreById(storeId))) {
+            throw new CustomException(ErrorCode.RESERVATION_SLOT_FULL);
+        }
+        slotInventory.releaseOnRollback(storeId, reservationTime);
+
+        return saveReservation(dtoRequest, status, expiresAt);
+    }
+
+    /**
+     * 예약을 저장하는 메서드입니다.
+     * 매장과 사용자는 응답에 필요한 이름만 조회하여 존재를 확인하고, 예약에는 조회 없는 참조(프록시)만 연결하므로
+     * 매장의 예약/리뷰 수와 관계없이 저장 비용이 같습니다.
+     */
+    private SavedReservation saveReservation(ReservationDto.Request dtoRequest, ReservationStatus status, LocalDateTime expiresAt) {
+        Long storeId = dtoRequest.getStoreId();
+        Long userId = dtoRequest.getUserId();
+
+        StoreNameView store = storeRepository.findNameById(storeId)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_STORE));
+
+        String userName = userRepository.findNameById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
+
+        Reservation reservation = reservationRepository.save(Reservation.builder()
+                .store(storeRepository.getReferenceById(storeId))
+                .user(userRepository.getReferenceById(userId))
+                .reservationTime(dtoRequest.getReservationTime())
+                .reservationStatus(status)
+                .expiresAt(expiresAt)
+                .build());
+        return new SavedReservation(reservation, store, userName);
+    }
+
+    private List<LocalDateTime> occurrences(RecurringReservationDto.Request dtoRequest) {
+        int intervalWeeks = dtoRequest.getIntervalWeeks() == null ? 1 : dtoRequest.getIntervalWeeks();
+        List<LocalDateTime> times = new ArrayList<>(dtoRequest.getCount());
+        for (int i = 0; i < dtoRequest.getCount(); i++) {
+            times.add(dtoRequest.getFirstReservationTime().plusWeeks((long) i * intervalWeeks));
+        }
+        return times;
+    }
+
+    private Store findStoreById(Long storeId) {
+        return storeRepository.findById(storeId)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_STORE));
+    }
 
-        findReservation.setReservationStatus(ReservationStatus.REJECT);
-        reservationRepository.save(findReservation);
+    private record SavedReservation(Reservation reservation, StoreNameView store, String userName) {
     }
 
 }
@@ -0,0 +1,42 @@
+package reservation.hmw.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 상태 변경 충돌을 매장별로 집계하는 컴포넌트입니다.
+ *
+ * reservation.transition.conflict는 낙관적 락 충돌 횟수, reservation.transition.retry는 충돌 이후 재시도 횟수,
+ * reservation.transition.exhausted는 재시도를 모두 소진하여 요청이 거절된 횟수이며 모두 store 태그를 가집니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationTransitionMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public void conflict(Long storeId) {
+        counter("reservation.transition.conflict", "Optimistic lock conflicts on reservation status changes", storeId)
+                .increment();
+    }
+
+    public void retry(Long storeId) {
+        counter("reservation.transition.retry", "Reservation status changes retried after a conflict", storeId)
+                .increment();
+    }
+
+    public void exhausted(Long storeId) {
+        counter("reservation.transition.exhausted", "Reservation status changes rejected after all retries", storeId)
+                .increment();
+    }
+
+    private Counter counter(String name, String description, Long storeId) {
+        return Counter.builder(name)
+                .description(description)
+                .tag("store", String.valueOf(storeId))
+                .register(meterRegistry);
+    }
+
+}
@@ -8,16 +8,22 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reservation.hmw.cache.StoreDetailCache;
 import reservation.hmw.exception.CustomException;
 import reservation.hmw.exception.ErrorCode;
 import reservation.hmw.model.entity.Review;
-import reservation.hmw.model.entity.Store;
-import reservation.hmw.model.entity.User;
+import reservation.hmw.model.entity.dto.CursorSliceDto;
 import reservation.hmw.model.entity.dto.ReviewForm;
+import reservation.hmw.pagination.Cursor;
+import reservation.hmw.rating.StoreRatingAggregator;
 import reservation.hmw.repository.ReviewRepository;
 import reservation.hmw.repository.StoreRepository;
 import reservation.hmw.repository.UserRepository;
+import reservation.hmw.repository.projection.ReviewView;
+import reservation.hmw.repository.projection.StoreNameView;
+import reservation.hmw.trending.TrendingStores;
 
+import java.util.List;
 import java.util.Objects;
 
 @Service
@@ -27,37 +33,90 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final StoreRepository storeRepository;
+    private final StoreRatingAggregator ratingAggregator;
+    private final StoreDetailCache storeDetailCache;
+    private final TrendingStores trendingStores;
 
     @Transactional
     public ReviewForm.Response createReview(ReviewForm.Request formRequest, Long userId) {
-        User findUser = userRepository.findById(userId)
+        Long storeId = formRequest.getStoreId();
+        String userName = userRepository.findNameById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
 
-        Store findStore = storeRepository.findById(formRequest.getStoreId())
+        StoreNameView store = storeRepository.findNameById(storeId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_STORE));
 
         Review review = reviewRepository.save(Review.builder()
                 .rating(formRequest.getRating())
                 .content(formRequest.getContent())
-                .user(findUser)
-                .store(findStore)
+                .user(userRepository.getReferenceById(userId))
+                .store(storeRepository.getReferenceById(storeId))
                 .build());
 
-        return ReviewForm.Response.fromEntity(review);
+        ratingAggregator.record(storeId, null, review.getRating());
+        storeDetailCache.evict(storeId);
+        trendingStores.recordReview(storeId);
+
+        return ReviewForm.Response.of(review, store.getStoreName(), userName);
     }
 
     public ReviewForm.Response getReview(Long reviewId) {
-        Review review = reviewRepository.findById(reviewId)
+        ReviewView review = reviewRepository.findViewById(reviewId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_REVIEW));
 
-        return ReviewForm.Response.fromEntity(review);
+        return ReviewForm.Response.fromView(review);
     }
 
     public Page<ReviewForm.Response> getReviewsByStore(Long storeId, int page) {
-        Pageable pageable = PageRequest.of(page, 15, Sort.by("createAt").descending());
-        Page<Review> reviews = reviewRepository.findByStoreId(storeId, pageable);
+        Pageable pageable = PageRequest.of(page, 15, Sort.by("createdAt").descending());
+        Page<ReviewView> reviews = reviewRepository.findViewsByStoreId(storeId, pageable);
+
+        return reviews.map(ReviewForm.Response::fromView);
+    }
+
+    /**
+     * 매장의 리뷰를 최신순으로 커서 기반 조회하는 메서드입니다.
+     * OFFSET과 전체 개수 조회 없이 (createdAt, id) 인덱스를 따라 읽으므로 깊은 페이지도 첫 페이지와 비용이 같습니다.
+     *
+     * @param storeId 매장 ID
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지라면 null
+     * @param size 페이지 크기
+     * @return 리뷰 목록과 다음 커서
+     * @throws CustomException 커서 형식이 올바르지 않은 경우 예외를 발생시킵니다.
+     */
+    public CursorSliceDto<ReviewForm.Response> getStoreReviews(Long storeId, String cursor, int size) {
+        Cursor after = Cursor.decode(cursor);
+        int pageSize = Cursor.pageSize(size);
+        Pageable limit = PageRequest.ofSize(pageSize + 1);
+
+        List<ReviewView> reviews = after == null
+                ? reviewRepository.findStoreReviews(storeId, limit)
+                : reviewRepository.findStoreReviewsBefore(storeId, after.createdAt(), after.id(), limit);
+
+        return CursorSliceDto.of(reviews, pageSize,
+                review -> new Cursor(review.getCreatedAt(), review.getId()), ReviewForm.Response::fromView);
+    }
 
-        return reviews.map(ReviewForm.Response::fromEntity);
+    /**
+     * 사용자가 작성한 리뷰를 최신순으로 커서 기반 조회하는 메서드입니다.
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지라면 null
+     * @param size 페이지 크기
+     * @return 리뷰 목록과 다음 커서
+     * @throws CustomException 커서 형식이 올바르지 않은 경우 예외를 발생시킵니다.
+     */
+    public CursorSliceDto<ReviewForm.Response> getUserReviews(Long userId, String cursor, int size) {
+        Cursor after = Cursor.decode(cursor);
+        int pageSize = Cursor.pageSize(size);
+        Pageable limit = PageRequest.ofSize(pageSize + 1);
+
+        List<ReviewView> reviews = after == null
+                ? reviewRepository.findUserReviews(userId, limit)
+                : reviewRepository.findUserReviewsBefore(userId, after.createdAt(), after.id(), limit);
+
+        return CursorSliceDto.of(reviews, pageSize,
+                review -> new Cursor(review.getCreatedAt(), review.getId()), ReviewForm.Response::fromView);
     }
 
     @Transactional
@@ -69,9 +128,12 @@ public class ReviewService {
             throw new CustomException(ErrorCode.UNAUTHORIZED_ACTION);
         }
 
+        Integer previousRating = findReview.getRating();
         findReview.setRating(formRequest.getRating());
         findReview.setContent(formRequest.getContent());
 
+        ratingAggregator.record(findReview.getStore().getId(), previousRating, findReview.getRating());
+        storeDetailCache.evict(findReview.getStore().getId());
 
         return ReviewForm.Response.fromEntity(findReview);
     }
@@ -90,6 +152,8 @@ public class ReviewService {
         }
 
         reviewRepository.delete(findReview);
+        ratingAggregator.record(findReview.getStore().getId(), findReview.getRating(), null);
+        storeDetailCache.evict(findReview.getStore().getId());
     }
 
 }
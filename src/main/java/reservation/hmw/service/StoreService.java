@@ -1,21 +1,56 @@
 package reservation.hmw.service;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reservation.hmw.cache.StoreCache;
+import reservation.hmw.cache.StoreSnapshot;
+import reservation.hmw.cache.StoreDetailCache;
 import reservation.hmw.exception.CustomException;
 import reservation.hmw.exception.ErrorCode;
+import reservation.hmw.inventory.SlotInventory;
+import reservation.hmw.inventory.SlotPolicy;
 import reservation.hmw.model.entity.Partner;
 import reservation.hmw.model.entity.Store;
+import reservation.hmw.model.entity.Tag;
+import reservation.hmw.model.entity.dto.AvailabilityDto;
+import reservation.hmw.model.entity.dto.ReviewForm;
 import reservation.hmw.model.entity.dto.StoreDetailDto;
 import reservation.hmw.model.entity.dto.StoreInfoDto;
 import reservation.hmw.model.entity.dto.StoreRegisterForm;
+import reservation.hmw.model.entity.dto.TrendingStoreDto;
+import reservation.hmw.pagination.Cursor;
+import reservation.hmw.rating.RatingSummary;
+import reservation.hmw.rating.StoreRatingAggregator;
 import reservation.hmw.repository.PartnerRepository;
+import reservation.hmw.repository.ReviewRepository;
 import reservation.hmw.repository.StoreRepository;
+import reservation.hmw.repository.TagRepository;
+import reservation.hmw.search.NearbyStore;
+import reservation.hmw.search.SearchTokenizer;
+import reservation.hmw.search.StoreDocument;
+import reservation.hmw.search.StoreSearchIndex;
+import reservation.hmw.stream.ReservationEventHub;
+import reservation.hmw.trending.TrendingStore;
+import reservation.hmw.trending.TrendingStores;
 
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -25,8 +60,25 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class StoreService {
 
+    private static final int MAX_AVAILABILITY_DAYS = 62;
+    private static final int RECENT_REVIEWS = 5;
+    private static final double MAX_NEARBY_RADIUS_METERS = 50_000;
+    private static final int MAX_SUGGESTIONS = 20;
+    private static final int MAX_TAG_ATTEMPTS = 3;
+
     private final PartnerRepository partnerRepository;
     private final StoreRepository storeRepository;
+    private final SlotInventory slotInventory;
+    private final SlotPolicy slotPolicy;
+    private final ReservationEventHub eventHub;
+    private final StoreRatingAggregator ratingAggregator;
+    private final ReviewRepository reviewRepository;
+    private final StoreDetailCache storeDetailCache;
+    private final StoreCache storeCache;
+    private final StoreSearchIndex searchIndex;
+    private final TagRepository tagRepository;
+    private final TagRegistry tagRegistry;
+    private final TrendingStores trendingStores;
 
     /**
      * 매장을 등록하는 메서드입니다.
@@ -45,29 +97,186 @@ public class StoreService {
                 .location(form.getLocation())
                 .storeDescription(form.getStoreDescription())
                 .keyword(form.getKeyword())
+                .slotCapacity(form.getSlotCapacity())
+                .latitude(form.getLatitude())
+                .longitude(form.getLongitude())
+                .tags(resolveTags(form.getTags()))
                 .partner(findPartner)
                 .build();
 
         findPartner.getStoreList().add(store);
 
-        return storeRepository.save(store);
+        Store savedStore = storeRepository.save(store);
+        storeCache.evict(savedStore.getId(), savedStore.getStoreName());
+        searchIndex.indexAfterCommit(StoreDocument.from(savedStore));
+
+        return savedStore;
     }
 
     /**
      * 키워드로 매장을 검색하는 메서드입니다.
+     * 매장 이름, 키워드, 위치의 메모리 색인에서 모든 검색어와 일치하는 매장을 관련도 순으로 찾으며,
+     * 평점은 매장 평점 집계에서 한 번에 조회하므로 매장/리뷰 테이블을 읽지 않습니다.
+     *
+     * @param keyword 검색할 키워드 (공백으로 구분된 여러 검색어는 모두 일치해야 하며, 접두사로도 일치합니다.)
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return 검색된 매장 정보 리스트, 일치하는 매장이 없으면 빈 리스트
+     */
+    public List<StoreInfoDto> searchStoreByKeyword(String keyword, int page, int size) {
+        return searchStoreByKeyword(keyword, null, null, page, size);
+    }
+
+    /**
+     * 키워드로 매장을 검색하여 종합 점수 순으로 반환하는 메서드입니다.
+     * 종합 점수는 텍스트 관련도에 평균 평점과 최근 인기도를 더한 값이며, 기준 좌표가 주어지면 가까운 매장일수록 높아집니다.
      *
      * @param keyword 검색할 키워드
-     * @return 검색된 매장 정보 리스트
+     * @param latitude 기준 위도, 없으면 null
+     * @param longitude 기준 경도, 없으면 null
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return 검색된 매장 정보 리스트, 일치하는 매장이 없으면 빈 리스트
+     * @throws CustomException 기준 좌표가 범위를 벗어난 경우
      */
-    public List<StoreInfoDto> searchStoreByKeyword(String keyword) {
-        List<Store> stores = storeRepository.findAllByKeyword(keyword)
-                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_STORE));
+    public List<StoreInfoDto> searchStoreByKeyword(String keyword, Double latitude, Double longitude, int page, int size) {
+        if ((latitude != null && Math.abs(latitude) > 90) || (longitude != null && Math.abs(longitude) > 180)) {
+            throw new CustomException(ErrorCode.INVALID_LOCATION_QUERY);
+        }
+        return toStoreInfos(searchIndex.search(keyword, List.of(), latitude, longitude,
+                Math.max(page, 0), Cursor.pageSize(size)));
+    }
+
+    /**
+     * 매장 설명으로 매장을 전문 검색하는 메서드입니다.
+     * 메모리의 글자 n-gram 색인에서 BM25 점수 순으로 찾으므로 형태소 분석 없이도 한국어 설명을 검색할 수 있습니다.
+     *
+     * @param query 매장 설명 검색어
+     * @param keyword 함께 적용할 키워드, 없으면 null
+     * @param tags 매장이 모두 가지고 있어야 하는 태그 목록
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return 검색된 매장 정보 리스트, 일치하는 매장이 없으면 빈 리스트
+     */
+    public List<StoreInfoDto> searchStoreByDescription(String query, String keyword, Collection<String> tags, int page, int size) {
+        return toStoreInfos(searchIndex.searchDescription(query, keyword, tags, Math.max(page, 0), Cursor.pageSize(size)));
+    }
+
+    /**
+     * 태그 조건으로 매장을 검색하는 메서드입니다.
+     * 메모리의 태그 비트맵 교집합으로 모든 태그를 가진 매장을 찾으므로 DB 조인 없이 처리됩니다.
+     *
+     * @param tags 매장이 모두 가지고 있어야 하는 태그 목록 (예: "한식", "심야영업", "주차")
+     * @param keyword 함께 적용할 키워드, 없으면 null
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return 검색된 매장 정보 리스트, 일치하는 매장이 없으면 빈 리스트
+     */
+    public List<StoreInfoDto> searchStoreByTags(Collection<String> tags, String keyword, int page, int size) {
+        return toStoreInfos(searchIndex.search(keyword, tags, Math.max(page, 0), Cursor.pageSize(size)));
+    }
+
+    private Set<Tag> resolveTags(List<String> names) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (names != null) {
+            names.stream().map(SearchTokenizer::normalize).filter(name -> !name.isEmpty()).forEach(normalized::add);
+        }
+
+        Set<Tag> tags = new LinkedHashSet<>();
+        if (normalized.isEmpty()) {
+            return tags;
+        }
+
+        Map<String, Tag> found = new HashMap<>();
+        tagRepository.findAllByNameIn(normalized).forEach(tag -> found.put(tag.getName(), tag));
+        for (int attempt = 1; found.size() < normalized.size(); attempt++) {
+            List<String> missing = normalized.stream().filter(name -> !found.containsKey(name)).toList();
+            try {
+                tagRegistry.createAll(missing).forEach(tag -> found.put(tag.getName(), tag));
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_TAG_ATTEMPTS) {
+                    throw e;
+                }
+                tagRegistry.findAll(missing).forEach(tag -> found.put(tag.getName(), tag));
+            }
+        }
+
+        normalized.forEach(name -> tags.add(found.get(name)));
+        return tags;
+    }
+
+    private List<StoreInfoDto> toStoreInfos(List<StoreDocument> documents) {
+        if (documents.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, RatingSummary> ratings = ratingAggregator.summaries(documents.stream().map(StoreDocument::id).toList());
+
+        return documents.stream()
+                .map(document -> StoreInfoDto.fromDocument(document, ratings.get(document.id())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 기준 좌표에서 반경 안에 있는 가까운 매장을 거리순으로 검색하는 메서드입니다.
+     * 메모리의 격자 공간 색인에서 가까운 셀부터 찾으므로 전체 매장을 확인하지 않습니다.
+     *
+     * @param latitude 기준 위도
+     * @param longitude 기준 경도
+     * @param radiusMeters 검색 반경 (미터, 최대 50km)
+     * @param keyword 함께 적용할 검색어, 없으면 null
+     * @param size 최대 매장 수
+     * @return 거리순으로 정렬된 매장 정보 리스트
+     * @throws CustomException 좌표나 반경이 올바르지 않은 경우 예외를 발생시킵니다.
+     */
+    public List<StoreInfoDto> searchNearby(double latitude, double longitude, double radiusMeters, String keyword, int size) {
+        if (Math.abs(latitude) > 90 || Math.abs(longitude) > 180
+                || !(radiusMeters > 0) || radiusMeters > MAX_NEARBY_RADIUS_METERS) {
+            throw new CustomException(ErrorCode.INVALID_LOCATION_QUERY);
+        }
+
+        List<NearbyStore> nearby = searchIndex.nearby(latitude, longitude, radiusMeters, keyword, Cursor.pageSize(size));
+        if (nearby.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, RatingSummary> ratings = ratingAggregator.summaries(nearby.stream().map(store -> store.document().id()).toList());
 
-        return stores.stream()
-                .map(StoreInfoDto::fromEntity)
+        return nearby.stream()
+                .map(store -> StoreInfoDto.fromNearby(store, ratings.get(store.document().id())))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 최근 예약과 리뷰가 많은 인기 매장을 순서대로 조회하는 메서드입니다.
+     * 순위와 매장 정보를 모두 메모리에서 읽으므로 DB를 조회하지 않습니다.
+     *
+     * @param size 최대 매장 수
+     * @return 인기 매장 목록
+     */
+    public List<TrendingStoreDto> trending(int size) {
+        List<TrendingStoreDto> result = new ArrayList<>();
+        for (TrendingStore trending : trendingStores.top(Math.min(Math.max(size, 1), trendingStores.capacity()))) {
+            StoreDocument document = searchIndex.document(trending.storeId());
+            if (document != null) {
+                result.add(TrendingStoreDto.of(result.size() + 1, trending, document));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 입력 중인 접두사로 시작하는 매장 이름과 키워드를 제안하는 메서드입니다.
+     * 메모리의 자동완성 트라이에서 조회하므로 DB를 조회하지 않습니다.
+     *
+     * @param prefix 입력 중인 접두사
+     * @param size 최대 후보 수
+     * @return 많이 쓰이는 순으로 정렬된 자동완성 후보 목록
+     */
+    public List<String> suggest(String prefix, int size) {
+        return searchIndex.suggest(prefix, Math.min(Math.max(size, 1), MAX_SUGGESTIONS));
+    }
+
     /**
      * 매장 이름으로 매장을 검색하는 메서드입니다.
      *
@@ -75,25 +284,110 @@ public class StoreService {
      * @return 검색된 매장 정보
      */
     public StoreInfoDto searchStoreByName(String storeName) {
-        Store store = storeRepository.findByStoreName(storeName)
+        StoreSnapshot store = storeRepository.findSnapshotByStoreName(storeName)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_STORE));
 
-        return StoreInfoDto.fromEntity(store);
+        Map<Long, RatingSummary> ratings = ratingAggregator.summaries(List.of(store.id()));
+
+        return StoreInfoDto.fromSnapshot(store, ratings.get(store.id()));
     }
 
     /**
      * 주어진 매장 ID에 대한 상세 정보를 조회하는 메서드입니다.
+     * 매장 설명, 평점 집계와 최신 리뷰 일부만 담으며, 매장/리뷰가 변경되기 전까지 캐시된 결과를 반환합니다.
      *
      * @param storeId 조회할 매장 ID입니다.
      * @return StoreDetailDto 매장 상세 정보를 포함한 DTO를 반환합니다.
      * @throws CustomException 매장을 찾을 수 없는 경우 예외를 발생시킵니다.
      */
     public StoreDetailDto detailStore(Long storeId) {
-        Store store = storeRepository.findById(storeId)
+        return storeDetailCache.get(storeId, this::loadStoreDetail);
+    }
+
+    private StoreDetailDto loadStoreDetail(Long storeId) {
+        StoreSnapshot store = storeRepository.findSnapshotById(storeId)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_STORE));
+
+        RatingSummary rating = ratingAggregator.summaries(List.of(storeId)).getOrDefault(storeId, RatingSummary.EMPTY);
+        List<ReviewForm.Response> recentReviews = reviewRepository.findStoreReviews(storeId, PageRequest.ofSize(RECENT_REVIEWS))
+                .stream()
+                .map(ReviewForm.Response::fromView)
+                .toList();
+
+        return StoreDetailDto.builder()
+                .storeId(store.id())
+                .storeName(store.storeName())
+                .location(store.location())
+                .storeDescription(store.storeDescription())
+                .averageRating(rating.average())
+                .ratingCount(rating.count())
+                .ratingHistogram(rating.histogram())
+                .recentReviews(recentReviews)
+                .build();
+    }
+
+    /**
+     * 기간 내 매장의 예약 가능한 시간대를 조회하는 메서드입니다.
+     * 메모리의 슬롯별 점유 수로 계산하므로, 이미 적재된 날짜에 대해서는 DB를 조회하지 않습니다.
+     *
+     * @param storeId 조회할 매장 ID
+     * @param from 시작 날짜 (포함)
+     * @param to 종료 날짜 (포함)
+     * @return 잔여 수용 인원이 있는 시간대 목록
+     * @throws CustomException 매장을 찾을 수 없거나 조회 기간이 올바르지 않은 경우 예외를 발생시킵니다.
+     */
+    public AvailabilityDto.Response getAvailability(Long storeId, LocalDate from, LocalDate to) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate start = from.isBefore(now.toLocalDate()) ? now.toLocalDate() : from;
+
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(start, to) >= MAX_AVAILABILITY_DAYS) {
+            throw new CustomException(ErrorCode.INVALID_AVAILABILITY_RANGE);
+        }
+
+        List<AvailabilityDto.Slot> slots = new ArrayList<>();
+        if (!to.isBefore(start)) {
+            slotInventory.remaining(storeId, start, to, () -> storeRepository.findById(storeId)
+                            .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_STORE)))
+                    .forEach((day, remaining) -> {
+                        for (int slot = 0; slot < remaining.length; slot++) {
+                            LocalDateTime startTime = slotPolicy.slotStart(day, slot);
+                            if (remaining[slot] > 0 && startTime.isAfter(now)) {
+                                slots.add(AvailabilityDto.Slot.builder()
+                                        .startTime(startTime)
+                                        .remaining(remaining[slot])
+                                        .build());
+                            }
+                        }
+                    });
+        }
+
+        return AvailabilityDto.Response.builder()
+                .storeId(storeId)
+                .slotMinutes(slotPolicy.getSlotMinutes())
+                .slots(slots)
+                .build();
+    }
+
+    /**
+     * 파트너가 자신의 매장에 들어오는 예약 이벤트를 구독하는 메서드입니다.
+     *
+     * @param storeId 구독할 매장 ID
+     * @param partnerId 요청한 파트너 ID
+     * @param request 구독 요청
+     * @param response 예약 생성/승인/거절/취소 이벤트가 SSE로 전송될 응답
+     * @throws CustomException 매장이 없거나 파트너의 매장이 아닌 경우 예외를 발생시킵니다.
+     * @throws IOException 응답 스트림을 열 수 없는 경우 발생합니다.
+     */
+    public void subscribeReservations(Long storeId, Long partnerId,
+                                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        StoreSnapshot findStore = storeRepository.findSnapshotById(storeId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_STORE));
 
+        if (!Objects.equals(findStore.partnerId(), partnerId)) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED_ACTION);
+        }
 
-        return new StoreDetailDto(store.getStoreDescription(), store.getReviewList());
+        eventHub.subscribe(storeId, request, response);
     }
 
     @Transactional
@@ -105,12 +399,25 @@ public class StoreService {
             throw new CustomException(ErrorCode.UNAUTHORIZED_ACTION);
         }
 
+        String previousName = findStore.getStoreName();
         findStore.setStoreName(form.getStoreName());
         findStore.setStoreDescription(form.getStoreDescription());
         findStore.setKeyword(form.getKeyword());
         findStore.setLocation(form.getLocation());
+        findStore.setSlotCapacity(form.getSlotCapacity());
+        findStore.setLatitude(form.getLatitude());
+        findStore.setLongitude(form.getLongitude());
+        if (form.getTags() != null) {
+            findStore.setTags(resolveTags(form.getTags()));
+        }
+
+        Store savedStore = storeRepository.save(findStore);
+        slotInventory.updateCapacityAfterCommit(storeId, form.getSlotCapacity());
+        storeDetailCache.evict(storeId);
+        storeCache.evict(storeId, previousName, form.getStoreName());
+        searchIndex.indexAfterCommit(StoreDocument.from(savedStore));
 
-        return storeRepository.save(findStore);
+        return savedStore;
     }
 
     @Transactional
@@ -123,6 +430,11 @@ public class StoreService {
         }
 
         storeRepository.delete(findStore);
+        slotInventory.evictStoreAfterCommit(storeId);
+        storeDetailCache.evict(storeId);
+        storeCache.evict(storeId, findStore.getStoreName());
+        searchIndex.removeAfterCommit(storeId);
+        trendingStores.removeAfterCommit(storeId);
     }
 
 }
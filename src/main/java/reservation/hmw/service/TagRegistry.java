@@ -0,0 +1,51 @@
+package reservation.hmw.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reservation.hmw.model.entity.Tag;
+import reservation.hmw.repository.TagRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 새 태그를 매장 트랜잭션과 분리된 트랜잭션에서 생성하는 컴포넌트입니다.
+ *
+ * 같은 이름의 새 태그를 두 매장이 동시에 등록하면 한쪽은 uk_tag_name 제약에 걸립니다. 이 INSERT가
+ * 매장 트랜잭션 안에서 실패하면 세션을 더 사용할 수 없으므로, 생성과 재조회를 각각 새 트랜잭션에서 수행하여
+ * 호출한 쪽이 충돌 이후에도 먼저 커밋된 태그를 읽어 계속 진행할 수 있게 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TagRegistry {
+
+    private final TagRepository tagRepository;
+
+    /**
+     * 태그를 새 트랜잭션에서 생성하고 바로 커밋하는 메서드입니다.
+     *
+     * @param names 정규화된 태그 이름 목록
+     * @return 생성된 태그 목록
+     * @throws org.springframework.dao.DataIntegrityViolationException 같은 이름의 태그가 이미 있는 경우 발생합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Tag> createAll(Collection<String> names) {
+        return tagRepository.saveAllAndFlush(names.stream()
+                .map(name -> Tag.builder().name(name).build())
+                .toList());
+    }
+
+    /**
+     * 다른 트랜잭션이 커밋한 태그까지 보이도록 새 트랜잭션에서 태그를 조회하는 메서드입니다.
+     *
+     * @param names 정규화된 태그 이름 목록
+     * @return 존재하는 태그 목록
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public List<Tag> findAll(Collection<String> names) {
+        return tagRepository.findAllByNameIn(names);
+    }
+
+}
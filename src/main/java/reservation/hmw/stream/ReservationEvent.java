@@ -0,0 +1,26 @@
+package reservation.hmw.stream;
+
+import reservation.hmw.model.entity.Reservation;
+import reservation.hmw.model.entity.enums.ReservationEventType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매장 구독자에게 전달되는 예약 이벤트 한 건입니다.
+ */
+public record ReservationEvent(ReservationEventType type,
+                               Long reservationId,
+                               Long storeId,
+                               LocalDateTime reservationTime,
+                               LocalDateTime occurredAt) {
+
+    public static ReservationEvent of(ReservationEventType type, Long reservationId, Long storeId,
+                                      LocalDateTime reservationTime) {
+        return new ReservationEvent(type, reservationId, storeId, reservationTime, LocalDateTime.now());
+    }
+
+    public static ReservationEvent of(ReservationEventType type, Reservation reservation) {
+        return of(type, reservation.getId(), reservation.getStore().getId(), reservation.getReservationTime());
+    }
+
+}
@@ -0,0 +1,338 @@
+package reservation.hmw.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 매장별 예약 이벤트를 SSE 구독자에게 나눠 보내는 허브입니다.
+ *
+ * 연결은 서블릿 비동기 요청({@link AsyncContext})으로 유지되고, 응답 스트림에는 서블릿 논블로킹 쓰기({@link WriteListener})를
+ * 사용하므로 대기 중이거나 느린 구독자 때문에 스레드가 묶이지 않습니다. 스트림이 쓰기 가능할 때만 쓰고, 쓸 수 없으면
+ * 구독자마다 buffer-size 크기의 큐에 쌓아 두었다가 컨테이너가 쓰기 가능을 알리면 이어서 씁니다.
+ * 큐가 가득 차거나 send-timeout-ms 넘게 쓰기가 막힌 구독자는 연결을 끊어 다른 구독자와 발행 쪽이 영향을 받지 않도록 합니다.
+ * 연결이 끊긴 클라이언트는 재연결 후 목록 API로 놓친 예약을 다시 조회하면 됩니다.
+ */
+@Slf4j
+@Component
+public class ReservationEventHub implements MeterBinder {
+
+    private static final byte[] CONNECTED = ":connected\n\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] HEARTBEAT = ":heartbeat\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private final ConcurrentHashMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final long timeoutMs;
+    private final long sendTimeoutMs;
+
+    public ReservationEventHub(ObjectMapper objectMapper,
+                               @Value("${reservation.stream.buffer-size:256}") int bufferSize,
+                               @Value("${reservation.stream.timeout-ms:1800000}") long timeoutMs,
+                               @Value("${reservation.stream.send-timeout-ms:5000}") long sendTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        this.sendTimeoutMs = sendTimeoutMs;
+    }
+
+    /**
+     * 매장의 예약 이벤트를 구독하는 메서드입니다.
+     * 요청을 비동기로 전환하고 응답 스트림에 쓰기 리스너를 등록하므로, 반환된 뒤에도 연결이 유지됩니다.
+     *
+     * @param storeId 매장 ID
+     * @param request 구독 요청
+     * @param response 이벤트가 전송될 응답
+     * @throws IOException 응답 스트림을 열 수 없는 경우 발생합니다.
+     */
+    public void subscribe(Long storeId, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(timeoutMs);
+        ServletOutputStream output = response.getOutputStream();
+        Subscriber subscriber = new Subscriber(storeId, asyncContext, output);
+        asyncContext.addListener(subscriber);
+
+        subscribers.compute(storeId, (id, targets) -> {
+            Set<Subscriber> registered = targets == null ? ConcurrentHashMap.newKeySet() : targets;
+            registered.add(subscriber);
+            return registered;
+        });
+        subscriberCount.incrementAndGet();
+        output.setWriteListener(subscriber);
+        subscriber.offer(CONNECTED);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 이후에 이벤트를 발행하는 메서드입니다.
+     * 트랜잭션 밖에서 호출되면 바로 발행합니다.
+     *
+     * @param events 발행할 이벤트 목록
+     */
+    public void publishAfterCommit(Collection<ReservationEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            events.forEach(this::publish);
+            return;
+        }
+
+        List<ReservationEvent> snapshot = List.copyOf(events);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                snapshot.forEach(ReservationEventHub.this::publish);
+            }
+        });
+    }
+
+    /**
+     * 매장 구독자에게 이벤트를 발행하는 메서드입니다.
+     * 이벤트는 한 번만 직렬화하며, 쓰기 가능한 구독자에게는 바로 쓰고 나머지는 큐에 넣은 뒤 기다리지 않고 반환합니다.
+     *
+     * @param event 발행할 이벤트
+     */
+    public void publish(ReservationEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.storeId());
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+
+        byte[] frame;
+        try {
+            frame = ("id:" + sequence.incrementAndGet() + "\nevent:" + event.type().name()
+                    + "\ndata:" + objectMapper.writeValueAsString(event) + "\n\n").getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            log.warn("Reservation event for store {} could not be serialized", event.storeId(), e);
+            return;
+        }
+
+        targets.forEach(subscriber -> subscriber.offer(frame));
+    }
+
+    /**
+     * 주기적으로 모든 구독자에게 주석 이벤트를 보내 끊어진 연결을 정리하는 메서드입니다.
+     */
+    @Scheduled(fixedDelayString = "${reservation.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> subscriber.offer(HEARTBEAT)));
+    }
+
+    /**
+     * 쓰기가 send-timeout-ms 넘게 막혀 있는 구독자의 연결을 끊는 메서드입니다.
+     */
+    @Scheduled(fixedDelayString = "${reservation.stream.stall-check-ms:1000}")
+    public void evictStalled() {
+        long now = System.currentTimeMillis();
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> subscriber.evictIfStalled(now)));
+    }
+
+    /**
+     * 현재 구독 중인 연결 수를 반환하는 메서드입니다.
+     */
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("reservation.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open reservation event streams")
+                .register(registry);
+        FunctionCounter.builder("reservation.stream.dropped", dropped, LongAdder::sum)
+                .description("Reservation event streams closed because the subscriber fell behind")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> {
+            subscriber.remove();
+            subscriber.complete();
+        }));
+    }
+
+    private final class Subscriber implements WriteListener, AsyncListener {
+
+        private final Long storeId;
+        private final AsyncContext asyncContext;
+        private final ServletOutputStream output;
+        private final BlockingQueue<byte[]> queue;
+        private final ReentrantLock writeLock = new ReentrantLock();
+        private final AtomicBoolean removed = new AtomicBoolean();
+        // 스트림이 쓰기 불가능해진 시각(ms), 쓰기가 막혀 있지 않으면 0
+        private volatile long stalledAt;
+
+        private Subscriber(Long storeId, AsyncContext asyncContext, ServletOutputStream output) {
+            this.storeId = storeId;
+            this.asyncContext = asyncContext;
+            this.output = output;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private void offer(byte[] frame) {
+            if (removed.get()) {
+                return;
+            }
+
+            if (!queue.offer(frame)) {
+                drop();
+                return;
+            }
+
+            write();
+        }
+
+        @Override
+        public void onWritePossible() {
+            write();
+        }
+
+        /**
+         * 스트림이 쓰기 가능한 동안 큐를 비웁니다. 쓰기 불가능해지면 바로 반환하고, 컨테이너가 다시 쓰기 가능을 알리면
+         * {@link #onWritePossible()}에서 이어서 씁니다. 논블로킹 쓰기만 하므로 락은 짧게만 잡힙니다.
+         */
+        private void write() {
+            writeLock.lock();
+            try {
+                while (!removed.get() && ready()) {
+                    byte[] frame = queue.poll();
+                    if (frame == null) {
+                        output.flush();
+                        ready();
+                        return;
+                    }
+                    output.write(frame);
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Reservation event stream for store {} closed while sending", storeId, e);
+                remove();
+                complete();
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        private boolean ready() {
+            if (output.isReady()) {
+                stalledAt = 0;
+                return true;
+            }
+            if (stalledAt == 0) {
+                stalledAt = System.currentTimeMillis();
+            }
+            return false;
+        }
+
+        private void evictIfStalled(long now) {
+            long since = stalledAt;
+            if (since != 0 && now - since >= sendTimeoutMs) {
+                log.debug("Reservation event stream for store {} dropped after writes stalled for {} ms", storeId, now - since);
+                drop();
+            }
+        }
+
+        private void drop() {
+            if (removed.get()) {
+                return;
+            }
+            dropped.increment();
+            remove();
+            complete();
+        }
+
+        /**
+         * 비동기 요청을 끝냅니다. 컨테이너에 완료만 요청하고 바로 반환하므로 쓰기가 막힌 연결이어도 기다리지 않습니다.
+         */
+        private void complete() {
+            try {
+                asyncContext.complete();
+            } catch (IllegalStateException e) {
+                log.debug("Reservation event stream for store {} was already completed", storeId);
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            remove();
+            complete();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            remove();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            remove();
+            complete();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            remove();
+            complete();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        private void remove() {
+            if (!removed.compareAndSet(false, true)) {
+                return;
+            }
+
+            queue.clear();
+            subscriberCount.decrementAndGet();
+            subscribers.computeIfPresent(storeId, (id, targets) -> {
+                targets.remove(this);
+                return targets.isEmpty() ? null : targets;
+            });
+        }
+
+    }
+
+}
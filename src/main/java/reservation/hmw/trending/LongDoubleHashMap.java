@@ -0,0 +1,204 @@
+package reservation.hmw.trending;
+
+/**
+ * 매장 ID(long)를 키로 점수(double)를 보관하는 개방 주소법 해시 맵입니다.
+ *
+ * 키와 값을 기본형 배열에 그대로 보관하므로 Long/Double 박싱과 엔트리 객체가 없어, 10만 개 매장의 점수도
+ * 약 2MB 안에 보관됩니다. 충돌은 선형 탐사로 처리하고 삭제 시 뒤따르는 항목을 당겨 와 묘비(tombstone)를 남기지 않습니다.
+ * 동기화하지 않으므로 호출하는 쪽에서 직렬화해야 합니다.
+ */
+final class LongDoubleHashMap {
+
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private double[] values;
+    private int mask;
+    private int size;
+    private boolean hasEmptyKey;
+    private double emptyKeyValue;
+
+    LongDoubleHashMap(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    int size() {
+        return size + (hasEmptyKey ? 1 : 0);
+    }
+
+    /**
+     * 키의 값을 반환하는 메서드입니다.
+     *
+     * @return 값, 없으면 0
+     */
+    double get(long key) {
+        if (key == EMPTY) {
+            return hasEmptyKey ? emptyKeyValue : 0;
+        }
+
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    /**
+     * 키의 값에 더하는 메서드입니다. 키가 없으면 새로 추가합니다.
+     *
+     * @return 더한 이후의 값
+     */
+    double addTo(long key, double delta) {
+        if (key == EMPTY) {
+            hasEmptyKey = true;
+            return emptyKeyValue += delta;
+        }
+
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return values[slot] += delta;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = delta;
+        if (++size > keys.length * LOAD_FACTOR) {
+            resize(keys.length << 1);
+        }
+        return delta;
+    }
+
+    /**
+     * 키를 제거하는 메서드입니다.
+     *
+     * @return 키가 있었으면 true
+     */
+    boolean remove(long key) {
+        if (key == EMPTY) {
+            boolean had = hasEmptyKey;
+            hasEmptyKey = false;
+            emptyKeyValue = 0;
+            return had;
+        }
+
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                shiftDown(slot);
+                size--;
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * 모든 값에 같은 비율을 곱하고, 결과가 기준보다 작은 키는 제거하는 메서드입니다.
+     *
+     * @param factor 곱할 비율
+     * @param minimum 남겨 둘 최소 값
+     */
+    void scale(double factor, double minimum) {
+        long[] oldKeys = keys;
+        double[] oldValues = values;
+        allocate(tableSizeFor(size));
+        size = 0;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            double value = oldValues[i] * factor;
+            if (oldKeys[i] != EMPTY && value >= minimum) {
+                insertNew(oldKeys[i], value);
+            }
+        }
+
+        emptyKeyValue *= factor;
+        if (hasEmptyKey && emptyKeyValue < minimum) {
+            hasEmptyKey = false;
+            emptyKeyValue = 0;
+        }
+    }
+
+    /**
+     * 모든 키와 값을 방문하는 메서드입니다.
+     */
+    void forEach(Visitor visitor) {
+        if (hasEmptyKey) {
+            visitor.visit(EMPTY, emptyKeyValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                visitor.visit(keys[i], values[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Visitor {
+
+        void visit(long key, double value);
+
+    }
+
+    private void shiftDown(int slot) {
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = slotOf(keys[next]);
+            // 다음 항목의 원래 위치가 빈 칸과 다음 칸 사이(순환 구간)에 있지 않다면 빈 칸으로 당겨 옵니다.
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+        values[gap] = 0;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        double[] oldValues = values;
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                insertNew(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void insertNew(long key, double value) {
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new double[capacity];
+        mask = capacity - 1;
+    }
+
+    private int slotOf(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(8, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        return Math.max(16, capacity);
+    }
+
+}
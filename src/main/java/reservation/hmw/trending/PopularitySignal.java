@@ -0,0 +1,36 @@
+package reservation.hmw.trending;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reservation.hmw.search.RankingQuery;
+import reservation.hmw.search.RankingSignal;
+
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * 최근 활동이 많은 매장일수록 높은 점수를 주는 순위 신호입니다.
+ * 인기 매장 순위({@link TrendingStores})의 상위 k개만 점수를 받으며, 1위 매장의 점수를 1로 맞춥니다.
+ */
+@Component
+public class PopularitySignal implements RankingSignal {
+
+    private final TrendingStores trendingStores;
+    private final double weight;
+
+    public PopularitySignal(TrendingStores trendingStores,
+                            @Value("${reservation.ranking.popularity-weight:0.2}") double weight) {
+        this.trendingStores = trendingStores;
+        this.weight = weight;
+    }
+
+    @Override
+    public double weight() {
+        return weight;
+    }
+
+    @Override
+    public LongToDoubleFunction prepare(RankingQuery query) {
+        return trendingStores.popularity();
+    }
+
+}
@@ -0,0 +1,10 @@
+package reservation.hmw.trending;
+
+/**
+ * 인기 매장 순위의 한 항목입니다.
+ *
+ * @param storeId 매장 ID
+ * @param score 현재 시각 기준으로 감쇠된 활동 점수
+ */
+public record TrendingStore(long storeId, double score) {
+}
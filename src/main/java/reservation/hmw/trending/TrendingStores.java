@@ -0,0 +1,294 @@
+package reservation.hmw.trending;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * 최근 활동(예약 생성, 리뷰 작성)이 많은 매장의 순위를 유지하는 컴포넌트입니다.
+ *
+ * 매장 점수는 활동마다 가중치를 더하고 시간이 지나면 반감기마다 절반으로 줄어드는 지수 감쇠 점수입니다.
+ * 모든 매장의 점수를 매번 줄이는 대신 기준 시각부터 지난 시간만큼 가중치를 키워서 더하므로(forward decay)
+ * 매장 간 점수의 대소 관계가 시간에 따라 바뀌지 않고, 점수는 활동이 있을 때만 커집니다.
+ * 따라서 상위 k개 목록은 활동이 생긴 매장 하나만 비교해 갱신하면 되며, 조회는 DB 없이 O(k)입니다.
+ *
+ * 점수는 기본형 long 키 맵({@link LongDoubleHashMap})에 보관하고, 주기적으로 기준 시각을 현재로 옮기면서
+ * 충분히 작아진 매장은 제거합니다. 순위는 이 인스턴스의 메모리에만 있으므로 재시작하면 처음부터 다시 쌓입니다.
+ */
+@Component
+public class TrendingStores implements MeterBinder {
+
+    static final double RESERVATION_WEIGHT = 1.0;
+    static final double REVIEW_WEIGHT = 2.0;
+
+    private static final double RESCALE_EXPONENT = 30;
+    private static final double MIN_SCORE = 0.01;
+
+    private final double tauMillis;
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongDoubleHashMap scores = new LongDoubleHashMap(1024);
+    private final long[] topIds;
+    private final double[] topScores;
+    private int topSize;
+    private long landmarkMillis;
+    private volatile Ranking ranking;
+
+    public TrendingStores(@Value("${reservation.trending.half-life-minutes:60}") long halfLifeMinutes,
+                          @Value("${reservation.trending.capacity:100}") int capacity) {
+        this(halfLifeMinutes, capacity, System.currentTimeMillis());
+    }
+
+    TrendingStores(long halfLifeMinutes, int capacity, long nowMillis) {
+        this.tauMillis = halfLifeMinutes * 60_000.0 / Math.log(2);
+        this.capacity = capacity;
+        this.topIds = new long[capacity];
+        this.topScores = new double[capacity];
+        this.landmarkMillis = nowMillis;
+        this.ranking = Ranking.of(nowMillis, new long[0], new double[0]);
+    }
+
+    /**
+     * 예약이 생성된 것을 기록하는 메서드입니다.
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 기록되며, 롤백되면 기록되지 않습니다.
+     *
+     * @param storeId 매장 ID
+     */
+    public void recordReservation(Long storeId) {
+        afterCommit(() -> record(storeId, RESERVATION_WEIGHT, System.currentTimeMillis()));
+    }
+
+    /**
+     * 리뷰가 작성된 것을 기록하는 메서드입니다.
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 기록되며, 롤백되면 기록되지 않습니다.
+     *
+     * @param storeId 매장 ID
+     */
+    public void recordReview(Long storeId) {
+        afterCommit(() -> record(storeId, REVIEW_WEIGHT, System.currentTimeMillis()));
+    }
+
+    /**
+     * 매장을 순위에서 제거하는 메서드입니다.
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 제거합니다.
+     *
+     * @param storeId 매장 ID
+     */
+    public void removeAfterCommit(Long storeId) {
+        afterCommit(() -> remove(storeId));
+    }
+
+    /**
+     * 현재 점수가 높은 매장을 순서대로 반환하는 메서드입니다.
+     *
+     * @param limit 최대 매장 수
+     * @return 점수 순으로 정렬된 매장 목록
+     */
+    public List<TrendingStore> top(int limit) {
+        return top(limit, System.currentTimeMillis());
+    }
+
+    /**
+     * 상위 매장의 점수를 1위 매장 점수 대비 비율(0~1)로 반환하는 함수를 만드는 메서드입니다.
+     * 상위 목록에 없는 매장은 0입니다.
+     *
+     * @return 매장 ID별 인기도 함수
+     */
+    public LongToDoubleFunction popularity() {
+        Ranking current = ranking;
+        return id -> {
+            int index = Arrays.binarySearch(current.sortedIds, id);
+            return index < 0 ? 0 : current.relativeScores[index];
+        };
+    }
+
+    /**
+     * 보관할 수 있는 최대 순위 수를 반환하는 메서드입니다.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 기준 시각을 현재로 옮기고 점수가 충분히 작아진 매장을 제거하는 메서드입니다.
+     */
+    @Scheduled(fixedDelayString = "${reservation.trending.maintenance-ms:600000}")
+    public void maintain() {
+        maintain(System.currentTimeMillis());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("store.trending.tracked", this, TrendingStores::tracked)
+                .description("Stores with a non-negligible trending score")
+                .register(registry);
+    }
+
+    void record(Long storeId, double weight, long nowMillis) {
+        if (storeId == null) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            if ((nowMillis - landmarkMillis) / tauMillis > RESCALE_EXPONENT) {
+                rescale(nowMillis);
+            }
+
+            double score = scores.addTo(storeId, weight * Math.exp((nowMillis - landmarkMillis) / tauMillis));
+            if (offer(storeId, score)) {
+                publish();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void remove(Long storeId) {
+        if (storeId == null) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (scores.remove(storeId) && indexOf(storeId) >= 0) {
+                rebuildTop();
+                publish();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    List<TrendingStore> top(int limit, long nowMillis) {
+        Ranking current = ranking;
+        double decay = Math.exp(-(nowMillis - current.landmarkMillis) / tauMillis);
+        int size = Math.min(limit, current.ids.length);
+
+        List<TrendingStore> top = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            top.add(new TrendingStore(current.ids[i], current.scores[i] * decay));
+        }
+        return top;
+    }
+
+    void maintain(long nowMillis) {
+        lock.lock();
+        try {
+            rescale(nowMillis);
+            rebuildTop();
+            publish();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int tracked() {
+        lock.lock();
+        try {
+            return scores.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 점수가 바뀐 매장을 상위 목록에 반영하는 메서드입니다. 점수는 커지기만 하므로 해당 매장만 위로 올리면 됩니다.
+     *
+     * @return 상위 목록이 바뀌었으면 true
+     */
+    private boolean offer(long storeId, double score) {
+        int index = indexOf(storeId);
+        if (index < 0) {
+            if (topSize == capacity && score <= topScores[topSize - 1]) {
+                return false;
+            }
+            index = topSize < capacity ? topSize++ : topSize - 1;
+        }
+
+        while (index > 0 && topScores[index - 1] < score) {
+            topIds[index] = topIds[index - 1];
+            topScores[index] = topScores[index - 1];
+            index--;
+        }
+        topIds[index] = storeId;
+        topScores[index] = score;
+        return true;
+    }
+
+    private void rescale(long nowMillis) {
+        double factor = Math.exp(-(nowMillis - landmarkMillis) / tauMillis);
+        scores.scale(factor, MIN_SCORE);
+        for (int i = 0; i < topSize; i++) {
+            topScores[i] *= factor;
+        }
+        landmarkMillis = nowMillis;
+    }
+
+    private void rebuildTop() {
+        topSize = 0;
+        scores.forEach(this::offer);
+    }
+
+    private int indexOf(long storeId) {
+        for (int i = 0; i < topSize; i++) {
+            if (topIds[i] == storeId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void publish() {
+        ranking = Ranking.of(landmarkMillis, Arrays.copyOf(topIds, topSize), Arrays.copyOf(topScores, topSize));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 발행된 상위 목록입니다. 인기도 조회용으로 매장 ID 순으로 정렬한 사본을 함께 둡니다.
+     */
+    private record Ranking(long landmarkMillis, long[] ids, double[] scores, long[] sortedIds, double[] relativeScores) {
+
+        private static Ranking of(long landmarkMillis, long[] ids, double[] scores) {
+            Integer[] order = new Integer[ids.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(ids[a], ids[b]));
+
+            long[] sortedIds = new long[ids.length];
+            double[] relativeScores = new double[ids.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedIds[i] = ids[order[i]];
+                relativeScores[i] = scores[order[i]] / scores[0];
+            }
+            return new Ranking(landmarkMillis, ids, scores, sortedIds, relativeScores);
+        }
+
+    }
+
+}
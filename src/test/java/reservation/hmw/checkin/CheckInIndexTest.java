@@ -0,0 +1,111 @@
+package reservation.hmw.checkin;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reservation.hmw.model.entity.enums.ReservationStatus;
+import reservation.hmw.repository.ReservationRepository;
+import reservation.hmw.repository.projection.CheckInView;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CheckInIndexTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    private CheckInIndex checkInIndex;
+
+    private final LocalDateTime today = LocalDate.now().atTime(12, 0);
+
+    @BeforeEach
+    void setUp() {
+        checkInIndex = new CheckInIndex(reservationRepository);
+    }
+
+    @Test
+    void find_loadsTodayOnceAndNormalizesPhone() {
+        //given
+        given(reservationRepository.findCheckInViews(any(), any(), eq(ReservationStatus.APPROVED)))
+                .willReturn(List.of(
+                        view(2L, 1L, "010-1234-5678", today.plusHours(2)),
+                        view(1L, 1L, "010-1234-5678", today),
+                        view(3L, 2L, "010-1234-5678", today)));
+
+        //when
+        List<CheckInEntry> first = checkInIndex.find("01012345678", 1L);
+        List<CheckInEntry> second = checkInIndex.find("010 1234 5678", 1L);
+
+        //then
+        Assertions.assertThat(first).extracting(CheckInEntry::reservationId).containsExactly(1L, 2L);
+        Assertions.assertThat(second).isEqualTo(first);
+        verify(reservationRepository, times(1)).findCheckInViews(any(), any(), any());
+    }
+
+    @Test
+    void addAndRemove_keepIndexCurrent() {
+        //given
+        given(reservationRepository.findCheckInViews(any(), any(), any())).willReturn(List.of());
+        checkInIndex.preload();
+
+        //when
+        checkInIndex.addAfterCommit(List.of(
+                new CheckInEntry(1L, 1L, "010-1234-5678", "kim", "store", today),
+                new CheckInEntry(2L, 1L, "010-1234-5678", "kim", "store", today.plusDays(1))));
+        List<CheckInEntry> added = checkInIndex.find("010-1234-5678", 1L);
+
+        checkInIndex.removeAfterCommit(List.of(1L));
+        List<CheckInEntry> removed = checkInIndex.find("010-1234-5678", 1L);
+
+        //then
+        Assertions.assertThat(added).extracting(CheckInEntry::reservationId).containsExactly(1L);
+        Assertions.assertThat(removed).isEmpty();
+    }
+
+    private CheckInView view(Long id, Long storeId, String phone, LocalDateTime time) {
+        return new CheckInView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getStoreId() {
+                return storeId;
+            }
+
+            @Override
+            public String getStoreName() {
+                return "store";
+            }
+
+            @Override
+            public String getUserName() {
+                return "kim";
+            }
+
+            @Override
+            public String getPhone() {
+                return phone;
+            }
+
+            @Override
+            public LocalDateTime getReservationTime() {
+                return time;
+            }
+        };
+    }
+
+}
@@ -14,15 +14,25 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import reservation.hmw.model.entity.dto.CursorSliceDto;
 import reservation.hmw.model.entity.dto.LoginForm;
 import reservation.hmw.model.entity.dto.RegisterForm;
+import reservation.hmw.model.entity.dto.StoreReservationDto;
 import reservation.hmw.model.entity.session.SessionConst;
 import reservation.hmw.service.PartnerService;
+import reservation.hmw.service.ReservationService;
+import reservation.hmw.service.StoreService;
+
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(PartnerController.class)
@@ -34,6 +44,12 @@ class PartnerControllerTest {
     @MockBean
     private StoreController storeController;
 
+    @MockBean
+    private StoreService storeService;
+
+    @MockBean
+    private ReservationService reservationService;
+
     @Mock
     private HttpServletRequest request;
 
@@ -169,4 +185,52 @@ class PartnerControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    void getStoreReservations_success() throws Exception {
+        // given
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(SessionConst.LOGIN_PARTNER, 1L);
+
+        given(reservationService.getStoreReservations(1L, 1L, null, 15))
+                .willReturn(CursorSliceDto.<StoreReservationDto.Response>builder()
+                        .content(List.of(StoreReservationDto.Response.builder().reservationId(7L).build()))
+                        .size(15)
+                        .hasNext(true)
+                        .nextCursor("next")
+                        .build());
+
+        // when // then
+        mockMvc.perform(get("/partner/stores/1/reservations")
+                        .session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].reservationId").value(7L))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void streamReservations_startsAsync() throws Exception {
+        // given
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(SessionConst.LOGIN_PARTNER, 1L);
+
+        willAnswer(invocation -> {
+            invocation.getArgument(2, HttpServletRequest.class).startAsync();
+            return null;
+        }).given(storeService).subscribeReservations(eq(1L), eq(1L), any(), any());
+
+        // when // then
+        mockMvc.perform(get("/partner/stores/1/reservations/stream")
+                        .session(session)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void streamReservations_withoutLogin() throws Exception {
+        // when // then
+        mockMvc.perform(get("/partner/stores/1/reservations/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isBadRequest());
+    }
 }
\ No newline at end of file
@@ -12,18 +12,28 @@ import org.springframework.test.web.servlet.MockMvcBuilder;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.test.web.servlet.setup.StandaloneMockMvcBuilder;
+import reservation.hmw.intake.ReservationIntake;
 import reservation.hmw.model.entity.dto.ConfirmReservationDto;
+import reservation.hmw.model.entity.dto.RecurringReservationDto;
+import reservation.hmw.model.entity.dto.ReservationDecisionDto;
+import reservation.hmw.model.entity.dto.ReservationHoldDto;
 import reservation.hmw.model.entity.dto.ReservationDto;
+import reservation.hmw.model.entity.enums.ReservationDecisionResult;
+import reservation.hmw.model.entity.enums.ReservationStatus;
 import reservation.hmw.model.entity.session.SessionConst;
 import reservation.hmw.service.ReservationService;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -34,6 +44,9 @@ class ReservationControllerTest {
     @MockBean
     private ReservationService reservationService;
 
+    @MockBean
+    private ReservationIntake reservationIntake;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -44,7 +57,7 @@ class ReservationControllerTest {
     void createReservation_success() throws Exception{
         //given
         MockMvc mvc = MockMvcBuilders
-                .standaloneSetup(new ReservationController(reservationService))
+                .standaloneSetup(new ReservationController(reservationService, reservationIntake))
                 .build();
 
         LocalDateTime now = LocalDateTime.now();
@@ -178,6 +191,7 @@ class ReservationControllerTest {
         //given
         ConfirmReservationDto.Request request = ConfirmReservationDto.Request.builder()
                 .phone("010-1234-5678")
+                .storeId(1L)
                 .build();
 
         LocalDateTime time = LocalDateTime.now();
@@ -207,7 +221,7 @@ class ReservationControllerTest {
     @Test
     void approveReservation_success() throws Exception {
         //given
-        MockMvc mock = MockMvcBuilders.standaloneSetup(new ReservationController(reservationService)).build();
+        MockMvc mock = MockMvcBuilders.standaloneSetup(new ReservationController(reservationService, reservationIntake)).build();
 
         Long reservationId = 1L;
 
@@ -223,7 +237,7 @@ class ReservationControllerTest {
     @Test
     void rejectReservation() throws Exception{
         //given
-        MockMvc mock = MockMvcBuilders.standaloneSetup(new ReservationController(reservationService)).build();
+        MockMvc mock = MockMvcBuilders.standaloneSetup(new ReservationController(reservationService, reservationIntake)).build();
 
         Long reservationId = 1L;
         //when
@@ -233,4 +247,172 @@ class ReservationControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string("REJECTED"));
      }
-}
\ No newline at end of file
+
+    @Test
+    void createHold_success() throws Exception {
+        //given
+        MockMvc mvc = MockMvcBuilders
+                .standaloneSetup(new ReservationController(reservationService, reservationIntake))
+                .build();
+
+        ReservationHoldDto.Response response = ReservationHoldDto.Response.builder()
+                .reservationId(3L)
+                .storeName("ch")
+                .userName("kk")
+                .build();
+
+        ReservationDto.Request request = ReservationDto.Request.builder()
+                .userId(1L)
+                .storeId(1L)
+                .reservationTime(LocalDateTime.now().plusDays(1))
+                .build();
+
+        given(reservationService.createHold(any()))
+                .willReturn(response);
+
+        //when //then
+        mvc.perform(post("/reservation/hold")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reservationId").value(3L))
+                .andExpect(jsonPath("$.storeName").value("ch"));
+    }
+
+    @Test
+    void decideReservations_success() throws Exception {
+        //given
+        MockMvc mvc = MockMvcBuilders
+                .standaloneSetup(new ReservationController(reservationService, reservationIntake))
+                .build();
+
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(SessionConst.LOGIN_PARTNER, 7L);
+
+        ReservationDecisionDto.Request request = ReservationDecisionDto.Request.builder()
+                .decisions(List.of(ReservationDecisionDto.Decision.builder()
+                        .reservationId(1L)
+                        .status(ReservationStatus.APPROVED)
+                        .build()))
+                .build();
+
+        given(reservationService.decideReservations(any(), eq(7L)))
+                .willReturn(List.of(ReservationDecisionDto.Response.builder()
+                        .reservationId(1L)
+                        .result(ReservationDecisionResult.APPROVED)
+                        .build()));
+
+        //when //then
+        mvc.perform(put("/reservation/decisions")
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].reservationId").value(1L))
+                .andExpect(jsonPath("$[0].result").value("APPROVED"));
+    }
+
+    @Test
+    void markNoShow_success() throws Exception {
+        //given
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(SessionConst.LOGIN_PARTNER, 7L);
+
+        doNothing().when(reservationService).markNoShow(1L, 7L);
+
+        //when //then
+        mockMvc.perform(put("/reservation/no-show/{reservationId}", 1L)
+                        .session(session))
+                .andExpect(status().isOk())
+                .andExpect(content().string("NO_SHOW"));
+    }
+
+    @Test
+    void createRecurringReservation_success() throws Exception {
+        //given
+        LocalDateTime first = LocalDateTime.now().plusDays(1).withNano(0);
+        RecurringReservationDto.Request request = RecurringReservationDto.Request.builder()
+                .userId(1L)
+                .storeId(1L)
+                .firstReservationTime(first)
+                .count(3)
+                .build();
+
+        given(reservationService.createRecurringReservation(any()))
+                .willReturn(RecurringReservationDto.Response.builder()
+                        .storeName("ch")
+                        .userName("kk")
+                        .reserved(List.of(
+                                RecurringReservationDto.Occurrence.builder().reservationId(1L).reservationTime(first).build(),
+                                RecurringReservationDto.Occurrence.builder().reservationId(2L).reservationTime(first.plusWeeks(2)).build()))
+                        .conflicts(List.of(first.plusWeeks(1)))
+                        .build());
+
+        MockMvc mvc = MockMvcBuilders
+                .standaloneSetup(new ReservationController(reservationService, reservationIntake))
+                .build();
+
+        //when //then
+        mvc.perform(post("/reservation/recurring")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reserved.length()").value(2))
+                .andExpect(jsonPath("$.reserved[1].reservationId").value(2))
+                .andExpect(jsonPath("$.conflicts.length()").value(1));
+    }
+
+    @Test
+    void createRecurringReservation_rejectsTooManyOccurrences() throws Exception {
+        //given
+        RecurringReservationDto.Request request = RecurringReservationDto.Request.builder()
+                .userId(1L)
+                .storeId(1L)
+                .firstReservationTime(LocalDateTime.now().plusDays(1))
+                .count(53)
+                .build();
+
+        MockMvc mvc = MockMvcBuilders
+                .standaloneSetup(new ReservationController(reservationService, reservationIntake))
+                .build();
+
+        //when //then
+        mvc.perform(post("/reservation/recurring")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void createReservation_intakeEnabled() throws Exception {
+        //given
+        MockMvc mvc = MockMvcBuilders
+                .standaloneSetup(new ReservationController(reservationService, reservationIntake))
+                .build();
+
+        ReservationDto.Request request = ReservationDto.Request.builder()
+                .userId(1L)
+                .storeId(1L)
+                .reservationTime(LocalDateTime.now().plusDays(1))
+                .build();
+
+        given(reservationIntake.isEnabled()).willReturn(true);
+        given(reservationIntake.submit(any()))
+                .willReturn(CompletableFuture.completedFuture(ReservationDto.Response.builder()
+                        .userName("kk")
+                        .storeName("ch")
+                        .build()));
+
+        //when
+        MvcResult result = mvc.perform(post("/reservation")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.storeName").value("ch"));
+    }
+}
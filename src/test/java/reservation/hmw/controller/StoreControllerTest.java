@@ -22,14 +22,18 @@ import reservation.hmw.exception.ErrorCode;
 import reservation.hmw.model.entity.Review;
 import reservation.hmw.model.entity.Store;
 import reservation.hmw.model.entity.User;
+import reservation.hmw.model.entity.dto.AvailabilityDto;
+import reservation.hmw.model.entity.dto.ReviewForm;
 import reservation.hmw.model.entity.dto.StoreDetailDto;
 import reservation.hmw.model.entity.dto.StoreInfoDto;
 import reservation.hmw.model.entity.dto.StoreRegisterForm;
+import reservation.hmw.model.entity.dto.TrendingStoreDto;
 import reservation.hmw.model.entity.session.PartnerCheckInterceptor;
 import reservation.hmw.model.entity.session.SessionConst;
 import reservation.hmw.service.StoreService;
 
 import javax.swing.text.html.Option;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -145,7 +149,7 @@ class StoreControllerTest {
                         .session(mockHttpSession)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(
-                                new StoreRegisterForm("a", "b", "c", "d")
+                                new StoreRegisterForm("a", "b", "c", "d", null, null, null, null)
                         )))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.storeName").value("가게이름"))
@@ -192,7 +196,7 @@ class StoreControllerTest {
                         .build()
         );
 
-        given(storeService.searchStoreByKeyword(anyString()))
+        given(storeService.searchStoreByKeyword(anyString(), isNull(), isNull(), anyInt(), anyInt()))
                 .willReturn(storeInfoDtoList);
         MockMvc testMock = MockMvcBuilders
                 .standaloneSetup(new StoreController(storeService))
@@ -210,6 +214,37 @@ class StoreControllerTest {
 
     }
 
+    @Test
+    void searchStoreByDescription_success() throws Exception {
+        // given
+        given(storeService.searchStoreByDescription("생면 파스타", "gangnam", List.of(), 0, 15))
+                .willReturn(List.of(StoreInfoDto.builder().storeId(1L).storeName("a").build()));
+        MockMvc testMock = MockMvcBuilders
+                .standaloneSetup(new StoreController(storeService))
+                .build();
+
+        // when // then
+        testMock.perform(get("/store/search").param("q", "생면 파스타").param("keyword", "gangnam"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].storeName").value("a"));
+    }
+
+    @Test
+    void searchStoreByTags_success() throws Exception {
+        // given
+        given(storeService.searchStoreByTags(List.of("한식", "심야영업"), null, 0, 15))
+                .willReturn(List.of(StoreInfoDto.builder().storeId(1L).storeName("a").tags(List.of("한식", "심야영업")).build()));
+        MockMvc testMock = MockMvcBuilders
+                .standaloneSetup(new StoreController(storeService))
+                .build();
+
+        // when // then
+        testMock.perform(get("/store/search").param("tags", "한식,심야영업"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].storeName").value("a"))
+                .andExpect(jsonPath("$[0].tags[1]").value("심야영업"));
+    }
+
     @Test
     void searchStoreByStoreName_success() throws Exception {
         // given
@@ -233,6 +268,54 @@ class StoreControllerTest {
                 .andExpect(jsonPath("$.location").value("aaaa"));
     }
 
+    @Test
+    void searchNearby_success() throws Exception {
+        // given
+        given(storeService.searchNearby(37.5, 127.0, 3000, "cafe", 15))
+                .willReturn(List.of(StoreInfoDto.builder().storeId(1L).storeName("a").distanceMeters(120.0).build()));
+        MockMvc testMock = MockMvcBuilders
+                .standaloneSetup(new StoreController(storeService))
+                .build();
+
+        // when // then
+        testMock.perform(get("/store/nearby?lat=37.5&lon=127.0&keyword=cafe"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].storeName").value("a"))
+                .andExpect(jsonPath("$[0].distanceMeters").value(120.0));
+    }
+
+    @Test
+    void trending_success() throws Exception {
+        // given
+        given(storeService.trending(5))
+                .willReturn(List.of(TrendingStoreDto.builder().rank(1).storeId(3L).storeName("a").score(2.5).build()));
+        MockMvc testMock = MockMvcBuilders
+                .standaloneSetup(new StoreController(storeService))
+                .build();
+
+        // when // then
+        testMock.perform(get("/store/trending").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].rank").value(1))
+                .andExpect(jsonPath("$[0].storeId").value(3))
+                .andExpect(jsonPath("$[0].score").value(2.5));
+    }
+
+    @Test
+    void suggest_success() throws Exception {
+        // given
+        given(storeService.suggest("치", 10)).willReturn(List.of("치킨", "강남 치킨"));
+        MockMvc testMock = MockMvcBuilders
+                .standaloneSetup(new StoreController(storeService))
+                .build();
+
+        // when // then
+        testMock.perform(get("/store/suggest").param("prefix", "치"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("치킨"))
+                .andExpect(jsonPath("$[1]").value("강남 치킨"));
+    }
+
     @Test
     void searchStore_MISSING() throws Exception {
         // given
@@ -274,13 +357,20 @@ class StoreControllerTest {
         );
 
         given(storeService.detailStore(anyLong()))
-                .willReturn(new StoreDetailDto("desc", reviewList));
+                .willReturn(StoreDetailDto.builder()
+                        .storeDescription("desc")
+                        .ratingCount(1)
+                        .averageRating(5.0)
+                        .recentReviews(reviewList.stream().map(ReviewForm.Response::fromEntity).toList())
+                        .build());
 
         //when //then
         testMock.perform(get("/store/detail/1")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.storeDescription").value("desc"));
+                .andExpect(jsonPath("$.storeDescription").value("desc"))
+                .andExpect(jsonPath("$.averageRating").value(5.0))
+                .andExpect(jsonPath("$.recentReviews[0].userName").value("name"));
      }
 
     @Test
@@ -341,4 +431,29 @@ class StoreControllerTest {
                 .andExpect(status().isOk());
     }
 
-}
\ No newline at end of file
+    @Test
+    void getAvailability_success() throws Exception {
+        //given
+        LocalDate day = LocalDate.now().plusDays(1);
+        AvailabilityDto.Response response = AvailabilityDto.Response.builder()
+                .storeId(1L)
+                .slotMinutes(30)
+                .slots(List.of(AvailabilityDto.Slot.builder()
+                        .startTime(day.atTime(18, 0))
+                        .remaining(3)
+                        .build()))
+                .build();
+
+        given(storeService.getAvailability(1L, day, day.plusDays(30)))
+                .willReturn(response);
+
+        // when // then
+        mockMvc.perform(get("/store/{storeId}/availability", 1L)
+                        .param("from", day.toString())
+                        .param("to", day.plusDays(30).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.slotMinutes").value(30))
+                .andExpect(jsonPath("$.slots[0].remaining").value(3));
+    }
+
+}
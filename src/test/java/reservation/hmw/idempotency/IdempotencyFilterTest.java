@@ -0,0 +1,200 @@
+package reservation.hmw.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reservation.hmw.controller.ReservationController;
+import reservation.hmw.exception.CustomException;
+import reservation.hmw.exception.ErrorCode;
+import reservation.hmw.exception.GlobalExceptionHandler;
+import reservation.hmw.intake.ReservationIntake;
+import reservation.hmw.model.entity.IdempotencyRecord;
+import reservation.hmw.model.entity.dto.ReservationDto;
+import reservation.hmw.model.entity.session.SessionConst;
+import reservation.hmw.repository.IdempotencyRecordRepository;
+import reservation.hmw.service.ReservationService;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyFilterTest {
+
+    @Mock
+    private ReservationService reservationService;
+
+    @Mock
+    private ReservationIntake reservationIntake;
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        mvc = MockMvcBuilders
+                .standaloneSetup(new ReservationController(reservationService, reservationIntake))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .addFilters(new IdempotencyFilter(new IdempotencyStore(repository, 24, 60, 100)))
+                .build();
+    }
+
+    @Test
+    void retryReplaysStoredResponse() throws Exception {
+        //given
+        given(reservationService.createReservation(any()))
+                .willReturn(ReservationDto.Response.builder().storeName("ch").userName("kk").build());
+
+        String body = objectMapper.writeValueAsString(request());
+
+        //when
+        for (int i = 0; i < 2; i++) {
+            mvc.perform(post("/reservation")
+                            .header(IdempotencyFilter.HEADER, "key-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.storeName").value("ch"));
+        }
+
+        //then
+        verify(reservationService, times(1)).createReservation(any());
+        verify(repository, times(1)).complete(eq("anonymous:/reservation:key-1"), eq(200), any(), any());
+    }
+
+    @Test
+    void replaysResponseStoredByAnotherNode() throws Exception {
+        //given
+        given(repository.findById("anonymous:/reservation:key-2")).willReturn(Optional.of(IdempotencyRecord.builder()
+                .requestKey("anonymous:/reservation:key-2")
+                .completed(true)
+                .statusCode(200)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body("{\"storeName\":\"stored\"}".getBytes())
+                .createdAt(LocalDateTime.now())
+                .build()));
+
+        //when //then
+        mvc.perform(post("/reservation")
+                        .header(IdempotencyFilter.HEADER, "key-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request())))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.storeName").value("stored"));
+        verify(reservationService, never()).createReservation(any());
+    }
+
+    @Test
+    void IDEMPOTENCY_REQUEST_IN_PROGRESS() throws Exception {
+        //given
+        given(repository.findById("anonymous:/reservation:key-3")).willReturn(Optional.of(IdempotencyRecord.builder()
+                .requestKey("anonymous:/reservation:key-3")
+                .completed(false)
+                .createdAt(LocalDateTime.now())
+                .build()));
+
+        //when //then
+        mvc.perform(post("/reservation")
+                        .header(IdempotencyFilter.HEADER, "key-3")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request())))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS.getDescription()));
+        verify(reservationService, never()).createReservation(any());
+    }
+
+    @Test
+    void failedRequestReleasesKey() throws Exception {
+        //given
+        given(reservationService.createReservation(any()))
+                .willThrow(new CustomException(ErrorCode.RESERVATION_SLOT_FULL));
+
+        //when //then
+        mvc.perform(post("/reservation")
+                        .header(IdempotencyFilter.HEADER, "key-4")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request())))
+                .andExpect(status().isBadRequest());
+        verify(repository).deleteClaim("anonymous:/reservation:key-4");
+        verify(repository, never()).complete(anyString(), any(), any(), any());
+    }
+
+    @Test
+    void IDEMPOTENCY_KEY_REUSED() throws Exception {
+        //given
+        given(reservationService.createReservation(any()))
+                .willReturn(ReservationDto.Response.builder().storeName("ch").userName("kk").build());
+        mvc.perform(post("/reservation")
+                        .header(IdempotencyFilter.HEADER, "key-5")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request())))
+                .andExpect(status().isOk());
+
+        //when //then
+        mvc.perform(post("/reservation")
+                        .header(IdempotencyFilter.HEADER, "key-5")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ReservationDto.Request.builder()
+                                .userId(1L)
+                                .storeId(2L)
+                                .reservationTime(LocalDateTime.now().plusDays(1))
+                                .build())))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(content().string(ErrorCode.IDEMPOTENCY_KEY_REUSED.getDescription()));
+        verify(reservationService, times(1)).createReservation(any());
+    }
+
+    @Test
+    void keyIsScopedToSessionUser() throws Exception {
+        //given
+        given(reservationService.createReservation(any()))
+                .willReturn(ReservationDto.Response.builder().storeName("ch").userName("kk").build());
+        String body = objectMapper.writeValueAsString(request());
+
+        //when
+        for (long userId = 1; userId <= 2; userId++) {
+            mvc.perform(post("/reservation")
+                            .sessionAttr(SessionConst.LOGIN_USER, userId)
+                            .header(IdempotencyFilter.HEADER, "key-6")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+        }
+
+        //then
+        verify(reservationService, times(2)).createReservation(any());
+        verify(repository).complete(eq("user:1:/reservation:key-6"), eq(200), any(), any());
+        verify(repository).complete(eq("user:2:/reservation:key-6"), eq(200), any(), any());
+    }
+
+    private ReservationDto.Request request() {
+        return ReservationDto.Request.builder()
+                .userId(1L)
+                .storeId(1L)
+                .reservationTime(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+
+}
@@ -0,0 +1,88 @@
+package reservation.hmw.intake;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+class MpscRingBufferTest {
+
+    @Test
+    void offer_failsWhenFull() {
+        //given
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(3);
+
+        //when
+        for (int i = 0; i < buffer.capacity(); i++) {
+            buffer.offer(i);
+        }
+
+        //then
+        Assertions.assertThat(buffer.capacity()).isEqualTo(4);
+        Assertions.assertThat(buffer.offer(99)).isFalse();
+        Assertions.assertThat(buffer.poll()).isEqualTo(0);
+        Assertions.assertThat(buffer.offer(99)).isTrue();
+    }
+
+    @Test
+    void drainTo_keepsOrderAndLimit() {
+        //given
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(8);
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(i);
+        }
+        List<Integer> sink = new ArrayList<>();
+
+        //when
+        int drained = buffer.drainTo(sink, 3);
+
+        //then
+        Assertions.assertThat(drained).isEqualTo(3);
+        Assertions.assertThat(sink).containsExactly(0, 1, 2);
+        Assertions.assertThat(buffer.size()).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentProducers_noLossOrDuplication() throws InterruptedException {
+        //given
+        int producers = 8;
+        int perProducer = 20_000;
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        //when
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        Set<Integer> received = new HashSet<>();
+        while (received.size() < producers * perProducer) {
+            Integer value = buffer.poll();
+            if (value != null) {
+                Assertions.assertThat(received.add(value)).isTrue();
+            }
+        }
+
+        //then
+        Assertions.assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(buffer.poll()).isNull();
+        executor.shutdown();
+    }
+
+}
@@ -0,0 +1,94 @@
+package reservation.hmw.intake;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reservation.hmw.exception.ErrorCode;
+import reservation.hmw.inventory.SlotInventory;
+import reservation.hmw.model.entity.Reservation;
+import reservation.hmw.model.entity.Store;
+import reservation.hmw.model.entity.User;
+import reservation.hmw.model.entity.dto.ReservationDto;
+import reservation.hmw.repository.ReservationRepository;
+import reservation.hmw.repository.StoreRepository;
+import reservation.hmw.repository.UserRepository;
+import reservation.hmw.stream.ReservationEventHub;
+import reservation.hmw.trending.TrendingStores;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationBatchWriterTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SlotInventory slotInventory;
+
+    @Mock
+    private ReservationEventHub eventHub;
+
+    @Mock
+    private TrendingStores trendingStores;
+
+    @InjectMocks
+    private ReservationBatchWriter batchWriter;
+
+    @Test
+    void write_loadsOnceAndReportsPerRequest() {
+        //given
+        LocalDateTime time = LocalDateTime.now().plusDays(1);
+        LocalDateTime fullTime = time.plusHours(1);
+
+        Store store = Store.builder().id(1L).storeName("store").location("seoul").build();
+        User user = User.builder().id(1L).name("kim").build();
+
+        given(storeRepository.findAllById(anyIterable())).willReturn(List.of(store));
+        given(userRepository.findAllById(anyIterable())).willReturn(List.of(user));
+        given(slotInventory.tryAcquire(eq(1L), eq(time), any())).willReturn(true);
+        given(slotInventory.tryAcquire(eq(1L), eq(fullTime), any())).willReturn(false);
+
+        //when
+        List<ReservationBatchWriter.Outcome> outcomes = batchWriter.write(List.of(
+                request(1L, 1L, time),
+                request(2L, 1L, time),
+                request(1L, 1L, fullTime)));
+
+        //then
+        Assertions.assertThat(outcomes.get(0).response().getStoreName()).isEqualTo("store");
+        Assertions.assertThat(outcomes.get(1).error().getErrorCode()).isEqualTo(ErrorCode.NOT_FOUND_STORE);
+        Assertions.assertThat(outcomes.get(2).error().getErrorCode()).isEqualTo(ErrorCode.RESERVATION_SLOT_FULL);
+        verify(storeRepository, times(1)).findAllById(anyIterable());
+        verify(slotInventory).releaseOnRollback(1L, time);
+        verify(reservationRepository).saveAll(argThat((List<Reservation> reservations) -> reservations.size() == 1));
+        verify(eventHub).publishAfterCommit(argThat(events -> events.size() == 1));
+    }
+
+    private ReservationDto.Request request(Long storeId, Long userId, LocalDateTime time) {
+        return ReservationDto.Request.builder()
+                .storeId(storeId)
+                .userId(userId)
+                .reservationTime(time)
+                .build();
+    }
+
+}
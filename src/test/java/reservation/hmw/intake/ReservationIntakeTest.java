@@ -0,0 +1,121 @@
+package reservation.hmw.intake;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reservation.hmw.exception.CustomException;
+import reservation.hmw.exception.ErrorCode;
+import reservation.hmw.model.entity.dto.ReservationDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationIntakeTest {
+
+    @Mock
+    private ReservationBatchWriter batchWriter;
+
+    private ReservationIntake intake;
+
+    @AfterEach
+    void tearDown() {
+        if (intake != null) {
+            intake.stop();
+        }
+    }
+
+    @Test
+    void submit_groupsRequestsIntoOneBatch() throws Exception {
+        //given
+        intake = new ReservationIntake(batchWriter, true, 4, 10_000, 16);
+        given(batchWriter.write(anyList())).willAnswer(invocation -> {
+            List<ReservationDto.Request> requests = invocation.getArgument(0);
+            return requests.stream()
+                    .map(request -> new ReservationBatchWriter.Outcome(
+                            ReservationDto.Response.builder().userName("u" + request.getUserId()).build(), null))
+                    .toList();
+        });
+        intake.start();
+
+        //when
+        List<CompletableFuture<ReservationDto.Response>> futures = IntStream.rangeClosed(1, 4)
+                .mapToObj(i -> intake.submit(request((long) i)))
+                .toList();
+
+        //then
+        for (int i = 0; i < futures.size(); i++) {
+            Assertions.assertThat(futures.get(i).get(5, TimeUnit.SECONDS).getUserName()).isEqualTo("u" + (i + 1));
+        }
+        verify(batchWriter, times(1)).write(anyList());
+    }
+
+    @Test
+    void submit_failsOnlyTheRejectedRequest() throws Exception {
+        //given
+        intake = new ReservationIntake(batchWriter, true, 2, 10_000, 16);
+        given(batchWriter.write(anyList())).willReturn(List.of(
+                new ReservationBatchWriter.Outcome(ReservationDto.Response.builder().userName("ok").build(), null),
+                new ReservationBatchWriter.Outcome(null, new CustomException(ErrorCode.RESERVATION_SLOT_FULL))));
+        intake.start();
+
+        //when
+        CompletableFuture<ReservationDto.Response> first = intake.submit(request(1L));
+        CompletableFuture<ReservationDto.Response> second = intake.submit(request(2L));
+
+        //then
+        Assertions.assertThat(first.get(5, TimeUnit.SECONDS).getUserName()).isEqualTo("ok");
+        Assertions.assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(CustomException.class);
+    }
+
+    @Test
+    void submit_flushesAfterLinger() throws Exception {
+        //given
+        intake = new ReservationIntake(batchWriter, true, 64, 20, 16);
+        given(batchWriter.write(anyList())).willReturn(List.of(
+                new ReservationBatchWriter.Outcome(ReservationDto.Response.builder().userName("ok").build(), null)));
+        intake.start();
+
+        //when
+        CompletableFuture<ReservationDto.Response> future = intake.submit(request(1L));
+
+        //then
+        Assertions.assertThat(future.get(5, TimeUnit.SECONDS).getUserName()).isEqualTo("ok");
+    }
+
+    @Test
+    void submit_RESERVATION_INTAKE_FULL() {
+        //given
+        intake = new ReservationIntake(batchWriter, false, 4, 5, 16);
+
+        //when
+        CustomException exception = Assertions.catchThrowableOfType(
+                () -> intake.submit(request(1L)), CustomException.class);
+
+        //then
+        Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_INTAKE_FULL);
+    }
+
+    private ReservationDto.Request request(Long userId) {
+        return ReservationDto.Request.builder()
+                .userId(userId)
+                .storeId(1L)
+                .reservationTime(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+
+}
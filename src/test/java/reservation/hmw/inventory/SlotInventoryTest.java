@@ -0,0 +1,208 @@
+package reservation.hmw.inventory;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reservation.hmw.model.entity.Store;
+import reservation.hmw.model.entity.enums.ReservationStatus;
+import reservation.hmw.repository.ReservationRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SlotInventoryTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    private SlotInventory slotInventory;
+
+    private final LocalDateTime time = LocalDateTime.of(2030, 1, 4, 19, 10);
+
+    @BeforeEach
+    void setUp() {
+        slotInventory = new SlotInventory(reservationRepository, new SlotPolicy(30, 10));
+    }
+
+    @Test
+    void tryAcquire_rejectsWhenFull() {
+        //given
+        Store store = Store.builder().id(1L).slotCapacity(2).build();
+        given(reservationRepository.findReservationTimes(anyLong(), any(), any(), any()))
+                .willReturn(List.of(time.withMinute(0)));
+
+        //when
+        boolean first = slotInventory.tryAcquire(1L, time, () -> store);
+        boolean second = slotInventory.tryAcquire(1L, time.withMinute(25), () -> store);
+
+        //then
+        Assertions.assertThat(first).isTrue();
+        Assertions.assertThat(second).isFalse();
+        verify(reservationRepository, times(1)).findReservationTimes(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    void tryAcquireAll_loadsAllDaysWithOneQuery() {
+        //given
+        Store store = Store.builder().id(1L).slotCapacity(1).build();
+        List<LocalDateTime> weekly = List.of(time, time.plusWeeks(1), time.plusWeeks(2), time.plusWeeks(3));
+        given(reservationRepository.findReservationTimes(anyLong(), any(), any(), any()))
+                .willReturn(List.of(time.plusWeeks(1), time.plusDays(1)));
+
+        //when
+        boolean[] acquired = slotInventory.tryAcquireAll(1L, weekly, () -> store);
+        boolean again = slotInventory.tryAcquire(1L, time.plusWeeks(2), () -> store);
+
+        //then
+        Assertions.assertThat(acquired).containsExactly(true, false, true, true);
+        Assertions.assertThat(again).isFalse();
+        verify(reservationRepository, times(1)).findReservationTimes(1L, time.toLocalDate().atStartOfDay(),
+                time.toLocalDate().plusWeeks(3).plusDays(1).atStartOfDay(), ReservationStatus.occupyingStatuses());
+    }
+
+    @Test
+    void tryAcquire_slotsAreIndependent() {
+        //given
+        Store store = Store.builder().id(1L).slotCapacity(1).build();
+        given(reservationRepository.findReservationTimes(anyLong(), any(), any(), any()))
+                .willReturn(List.of());
+
+        //when
+        boolean first = slotInventory.tryAcquire(1L, time, () -> store);
+        boolean nextSlot = slotInventory.tryAcquire(1L, time.plusMinutes(30), () -> store);
+
+        //then
+        Assertions.assertThat(first).isTrue();
+        Assertions.assertThat(nextSlot).isTrue();
+    }
+
+    @Test
+    void release_returnsCapacity() {
+        //given
+        Store store = Store.builder().id(1L).slotCapacity(1).build();
+        given(reservationRepository.findReservationTimes(anyLong(), any(), any(), any()))
+                .willReturn(List.of());
+        slotInventory.tryAcquire(1L, time, () -> store);
+
+        //when
+        slotInventory.release(1L, time);
+
+        //then
+        Assertions.assertThat(slotInventory.tryAcquire(1L, time, () -> store)).isTrue();
+    }
+
+    @Test
+    void updateCapacity_appliesToLoadedStore() {
+        //given
+        Store store = Store.builder().id(1L).slotCapacity(1).build();
+        given(reservationRepository.findReservationTimes(anyLong(), any(), any(), any()))
+                .willReturn(List.of());
+        slotInventory.tryAcquire(1L, time, () -> store);
+
+        //when
+        slotInventory.updateCapacity(1L, 2);
+
+        //then
+        Assertions.assertThat(slotInventory.tryAcquire(1L, time, () -> store)).isTrue();
+        Assertions.assertThat(slotInventory.tryAcquire(1L, time, () -> store)).isFalse();
+    }
+
+    @Test
+    void updateCapacityAfterCommit_waitsForCommit() {
+        //given
+        Store store = Store.builder().id(1L).slotCapacity(1).build();
+        given(reservationRepository.findReservationTimes(anyLong(), any(), any(), any()))
+                .willReturn(List.of());
+        slotInventory.tryAcquire(1L, time, () -> store);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            //when
+            slotInventory.updateCapacityAfterCommit(1L, 2);
+
+            //then
+            Assertions.assertThat(slotInventory.tryAcquire(1L, time, () -> store)).isFalse();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            Assertions.assertThat(slotInventory.tryAcquire(1L, time, () -> store)).isTrue();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void tryAcquire_concurrentRequestsNeverOversell() throws Exception {
+        //given
+        Store store = Store.builder().id(1L).slotCapacity(25).build();
+        given(reservationRepository.findReservationTimes(anyLong(), any(), any(), any()))
+                .willReturn(List.of());
+
+        int threads = 16;
+        int attemptsPerThread = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger acquired = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < attemptsPerThread; j++) {
+                    if (slotInventory.tryAcquire(1L, time, () -> store)) {
+                        acquired.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        //then
+        Assertions.assertThat(acquired.get()).isEqualTo(25);
+        verify(reservationRepository, times(1)).findReservationTimes(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    void remaining_loadsRangeWithOneQuery() {
+        //given
+        Store store = Store.builder().id(1L).slotCapacity(3).build();
+        LocalDate from = time.toLocalDate();
+        LocalDate to = from.plusDays(30);
+        given(reservationRepository.findReservationTimes(anyLong(), any(), any(), any()))
+                .willReturn(List.of(time, time, from.plusDays(2).atTime(12, 0)));
+
+        //when
+        Map<LocalDate, int[]> first = slotInventory.remaining(1L, from, to, () -> store);
+        slotInventory.tryAcquire(1L, time, () -> store);
+        Map<LocalDate, int[]> second = slotInventory.remaining(1L, from, to, () -> store);
+
+        //then
+        int slot = time.getHour() * 2;
+        Assertions.assertThat(first).hasSize(31);
+        Assertions.assertThat(first.get(from)[slot]).isEqualTo(1);
+        Assertions.assertThat(first.get(from.plusDays(2))[24]).isEqualTo(2);
+        Assertions.assertThat(second.get(from)[slot]).isZero();
+        verify(reservationRepository, times(1)).findReservationTimes(anyLong(), any(), any(), any());
+    }
+
+}
@@ -0,0 +1,111 @@
+package reservation.hmw.inventory;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class TimingWheelTest {
+
+    @Test
+    void advance_returnsExpiredInOrderOfTicks() {
+        //given
+        TimingWheel<String> wheel = new TimingWheel<>(10, 8, 0);
+        wheel.schedule("a", 25);
+        wheel.schedule("b", 45);
+
+        //when
+        List<String> first = wheel.advance(30);
+        List<String> second = wheel.advance(50);
+
+        //then
+        Assertions.assertThat(first).containsExactly("a");
+        Assertions.assertThat(second).containsExactly("b");
+        Assertions.assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void advance_cascadesFromOverflowWheels() {
+        //given
+        TimingWheel<Long> wheel = new TimingWheel<>(10, 4, 0);
+        wheel.schedule(1L, 35);
+        wheel.schedule(2L, 170);
+        wheel.schedule(3L, 1_005);
+
+        //when
+        List<Long> expired = new ArrayList<>();
+        List<Long> at160 = wheel.advance(160);
+        expired.addAll(at160);
+        List<Long> at180 = wheel.advance(180);
+        expired.addAll(at180);
+        List<Long> at999 = wheel.advance(999);
+        List<Long> at1010 = wheel.advance(1_010);
+
+        //then
+        Assertions.assertThat(at160).containsExactly(1L);
+        Assertions.assertThat(at180).containsExactly(2L);
+        Assertions.assertThat(at999).isEmpty();
+        Assertions.assertThat(at1010).containsExactly(3L);
+    }
+
+    @Test
+    void schedule_pastExpirationExpiresOnNextAdvance() {
+        //given
+        TimingWheel<String> wheel = new TimingWheel<>(10, 8, 100);
+        wheel.schedule("late", 50);
+
+        //when
+        List<String> expired = wheel.advance(100);
+
+        //then
+        Assertions.assertThat(expired).containsExactly("late");
+    }
+
+    @Test
+    void cancel_preventsExpiration() {
+        //given
+        TimingWheel<String> wheel = new TimingWheel<>(10, 8, 0);
+        TimingWheel.Timeout<String> timeout = wheel.schedule("a", 25);
+
+        //when
+        boolean cancelled = timeout.cancel();
+        List<String> expired = wheel.advance(100);
+
+        //then
+        Assertions.assertThat(cancelled).isTrue();
+        Assertions.assertThat(expired).isEmpty();
+        Assertions.assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void cancel_afterExpirationFails() {
+        //given
+        TimingWheel<String> wheel = new TimingWheel<>(10, 8, 0);
+        TimingWheel.Timeout<String> timeout = wheel.schedule("a", 25);
+        wheel.advance(30);
+
+        //when
+        boolean cancelled = timeout.cancel();
+
+        //then
+        Assertions.assertThat(cancelled).isFalse();
+    }
+
+    @Test
+    void advance_handlesManyEntries() {
+        //given
+        TimingWheel<Integer> wheel = new TimingWheel<>(1, 16, 0);
+        for (int i = 0; i < 100_000; i++) {
+            wheel.schedule(i, 1 + (i % 5_000));
+        }
+
+        //when
+        List<Integer> expired = wheel.advance(5_001);
+
+        //then
+        Assertions.assertThat(expired).hasSize(100_000);
+        Assertions.assertThat(wheel.size()).isZero();
+    }
+
+}
@@ -0,0 +1,133 @@
+package reservation.hmw.inventory;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+import reservation.hmw.model.entity.Store;
+import reservation.hmw.model.entity.enums.ReservationStatus;
+import reservation.hmw.repository.ReservationRepository;
+import reservation.hmw.repository.ReservationTransitionRepository;
+import reservation.hmw.stream.ReservationEventHub;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class WaitlistPromoterTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ReservationTransitionRepository transitionRepository;
+
+    @Mock
+    private SlotInventory slotInventory;
+
+    @Mock
+    private ReservationEventHub eventHub;
+
+    private WaitlistRegistry waitlistRegistry;
+    private WaitlistPromoter waitlistPromoter;
+
+    private final LocalDateTime time = LocalDateTime.of(2030, 1, 4, 19, 0);
+    private final Store store = Store.builder().id(1L).slotCapacity(1).build();
+
+    @BeforeEach
+    void setUp() {
+        waitlistRegistry = new WaitlistRegistry(reservationRepository, new SlotPolicy(30, 10));
+        waitlistPromoter = new WaitlistPromoter(waitlistRegistry, slotInventory, reservationRepository,
+                transitionRepository, eventHub, TransactionOperations.withoutTransaction());
+    }
+
+    @Test
+    void releaseOrPromote_skipsWaitersNoLongerWaitlisted() {
+        //given
+        waitlistRegistry.enqueueAfterCommit(1L, time, 8L);
+        waitlistRegistry.enqueueAfterCommit(1L, time, 9L);
+        given(reservationRepository.updateStatus(List.of(8L), ReservationStatus.WAITLISTED, ReservationStatus.PENDING))
+                .willReturn(0);
+        given(reservationRepository.updateStatus(List.of(9L), ReservationStatus.WAITLISTED, ReservationStatus.PENDING))
+                .willReturn(1);
+
+        //when
+        waitlistPromoter.releaseOrPromote(1L, time);
+
+        //then
+        verify(transitionRepository).save(any());
+        verify(slotInventory, never()).releaseAfterCommit(anyLong(), any());
+        Assertions.assertThat(waitlistRegistry.size(1L, time)).isZero();
+    }
+
+    @Test
+    void releaseOrPromote_publishesPromotedReservationTime() {
+        //given
+        LocalDateTime waitedTime = time.plusMinutes(20);
+        waitlistRegistry.enqueueAfterCommit(1L, waitedTime, 9L);
+        given(reservationRepository.updateStatus(List.of(9L), ReservationStatus.WAITLISTED, ReservationStatus.PENDING))
+                .willReturn(1);
+        given(reservationRepository.findReservationTimeById(9L)).willReturn(Optional.of(waitedTime));
+
+        //when
+        waitlistPromoter.releaseOrPromote(1L, time);
+
+        //then
+        verify(eventHub).publishAfterCommit(argThat(events -> events.size() == 1
+                && events.iterator().next().reservationId().equals(9L)
+                && events.iterator().next().reservationTime().equals(waitedTime)));
+    }
+
+    @Test
+    void releaseOrPromote_releasesWhenNobodyWaits() {
+        //when
+        waitlistPromoter.releaseOrPromote(1L, time);
+
+        //then
+        verify(slotInventory).releaseAfterCommit(1L, time);
+    }
+
+    @Test
+    void promoteAfterCommit_promotesWaiterWhenSlotFreedBeforeEnqueue() {
+        //given
+        waitlistRegistry.enqueueAfterCommit(1L, time, 7L);
+        given(slotInventory.tryAcquire(eq(1L), eq(time), any())).willReturn(true);
+        given(reservationRepository.updateStatus(List.of(7L), ReservationStatus.WAITLISTED, ReservationStatus.PENDING))
+                .willReturn(1);
+
+        //when
+        waitlistPromoter.promoteAfterCommit(1L, time, () -> store);
+
+        //then
+        verify(slotInventory, never()).releaseAfterCommit(anyLong(), any());
+        Assertions.assertThat(waitlistRegistry.size(1L, time)).isZero();
+    }
+
+    @Test
+    void promoteAfterCommit_keepsWaitingWhileSlotIsFull() {
+        //given
+        waitlistRegistry.enqueueAfterCommit(1L, time, 7L);
+        given(slotInventory.tryAcquire(eq(1L), eq(time), any())).willReturn(false);
+
+        //when
+        waitlistPromoter.promoteAfterCommit(1L, time, () -> store);
+
+        //then
+        verify(reservationRepository, never()).updateStatus(anyCollection(), any(), any());
+        Assertions.assertThat(waitlistRegistry.size(1L, time)).isEqualTo(1);
+    }
+
+}
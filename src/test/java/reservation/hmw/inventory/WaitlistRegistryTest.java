@@ -0,0 +1,61 @@
+package reservation.hmw.inventory;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reservation.hmw.repository.ReservationRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@ExtendWith(MockitoExtension.class)
+class WaitlistRegistryTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    private WaitlistRegistry waitlistRegistry;
+
+    private final LocalDateTime time = LocalDateTime.of(2030, 1, 4, 19, 10);
+
+    @BeforeEach
+    void setUp() {
+        waitlistRegistry = new WaitlistRegistry(reservationRepository, new SlotPolicy(30, 10));
+    }
+
+    @Test
+    void poll_isFifoPerSlot() {
+        //given
+        waitlistRegistry.enqueueAfterCommit(1L, time, 10L);
+        waitlistRegistry.enqueueAfterCommit(1L, time.plusMinutes(15), 11L);
+        waitlistRegistry.enqueueAfterCommit(1L, time.plusMinutes(30), 12L);
+
+        //when
+        Optional<Long> first = waitlistRegistry.poll(1L, time.withMinute(0));
+        Optional<Long> second = waitlistRegistry.poll(1L, time);
+        Optional<Long> third = waitlistRegistry.poll(1L, time);
+
+        //then
+        Assertions.assertThat(first).contains(10L);
+        Assertions.assertThat(second).contains(11L);
+        Assertions.assertThat(third).isEmpty();
+        Assertions.assertThat(waitlistRegistry.size(1L, time.plusMinutes(30))).isEqualTo(1);
+    }
+
+    @Test
+    void removeAfterCommit_dropsCancelledEntry() {
+        //given
+        waitlistRegistry.enqueueAfterCommit(1L, time, 10L);
+        waitlistRegistry.enqueueAfterCommit(1L, time, 11L);
+
+        //when
+        waitlistRegistry.removeAfterCommit(1L, time, 10L);
+
+        //then
+        Assertions.assertThat(waitlistRegistry.poll(1L, time)).contains(11L);
+    }
+
+}
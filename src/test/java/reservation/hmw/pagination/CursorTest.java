@@ -0,0 +1,47 @@
+package reservation.hmw.pagination;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reservation.hmw.exception.CustomException;
+import reservation.hmw.exception.ErrorCode;
+
+import java.time.LocalDateTime;
+
+class CursorTest {
+
+    @Test
+    void encode_roundTrips() {
+        //given
+        Cursor cursor = new Cursor(LocalDateTime.of(2024, 10, 1, 12, 30, 15, 123_456_000), 42L);
+
+        //when
+        Cursor decoded = Cursor.decode(cursor.encode());
+
+        //then
+        Assertions.assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void decode_blankMeansFirstPage() {
+        Assertions.assertThat(Cursor.decode(null)).isNull();
+        Assertions.assertThat(Cursor.decode("")).isNull();
+    }
+
+    @Test
+    void decode_INVALID_CURSOR() {
+        //when
+        CustomException exception = Assertions.catchThrowableOfType(
+                () -> Cursor.decode("%%%"), CustomException.class);
+
+        //then
+        Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_CURSOR);
+    }
+
+    @Test
+    void pageSize_isClamped() {
+        Assertions.assertThat(Cursor.pageSize(0)).isEqualTo(1);
+        Assertions.assertThat(Cursor.pageSize(15)).isEqualTo(15);
+        Assertions.assertThat(Cursor.pageSize(1000)).isEqualTo(Cursor.MAX_SIZE);
+    }
+
+}
@@ -0,0 +1,45 @@
+package reservation.hmw.rating;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import reservation.hmw.model.entity.StoreRatingSummary;
+import reservation.hmw.repository.StoreRatingSummaryRepository;
+import reservation.hmw.search.RankingQuery;
+
+import java.util.List;
+import java.util.function.LongToDoubleFunction;
+
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class RatingSignalTest {
+
+    @Mock
+    private StoreRatingSummaryRepository summaryRepository;
+
+    @Test
+    void prepare_scoresBayesianMeanAndFallsBackToPrior() {
+        //given
+        given(summaryRepository.findByStoreIdGreaterThanOrderByStoreId(0L, PageRequest.ofSize(1000)))
+                .willReturn(List.of(
+                        StoreRatingSummary.builder().storeId(3L).ratingCount(1).ratingSum(5).build(),
+                        StoreRatingSummary.builder().storeId(7L).ratingCount(95).ratingSum(475).build()));
+        RatingSignal signal = new RatingSignal(summaryRepository, 0.3);
+
+        //when
+        signal.refresh();
+        LongToDoubleFunction scorer = signal.prepare(new RankingQuery(null, null, 0, id -> Double.NaN));
+
+        //then
+        // 3: (5 + 15) / 6 = 3.33, 7: (475 + 15) / 100 = 4.9, 그 외: 3.0
+        Assertions.assertThat(scorer.applyAsDouble(3L)).isCloseTo((20.0 / 6 - 1) / 4, Assertions.within(1e-6));
+        Assertions.assertThat(scorer.applyAsDouble(7L)).isCloseTo((4.9 - 1) / 4, Assertions.within(1e-6));
+        Assertions.assertThat(scorer.applyAsDouble(5L)).isEqualTo(0.5);
+        Assertions.assertThat(signal.weight()).isEqualTo(0.3);
+    }
+
+}
@@ -0,0 +1,110 @@
+package reservation.hmw.rating;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+import reservation.hmw.model.entity.StoreRatingSummary;
+import reservation.hmw.repository.StoreRatingSummaryRepository;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StoreRatingAggregatorTest {
+
+    @Mock
+    private StoreRatingSummaryRepository summaryRepository;
+
+    private StoreRatingAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new StoreRatingAggregator(summaryRepository, TransactionOperations.withoutTransaction());
+    }
+
+    @Test
+    void summaries_addsPendingDeltasToStoredSummary() {
+        //given
+        given(summaryRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(StoreRatingSummary.builder()
+                .storeId(1L)
+                .ratingCount(2)
+                .ratingSum(9)
+                .rating4(1)
+                .rating5(1)
+                .build()));
+
+        //when
+        aggregator.record(1L, null, 1);
+        aggregator.record(1L, 5, 3);
+        aggregator.record(2L, null, 2);
+        Map<Long, RatingSummary> summaries = aggregator.summaries(List.of(1L, 2L));
+
+        //then
+        Assertions.assertThat(summaries.get(1L).count()).isEqualTo(3);
+        Assertions.assertThat(summaries.get(1L).sum()).isEqualTo(8);
+        Assertions.assertThat(summaries.get(1L).histogram()).containsExactly(1, 0, 1, 1, 0);
+        Assertions.assertThat(summaries.get(1L).average()).isEqualTo(2.67);
+        Assertions.assertThat(summaries.get(2L).histogram()).containsExactly(0, 1, 0, 0, 0);
+    }
+
+    @Test
+    void flush_updatesExistingRowOrInsertsMissingRow() {
+        //given
+        given(summaryRepository.addDelta(eq(1L), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), any())).willReturn(1);
+        given(summaryRepository.addDelta(eq(2L), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), any())).willReturn(0);
+        aggregator.record(1L, null, 4);
+        aggregator.record(2L, null, 5);
+
+        //when
+        aggregator.flush();
+
+        //then
+        verify(summaryRepository).addDelta(eq(1L), eq(1L), eq(4L), eq(0L), eq(0L), eq(0L), eq(1L), eq(0L), any());
+        verify(summaryRepository).save(argThat(summary ->
+                summary.getStoreId() == 2L && summary.getRatingCount() == 1 && summary.getRating5() == 1));
+        Assertions.assertThat(aggregator.summaries(List.of(1L))).isEmpty();
+    }
+
+    @Test
+    void flush_keepsDeltasWhenWriteFails() {
+        //given
+        given(summaryRepository.addDelta(eq(1L), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), any())).willThrow(new IllegalStateException("db down"));
+        aggregator.record(1L, null, 4);
+
+        //when
+        aggregator.flush();
+
+        //then
+        Assertions.assertThat(aggregator.summaries(List.of(1L)).get(1L).count()).isEqualTo(1);
+    }
+
+    @Test
+    void flush_skipsDeltasThatCancelOut() {
+        //given
+        aggregator.record(1L, null, 4);
+        aggregator.record(1L, 4, null);
+
+        //when
+        aggregator.flush();
+
+        //then
+        verify(summaryRepository, never()).addDelta(anyLong(), anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), any());
+    }
+
+}
@@ -0,0 +1,73 @@
+package reservation.hmw.repository;
+
+import jakarta.persistence.EntityManager;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import reservation.hmw.config.JpaAuditingConfig;
+import reservation.hmw.inventory.SlotInventory;
+import reservation.hmw.inventory.SlotPolicy;
+import reservation.hmw.model.entity.Reservation;
+import reservation.hmw.model.entity.Store;
+import reservation.hmw.model.entity.User;
+import reservation.hmw.model.entity.enums.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reservation;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaAuditingConfig.class)
+class ReservationRepositoryTest {
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final LocalDateTime time = LocalDateTime.of(2030, 1, 4, 19, 0);
+
+    @Test
+    void slotLedgerReloadedAfterCheckIn_keepsSlotOccupied() {
+        //given
+        Store store = Store.builder().storeName("store").slotCapacity(1).build();
+        entityManager.persist(store);
+        User user = User.builder().name("kim").email("kim@test.com").build();
+        entityManager.persist(user);
+
+        Reservation checkedIn = approved(store, user, time);
+        Reservation noShow = approved(store, user, time.plusHours(1));
+        checkedIn.transitionTo(ReservationStatus.CHECKED_IN);
+        noShow.transitionTo(ReservationStatus.NO_SHOW);
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        SlotInventory reloaded = new SlotInventory(reservationRepository, new SlotPolicy(30, 10));
+
+        //then
+        Assertions.assertThat(reloaded.tryAcquire(store.getId(), time, () -> store)).isFalse();
+        Assertions.assertThat(reloaded.tryAcquire(store.getId(), time.plusHours(1), () -> store)).isFalse();
+        Assertions.assertThat(reloaded.tryAcquire(store.getId(), time.plusHours(2), () -> store)).isTrue();
+    }
+
+    private Reservation approved(Store store, User user, LocalDateTime reservationTime) {
+        Reservation reservation = Reservation.builder()
+                .store(store)
+                .user(user)
+                .reservationTime(reservationTime)
+                .reservationStatus(ReservationStatus.APPROVED)
+                .build();
+        entityManager.persist(reservation);
+        return reservation;
+    }
+
+}
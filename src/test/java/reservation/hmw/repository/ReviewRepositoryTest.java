@@ -0,0 +1,130 @@
+package reservation.hmw.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import reservation.hmw.config.JpaAuditingConfig;
+import reservation.hmw.model.entity.Review;
+import reservation.hmw.model.entity.Store;
+import reservation.hmw.model.entity.User;
+import reservation.hmw.repository.projection.ReviewView;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:review;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaAuditingConfig.class)
+class ReviewRepositoryTest {
+
+    private static final int PAGE_SIZE = 15;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Store store;
+    private User author;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        store = Store.builder().storeName("store").reservationList(new ArrayList<>()).build();
+        entityManager.persist(store);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            User user = User.builder().name("user" + i).email("user" + i + "@test.com").build();
+            entityManager.persist(user);
+            users.add(user);
+        }
+        author = users.get(0);
+
+        for (int i = 0; i < PAGE_SIZE * 2; i++) {
+            Store reviewed = i % 2 == 0 ? store : otherStore(i);
+            entityManager.persist(Review.builder()
+                    .rating(5)
+                    .content("review" + i)
+                    .user(i % 3 == 0 ? author : users.get(i % PAGE_SIZE))
+                    .store(reviewed)
+                    .build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findStoreReviews_isOneStatementPerPage() {
+        //when
+        List<ReviewView> first = reviewRepository.findStoreReviews(store.getId(), PageRequest.ofSize(PAGE_SIZE + 1));
+        ReviewView last = first.get(first.size() - 1);
+        List<ReviewView> next = reviewRepository.findStoreReviewsBefore(store.getId(), last.getCreatedAt(), last.getId(),
+                PageRequest.ofSize(PAGE_SIZE + 1));
+
+        //then
+        Assertions.assertThat(first).hasSize(PAGE_SIZE);
+        Assertions.assertThat(first).allSatisfy(view -> {
+            Assertions.assertThat(view.getUserName()).startsWith("user");
+            Assertions.assertThat(view.getStoreName()).isEqualTo("store");
+            Assertions.assertThat(view.getCreatedAt()).isNotNull();
+        });
+        Assertions.assertThat(next).isEmpty();
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void findUserReviews_isOneStatementPerPage() {
+        //when
+        List<ReviewView> reviews = reviewRepository.findUserReviews(author.getId(), PageRequest.ofSize(PAGE_SIZE + 1));
+
+        //then
+        Assertions.assertThat(reviews).hasSize(10);
+        Assertions.assertThat(reviews).extracting(ReviewView::getUserName).containsOnly("user0");
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findViewsByStoreId_isSelectPlusCount() {
+        //when
+        Page<ReviewView> page = reviewRepository.findViewsByStoreId(store.getId(),
+                PageRequest.of(0, 10, Sort.by("createdAt").descending()));
+
+        //then
+        Assertions.assertThat(page.getContent()).hasSize(10);
+        Assertions.assertThat(page.getTotalElements()).isEqualTo(PAGE_SIZE);
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private Store otherStore(int index) {
+        Store other = Store.builder().storeName("other" + index).reservationList(new ArrayList<>()).build();
+        entityManager.persist(other);
+        return other;
+    }
+
+}
@@ -0,0 +1,48 @@
+package reservation.hmw.repository;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import reservation.hmw.model.entity.StoreRatingSummary;
+
+import java.time.LocalDateTime;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rating;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class StoreRatingSummaryRepositoryTest {
+
+    @Autowired
+    private StoreRatingSummaryRepository summaryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void addDelta_incrementsExistingRowOnly() {
+        //given
+        entityManager.persist(StoreRatingSummary.builder().storeId(1L).ratingCount(2).ratingSum(9).rating4(1).rating5(1).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        int updated = summaryRepository.addDelta(1L, 1, 3, 0, 0, 1, 0, 0, LocalDateTime.now());
+        int missing = summaryRepository.addDelta(2L, 1, 3, 0, 0, 1, 0, 0, LocalDateTime.now());
+
+        //then
+        StoreRatingSummary summary = summaryRepository.findById(1L).orElseThrow();
+        Assertions.assertThat(updated).isEqualTo(1);
+        Assertions.assertThat(missing).isZero();
+        Assertions.assertThat(summary.getRatingCount()).isEqualTo(3);
+        Assertions.assertThat(summary.getRatingSum()).isEqualTo(12);
+        Assertions.assertThat(summary.histogram()).containsExactly(0, 0, 1, 1, 1);
+    }
+
+}
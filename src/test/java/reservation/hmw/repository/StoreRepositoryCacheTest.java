@@ -0,0 +1,107 @@
+package reservation.hmw.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.cache.CacheType;
+import org.springframework.boot.test.autoconfigure.core.AutoConfigureCache;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reservation.hmw.cache.StoreCache;
+import reservation.hmw.cache.StoreSnapshot;
+import reservation.hmw.config.CacheConfig;
+import reservation.hmw.model.entity.Store;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:store-cache;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.cache.cache-names=store,storeByName",
+        "spring.cache.caffeine.spec=maximumSize=100,expireAfterWrite=10m,recordStats",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@AutoConfigureCache(cacheProvider = CacheType.CAFFEINE)
+@Import({CacheConfig.class, StoreCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StoreRepositoryCacheTest {
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private StoreCache storeCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        storeRepository.deleteAll();
+        store = storeRepository.save(Store.builder().storeName("chicken").location("seoul").build());
+        storeCache.evict(store.getId(), store.getStoreName());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findSnapshotById_isServedFromCacheUntilEvicted() {
+        //when
+        storeRepository.findSnapshotById(store.getId());
+        storeRepository.findSnapshotById(store.getId());
+        long cached = statistics.getPrepareStatementCount();
+
+        storeCache.evict(store.getId());
+        storeRepository.findSnapshotById(store.getId());
+
+        //then
+        Assertions.assertThat(cached).isEqualTo(1);
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void findSnapshotByStoreName_isServedFromCacheUntilEvicted() {
+        //when
+        Assertions.assertThat(storeRepository.findSnapshotByStoreName("chicken")).isPresent();
+        Assertions.assertThat(storeRepository.findSnapshotByStoreName("chicken")).isPresent();
+        long cached = statistics.getPrepareStatementCount();
+
+        storeCache.evict(store.getId(), "chicken");
+        storeRepository.findSnapshotByStoreName("chicken");
+
+        //then
+        Assertions.assertThat(cached).isEqualTo(1);
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void findById_bypassesCacheSoMutationDoesNotLeakIntoSnapshot() {
+        //given
+        StoreSnapshot before = storeRepository.findSnapshotById(store.getId()).orElseThrow();
+
+        //when
+        Store loaded = storeRepository.findById(store.getId()).orElseThrow();
+        loaded.setStoreName("pizza");
+        storeRepository.findById(store.getId());
+
+        //then
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        Assertions.assertThat(storeRepository.findSnapshotById(store.getId()).orElseThrow().storeName())
+                .isEqualTo("chicken");
+        Assertions.assertThat(before.storeName()).isEqualTo("chicken");
+    }
+
+}
@@ -0,0 +1,81 @@
+package reservation.hmw.repository;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import reservation.hmw.model.entity.Store;
+import reservation.hmw.model.entity.Tag;
+import reservation.hmw.repository.projection.StoreNameView;
+import reservation.hmw.repository.projection.StoreTagView;
+import reservation.hmw.search.StoreDocument;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:store;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class StoreRepositoryTest {
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Test
+    void findDocumentsAfter_pagesInIdOrder() {
+        //given
+        List<Store> stores = storeRepository.saveAll(IntStream.range(0, 5)
+                .mapToObj(i -> Store.builder().storeName("store" + i).location("seoul").keyword("cafe").storeDescription("description" + i).build())
+                .toList());
+
+        //when
+        List<StoreDocument> first = storeRepository.findDocumentsAfter(0L, PageRequest.ofSize(3));
+        List<StoreDocument> second = storeRepository.findDocumentsAfter(first.get(2).id(), PageRequest.ofSize(3));
+
+        //then
+        Assertions.assertThat(first).extracting(StoreDocument::storeName).containsExactly("store0", "store1", "store2");
+        Assertions.assertThat(first).extracting(StoreDocument::description).containsExactly("description0", "description1", "description2");
+        Assertions.assertThat(second).extracting(StoreDocument::id).containsExactly(stores.get(3).getId(), stores.get(4).getId());
+    }
+
+    @Test
+    void findTagsByStoreIdIn_returnsTagNames() {
+        //given
+        Tag korean = tagRepository.save(Tag.builder().name("한식").build());
+        Tag parking = tagRepository.save(Tag.builder().name("주차").build());
+        Store tagged = storeRepository.save(Store.builder().storeName("bap").tags(new LinkedHashSet<>(List.of(korean, parking))).build());
+        Store plain = storeRepository.save(Store.builder().storeName("plain").build());
+
+        //when
+        List<StoreTagView> tags = storeRepository.findTagsByStoreIdIn(List.of(tagged.getId(), plain.getId()));
+
+        //then
+        Assertions.assertThat(tags).extracting(StoreTagView::getStoreId).containsOnly(tagged.getId());
+        Assertions.assertThat(tags).extracting(StoreTagView::getTagName).containsExactlyInAnyOrder("한식", "주차");
+    }
+
+    @Test
+    void findNameById_returnsNameAndLocationOnly() {
+        //given
+        Store store = storeRepository.save(Store.builder().storeName("bap").location("seoul").keyword("korean").build());
+
+        //when
+        StoreNameView found = storeRepository.findNameById(store.getId()).orElseThrow();
+
+        //then
+        Assertions.assertThat(found.getStoreName()).isEqualTo("bap");
+        Assertions.assertThat(found.getLocation()).isEqualTo("seoul");
+        Assertions.assertThat(storeRepository.findNameById(store.getId() + 1)).isEmpty();
+    }
+
+}
@@ -0,0 +1,116 @@
+package reservation.hmw.search;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class DescriptionIndexTest {
+
+    @Test
+    void scores_ranksByBm25() {
+        //given
+        DescriptionIndex index = new DescriptionIndex();
+        index.index(1L, "생면 파스타가 맛있는 조용한 이탈리안 레스토랑");
+        index.index(2L, "파스타 전문점, 크림 파스타와 토마토 파스타");
+        index.index(3L, "숯불 닭갈비와 막국수");
+
+        //when
+        Map<Long, Float> scores = index.scores("파스타");
+
+        //then
+        Assertions.assertThat(scores).containsOnlyKeys(1L, 2L);
+        Assertions.assertThat(scores.get(2L)).isGreaterThan(scores.get(1L));
+        Assertions.assertThat(index.scores("막국수 맛집")).containsOnlyKeys(3L);
+        Assertions.assertThat(index.scores("초밥")).isEmpty();
+    }
+
+    @Test
+    void remove_dropsPostingsAndDocumentLength() {
+        //given
+        DescriptionIndex index = new DescriptionIndex();
+        index.index(1L, "조용한 카페");
+        index.index(2L, "시끄러운 카페");
+
+        //when
+        index.remove(1L, "조용한 카페");
+
+        //then
+        Assertions.assertThat(index.scores("조용")).isEmpty();
+        Assertions.assertThat(index.scores("카페")).containsOnlyKeys(2L);
+        Assertions.assertThat(index.terms()).isEqualTo(SearchTokenizer.ngrams("시끄러운 카페").size());
+    }
+
+    @Test
+    void compressedPostings_keepsIdsSortedAndSmall() {
+        //given
+        CompressedPostings postings = CompressedPostings.EMPTY;
+        for (long id = 1000; id > 0; id--) {
+            postings = postings.with(id * 3, (int) (id % 5) + 1);
+        }
+
+        //when
+        postings = postings.with(300, 9).without(3).without(7);
+        List<long[]> entries = new ArrayList<>();
+        postings.forEach((id, frequency) -> entries.add(new long[]{id, frequency}));
+
+        //then
+        Assertions.assertThat(postings.size()).isEqualTo(999);
+        Assertions.assertThat(entries).hasSize(999);
+        Assertions.assertThat(entries.get(0)).containsExactly(6, 3);
+        Assertions.assertThat(entries.get(98)).containsExactly(300, 9);
+        Assertions.assertThat(entries.get(998)).containsExactly(3000, 1);
+        Assertions.assertThat(postings.bytes()).isLessThan(999 * 3);
+    }
+
+    @Test
+    void indexAll_matchesIncrementalIndexing() {
+        //given
+        Map<Long, String> descriptions = new LinkedHashMap<>();
+        descriptions.put(3L, "숯불 닭갈비와 막국수");
+        descriptions.put(1L, "생면 파스타가 맛있는 조용한 이탈리안 레스토랑");
+        descriptions.put(2L, "파스타 전문점, 크림 파스타와 토마토 파스타");
+        DescriptionIndex incremental = new DescriptionIndex();
+        descriptions.forEach(incremental::index);
+        DescriptionIndex bulk = new DescriptionIndex();
+        bulk.index(4L, "파스타 카페");
+
+        //when
+        bulk.indexAll(descriptions);
+        incremental.index(4L, "파스타 카페");
+
+        //then
+        Assertions.assertThat(bulk.terms()).isEqualTo(incremental.terms());
+        Assertions.assertThat(bulk.postingBytes()).isEqualTo(incremental.postingBytes());
+        Assertions.assertThat(bulk.scores("파스타 막국수")).isEqualTo(incremental.scores("파스타 막국수"));
+    }
+
+    @Test
+    void compressedPostingsBuilder_sortsAndKeepsLastFrequency() {
+        //given
+        CompressedPostings.Builder builder = new CompressedPostings.Builder();
+        CompressedPostings expected = CompressedPostings.EMPTY;
+        for (long id = 1000; id > 0; id--) {
+            builder.add(id * 3, (int) (id % 5) + 1);
+            expected = expected.with(id * 3, (int) (id % 5) + 1);
+        }
+
+        //when
+        CompressedPostings postings = builder.add(300, 9).add(3, 0).build();
+        expected = expected.with(300, 9).without(3);
+        List<long[]> entries = new ArrayList<>();
+        postings.forEach((id, frequency) -> entries.add(new long[]{id, frequency}));
+        List<long[]> expectedEntries = new ArrayList<>();
+        expected.forEach((id, frequency) -> expectedEntries.add(new long[]{id, frequency}));
+
+        //then
+        Assertions.assertThat(postings.size()).isEqualTo(999);
+        Assertions.assertThat(postings.bytes()).isEqualTo(expected.bytes());
+        Assertions.assertThat(entries).containsExactlyElementsOf(expectedEntries);
+        Assertions.assertThat(postings.union(CompressedPostings.EMPTY.with(6, 7)).size()).isEqualTo(999);
+    }
+
+}
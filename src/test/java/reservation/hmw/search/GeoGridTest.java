@@ -0,0 +1,74 @@
+package reservation.hmw.search;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+class GeoGridTest {
+
+    private static final double LAT = 37.4979;
+    private static final double LON = 127.0276;
+
+    @Test
+    void nearest_returnsClosestWithinRadius() {
+        //given
+        GeoGrid grid = new GeoGrid(0.01);
+        grid.put(1L, LAT + 0.001, LON);
+        grid.put(2L, LAT + 0.02, LON);
+        grid.put(3L, LAT, LON + 0.005);
+        grid.put(4L, LAT + 0.5, LON);
+
+        //when
+        List<GeoGrid.Hit> hits = grid.nearest(LAT, LON, 3000, 10, id -> true);
+
+        //then
+        Assertions.assertThat(hits).extracting(GeoGrid.Hit::id).containsExactly(1L, 3L, 2L);
+        Assertions.assertThat(hits.get(0).distanceMeters()).isBetween(100.0, 120.0);
+    }
+
+    @Test
+    void nearest_matchesBruteForceTopK() {
+        //given
+        GeoGrid grid = new GeoGrid(0.01);
+        Random random = new Random(7);
+        double[][] positions = new double[5000][];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = new double[]{LAT + (random.nextDouble() - 0.5) * 0.4, LON + (random.nextDouble() - 0.5) * 0.4};
+            grid.put(i, positions[i][0], positions[i][1]);
+        }
+
+        //when
+        List<GeoGrid.Hit> hits = grid.nearest(LAT, LON, 5000, 20, id -> id % 3 == 0);
+
+        //then
+        List<Long> expected = IntStream.range(0, positions.length)
+                .filter(i -> i % 3 == 0)
+                .boxed()
+                .sorted(Comparator.comparingDouble(i -> GeoGrid.distance(LAT, LON, positions[i][0], positions[i][1])))
+                .limit(20)
+                .map(Integer::longValue)
+                .toList();
+        Assertions.assertThat(hits).extracting(GeoGrid.Hit::id).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void put_movesAndRemovesStores() {
+        //given
+        GeoGrid grid = new GeoGrid(0.01);
+        grid.put(1L, LAT, LON);
+
+        //when
+        grid.put(1L, LAT + 1, LON);
+        grid.put(2L, LAT, LON);
+        grid.put(2L, null, null);
+
+        //then
+        Assertions.assertThat(grid.nearest(LAT, LON, 1000, 10, id -> true)).isEmpty();
+        Assertions.assertThat(grid.size()).isEqualTo(1);
+    }
+
+}
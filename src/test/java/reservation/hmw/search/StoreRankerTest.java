@@ -0,0 +1,111 @@
+package reservation.hmw.search;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.LongToDoubleFunction;
+import java.util.stream.LongStream;
+
+class StoreRankerTest {
+
+    private static final RankingQuery NO_LOCATION = new RankingQuery(null, null, 0, id -> Double.NaN);
+
+    @Test
+    void top_blendsTextScoreWithSignals() {
+        //given
+        StoreRanker ranker = new StoreRanker(1.0, List.of(signal(0.5, id -> id == 2 ? 1.0 : 0.0)));
+        long[] ids = {1, 2, 3};
+        float[] textScores = {4f, 3f, 1f};
+
+        //when
+        long[] top = ranker.top(ids, textScores, 3, 3, NO_LOCATION);
+
+        //then
+        // 1: 1.0, 2: 0.75 + 0.5, 3: 0.25
+        Assertions.assertThat(top).containsExactly(2, 1, 3);
+    }
+
+    @Test
+    void top_skipsSignalsThatDoNotApply() {
+        //given
+        StoreRanker ranker = new StoreRanker(1.0, List.of(new DistanceSignal(10, 1000)));
+        long[] ids = {1, 2};
+        float[] textScores = {2f, 1f};
+
+        //when
+        long[] top = ranker.top(ids, textScores, 2, 2, NO_LOCATION);
+
+        //then
+        Assertions.assertThat(top).containsExactly(1, 2);
+    }
+
+    @Test
+    void top_prefersNearerStoreWhenLocationIsGiven() {
+        //given
+        StoreRanker ranker = new StoreRanker(1.0, List.of(new DistanceSignal(0.5, 1000)));
+        RankingQuery query = new RankingQuery(37.5, 127.0, 0, id -> id == 1 ? 20_000 : 100);
+        long[] ids = {1, 2};
+        float[] textScores = {2f, 1.8f};
+
+        //when
+        long[] top = ranker.top(ids, textScores, 2, 2, query);
+
+        //then
+        Assertions.assertThat(top).containsExactly(2, 1);
+    }
+
+    @Test
+    void top_matchesFullSortWithSmallerIdFirstOnTies() {
+        //given
+        Random random = new Random(7);
+        int count = 5_000;
+        long[] ids = LongStream.rangeClosed(1, count).toArray();
+        float[] textScores = new float[count];
+        double[] popularity = new double[count + 1];
+        for (int i = 0; i < count; i++) {
+            textScores[i] = random.nextInt(10);
+            popularity[i + 1] = random.nextInt(3) / 2.0;
+        }
+        StoreRanker ranker = new StoreRanker(1.0, List.of(signal(0.3, id -> popularity[(int) id])));
+
+        //when
+        long[] top = ranker.top(ids, textScores, count, 50, NO_LOCATION);
+
+        //then
+        long[] expected = Arrays.stream(ids).boxed()
+                .sorted(Comparator.<Long>comparingDouble(id -> -(textScores[(int) (id - 1)] * (1.0 / 9) + 0.3 * popularity[(int) (long) id]))
+                        .thenComparing(Comparator.naturalOrder()))
+                .limit(50)
+                .mapToLong(Long::longValue)
+                .toArray();
+        Assertions.assertThat(top).containsExactly(expected);
+    }
+
+    @Test
+    void top_returnsEmptyWhenNoCandidates() {
+        //when
+        long[] top = StoreRanker.textOnly().top(new long[0], new float[0], 0, 10, NO_LOCATION);
+
+        //then
+        Assertions.assertThat(top).isEmpty();
+    }
+
+    private static RankingSignal signal(double weight, LongToDoubleFunction scorer) {
+        return new RankingSignal() {
+            @Override
+            public double weight() {
+                return weight;
+            }
+
+            @Override
+            public LongToDoubleFunction prepare(RankingQuery query) {
+                return scorer;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,268 @@
+package reservation.hmw.search;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import reservation.hmw.repository.StoreRepository;
+import reservation.hmw.repository.projection.StoreTagView;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class StoreSearchIndexTest {
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    private StoreSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StoreSearchIndex(storeRepository);
+        index.index(document(1L, "Seoul Chicken", "gangnam", "chicken"));
+        index.index(document(2L, "Pizza House", "gangnam", "pizza"));
+        index.index(document(3L, "Chicken Land", "hongdae", "chicken beer"));
+        index.index(document(4L, "강남 치킨", "강남구", "치킨"));
+    }
+
+    @Test
+    void search_requiresAllTerms() {
+        //when
+        List<StoreDocument> result = index.search("chicken gangnam", 0, 10);
+
+        //then
+        Assertions.assertThat(result).extracting(StoreDocument::id).containsExactly(1L);
+    }
+
+    @Test
+    void search_matchesPrefixesAndRanksExactMatchesFirst() {
+        //given
+        index.index(document(5L, "Chickenburg", "busan", "burger"));
+
+        //when
+        List<StoreDocument> result = index.search("chick", 0, 10);
+        List<StoreDocument> korean = index.search("치", 0, 10);
+
+        //then
+        Assertions.assertThat(result).extracting(StoreDocument::id).containsExactly(1L, 3L, 5L);
+        Assertions.assertThat(index.search("chicken", 0, 10)).extracting(StoreDocument::id).containsExactly(1L, 3L, 5L);
+        Assertions.assertThat(korean).extracting(StoreDocument::id).containsExactly(4L);
+    }
+
+    @Test
+    void search_ranksNameMatchesAboveLocationMatches() {
+        //given
+        index.index(document(6L, "Hongdae Noodles", "mapo", "noodle"));
+
+        //when
+        List<StoreDocument> result = index.search("hongdae", 0, 10);
+
+        //then
+        Assertions.assertThat(result).extracting(StoreDocument::id).containsExactly(6L, 3L);
+    }
+
+    @Test
+    void search_pages() {
+        //given
+        LongStream.rangeClosed(10, 29).forEach(id -> index.index(document(id, "cafe " + id, "seoul", "cafe")));
+
+        //when
+        List<StoreDocument> first = index.search("cafe", 0, 15);
+        List<StoreDocument> second = index.search("cafe", 1, 15);
+
+        //then
+        Assertions.assertThat(first).hasSize(15);
+        Assertions.assertThat(second).extracting(StoreDocument::id).containsExactly(25L, 26L, 27L, 28L, 29L);
+        Assertions.assertThat(index.search("cafe", 2, 15)).isEmpty();
+    }
+
+    @Test
+    void index_replacesAndRemovesDocuments() {
+        //when
+        index.index(document(2L, "Pasta House", "gangnam", "pasta"));
+        index.remove(3L);
+
+        //then
+        Assertions.assertThat(index.search("pizza", 0, 10)).isEmpty();
+        Assertions.assertThat(index.search("pasta", 0, 10)).extracting(StoreDocument::id).containsExactly(2L);
+        Assertions.assertThat(index.search("hongdae", 0, 10)).isEmpty();
+        Assertions.assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void nearby_combinesKeywordAndDistance() {
+        //given
+        index.index(new StoreDocument(8L, "Near Chicken", "gangnam", "chicken", null, 37.4980, 127.0276));
+        index.index(new StoreDocument(9L, "Far Chicken", "gangnam", "chicken", null, 37.5200, 127.0276));
+        index.index(new StoreDocument(10L, "Near Pizza", "gangnam", "pizza", null, 37.4979, 127.0277));
+
+        //when
+        List<NearbyStore> chicken = index.nearby(37.4979, 127.0276, 5000, "chicken", 10);
+        List<NearbyStore> all = index.nearby(37.4979, 127.0276, 1000, null, 10);
+
+        //then
+        Assertions.assertThat(chicken).extracting(store -> store.document().id()).containsExactly(8L, 9L);
+        Assertions.assertThat(all).extracting(store -> store.document().id()).containsExactly(10L, 8L);
+    }
+
+    @Test
+    void search_ranksNearerStoresFirstWhenLocationIsGiven() {
+        //given
+        StoreSearchIndex ranked = new StoreSearchIndex(storeRepository,
+                new StoreRanker(1.0, List.of(new DistanceSignal(0.5, 1000))));
+        ranked.index(new StoreDocument(8L, "Pasta Lab", "gangnam", "pasta", null, 37.5200, 127.0276));
+        ranked.index(new StoreDocument(9L, "Pasta Lab", "gangnam", "pasta", null, 37.4980, 127.0276));
+        ranked.index(new StoreDocument(10L, "Pasta Lab", "gangnam", "pasta", null, null, null));
+
+        //when
+        List<StoreDocument> withoutLocation = ranked.search("pasta", List.of(), null, null, 0, 10);
+        List<StoreDocument> withLocation = ranked.search("pasta", List.of(), 37.4979, 127.0276, 0, 10);
+
+        //then
+        Assertions.assertThat(withoutLocation).extracting(StoreDocument::id).containsExactly(8L, 9L, 10L);
+        Assertions.assertThat(withLocation).extracting(StoreDocument::id).containsExactly(9L, 8L, 10L);
+        Assertions.assertThat(ranked.search("pasta", List.of(), 37.4979, 127.0276, 1, 1))
+                .extracting(StoreDocument::id).containsExactly(8L);
+    }
+
+    @Test
+    void suggest_ranksSharedSuggestionsFirstAndFollowsUpdates() {
+        //given
+        index.index(document(5L, "Chicken Bar", "hongdae", "chicken"));
+
+        //when
+        List<String> result = index.suggest("Chi", 10);
+
+        //then
+        Assertions.assertThat(result.get(0)).isEqualTo("chicken");
+        Assertions.assertThat(result).containsExactlyInAnyOrder("chicken", "Chicken Bar", "Chicken Land", "Seoul Chicken", "chicken beer");
+        Assertions.assertThat(index.suggest("치", 10)).containsExactlyInAnyOrder("강남 치킨", "치킨");
+        Assertions.assertThat(index.suggest("seoul ch", 10)).containsExactly("Seoul Chicken");
+
+        //when
+        index.index(document(1L, "Seoul Pizza", "gangnam", "pizza"));
+        index.remove(3L);
+        index.remove(5L);
+
+        //then
+        List<String> pizza = index.suggest("p", 10);
+        Assertions.assertThat(index.suggest("chi", 10)).isEmpty();
+        Assertions.assertThat(pizza.get(0)).isEqualTo("pizza");
+        Assertions.assertThat(pizza).containsExactlyInAnyOrder("pizza", "Pizza House", "Seoul Pizza");
+        Assertions.assertThat(index.suggest("seoul", 10)).containsExactly("Seoul Pizza");
+    }
+
+    @Test
+    void searchDescription_ranksByBm25AndFollowsUpdates() {
+        //given
+        index.index(new StoreDocument(5L, "Noodle Bar", "gangnam", "noodle", "직접 뽑은 생면 파스타", null, null));
+        index.index(new StoreDocument(6L, "Pasta Lab", "hongdae", "pasta", "파스타 전문점, 크림 파스타와 토마토 파스타", null, null));
+
+        //when
+        List<StoreDocument> result = index.searchDescription("파스타", null, List.of(), 0, 10);
+        List<StoreDocument> filtered = index.searchDescription("파스타", "gangnam", List.of(), 0, 10);
+
+        //then
+        Assertions.assertThat(result).extracting(StoreDocument::id).containsExactly(6L, 5L);
+        Assertions.assertThat(filtered).extracting(StoreDocument::id).containsExactly(5L);
+
+        //when
+        index.index(new StoreDocument(6L, "Pasta Lab", "hongdae", "pasta", "수제 버거", null, null));
+
+        //then
+        Assertions.assertThat(index.searchDescription("파스타", null, List.of(), 0, 10)).extracting(StoreDocument::id).containsExactly(5L);
+        Assertions.assertThat(index.searchDescription("버거", null, List.of(), 0, 10)).extracting(StoreDocument::id).containsExactly(6L);
+    }
+
+    @Test
+    void search_filtersByAllTags() {
+        //given
+        index.index(tagged(11L, "Gukbap", "한식", "심야영업", "주차"));
+        index.index(tagged(12L, "Bibimbap", "한식", "주차"));
+        index.index(tagged(13L, "Night Gukbap", "한식", "심야영업"));
+
+        //when
+        List<StoreDocument> tagsOnly = index.search(null, List.of("한식", "심야영업"), 0, 10);
+        List<StoreDocument> withKeyword = index.search("gukbap", List.of("주차"), 0, 10);
+
+        //then
+        Assertions.assertThat(tagsOnly).extracting(StoreDocument::id).containsExactly(11L, 13L);
+        Assertions.assertThat(withKeyword).extracting(StoreDocument::id).containsExactly(11L);
+        Assertions.assertThat(index.search(null, List.of("한식", "일식"), 0, 10)).isEmpty();
+
+        //when
+        index.index(tagged(11L, "Gukbap", "한식"));
+
+        //then
+        Assertions.assertThat(index.search(null, List.of("심야영업"), 0, 10)).extracting(StoreDocument::id).containsExactly(13L);
+    }
+
+    @Test
+    void rebuild_loadsStoresInBatches() {
+        //given
+        StoreSearchIndex empty = new StoreSearchIndex(storeRepository);
+        given(storeRepository.findDocumentsAfter(eq(0L), any(Pageable.class)))
+                .willReturn(List.of(document(7L, "Bakery", "seoul", "bread")));
+        given(storeRepository.findTagsByStoreIdIn(List.of(7L)))
+                .willReturn(List.of(storeTag(7L, "베이커리")));
+
+        //when
+        empty.rebuild();
+
+        //then
+        Assertions.assertThat(empty.search("bread", 0, 10)).extracting(StoreDocument::id).containsExactly(7L);
+        Assertions.assertThat(empty.search(null, List.of("베이커리"), 0, 10)).extracting(StoreDocument::tags).containsExactly(List.of("베이커리"));
+    }
+
+    @Test
+    void indexAll_matchesIncrementalIndexing() {
+        //given
+        StoreSearchIndex incremental = new StoreSearchIndex(storeRepository);
+        StoreSearchIndex bulk = new StoreSearchIndex(storeRepository);
+        List<StoreDocument> stores = LongStream.of(9, 5, 12, 7, 3, 10)
+                .mapToObj(id -> document(id, "Chicken " + id, id % 2 == 0 ? "gangnam" : "hongdae", "chicken"))
+                .toList();
+        stores.forEach(incremental::index);
+        bulk.index(document(5L, "Pizza", "gangnam", "pizza"));
+
+        //when
+        bulk.indexAll(stores);
+
+        //then
+        for (String query : List.of("chicken", "gangnam", "hongdae chicken", "chi", "pizza")) {
+            Assertions.assertThat(bulk.search(query, 0, 10)).isEqualTo(incremental.search(query, 0, 10));
+        }
+    }
+
+    private StoreTagView storeTag(Long storeId, String tagName) {
+        return new StoreTagView() {
+            @Override
+            public Long getStoreId() {
+                return storeId;
+            }
+
+            @Override
+            public String getTagName() {
+                return tagName;
+            }
+        };
+    }
+
+    private StoreDocument tagged(Long id, String storeName, String... tags) {
+        return new StoreDocument(id, storeName, "seoul", null, null, null, null, List.of(tags));
+    }
+
+    private StoreDocument document(Long id, String storeName, String location, String keyword) {
+        return new StoreDocument(id, storeName, location, keyword, null, null, null);
+    }
+
+}
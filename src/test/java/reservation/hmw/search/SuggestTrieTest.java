@@ -0,0 +1,67 @@
+package reservation.hmw.search;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class SuggestTrieTest {
+
+    @Test
+    void suggest_ranksByWeight() {
+        //given
+        SuggestTrie trie = new SuggestTrie();
+        trie.add("chicken", "chicken", 1);
+        trie.add("chicken beer", "chicken beer", 3);
+        trie.add("chips", "chips", 2);
+        trie.add("pizza", "pizza", 5);
+
+        //when
+        List<String> result = trie.suggest("chi", 10);
+
+        //then
+        Assertions.assertThat(result).containsExactly("chicken beer", "chips", "chicken");
+        Assertions.assertThat(trie.suggest("chi", 2)).containsExactly("chicken beer", "chips");
+        Assertions.assertThat(trie.suggest("chickens", 10)).isEmpty();
+        Assertions.assertThat(trie.size()).isEqualTo(4);
+    }
+
+    @Test
+    void add_removesEntriesAndCompactsPaths() {
+        //given
+        SuggestTrie trie = new SuggestTrie();
+        trie.add("chicken", "chicken", 2);
+        trie.add("chips", "chips", 1);
+        long before = trie.estimatedBytes();
+
+        //when
+        trie.add("chips", "chips", -1);
+        trie.add("chicken", "chicken", -1);
+
+        //then
+        Assertions.assertThat(trie.suggest("ch", 10)).containsExactly("chicken");
+        Assertions.assertThat(trie.size()).isEqualTo(1);
+        Assertions.assertThat(trie.estimatedBytes()).isPositive().isLessThan(before);
+
+        trie.add("chicken", "chicken", -1);
+        Assertions.assertThat(trie.suggest("", 10)).isEmpty();
+        Assertions.assertThat(trie.size()).isZero();
+    }
+
+    @Test
+    void suggest_matchesKoreanPrefixesAndRemovesDuplicates() {
+        //given
+        SuggestTrie trie = new SuggestTrie();
+        trie.add("강남 치킨\u0000강남 치킨", "강남 치킨", 1);
+        trie.add("치킨\u0000강남 치킨", "강남 치킨", 1);
+        trie.add("치킨\u0000치킨", "치킨", 2);
+
+        //when
+        List<String> result = trie.suggest("치", 10);
+
+        //then
+        Assertions.assertThat(result).containsExactly("치킨", "강남 치킨");
+        Assertions.assertThat(trie.suggest("강남 치", 10)).containsExactly("강남 치킨");
+    }
+
+}
@@ -0,0 +1,83 @@
+package reservation.hmw.search;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+class TagIndexTest {
+
+    @Test
+    void matchAll_intersectsTagBitmaps() {
+        //given
+        TagIndex index = new TagIndex();
+        index.add(Map.of(10L, List.of("한식", "심야영업", "주차")));
+        index.add(Map.of(20L, List.of("한식", "주차")));
+        index.add(Map.of(30L, List.of("한식", "심야영업")));
+
+        //when
+        RoaringBitmap matched = index.matchAll(List.of("한식", "심야영업", "주차"));
+
+        //then
+        Assertions.assertThat(index.ids(matched, 0, 10)).containsExactly(10L);
+        Assertions.assertThat(index.ids(index.matchAll(List.of("한식")), 1, 10)).containsExactly(20L, 30L);
+        Assertions.assertThat(index.matchAll(List.of("한식", "일식")).isEmpty()).isTrue();
+        Assertions.assertThat(index.contains(matched, 10L)).isTrue();
+        Assertions.assertThat(index.contains(matched, 20L)).isFalse();
+    }
+
+    @Test
+    void remove_clearsStoreFromTags() {
+        //given
+        TagIndex index = new TagIndex();
+        index.add(Map.of(10L, List.of("한식", "주차")));
+        index.add(Map.of(20L, List.of("한식")));
+
+        //when
+        index.remove(10L, List.of("한식", "주차"));
+
+        //then
+        Assertions.assertThat(index.ids(index.matchAll(List.of("한식")), 0, 10)).containsExactly(20L);
+        Assertions.assertThat(index.matchAll(List.of("주차")).isEmpty()).isTrue();
+        Assertions.assertThat(index.tags()).isEqualTo(1);
+    }
+
+    @Test
+    void matchAll_scalesToManyStores() {
+        //given
+        TagIndex index = new TagIndex();
+        for (long from = 1; from <= 100_000; from += 1000) {
+            Map<Long, List<String>> batch = new LinkedHashMap<>();
+            LongStream.range(from, from + 1000).forEach(id -> batch.put(id, tagsOf(id)));
+            index.add(batch);
+        }
+
+        //when
+        RoaringBitmap matched = index.matchAll(List.of("한식", "심야영업", "주차"));
+
+        //then
+        Assertions.assertThat(matched.getCardinality()).isEqualTo(100_000 / 30);
+        Assertions.assertThat(index.ids(matched, 0, 3)).containsExactly(30L, 60L, 90L);
+        Assertions.assertThat(index.bytes()).isLessThan(100_000L);
+    }
+
+    private List<String> tagsOf(long id) {
+        List<String> tags = new ArrayList<>();
+        if (id % 2 == 0) {
+            tags.add("한식");
+        }
+        if (id % 3 == 0) {
+            tags.add("심야영업");
+        }
+        if (id % 5 == 0) {
+            tags.add("주차");
+        }
+        return tags;
+    }
+
+}
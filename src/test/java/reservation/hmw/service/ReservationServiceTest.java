@@ -1,33 +1,60 @@
 package reservation.hmw.service;
 
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.json.BasicJsonTester;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import reservation.hmw.cache.StoreSnapshot;
+import reservation.hmw.checkin.CheckInEntry;
+import reservation.hmw.checkin.CheckInIndex;
 import reservation.hmw.exception.CustomException;
 import reservation.hmw.exception.ErrorCode;
+import reservation.hmw.inventory.ReservationHoldManager;
+import reservation.hmw.inventory.SlotInventory;
+import reservation.hmw.inventory.WaitlistPromoter;
+import reservation.hmw.inventory.WaitlistRegistry;
+import reservation.hmw.model.entity.Partner;
 import reservation.hmw.model.entity.Reservation;
 import reservation.hmw.model.entity.Store;
 import reservation.hmw.model.entity.User;
 import reservation.hmw.model.entity.dto.ConfirmReservationDto;
+import reservation.hmw.model.entity.dto.RecurringReservationDto;
+import reservation.hmw.model.entity.dto.ReservationDecisionDto;
+import reservation.hmw.model.entity.dto.ReservationHoldDto;
 import reservation.hmw.model.entity.dto.ReservationDto;
+import reservation.hmw.model.entity.dto.ReservationWaitlistDto;
+import reservation.hmw.model.entity.enums.ReservationDecisionResult;
+import reservation.hmw.model.entity.enums.ReservationEventType;
 import reservation.hmw.model.entity.enums.ReservationStatus;
 import reservation.hmw.repository.ReservationRepository;
+import reservation.hmw.repository.ReservationTransitionRepository;
 import reservation.hmw.repository.StoreRepository;
 import reservation.hmw.repository.UserRepository;
+import reservation.hmw.repository.projection.ReservationDecisionView;
+import reservation.hmw.repository.projection.StoreNameView;
+import reservation.hmw.stream.ReservationEventHub;
+import reservation.hmw.trending.TrendingStores;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,9 +69,45 @@ class ReservationServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private SlotInventory slotInventory;
+
+    @Mock
+    private ReservationHoldManager holdManager;
+
+    @Mock
+    private CheckInIndex checkInIndex;
+
+    @Mock
+    private WaitlistRegistry waitlistRegistry;
+
+    @Mock
+    private WaitlistPromoter waitlistPromoter;
+
+    @Mock
+    private ReservationTransitionRepository transitionRepository;
+
+    @Mock
+    private ReservationTransitionMetrics transitionMetrics;
+
+    @Mock
+    private TransactionOperations transactionOperations;
+
+    @Mock
+    private ReservationEventHub eventHub;
+
+    @Mock
+    private TrendingStores trendingStores;
+
     @InjectMocks
     private ReservationService reservationService;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionOperations.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
     @Test
     void createReservation_success() {
         //given
@@ -71,11 +134,17 @@ class ReservationServiceTest {
                 .reservationStatus(ReservationStatus.PENDING)
                 .build();
 
-        given(storeRepository.findById(anyLong()))
-                .willReturn(Optional.of(mockStore));
+        given(slotInventory.tryAcquire(anyLong(), any(), any()))
+                .willReturn(true);
 
-        given(userRepository.findById(anyLong()))
-                .willReturn(Optional.of(mockUser));
+        given(storeRepository.findNameById(1L))
+                .willReturn(Optional.of(storeName("store", "seoul")));
+
+        given(userRepository.findNameById(1L))
+                .willReturn(Optional.of("kim"));
+
+        given(storeRepository.getReferenceById(1L))
+                .willReturn(mockStore);
 
         given(reservationRepository.save(any()))
                 .willReturn(mockRes);
@@ -87,6 +156,10 @@ class ReservationServiceTest {
         Assertions.assertThat(actual.getLocation()).isEqualTo("seoul");
         Assertions.assertThat(actual.getStoreName()).isEqualTo("store");
         Assertions.assertThat(actual.getUserName()).isEqualTo("kim");
+        verify(trendingStores).recordReservation(request.getStoreId());
+        verify(storeRepository, never()).findById(anyLong());
+        verify(userRepository, never()).findById(anyLong());
+        verify(reservationRepository).save(argThat(reservation -> reservation.getStore() == mockStore));
      }
 
     @Test
@@ -98,7 +171,10 @@ class ReservationServiceTest {
                 .reservationTime(LocalDateTime.now())
                 .build();
 
-        given(storeRepository.findById(anyLong()))
+        given(slotInventory.tryAcquire(anyLong(), any(), any()))
+                .willReturn(true);
+
+        given(storeRepository.findNameById(anyLong()))
                 .willReturn(Optional.empty());
 
 
@@ -119,13 +195,11 @@ class ReservationServiceTest {
                 .reservationTime(LocalDateTime.now())
                 .build();
 
-        Store mockStore = Store.builder()
-                .storeName("store")
-                .location("seoul")
-                .build();
+        given(slotInventory.tryAcquire(anyLong(), any(), any()))
+                .willReturn(true);
 
-        given(storeRepository.findById(anyLong()))
-                .willReturn(Optional.of(mockStore));
+        given(storeRepository.findNameById(anyLong()))
+                .willReturn(Optional.of(storeName("store", "seoul")));
 
 
         //when
@@ -136,11 +210,34 @@ class ReservationServiceTest {
         Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.NOT_FOUND_USER);
     }
 
+    @Test
+    void createReservation_RESERVATION_SLOT_FULL() {
+        //given
+        ReservationDto.Request request = ReservationDto.Request.builder()
+                .userId(1L)
+                .storeId(1L)
+                .reservationTime(LocalDateTime.now())
+                .build();
+
+        given(slotInventory.tryAcquire(anyLong(), any(), any()))
+                .willReturn(false);
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.createReservation(request));
+
+        //then
+        Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_SLOT_FULL);
+        verify(storeRepository, never()).findNameById(anyLong());
+        verify(reservationRepository, never()).save(any());
+    }
+
     @Test
     void confirmReservation_success() {
         //given
         ConfirmReservationDto.Request req = ConfirmReservationDto.Request.builder()
                 .phone("010-1234-5678")
+                .storeId(1L)
                 .build();
 
         Store mockStore = Store.builder()
@@ -154,16 +251,20 @@ class ReservationServiceTest {
                 .build();
 
         Reservation mockRes = Reservation.builder()
+                .id(1L)
                 .store(mockStore)
                 .user(mockUser)
-                .reservationTime(LocalDateTime.now())
+                .reservationTime(LocalDateTime.now().plusMinutes(5))
                 .reservationStatus(ReservationStatus.APPROVED)
                 .build();
 
         given(userRepository.findByPhone(anyString()))
                 .willReturn(Optional.of(mockUser));
 
-        given(reservationRepository.findByUserId(anyLong()))
+        given(reservationRepository.findAllByUserIdAndStoreIdAndReservationTimeBetween(anyLong(), anyLong(), any(), any()))
+                .willReturn(List.of(mockRes));
+
+        given(reservationRepository.findById(1L))
                 .willReturn(Optional.of(mockRes));
 
         //when
@@ -172,6 +273,8 @@ class ReservationServiceTest {
         //then
         Assertions.assertThat(actual.getUserName()).isEqualTo("kim");
         Assertions.assertThat(actual.getStoreName()).isEqualTo("store");
+        Assertions.assertThat(mockRes.getReservationStatus()).isEqualTo(ReservationStatus.CHECKED_IN);
+        verify(checkInIndex).removeAfterCommit(List.of(1L));
      }
 
     @Test
@@ -179,6 +282,7 @@ class ReservationServiceTest {
         //given
         ConfirmReservationDto.Request req = ConfirmReservationDto.Request.builder()
                 .phone("010-1234-5678")
+                .storeId(1L)
                 .build();
 
         given(userRepository.findByPhone(anyString()))
@@ -197,6 +301,7 @@ class ReservationServiceTest {
         //given
         ConfirmReservationDto.Request req = ConfirmReservationDto.Request.builder()
                 .phone("010-1234-5678")
+                .storeId(1L)
                 .build();
 
         User mockUser = User.builder()
@@ -207,8 +312,8 @@ class ReservationServiceTest {
         given(userRepository.findByPhone(anyString()))
                 .willReturn(Optional.of(mockUser));
 
-        given(reservationRepository.findByUserId(anyLong()))
-                .willReturn(Optional.empty());
+        given(reservationRepository.findAllByUserIdAndStoreIdAndReservationTimeBetween(anyLong(), anyLong(), any(), any()))
+                .willReturn(List.of());
 
         //when
         CustomException exception = assertThrows(CustomException.class,
@@ -222,6 +327,7 @@ class ReservationServiceTest {
         //given
         ConfirmReservationDto.Request req = ConfirmReservationDto.Request.builder()
                 .phone("010-1234-5678")
+                .storeId(1L)
                 .build();
 
         LocalDateTime now = LocalDateTime.now();
@@ -251,8 +357,8 @@ class ReservationServiceTest {
         given(userRepository.findByPhone(anyString()))
                 .willReturn(Optional.of(mockUser));
 
-        given(reservationRepository.findByUserId(anyLong()))
-                .willReturn(Optional.of(mockRes));
+        given(reservationRepository.findAllByUserIdAndStoreIdAndReservationTimeBetween(anyLong(), anyLong(), any(), any()))
+                .willReturn(List.of(mockRes));
 
         //when
         CustomException exception = assertThrows(CustomException.class,
@@ -261,6 +367,75 @@ class ReservationServiceTest {
         Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_NOT_APPROVED);
     }
 
+    @Test
+    void confirmReservation_fromCheckInIndex() {
+        //given
+        ConfirmReservationDto.Request req = ConfirmReservationDto.Request.builder()
+                .phone("010-1234-5678")
+                .storeId(1L)
+                .build();
+
+        LocalDateTime time = LocalDateTime.now().plusMinutes(5);
+        given(checkInIndex.find("010-1234-5678", 1L))
+                .willReturn(List.of(new CheckInEntry(1L, 1L, "01012345678", "kim", "store", time)));
+
+        given(reservationRepository.findById(1L))
+                .willReturn(Optional.of(Reservation.builder()
+                        .id(1L)
+                        .store(Store.builder().id(1L).build())
+                        .reservationTime(time)
+                        .reservationStatus(ReservationStatus.APPROVED)
+                        .build()));
+
+        //when
+        ConfirmReservationDto.Response actual = reservationService.confirmReservation(req);
+
+        //then
+        Assertions.assertThat(actual.getUserName()).isEqualTo("kim");
+        Assertions.assertThat(actual.getReservationTime()).isEqualTo(time);
+        verify(userRepository, never()).findByPhone(anyString());
+    }
+
+    @Test
+    void confirmReservation_RESERVATION_CONFIRMATION_TOO_EARLY() {
+        //given
+        ConfirmReservationDto.Request req = ConfirmReservationDto.Request.builder()
+                .phone("010-1234-5678")
+                .storeId(1L)
+                .build();
+
+        given(checkInIndex.find(anyString(), anyLong()))
+                .willReturn(List.of(new CheckInEntry(1L, 1L, "01012345678", "kim", "store",
+                        LocalDateTime.now().plusMinutes(30))));
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.confirmReservation(req));
+
+        //then
+        Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_CONFIRMATION_TOO_EARLY);
+    }
+
+    @Test
+    void confirmReservation_RESERVATION_CONFIRMATION_EXPIRED() {
+        //given
+        ConfirmReservationDto.Request req = ConfirmReservationDto.Request.builder()
+                .phone("010-1234-5678")
+                .storeId(1L)
+                .build();
+
+        given(checkInIndex.find(anyString(), anyLong()))
+                .willReturn(List.of(new CheckInEntry(1L, 1L, "01012345678", "kim", "store",
+                        LocalDateTime.now().minusMinutes(1))));
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.confirmReservation(req));
+
+        //then
+        Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_CONFIRMATION_EXPIRED);
+    }
+
     @Test
     void approveReservation_success() {
         Store mockStore = Store.builder()
@@ -288,7 +463,11 @@ class ReservationServiceTest {
         reservationService.approveReservation(1L);
 
         //then
-        verify(reservationRepository).save(mockRes);
+        verify(reservationRepository).saveAndFlush(mockRes);
+        verify(transitionRepository).save(argThat(transition -> transition.getFromStatus() == ReservationStatus.PENDING
+                && transition.getToStatus() == ReservationStatus.APPROVED));
+        verify(eventHub).publishAfterCommit(argThat(events -> events.size() == 1
+                && events.iterator().next().type() == ReservationEventType.APPROVED));
         Assertions.assertThat(mockRes.getReservationStatus()).isEqualTo(ReservationStatus.APPROVED);
      }
 
@@ -319,8 +498,568 @@ class ReservationServiceTest {
         reservationService.rejectReservation(1L);
 
         //then
-        verify(reservationRepository).save(mockRes);
+        verify(reservationRepository).saveAndFlush(mockRes);
+        verify(waitlistPromoter).releaseOrPromote(mockStore.getId(), mockRes.getReservationTime());
+        Assertions.assertThat(mockRes.getReservationStatus()).isEqualTo(ReservationStatus.REJECT);
+    }
+
+    @Test
+    void approveReservation_INVALID_STATUS_TRANSITION() {
+        //given
+        Reservation mockRes = Reservation.builder()
+                .id(1L)
+                .store(Store.builder().id(1L).build())
+                .reservationStatus(ReservationStatus.REJECT)
+                .build();
+
+        given(reservationRepository.findById(1L)).willReturn(Optional.of(mockRes));
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.approveReservation(1L));
+
+        //then
+        Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_STATUS_TRANSITION);
         Assertions.assertThat(mockRes.getReservationStatus()).isEqualTo(ReservationStatus.REJECT);
+        verify(reservationRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void approveReservation_retriesAfterConflict() {
+        //given
+        Store mockStore = Store.builder().id(1L).storeName("store").build();
+        User mockUser = User.builder().id(1L).name("kim").build();
+        Reservation stale = pendingReservation(mockStore, mockUser);
+        Reservation fresh = pendingReservation(mockStore, mockUser);
+
+        given(reservationRepository.findById(1L)).willReturn(Optional.of(stale)).willReturn(Optional.of(fresh));
+        given(reservationRepository.saveAndFlush(stale))
+                .willThrow(new ObjectOptimisticLockingFailureException(Reservation.class, 1L));
+
+        //when
+        reservationService.approveReservation(1L);
+
+        //then
+        Assertions.assertThat(fresh.getReservationStatus()).isEqualTo(ReservationStatus.APPROVED);
+        verify(transitionMetrics).conflict(1L);
+        verify(transitionMetrics).retry(1L);
+        verify(transitionRepository, times(1)).save(any());
+    }
+
+    @Test
+    void approveReservation_RESERVATION_TRANSITION_CONFLICT() {
+        //given
+        Store mockStore = Store.builder().id(1L).storeName("store").build();
+        User mockUser = User.builder().id(1L).name("kim").build();
+
+        given(reservationRepository.findById(1L)).willAnswer(invocation ->
+                Optional.of(pendingReservation(mockStore, mockUser)));
+        given(reservationRepository.saveAndFlush(any()))
+                .willThrow(new ObjectOptimisticLockingFailureException(Reservation.class, 1L));
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.approveReservation(1L));
+
+        //then
+        Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_TRANSITION_CONFLICT);
+        verify(transitionMetrics, times(3)).conflict(1L);
+        verify(transitionMetrics, times(2)).retry(1L);
+        verify(transitionMetrics).exhausted(1L);
+        verify(checkInIndex, never()).addAfterCommit(any());
+    }
+
+    @Test
+    void getStoreReservations_UNAUTHORIZED_ACTION() {
+        //given
+        StoreSnapshot mockStore = new StoreSnapshot(1L, null, null, null, null, null, null, null, 2L);
+
+        given(storeRepository.findSnapshotById(1L)).willReturn(Optional.of(mockStore));
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.getStoreReservations(1L, 1L, null, 15));
+
+        //then
+        Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.UNAUTHORIZED_ACTION);
+        verify(reservationRepository, never()).findStoreReservations(anyLong(), any());
+    }
+
+    @Test
+    void createRecurringReservation_reportsConflicts() {
+        //given
+        LocalDateTime first = LocalDateTime.of(2030, 1, 1, 12, 0);
+        RecurringReservationDto.Request request = RecurringReservationDto.Request.builder()
+                .storeId(1L)
+                .userId(1L)
+                .firstReservationTime(first)
+                .count(52)
+                .build();
+
+        boolean[] acquired = new boolean[52];
+        Arrays.fill(acquired, true);
+        acquired[3] = false;
+        acquired[10] = false;
+
+        given(storeRepository.findNameById(1L)).willReturn(Optional.of(storeName("store", "seoul")));
+        given(userRepository.findNameById(1L)).willReturn(Optional.of("kim"));
+        given(slotInventory.tryAcquireAll(eq(1L), anyList(), any())).willReturn(acquired);
+        given(storeRepository.getReferenceById(1L)).willReturn(Store.builder().id(1L).build());
+        given(reservationRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        //when
+        RecurringReservationDto.Response response = reservationService.createRecurringReservation(request);
+
+        //then
+        Assertions.assertThat(response.getReserved()).hasSize(50);
+        Assertions.assertThat(response.getReserved().get(0).getReservationTime()).isEqualTo(first);
+        Assertions.assertThat(response.getConflicts()).containsExactly(first.plusWeeks(3), first.plusWeeks(10));
+        Assertions.assertThat(response.getUserName()).isEqualTo("kim");
+        verify(slotInventory).tryAcquireAll(eq(1L), argThat(times -> times.size() == 52
+                && times.get(51).equals(first.plusWeeks(51))), any());
+        verify(reservationRepository, times(1)).saveAll(argThat(reservations -> ((List<Reservation>) reservations).size() == 50));
+        verify(reservationRepository, never()).save(any());
+        verify(slotInventory, times(50)).releaseOnRollback(eq(1L), any());
+        verify(trendingStores, times(1)).recordReservation(1L);
+    }
+
+    @Test
+    void createRecurringReservation_RESERVATION_SLOT_FULL() {
+        //given
+        RecurringReservationDto.Request request = RecurringReservationDto.Request.builder()
+                .storeId(1L)
+                .userId(1L)
+                .firstReservationTime(LocalDateTime.of(2030, 1, 1, 12, 0))
+                .count(2)
+                .intervalWeeks(2)
+                .build();
+
+        given(storeRepository.findNameById(1L)).willReturn(Optional.of(storeName("store", "seoul")));
+        given(userRepository.findNameById(1L)).willReturn(Optional.of("kim"));
+        given(slotInventory.tryAcquireAll(eq(1L), anyList(), any())).willReturn(new boolean[2]);
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.createRecurringReservation(request));
+
+        //then
+        Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_SLOT_FULL);
+        verify(slotInventory).tryAcquireAll(eq(1L), eq(List.of(LocalDateTime.of(2030, 1, 1, 12, 0),
+                LocalDateTime.of(2030, 1, 15, 12, 0))), any());
+        verify(reservationRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void createHold_success() {
+        //given
+        ReservationDto.Request request = ReservationDto.Request.builder()
+                .userId(1L)
+                .storeId(1L)
+                .reservationTime(LocalDateTime.now().plusDays(1))
+                .build();
+
+        Store mockStore = Store.builder()
+                .id(1L)
+                .storeName("store")
+                .reservationList(new ArrayList<>())
+                .build();
+
+        User mockUser = User.builder()
+                .name("kim")
+                .build();
+
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(5);
+        Reservation mockRes = Reservation.builder()
+                .id(7L)
+                .store(mockStore)
+                .user(mockUser)
+                .reservationTime(request.getReservationTime())
+                .reservationStatus(ReservationStatus.HOLD)
+                .expiresAt(expiresAt)
+                .build();
+
+        given(slotInventory.tryAcquire(anyLong(), any(), any())).willReturn(true);
+        given(holdManager.nextExpiration()).willReturn(expiresAt);
+        given(storeRepository.findNameById(anyLong())).willReturn(Optional.of(storeName("store", null)));
+        given(userRepository.findNameById(anyLong())).willReturn(Optional.of("kim"));
+        given(reservationRepository.save(any())).willReturn(mockRes);
+
+        //when
+        ReservationHoldDto.Response actual = reservationService.createHold(request);
+
+        //then
+        Assertions.assertThat(actual.getReservationId()).isEqualTo(7L);
+        Assertions.assertThat(actual.getExpiresAt()).isEqualTo(expiresAt);
+        verify(holdManager).schedule(mockRes);
+    }
+
+    @Test
+    void convertHold_success() {
+        //given
+        Reservation mockRes = Reservation.builder()
+                .id(7L)
+                .store(Store.builder().storeName("store").location("seoul").build())
+                .user(User.builder().name("kim").build())
+                .reservationTime(LocalDateTime.now().plusDays(1))
+                .reservationStatus(ReservationStatus.HOLD)
+                .build();
+
+        given(reservationRepository.findById(7L)).willReturn(Optional.of(mockRes));
+        given(holdManager.claim(7L)).willReturn(true);
+
+        //when
+        ReservationDto.Response actual = reservationService.convertHold(7L);
+
+        //then
+        Assertions.assertThat(actual.getStoreName()).isEqualTo("store");
+        Assertions.assertThat(mockRes.getReservationStatus()).isEqualTo(ReservationStatus.PENDING);
+        verify(reservationRepository).saveAndFlush(mockRes);
+    }
+
+    @Test
+    void convertHold_RESERVATION_HOLD_EXPIRED() {
+        //given
+        Reservation mockRes = Reservation.builder()
+                .id(7L)
+                .store(Store.builder().id(1L).build())
+                .reservationStatus(ReservationStatus.HOLD)
+                .build();
+
+        given(reservationRepository.findById(7L)).willReturn(Optional.of(mockRes));
+        given(holdManager.claim(7L)).willReturn(false);
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.convertHold(7L));
+
+        //then
+        Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_HOLD_EXPIRED);
+        Assertions.assertThat(mockRes.getReservationStatus()).isEqualTo(ReservationStatus.HOLD);
+    }
+
+    @Test
+    void convertHold_RESERVATION_NOT_ON_HOLD() {
+        //given
+        Reservation mockRes = Reservation.builder()
+                .id(7L)
+                .store(Store.builder().id(1L).build())
+                .reservationStatus(ReservationStatus.PENDING)
+                .build();
+
+        given(reservationRepository.findById(7L)).willReturn(Optional.of(mockRes));
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.convertHold(7L));
+
+        //then
+        Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_NOT_ON_HOLD);
+    }
+
+    @Test
+    void decideReservations_success() {
+        //given
+        LocalDateTime time = LocalDateTime.now().plusDays(1);
+        List<ReservationDecisionDto.Decision> decisions = List.of(
+                decision(1L, ReservationStatus.APPROVED),
+                decision(2L, ReservationStatus.REJECT),
+                decision(1L, ReservationStatus.REJECT));
+
+        given(reservationRepository.findDecisionViews(anyCollection()))
+                .willReturn(List.of(
+                        decisionView(1L, 10L, 7L, ReservationStatus.PENDING, time),
+                        decisionView(2L, 10L, 7L, ReservationStatus.PENDING, time)));
+        given(reservationRepository.updateStatus(anyCollection(), eq(ReservationStatus.PENDING), any()))
+                .willReturn(1);
+
+        //when
+        List<ReservationDecisionDto.Response> responses = reservationService.decideReservations(decisions, 7L);
+
+        //then
+        Assertions.assertThat(responses)
+                .extracting(ReservationDecisionDto.Response::getResult)
+                .containsExactly(ReservationDecisionResult.APPROVED,
+                        ReservationDecisionResult.REJECTED,
+                        ReservationDecisionResult.DUPLICATED);
+        verify(reservationRepository).updateStatus(List.of(1L), ReservationStatus.PENDING, ReservationStatus.APPROVED);
+        verify(reservationRepository).updateStatus(List.of(2L), ReservationStatus.PENDING, ReservationStatus.REJECT);
+        verify(waitlistPromoter).releaseOrPromote(10L, time);
+    }
+
+    @Test
+    void decideReservations_rejectsInvalidDecisions() {
+        //given
+        LocalDateTime time = LocalDateTime.now().plusDays(1);
+        List<ReservationDecisionDto.Decision> decisions = List.of(
+                decision(1L, ReservationStatus.APPROVED),
+                decision(2L, ReservationStatus.APPROVED),
+                decision(3L, ReservationStatus.HOLD),
+                decision(4L, ReservationStatus.APPROVED));
+
+        given(reservationRepository.findDecisionViews(anyCollection()))
+                .willReturn(List.of(
+                        decisionView(2L, 10L, 8L, ReservationStatus.PENDING, time),
+                        decisionView(3L, 10L, 7L, ReservationStatus.PENDING, time),
+                        decisionView(4L, 10L, 7L, ReservationStatus.APPROVED, time)));
+
+        //when
+        List<ReservationDecisionDto.Response> responses = reservationService.decideReservations(decisions, 7L);
+
+        //then
+        Assertions.assertThat(responses)
+                .extracting(ReservationDecisionDto.Response::getResult)
+                .containsExactly(ReservationDecisionResult.NOT_FOUND,
+                        ReservationDecisionResult.UNAUTHORIZED,
+                        ReservationDecisionResult.INVALID_STATUS,
+                        ReservationDecisionResult.NOT_PENDING);
+        verify(reservationRepository, never()).updateStatus(anyCollection(), any(), any());
+    }
+
+    @Test
+    void decideReservations_CONFLICT() {
+        //given
+        LocalDateTime time = LocalDateTime.now().plusDays(1);
+        List<ReservationDecisionDto.Decision> decisions = List.of(
+                decision(1L, ReservationStatus.REJECT),
+                decision(2L, ReservationStatus.REJECT));
+
+        given(reservationRepository.findDecisionViews(anyCollection()))
+                .willReturn(List.of(
+                        decisionView(1L, 10L, 7L, ReservationStatus.PENDING, time),
+                        decisionView(2L, 10L, 7L, ReservationStatus.PENDING, time)))
+                .willReturn(List.of(
+                        decisionView(1L, 10L, 7L, ReservationStatus.REJECT, time),
+                        decisionView(2L, 10L, 7L, ReservationStatus.APPROVED, time)));
+        given(reservationRepository.updateStatus(anyCollection(), eq(ReservationStatus.PENDING), eq(ReservationStatus.REJECT)))
+                .willReturn(1);
+
+        //when
+        List<ReservationDecisionDto.Response> responses = reservationService.decideReservations(decisions, 7L);
+
+        //then
+        Assertions.assertThat(responses)
+                .extracting(ReservationDecisionDto.Response::getResult)
+                .containsExactly(ReservationDecisionResult.REJECTED, ReservationDecisionResult.CONFLICT);
+        verify(waitlistPromoter).releaseOrPromote(10L, time);
+    }
+
+    private StoreNameView storeName(String storeName, String location) {
+        return new StoreNameView() {
+            public String getStoreName() { return storeName; }
+            public String getLocation() { return location; }
+        };
+    }
+
+    private ReservationDecisionDto.Decision decision(Long reservationId, ReservationStatus status) {
+        return ReservationDecisionDto.Decision.builder()
+                .reservationId(reservationId)
+                .status(status)
+                .build();
+    }
+
+    private ReservationDecisionView decisionView(Long id, Long storeId, Long partnerId,
+                                                 ReservationStatus status, LocalDateTime time) {
+        return new ReservationDecisionView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getStoreId() {
+                return storeId;
+            }
+
+            @Override
+            public Long getPartnerId() {
+                return partnerId;
+            }
+
+            @Override
+            public ReservationStatus getReservationStatus() {
+                return status;
+            }
+
+            @Override
+            public LocalDateTime getReservationTime() {
+                return time;
+            }
+        };
+    }
+
+    @Test
+    void joinWaitlist_whenSlotFull() {
+        //given
+        LocalDateTime time = LocalDateTime.now().plusDays(1);
+        ReservationDto.Request request = ReservationDto.Request.builder()
+                .userId(1L)
+                .storeId(1L)
+                .reservationTime(time)
+                .build();
+
+        Store mockStore = Store.builder()
+                .id(1L)
+                .storeName("store")
+                .reservationList(new ArrayList<>())
+                .build();
+
+        given(slotInventory.tryAcquire(anyLong(), any(), any())).willReturn(false);
+        given(storeRepository.findNameById(anyLong())).willReturn(Optional.of(storeName("store", null)));
+        given(userRepository.findNameById(anyLong())).willReturn(Optional.of("kim"));
+        given(storeRepository.getReferenceById(1L)).willReturn(mockStore);
+        given(reservationRepository.save(any())).willAnswer(invocation -> {
+            Reservation reservation = invocation.getArgument(0);
+            reservation.setId(7L);
+            return reservation;
+        });
+        given(waitlistRegistry.size(1L, time)).willReturn(2);
+
+        //when
+        ReservationWaitlistDto.Response response = reservationService.joinWaitlist(request);
+
+        //then
+        Assertions.assertThat(response.getReservationStatus()).isEqualTo(ReservationStatus.WAITLISTED);
+        Assertions.assertThat(response.getWaitingCount()).isEqualTo(2);
+        verify(waitlistRegistry).enqueueAfterCommit(1L, time, 7L);
+        verify(waitlistPromoter).promoteAfterCommit(eq(1L), eq(time), any());
+        verify(slotInventory, never()).releaseOnRollback(anyLong(), any());
+    }
+
+    @Test
+    void cancelReservation_promotesNextWaitlisted() {
+        //given
+        LocalDateTime time = LocalDateTime.now().plusDays(1);
+        Reservation mockRes = Reservation.builder()
+                .id(1L)
+                .store(Store.builder().id(1L).build())
+                .user(User.builder().id(3L).build())
+                .reservationTime(time)
+                .reservationStatus(ReservationStatus.APPROVED)
+                .build();
+
+        given(reservationRepository.findById(1L)).willReturn(Optional.of(mockRes));
+
+        //when
+        reservationService.cancelReservation(1L, 3L);
+
+        //then
+        Assertions.assertThat(mockRes.getReservationStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        verify(waitlistPromoter).releaseOrPromote(1L, time);
+    }
+
+    @Test
+    void cancelReservation_UNAUTHORIZED_ACTION() {
+        //given
+        Reservation mockRes = Reservation.builder()
+                .id(1L)
+                .store(Store.builder().id(1L).build())
+                .user(User.builder().id(3L).build())
+                .reservationStatus(ReservationStatus.PENDING)
+                .build();
+
+        given(reservationRepository.findById(1L)).willReturn(Optional.of(mockRes));
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.cancelReservation(1L, 4L));
+
+        //then
+        Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.UNAUTHORIZED_ACTION);
+    }
+
+    @Test
+    void cancelReservation_RESERVATION_NOT_CANCELLABLE() {
+        //given
+        Reservation mockRes = Reservation.builder()
+                .id(1L)
+                .store(Store.builder().id(1L).build())
+                .user(User.builder().id(3L).build())
+                .reservationStatus(ReservationStatus.REJECT)
+                .build();
+
+        given(reservationRepository.findById(1L)).willReturn(Optional.of(mockRes));
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.cancelReservation(1L, 3L));
+
+        //then
+        Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_NOT_CANCELLABLE);
+    }
+
+    @Test
+    void markNoShow_success() {
+        //given
+        Store mockStore = Store.builder().id(1L).partner(Partner.builder().id(7L).build()).build();
+        Reservation mockRes = Reservation.builder()
+                .id(1L)
+                .store(mockStore)
+                .reservationTime(LocalDateTime.now().minusMinutes(30))
+                .reservationStatus(ReservationStatus.APPROVED)
+                .build();
+
+        given(reservationRepository.findById(1L)).willReturn(Optional.of(mockRes));
+
+        //when
+        reservationService.markNoShow(1L, 7L);
+
+        //then
+        Assertions.assertThat(mockRes.getReservationStatus()).isEqualTo(ReservationStatus.NO_SHOW);
+        verify(checkInIndex).removeAfterCommit(List.of(1L));
+        verify(waitlistPromoter, never()).releaseOrPromote(anyLong(), any());
+    }
+
+    @Test
+    void markNoShow_NO_SHOW_TOO_EARLY() {
+        //given
+        Store mockStore = Store.builder().id(1L).partner(Partner.builder().id(7L).build()).build();
+        Reservation mockRes = Reservation.builder()
+                .id(1L)
+                .store(mockStore)
+                .reservationTime(LocalDateTime.now().plusMinutes(30))
+                .reservationStatus(ReservationStatus.APPROVED)
+                .build();
+
+        given(reservationRepository.findById(1L)).willReturn(Optional.of(mockRes));
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.markNoShow(1L, 7L));
+
+        //then
+        Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.NO_SHOW_TOO_EARLY);
+        Assertions.assertThat(mockRes.getReservationStatus()).isEqualTo(ReservationStatus.APPROVED);
+    }
+
+    @Test
+    void markNoShow_UNAUTHORIZED_ACTION() {
+        //given
+        Store mockStore = Store.builder().id(1L).partner(Partner.builder().id(7L).build()).build();
+        Reservation mockRes = Reservation.builder()
+                .id(1L)
+                .store(mockStore)
+                .reservationTime(LocalDateTime.now().minusMinutes(30))
+                .reservationStatus(ReservationStatus.APPROVED)
+                .build();
+
+        given(reservationRepository.findById(1L)).willReturn(Optional.of(mockRes));
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.markNoShow(1L, 8L));
+
+        //then
+        Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.UNAUTHORIZED_ACTION);
+    }
+
+    private Reservation pendingReservation(Store store, User user) {
+        return Reservation.builder()
+                .id(1L)
+                .store(store)
+                .user(user)
+                .reservationTime(LocalDateTime.now().plusDays(1))
+                .reservationStatus(ReservationStatus.PENDING)
+                .build();
     }
 
-}
\ No newline at end of file
+}
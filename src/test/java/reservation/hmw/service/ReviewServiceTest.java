@@ -11,16 +11,24 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import reservation.hmw.cache.StoreDetailCache;
 import reservation.hmw.exception.CustomException;
 import reservation.hmw.exception.ErrorCode;
 import reservation.hmw.model.entity.Review;
 import reservation.hmw.model.entity.Store;
 import reservation.hmw.model.entity.User;
+import reservation.hmw.model.entity.dto.CursorSliceDto;
 import reservation.hmw.model.entity.dto.ReviewForm;
+import reservation.hmw.pagination.Cursor;
+import reservation.hmw.rating.StoreRatingAggregator;
 import reservation.hmw.repository.ReviewRepository;
 import reservation.hmw.repository.StoreRepository;
 import reservation.hmw.repository.UserRepository;
+import reservation.hmw.repository.projection.ReviewView;
+import reservation.hmw.repository.projection.StoreNameView;
+import reservation.hmw.trending.TrendingStores;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,6 +51,15 @@ class ReviewServiceTest {
     @Mock
     private StoreRepository storeRepository;
 
+    @Mock
+    private StoreRatingAggregator ratingAggregator;
+
+    @Mock
+    private StoreDetailCache storeDetailCache;
+
+    @Mock
+    private TrendingStores trendingStores;
+
     private User user;
     private Store store;
 
@@ -66,8 +83,10 @@ class ReviewServiceTest {
         formRequest.setRating(5);
         formRequest.setContent("Great!");
 
-        given(userRepository.findById(1L)).willReturn(Optional.of(user));
-        given(storeRepository.findById(store.getId())).willReturn(Optional.of(store));
+        given(userRepository.findNameById(1L)).willReturn(Optional.of("user"));
+        given(storeRepository.findNameById(store.getId())).willReturn(Optional.of(storeName(store.getStoreName())));
+        given(userRepository.getReferenceById(1L)).willReturn(user);
+        given(storeRepository.getReferenceById(store.getId())).willReturn(store);
 
         Review savedReview = Review.builder()
                 .id(1L)
@@ -86,20 +105,37 @@ class ReviewServiceTest {
         Assertions.assertEquals(response.getRating(), 5);
         Assertions.assertEquals(response.getContent(), "Great!");
         Assertions.assertEquals(response.getUserName(), "user");
+        verify(ratingAggregator).record(store.getId(), null, 5);
+        verify(storeDetailCache).evict(store.getId());
+        verify(trendingStores).recordReview(store.getId());
+        verify(storeRepository, never()).findById(anyLong());
+        verify(reviewRepository).save(argThat(review -> review.getStore() == store && review.getUser() == user));
     }
 
     @Test
-    void getReview_success() {
+    void createReview_NOT_FOUND_STORE() {
         //given
-        Review review = Review.builder()
-                .id(1L)
-                .rating(5)
-                .content("Great!")
-                .user(user)
-                .store(store)
-                .build();
+        ReviewForm.Request formRequest = new ReviewForm.Request();
+        formRequest.setStoreId(99L);
+        formRequest.setRating(5);
+        formRequest.setContent("Great!");
+
+        given(userRepository.findNameById(1L)).willReturn(Optional.of("user"));
+        given(storeRepository.findNameById(99L)).willReturn(Optional.empty());
+
+        //when
+        CustomException exception = Assertions.assertThrows(CustomException.class,
+                () -> reviewService.createReview(formRequest, 1L));
+
+        //then
+        Assertions.assertEquals(ErrorCode.NOT_FOUND_STORE, exception.getErrorCode());
+        verify(reviewRepository, never()).save(any());
+    }
 
-        given(reviewRepository.findById(1L)).willReturn(Optional.of(review));
+    @Test
+    void getReview_success() {
+        //given
+        given(reviewRepository.findViewById(1L)).willReturn(Optional.of(view(1L, 5, "Great!", null)));
 
         //when
         ReviewForm.Response response = reviewService.getReview(1L);
@@ -112,7 +148,7 @@ class ReviewServiceTest {
     @Test
     void getReview_NOT_FOUND_REVIEW() {
         //given
-        given(reviewRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(reviewRepository.findViewById(anyLong())).willReturn(Optional.empty());
 
         //when
         CustomException exception = Assertions.assertThrows(CustomException.class, () -> reviewService.getReview(1L));
@@ -124,25 +160,9 @@ class ReviewServiceTest {
     @Test
     void getReviewsByStore_success() {
         //given
-        Review review1 = Review.builder()
-                .id(1L)
-                .rating(5)
-                .content("Great!")
-                .user(user)
-                .store(store)
-                .build();
-
-        Review review2 = Review.builder()
-                .id(2L)
-                .rating(4)
-                .content("Good!")
-                .user(user)
-                .store(store)
-                .build();
+        Page<ReviewView> reviewPage = new PageImpl<>(List.of(view(1L, 5, "Great!", null), view(2L, 4, "Good!", null)));
 
-        Page<Review> reviewPage = new PageImpl<>(List.of(review1, review2));
-
-        given(reviewRepository.findByStoreId(anyLong(), any(Pageable.class))).willReturn(reviewPage);
+        given(reviewRepository.findViewsByStoreId(anyLong(), any(Pageable.class))).willReturn(reviewPage);
 
         //when
         Page<ReviewForm.Response> responsePage = reviewService.getReviewsByStore(store.getId(), 0);
@@ -153,6 +173,52 @@ class ReviewServiceTest {
         Assertions.assertEquals(responsePage.getContent().get(1).getRating(), 4);
     }
 
+    @Test
+    void getStoreReviews_firstPage() {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+        List<ReviewView> rows = List.of(view(3L, 5, "c", now), view(2L, 5, "b", now), view(1L, 5, "a", now.minusMinutes(1)));
+
+        given(reviewRepository.findStoreReviews(eq(1L), any(Pageable.class))).willReturn(rows);
+
+        //when
+        CursorSliceDto<ReviewForm.Response> slice = reviewService.getStoreReviews(1L, null, 2);
+
+        //then
+        Assertions.assertEquals(slice.getContent().size(), 2);
+        Assertions.assertTrue(slice.isHasNext());
+        Assertions.assertEquals(Cursor.decode(slice.getNextCursor()), new Cursor(now, 2L));
+        then(reviewRepository).should().findStoreReviews(1L, Pageable.ofSize(3));
+    }
+
+    @Test
+    void getStoreReviews_afterCursor() {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+        String cursor = new Cursor(now, 2L).encode();
+
+        given(reviewRepository.findStoreReviewsBefore(eq(1L), eq(now), eq(2L), any(Pageable.class)))
+                .willReturn(List.of(view(1L, 5, "a", now.minusMinutes(1))));
+
+        //when
+        CursorSliceDto<ReviewForm.Response> slice = reviewService.getStoreReviews(1L, cursor, 2);
+
+        //then
+        Assertions.assertEquals(slice.getContent().size(), 1);
+        Assertions.assertFalse(slice.isHasNext());
+        Assertions.assertNull(slice.getNextCursor());
+    }
+
+    @Test
+    void getUserReviews_INVALID_CURSOR() {
+        //when
+        CustomException exception = Assertions.assertThrows(CustomException.class,
+                () -> reviewService.getUserReviews(1L, "not-a-cursor", 15));
+
+        //then
+        Assertions.assertEquals(exception.getErrorCode(), ErrorCode.INVALID_CURSOR);
+    }
+
     @Test
     void updateReview_success() {
         //given
@@ -176,6 +242,7 @@ class ReviewServiceTest {
         //then
         Assertions.assertEquals(response.getRating(), 5);
         Assertions.assertEquals(response.getContent(), "Updated!");
+        verify(ratingAggregator).record(store.getId(), 4, 5);
     }
 
     @Test
@@ -195,6 +262,7 @@ class ReviewServiceTest {
         //given
         Review existingReview = Review.builder()
                 .id(1L)
+                .rating(3)
                 .user(user)
                 .store(store)
                 .build();
@@ -206,6 +274,7 @@ class ReviewServiceTest {
 
         //then
         verify(reviewRepository, times(1)).delete(existingReview);
+        verify(ratingAggregator).record(store.getId(), 3, null);
     }
 
     @Test
@@ -237,4 +306,23 @@ class ReviewServiceTest {
         //then
         Assertions.assertEquals(exception.getErrorCode(), ErrorCode.UNAUTHORIZED_ACTION);
     }
-}
\ No newline at end of file
+
+    private StoreNameView storeName(String storeName) {
+        return new StoreNameView() {
+            public String getStoreName() { return storeName; }
+            public String getLocation() { return null; }
+        };
+    }
+
+    private ReviewView view(Long id, Integer rating, String content, LocalDateTime createdAt) {
+        return new ReviewView() {
+            public Long getId() { return id; }
+            public String getUserName() { return user.getName(); }
+            public String getStoreName() { return store.getStoreName(); }
+            public Integer getRating() { return rating; }
+            public String getContent() { return content; }
+            public LocalDateTime getCreatedAt() { return createdAt; }
+        };
+    }
+
+}
@@ -5,25 +5,55 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import reservation.hmw.cache.StoreCache;
+import reservation.hmw.cache.StoreDetailCache;
+import reservation.hmw.cache.StoreSnapshot;
 import reservation.hmw.exception.CustomException;
 import reservation.hmw.exception.ErrorCode;
+import reservation.hmw.inventory.SlotInventory;
+import reservation.hmw.inventory.SlotPolicy;
 import reservation.hmw.model.entity.Partner;
 import reservation.hmw.model.entity.Store;
+import reservation.hmw.model.entity.Tag;
+import reservation.hmw.model.entity.dto.AvailabilityDto;
 import reservation.hmw.model.entity.dto.StoreDetailDto;
 import reservation.hmw.model.entity.dto.StoreInfoDto;
 import reservation.hmw.model.entity.dto.StoreRegisterForm;
+import reservation.hmw.model.entity.dto.TrendingStoreDto;
+import reservation.hmw.rating.RatingSummary;
+import reservation.hmw.rating.StoreRatingAggregator;
 import reservation.hmw.repository.PartnerRepository;
+import reservation.hmw.repository.ReviewRepository;
 import reservation.hmw.repository.StoreRepository;
-
+import reservation.hmw.repository.TagRepository;
+import reservation.hmw.repository.projection.ReviewView;
+import reservation.hmw.search.NearbyStore;
+import reservation.hmw.search.StoreDocument;
+import reservation.hmw.search.StoreSearchIndex;
+import reservation.hmw.stream.ReservationEventHub;
+import reservation.hmw.trending.TrendingStore;
+import reservation.hmw.trending.TrendingStores;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -36,6 +66,39 @@ class StoreServiceTest {
     @Mock
     private StoreRepository storeRepository;
 
+    @Mock
+    private SlotInventory slotInventory;
+
+    @Spy
+    private SlotPolicy slotPolicy = new SlotPolicy(30, 10);
+
+    @Mock
+    private ReservationEventHub eventHub;
+
+    @Mock
+    private StoreRatingAggregator ratingAggregator;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Spy
+    private StoreDetailCache storeDetailCache = new StoreDetailCache(100, 60);
+
+    @Mock
+    private StoreCache storeCache;
+
+    @Mock
+    private StoreSearchIndex searchIndex;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private TagRegistry tagRegistry;
+
+    @Mock
+    private TrendingStores trendingStores;
+
     @InjectMocks
     private StoreService storeService;
 
@@ -76,6 +139,60 @@ class StoreServiceTest {
         Assertions.assertThat(actual.getPartner()).isEqualTo(mockPartner);
     }
 
+    @Test
+    void registerStore_resolvesTags() {
+        //given
+        StoreRegisterForm form = StoreRegisterForm.builder()
+                .storeName("name")
+                .location("seoul")
+                .storeDescription("desc")
+                .tags(List.of("한식", " 주차 ", "한식"))
+                .build();
+        Partner partner = Partner.builder().storeList(new ArrayList<>()).build();
+        Tag korean = Tag.builder().id(1L).name("한식").build();
+
+        given(partnerRepository.findById(anyLong())).willReturn(Optional.of(partner));
+        given(tagRepository.findAllByNameIn(Set.of("한식", "주차"))).willReturn(List.of(korean));
+        given(tagRegistry.createAll(List.of("주차"))).willReturn(List.of(Tag.builder().id(2L).name("주차").build()));
+        given(storeRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        //when
+        Store actual = storeService.registerStore(form, 1L);
+
+        //then
+        Assertions.assertThat(actual.getTags()).extracting(Tag::getName).containsExactly("한식", "주차");
+        Assertions.assertThat(actual.getTags()).first().isSameAs(korean);
+        verify(tagRegistry, times(1)).createAll(anyList());
+    }
+
+    @Test
+    void registerStore_rereadsTagCreatedConcurrently() {
+        //given
+        StoreRegisterForm form = StoreRegisterForm.builder()
+                .storeName("name")
+                .location("seoul")
+                .storeDescription("desc")
+                .tags(List.of("주차", "심야"))
+                .build();
+        Partner partner = Partner.builder().storeList(new ArrayList<>()).build();
+        Tag parking = Tag.builder().id(2L).name("주차").build();
+        Tag lateNight = Tag.builder().id(3L).name("심야").build();
+
+        given(partnerRepository.findById(anyLong())).willReturn(Optional.of(partner));
+        given(tagRepository.findAllByNameIn(Set.of("주차", "심야"))).willReturn(List.of());
+        given(tagRegistry.createAll(List.of("주차", "심야")))
+                .willThrow(new DataIntegrityViolationException("uk_tag_name"));
+        given(tagRegistry.findAll(List.of("주차", "심야"))).willReturn(List.of(parking));
+        given(tagRegistry.createAll(List.of("심야"))).willReturn(List.of(lateNight));
+        given(storeRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        //when
+        Store actual = storeService.registerStore(form, 1L);
+
+        //then
+        Assertions.assertThat(actual.getTags()).containsExactly(parking, lateNight);
+    }
+
     @Test
     void registerStore_PARTNER_ONLY_ACCESS() {
         //given
@@ -97,56 +214,142 @@ class StoreServiceTest {
      @Test
      void searchStoreByKeyword_success() {
          //given
-         List<Store> storeList = Arrays.asList(
-                 Store.builder()
-                         .storeName("chicken")
-                         .location("seoul")
-                         .storeDescription("good")
-                         .keyword("keyword")
-                         .build(),
-                 Store.builder()
-                         .storeName("pizza")
-                         .location("zip")
-                         .storeDescription("shit")
-                         .keyword("keyword")
-                         .build());
-
-         given(storeRepository.findAllByKeyword(any()))
-                 .willReturn(Optional.of(storeList));
+         given(searchIndex.search("keyword", List.of(), null, null, 0, 15))
+                 .willReturn(List.of(
+                         new StoreDocument(1L, "chicken", "seoul", "keyword", null, null, null),
+                         new StoreDocument(2L, "pizza", "zip", "keyword", null, null, null)));
+         given(ratingAggregator.summaries(List.of(1L, 2L)))
+                 .willReturn(Map.of(2L, new RatingSummary(1, 4, new long[]{0, 0, 0, 1, 0})));
 
          //when
-         List<StoreInfoDto> storeInfoDtoList = storeService.searchStoreByKeyword("keyword");
+         List<StoreInfoDto> storeInfoDtoList = storeService.searchStoreByKeyword("keyword", 0, 15);
 
          //then
-         Assertions.assertThat(storeInfoDtoList.size()).isEqualTo(2);
+         Assertions.assertThat(storeInfoDtoList).extracting("storeName").containsExactly("chicken", "pizza");
+         Assertions.assertThat(storeInfoDtoList.get(1).getAverageRating()).isEqualTo(4.0);
+         verify(storeRepository, never()).findAll();
+      }
+
+      @Test
+      void searchStoreByKeyword_noMatch() {
+          //given
+          given(searchIndex.search(anyString(), anyList(), isNull(), isNull(), anyInt(), anyInt()))
+                  .willReturn(List.of());
+
+          //when
+          List<StoreInfoDto> storeInfoDtoList = storeService.searchStoreByKeyword("test", 0, 15);
+
+          //then
+          Assertions.assertThat(storeInfoDtoList).isEmpty();
+       }
+
+      @Test
+      void searchStoreByKeyword_withLocation() {
+          //given
+          given(searchIndex.search("pasta", List.of(), 37.5, 127.0, 0, 15))
+                  .willReturn(List.of(new StoreDocument(1L, "pasta lab", "seoul", "pasta", null, 37.5, 127.0)));
+          given(ratingAggregator.summaries(List.of(1L))).willReturn(Map.of());
+
+          //when
+          List<StoreInfoDto> storeInfoDtoList = storeService.searchStoreByKeyword("pasta", 37.5, 127.0, 0, 15);
+
+          //then
+          Assertions.assertThat(storeInfoDtoList).extracting("storeName").containsExactly("pasta lab");
+      }
+
+      @Test
+      void searchStoreByKeyword_invalidLocation() {
+          //when
+          CustomException exception = assertThrows(CustomException.class,
+                  () -> storeService.searchStoreByKeyword("pasta", 91.0, 127.0, 0, 15));
+
+          //then
+          Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_LOCATION_QUERY);
       }
 
       @Test
-      void searchStoreByKeyword_NOT_FOUND_STORE() {
+      void searchStoreByDescription_success() {
+          //given
+          given(searchIndex.searchDescription("파스타", null, List.of(), 0, 20))
+                  .willReturn(List.of(new StoreDocument(1L, "pasta lab", "seoul", "pasta", "파스타 전문점", null, null)));
+          given(ratingAggregator.summaries(List.of(1L))).willReturn(Map.of());
+
+          //when
+          List<StoreInfoDto> storeInfoDtoList = storeService.searchStoreByDescription("파스타", null, List.of(), 0, 20);
+
+          //then
+          Assertions.assertThat(storeInfoDtoList).extracting("storeId").containsExactly(1L);
+       }
+
+      @Test
+      void searchStoreByTags_success() {
+          //given
+          given(searchIndex.search(null, List.of("한식", "주차"), 0, 15))
+                  .willReturn(List.of(new StoreDocument(1L, "bap", "seoul", "rice", null, null, null, List.of("한식", "주차"))));
+          given(ratingAggregator.summaries(List.of(1L))).willReturn(Map.of());
+
+          //when
+          List<StoreInfoDto> storeInfoDtoList = storeService.searchStoreByTags(List.of("한식", "주차"), null, 0, 15);
+
+          //then
+          Assertions.assertThat(storeInfoDtoList).extracting("storeId").containsExactly(1L);
+          Assertions.assertThat(storeInfoDtoList.get(0).getTags()).containsExactly("한식", "주차");
+       }
+
+      @Test
+      void trending_readsRankingAndIndexOnly() {
+          //given
+          given(trendingStores.capacity()).willReturn(100);
+          given(trendingStores.top(10)).willReturn(List.of(
+                  new TrendingStore(2L, 5.126), new TrendingStore(9L, 4.0), new TrendingStore(1L, 1.5)));
+          given(searchIndex.document(2L)).willReturn(new StoreDocument(2L, "pizza", "zip", "pizza", null, null, null));
+          given(searchIndex.document(9L)).willReturn(null);
+          given(searchIndex.document(1L)).willReturn(new StoreDocument(1L, "chicken", "seoul", "chicken", null, null, null));
+
+          //when
+          List<TrendingStoreDto> trending = storeService.trending(10);
+
+          //then
+          Assertions.assertThat(trending).extracting(TrendingStoreDto::getStoreId).containsExactly(2L, 1L);
+          Assertions.assertThat(trending).extracting(TrendingStoreDto::getRank).containsExactly(1, 2);
+          Assertions.assertThat(trending.get(0).getScore()).isEqualTo(5.13);
+          verify(storeRepository, never()).findAllById(any());
+       }
+
+      @Test
+      void searchNearby_success() {
           //given
-          given(storeRepository.findAllByKeyword(anyString()))
-                  .willReturn(Optional.empty());
+          given(searchIndex.nearby(37.5, 127.0, 1000, "chicken", 15))
+                  .willReturn(List.of(new NearbyStore(new StoreDocument(1L, "chicken", "seoul", "chicken", null, 37.501, 127.0), 111.2)));
+
+          //when
+          List<StoreInfoDto> storeInfoDtoList = storeService.searchNearby(37.5, 127.0, 1000, "chicken", 15);
 
+          //then
+          Assertions.assertThat(storeInfoDtoList).extracting("storeId").containsExactly(1L);
+          Assertions.assertThat(storeInfoDtoList.get(0).getDistanceMeters()).isEqualTo(111.0);
+       }
+
+      @Test
+      void searchNearby_INVALID_LOCATION_QUERY() {
           //when
           CustomException exception = assertThrows(CustomException.class,
-                  () -> storeService.searchStoreByKeyword("test"));
+                  () -> storeService.searchNearby(91, 127.0, 1000, null, 15));
 
           //then
-          Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.NOT_FOUND_STORE);
+          Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_LOCATION_QUERY);
        }
 
        @Test
        void searchStoreByName_success() {
            //given
-           Store store = Store.builder()
-                   .storeName("chicken")
-                   .location("seoul")
-                   .storeDescription("good")
-                   .keyword("keyword")
-                   .build();
-
-           given(storeRepository.findByStoreName(anyString()))
+           StoreSnapshot store = new StoreSnapshot(1L, "chicken", "seoul", "keyword", "good",
+                   null, null, null, null);
+
+           given(storeRepository.findSnapshotByStoreName(anyString()))
                    .willReturn(Optional.of(store));
+           given(ratingAggregator.summaries(List.of(1L)))
+                   .willReturn(Map.of(1L, new RatingSummary(3, 13, new long[]{0, 0, 0, 2, 1})));
 
            //when
            StoreInfoDto storeInfoDto = storeService.searchStoreByName("test");
@@ -155,33 +358,58 @@ class StoreServiceTest {
            Assertions.assertThat(storeInfoDto.getStoreName()).isEqualTo("chicken");
            Assertions.assertThat(storeInfoDto.getLocation()).isEqualTo("seoul");
            Assertions.assertThat(storeInfoDto.getKeyword()).isEqualTo("keyword");
+           Assertions.assertThat(storeInfoDto.getAverageRating()).isEqualTo(4.33);
+           Assertions.assertThat(storeInfoDto.getRatingCount()).isEqualTo(3);
+           Assertions.assertThat(storeInfoDto.getRatingHistogram()).containsExactly(0, 0, 0, 2, 1);
         }
 
         @Test
         void detailStore_success() {
             //given
-            Store store = Store.builder()
-                    .storeName("chicken")
-                    .location("seoul")
-                    .storeDescription("good")
-                    .keyword("keyword")
-                    .build();
-
-            given(storeRepository.findById(anyLong()))
+            StoreSnapshot store = new StoreSnapshot(1L, "chicken", "seoul", "keyword", "good",
+                    null, null, null, null);
+
+            given(storeRepository.findSnapshotById(anyLong()))
                     .willReturn(Optional.of(store));
+            given(ratingAggregator.summaries(List.of(1L)))
+                    .willReturn(Map.of(1L, new RatingSummary(1, 5, new long[]{0, 0, 0, 0, 1})));
+            given(reviewRepository.findStoreReviews(eq(1L), any()))
+                    .willReturn(List.of(review(1L, 5, "great")));
 
             //when
             StoreDetailDto storeDetailDto = storeService.detailStore(1L);
+            StoreDetailDto cached = storeService.detailStore(1L);
 
             //then
             Assertions.assertThat(storeDetailDto.getStoreDescription())
                     .isEqualTo("good");
+            Assertions.assertThat(storeDetailDto.getAverageRating()).isEqualTo(5.0);
+            Assertions.assertThat(storeDetailDto.getRecentReviews()).extracting("content").containsExactly("great");
+            Assertions.assertThat(cached).isSameAs(storeDetailDto);
+            verify(storeRepository, times(1)).findSnapshotById(1L);
          }
 
+         @Test
+         void detailStore_reloadsAfterEviction() {
+             //given
+             StoreSnapshot store = new StoreSnapshot(1L, null, null, null, "good", null, null, null, null);
+
+             given(storeRepository.findSnapshotById(1L)).willReturn(Optional.of(store));
+             given(reviewRepository.findStoreReviews(eq(1L), any())).willReturn(List.of());
+             storeService.detailStore(1L);
+
+             //when
+             storeDetailCache.evict(1L);
+             storeService.detailStore(1L);
+
+             //then
+             verify(storeRepository, times(2)).findSnapshotById(1L);
+          }
+
          @Test
          void detailStore_NOT_FOUND_STORE() {
              //given
-             given(storeRepository.findById(anyLong()))
+             given(storeRepository.findSnapshotById(anyLong()))
                      .willReturn(Optional.empty());
 
              //when
@@ -233,6 +461,8 @@ class StoreServiceTest {
 
         verify(storeRepository, times(1)).findById(1L);
         verify(storeRepository, times(1)).save(any(Store.class));
+        verify(storeCache).evict(1L, "name", "Updated Store Name");
+        verify(searchIndex).indexAfterCommit(argThat(document -> document.storeName().equals("Updated Store Name")));
     }
 
 
@@ -296,6 +526,9 @@ class StoreServiceTest {
         // then
         verify(storeRepository, times(1)).findById(1L);
         verify(storeRepository, times(1)).delete(existingStore);
+        verify(slotInventory, times(1)).evictStoreAfterCommit(1L);
+        verify(storeCache).evict(1L, existingStore.getStoreName());
+        verify(searchIndex).removeAfterCommit(1L);
     }
 
 
@@ -328,4 +561,100 @@ class StoreServiceTest {
         Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.UNAUTHORIZED_ACTION);
         verify(storeRepository, times(1)).findById(1L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void subscribeReservations_success() throws IOException {
+        // given
+        StoreSnapshot existingStore = new StoreSnapshot(1L, null, null, null, null, null, null, null, 1L);
+
+        given(storeRepository.findSnapshotById(1L)).willReturn(Optional.of(existingStore));
+
+        // when
+        storeService.subscribeReservations(1L, 1L, new MockHttpServletRequest(), new MockHttpServletResponse());
+
+        // then
+        verify(eventHub, times(1)).subscribe(eq(1L), any(), any());
+    }
+
+    @Test
+    void subscribeReservations_unauthorized() throws IOException {
+        // given
+        StoreSnapshot existingStore = new StoreSnapshot(1L, null, null, null, null, null, null, null, 2L);
+
+        given(storeRepository.findSnapshotById(1L)).willReturn(Optional.of(existingStore));
+
+        // when
+        CustomException exception = assertThrows(CustomException.class, () ->
+                storeService.subscribeReservations(1L, 1L, new MockHttpServletRequest(), new MockHttpServletResponse()));
+
+        // then
+        Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.UNAUTHORIZED_ACTION);
+        verify(eventHub, times(0)).subscribe(anyLong(), any(), any());
+    }
+
+    @Test
+    void getAvailability_returnsOnlyOpenFutureSlots() {
+        //given
+        LocalDate day = LocalDate.now().plusDays(1);
+        int[] remaining = new int[48];
+        remaining[20] = 2;
+        remaining[21] = 0;
+        remaining[22] = 5;
+        Map<LocalDate, int[]> days = new LinkedHashMap<>();
+        days.put(day, remaining);
+
+        given(slotInventory.remaining(eq(1L), eq(day), eq(day), any()))
+                .willReturn(days);
+
+        //when
+        AvailabilityDto.Response response = storeService.getAvailability(1L, day, day);
+
+        //then
+        Assertions.assertThat(response.getSlotMinutes()).isEqualTo(30);
+        Assertions.assertThat(response.getSlots())
+                .extracting(AvailabilityDto.Slot::getStartTime)
+                .containsExactly(day.atTime(10, 0), day.atTime(11, 0));
+    }
+
+    @Test
+    void getAvailability_INVALID_AVAILABILITY_RANGE() {
+        //given
+        LocalDate from = LocalDate.now();
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> storeService.getAvailability(1L, from, from.plusDays(100)));
+
+        //then
+        Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_AVAILABILITY_RANGE);
+    }
+
+    @Test
+    void getAvailability_limitsRangeFromClampedStart() {
+        //given
+        LocalDate today = LocalDate.now();
+        given(slotInventory.remaining(eq(1L), eq(today), eq(today.plusDays(40)), any()))
+                .willReturn(Map.of());
+
+        //when
+        AvailabilityDto.Response response = storeService.getAvailability(1L, today.minusDays(30), today.plusDays(40));
+        CustomException exception = assertThrows(CustomException.class,
+                () -> storeService.getAvailability(1L, today.minusDays(30), today.plusDays(62)));
+
+        //then
+        Assertions.assertThat(response.getSlots()).isEmpty();
+        Assertions.assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_AVAILABILITY_RANGE);
+    }
+
+    private ReviewView review(Long id, Integer rating, String content) {
+        return new ReviewView() {
+            public Long getId() { return id; }
+            public String getUserName() { return "user"; }
+            public String getStoreName() { return "chicken"; }
+            public Integer getRating() { return rating; }
+            public String getContent() { return content; }
+            public LocalDateTime getCreatedAt() { return null; }
+        };
+    }
+
+}
@@ -0,0 +1,171 @@
+package reservation.hmw.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import reservation.hmw.model.entity.enums.ReservationEventType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+class ReservationEventHubTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private ReservationEventHub hub;
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void publish_deliversOnlyToSubscribersOfTheStore() throws IOException {
+        //given
+        hub = new ReservationEventHub(objectMapper, 16, 60_000, 5_000);
+        Connection store1 = subscribe(1L);
+        Connection store2 = subscribe(2L);
+
+        //when
+        hub.publish(event(1L));
+
+        //then
+        Assertions.assertThat(store1.body()).startsWith(":connected").contains("event:CREATED");
+        Assertions.assertThat(store2.body()).startsWith(":connected").doesNotContain("event:CREATED");
+    }
+
+    @Test
+    void publishAfterCommit_publishesImmediatelyWithoutTransaction() throws IOException {
+        //given
+        hub = new ReservationEventHub(objectMapper, 16, 60_000, 5_000);
+        Connection connection = subscribe(1L);
+
+        //when
+        hub.publishAfterCommit(List.of(event(1L), event(1L)));
+
+        //then
+        Assertions.assertThat(connection.body().split("event:CREATED", -1)).hasSize(3);
+    }
+
+    @Test
+    void publish_queuesWhileNotWritableAndResumesWhenWritable() throws IOException {
+        //given
+        hub = new ReservationEventHub(objectMapper, 16, 60_000, 5_000);
+        Connection connection = subscribe(1L);
+        connection.output.ready = false;
+
+        //when
+        hub.publish(event(1L));
+        String beforeResume = connection.body();
+        connection.output.resume();
+
+        //then
+        Assertions.assertThat(beforeResume).doesNotContain("event:CREATED");
+        Assertions.assertThat(connection.body()).contains("event:CREATED");
+        Assertions.assertThat(hub.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void publish_closesSlowSubscriberWhenBufferIsFull() throws IOException {
+        //given
+        hub = new ReservationEventHub(objectMapper, 2, 60_000, 5_000);
+        Connection slow = subscribe(1L);
+        slow.output.ready = false;
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            hub.publish(event(1L));
+        }
+
+        //then
+        Assertions.assertThat(hub.subscriberCount()).isZero();
+        Assertions.assertThat(slow.request.isAsyncStarted()).isFalse();
+    }
+
+    @Test
+    void evictStalled_dropsSubscriberBlockedPastDeadline() throws IOException, InterruptedException {
+        //given
+        hub = new ReservationEventHub(objectMapper, 16, 60_000, 50);
+        Connection stuck = subscribe(1L);
+        Connection healthy = subscribe(1L);
+        stuck.output.ready = false;
+        hub.publish(event(1L));
+        Thread.sleep(100);
+
+        //when
+        hub.evictStalled();
+        hub.publish(event(1L));
+
+        //then
+        Assertions.assertThat(hub.subscriberCount()).isEqualTo(1);
+        Assertions.assertThat(stuck.request.isAsyncStarted()).isFalse();
+        Assertions.assertThat(healthy.body().split("event:CREATED", -1)).hasSize(3);
+    }
+
+    private Connection subscribe(Long storeId) throws IOException {
+        Connection connection = new Connection();
+        hub.subscribe(storeId, connection.request, connection.response);
+        return connection;
+    }
+
+    private ReservationEvent event(Long storeId) {
+        return ReservationEvent.of(ReservationEventType.CREATED, 1L, storeId, LocalDateTime.now().plusDays(1));
+    }
+
+    private static class Connection {
+
+        private final MockHttpServletRequest request = new MockHttpServletRequest();
+        private final RecordingOutputStream output = new RecordingOutputStream();
+        private final MockHttpServletResponse response = new MockHttpServletResponse() {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return output;
+            }
+        };
+
+        Connection() {
+            request.setAsyncSupported(true);
+        }
+
+        String body() {
+            return output.buffer.toString(StandardCharsets.UTF_8);
+        }
+
+    }
+
+    private static class RecordingOutputStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private volatile boolean ready = true;
+        private WriteListener listener;
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            this.listener = writeListener;
+        }
+
+        @Override
+        public void write(int b) {
+            buffer.write(b);
+        }
+
+        void resume() throws IOException {
+            ready = true;
+            listener.onWritePossible();
+        }
+
+    }
+
+}
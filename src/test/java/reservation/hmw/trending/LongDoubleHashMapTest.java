@@ -0,0 +1,56 @@
+package reservation.hmw.trending;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+class LongDoubleHashMapTest {
+
+    @Test
+    void matchesHashMapUnderRandomOperations() {
+        //given
+        LongDoubleHashMap map = new LongDoubleHashMap(4);
+        Map<Long, Double> expected = new HashMap<>();
+        Random random = new Random(11);
+
+        //when
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(5_000);
+            if (random.nextInt(4) == 0) {
+                Assertions.assertThat(map.remove(key)).isEqualTo(expected.remove(key) != null);
+            } else {
+                double value = map.addTo(key, 1);
+                Assertions.assertThat(value).isEqualTo(expected.merge(key, 1.0, Double::sum));
+            }
+        }
+
+        //then
+        Assertions.assertThat(map.size()).isEqualTo(expected.size());
+        Map<Long, Double> actual = new HashMap<>();
+        map.forEach(actual::put);
+        Assertions.assertThat(actual).isEqualTo(expected);
+        expected.forEach((key, value) -> Assertions.assertThat(map.get(key)).isEqualTo(value));
+    }
+
+    @Test
+    void scale_multipliesAndDropsSmallValues() {
+        //given
+        LongDoubleHashMap map = new LongDoubleHashMap(16);
+        map.addTo(1L, 10);
+        map.addTo(2L, 0.1);
+        map.addTo(0L, 4);
+
+        //when
+        map.scale(0.5, 0.1);
+
+        //then
+        Assertions.assertThat(map.size()).isEqualTo(2);
+        Assertions.assertThat(map.get(1L)).isEqualTo(5);
+        Assertions.assertThat(map.get(0L)).isEqualTo(2);
+        Assertions.assertThat(map.get(2L)).isZero();
+    }
+
+}
@@ -0,0 +1,107 @@
+package reservation.hmw.trending;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+class TrendingStoresTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    @Test
+    void top_ranksByDecayedActivity() {
+        //given
+        TrendingStores trending = new TrendingStores(60, 10, 0);
+        trending.record(1L, TrendingStores.RESERVATION_WEIGHT, 0);
+        trending.record(1L, TrendingStores.RESERVATION_WEIGHT, 0);
+        trending.record(1L, TrendingStores.RESERVATION_WEIGHT, 0);
+        trending.record(2L, TrendingStores.REVIEW_WEIGHT, 2 * HOUR);
+
+        //when
+        List<TrendingStore> top = trending.top(10, 2 * HOUR);
+
+        //then
+        Assertions.assertThat(top).extracting(TrendingStore::storeId).containsExactly(2L, 1L);
+        Assertions.assertThat(top.get(0).score()).isCloseTo(2.0, Assertions.within(1e-9));
+        Assertions.assertThat(top.get(1).score()).isCloseTo(0.75, Assertions.within(1e-9));
+    }
+
+    @Test
+    void top_keepsOnlyCapacityAndMatchesFullSort() {
+        //given
+        TrendingStores trending = new TrendingStores(30, 20, 0);
+        Map<Long, Double> expected = new HashMap<>();
+        Random random = new Random(3);
+        double tau = 30 * 60_000.0 / Math.log(2);
+
+        //when
+        for (long now = 0; now < 200 * HOUR; now += 60_000) {
+            long storeId = 1 + random.nextInt(2_000);
+            trending.record(storeId, TrendingStores.RESERVATION_WEIGHT, now);
+            expected.merge(storeId, Math.exp(now / tau), Double::sum);
+        }
+
+        //then
+        List<Long> expectedTop = expected.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()))
+                .limit(20)
+                .map(Map.Entry::getKey)
+                .toList();
+        Assertions.assertThat(trending.top(100, 200 * HOUR)).hasSize(20)
+                .extracting(TrendingStore::storeId).containsExactlyElementsOf(expectedTop);
+    }
+
+    @Test
+    void popularity_isRelativeToTopStore() {
+        //given
+        TrendingStores trending = new TrendingStores(60, 2, 0);
+        trending.record(5L, TrendingStores.REVIEW_WEIGHT, 0);
+        trending.record(9L, TrendingStores.RESERVATION_WEIGHT, 0);
+        trending.record(1L, TrendingStores.RESERVATION_WEIGHT / 2, 0);
+
+        //when
+        PopularitySignal signal = new PopularitySignal(trending, 0.2);
+
+        //then
+        Assertions.assertThat(signal.prepare(null).applyAsDouble(5L)).isEqualTo(1.0);
+        Assertions.assertThat(signal.prepare(null).applyAsDouble(9L)).isEqualTo(0.5);
+        Assertions.assertThat(signal.prepare(null).applyAsDouble(1L)).isZero();
+    }
+
+    @Test
+    void remove_refillsTopFromRemainingScores() {
+        //given
+        TrendingStores trending = new TrendingStores(60, 2, 0);
+        trending.record(1L, 3, 0);
+        trending.record(2L, 2, 0);
+        trending.record(3L, 1, 0);
+
+        //when
+        trending.remove(1L);
+
+        //then
+        Assertions.assertThat(trending.top(10, 0)).extracting(TrendingStore::storeId).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void maintain_dropsStoresThatWentQuiet() {
+        //given
+        TrendingStores trending = new TrendingStores(60, 10, 0);
+        trending.record(1L, TrendingStores.RESERVATION_WEIGHT, 0);
+        trending.record(2L, TrendingStores.RESERVATION_WEIGHT, 9 * HOUR);
+
+        //when
+        trending.maintain(10 * HOUR);
+
+        //then
+        Assertions.assertThat(trending.tracked()).isEqualTo(1);
+        Assertions.assertThat(trending.top(10, 10 * HOUR)).extracting(TrendingStore::storeId).containsExactly(2L);
+        Assertions.assertThat(trending.top(10, 10 * HOUR).get(0).score()).isCloseTo(0.5, Assertions.within(1e-9));
+    }
+
+}